@@ -0,0 +1,138 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.benchmarks;
+
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static java.util.Collections.singletonMap;
+
+/// Benchmark partial resolution with [DefaultTemplateLoader].
+///
+/// Partial resolution happens for each partial, in each render, so it must not allocate anything: this
+/// benchmark should be run with the GC profiler, and `gc.alloc.rate.norm` should be (almost) equal
+/// to zero bytes per operation:
+///
+/// ```
+/// java -jar target/benchmarks.jar DefaultTemplateLoaderBenchmark -prof gc
+/// ```
+///
+/// Note that each benchmark resolves a name that is already prefixed and suffixed: otherwise, the
+/// resolved location would be a new string, and this allocation is not related to alias resolution.
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DefaultTemplateLoaderBenchmark {
+
+	private static final String PREFIX = "/templates/";
+	private static final String SUFFIX = ".template.html";
+
+	private DefaultTemplateLoader templateLoader;
+
+	private RenderContext renderContext;
+
+	@Setup(Level.Trial)
+	public void setup() {
+		templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader(), PREFIX, SUFFIX);
+
+		Map<String, String> aliases = new HashMap<>();
+		for (int i = 0; i < 20; i++) {
+			aliases.put("partial" + i, PREFIX + "partials/partial" + i + SUFFIX);
+		}
+
+		templateLoader.addPartialAliases(aliases);
+		renderContext = RenderContext.of(singletonMap("layout", PREFIX + "layout" + SUFFIX));
+	}
+
+	@Setup(Level.Iteration)
+	@SuppressWarnings("deprecation")
+	public void addTemporaryPartialAliases() {
+		templateLoader.addTemporaryPartialAliases(singletonMap("layout", PREFIX + "layout" + SUFFIX));
+	}
+
+	@TearDown(Level.Iteration)
+	@SuppressWarnings("deprecation")
+	public void removeTemporaryPartialAliases() {
+		templateLoader.removeTemporaryPartialAliases();
+	}
+
+	@Benchmark
+	public String resolve_global_alias() {
+		return templateLoader.resolve("partial10");
+	}
+
+	@Benchmark
+	public String resolve_temporary_alias() {
+		return templateLoader.resolve("layout");
+	}
+
+	@Benchmark
+	public String resolve_render_context_alias() {
+		return templateLoader.resolve("layout", renderContext);
+	}
+
+	@Benchmark
+	public String resolve_global_alias_with_render_context() {
+		return templateLoader.resolve("partial10", renderContext);
+	}
+
+	@Benchmark
+	public String resolve_without_alias() {
+		return templateLoader.resolve(PREFIX + "index" + SUFFIX);
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(DefaultTemplateLoaderBenchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,320 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.benchmarks;
+
+import com.github.jknack.handlebars.Handlebars;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheView;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.handlebars.HandlebarsCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.AccessorCollector;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.mustachejava.MustacheJavaCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.mustachejava.SpringMustacheFactory;
+import com.github.mjeanroy.springmvc.view.mustache.mustachejava.SpringMustacheResolver;
+import com.samskivert.mustache.Mustache;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/// Compare JMustache, Handlebars and mustache.java: each engine renders the same template suites
+/// through [MustacheView#renderMergedTemplateModel], exactly as a view resolved by
+/// [com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver] would do.
+///
+/// Each benchmark is run in throughput mode and in sample mode (to get latency percentiles), and should
+/// be run with the GC profiler to get the allocation rate (see `gc.alloc.rate.norm`):
+///
+/// ```
+/// java -jar target/benchmarks.jar MustacheViewBenchmark -prof gc
+/// ```
+///
+/// Templates are compiled (and sources are cached) during setup, as it would be in production with
+/// the default settings: only the rendering is measured.
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MustacheViewBenchmark {
+
+	private static final String PREFIX = "/templates/";
+	private static final String SUFFIX = ".template.html";
+
+	/// The mustache engine.
+	public enum Engine {
+		JMUSTACHE {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				return new JMustacheCompiler(Mustache.compiler(), templateLoader);
+			}
+		},
+
+		/// JMustache, fetching beans with generated accessors instead of reflection (compare with [#JMUSTACHE]
+		/// on bean-heavy suites, such as [Suite#LARGE_LIST]).
+		JMUSTACHE_GENERATED_ACCESSORS {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				return new JMustacheCompiler(Mustache.compiler().withCollector(new AccessorCollector()), templateLoader);
+			}
+		},
+
+		HANDLEBARS {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				return new HandlebarsCompiler(new Handlebars(), templateLoader);
+			}
+		},
+
+		MUSTACHE_JAVA {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				SpringMustacheResolver resolver = new SpringMustacheResolver(templateLoader);
+				SpringMustacheFactory factory = new SpringMustacheFactory(resolver, templateLoader);
+				return new MustacheJavaCompiler(factory, templateLoader);
+			}
+		},
+
+		/// mustache.java, reading beans with generated accessors instead of reflection (compare with
+		/// [#MUSTACHE_JAVA] on bean-heavy suites, such as [Suite#LARGE_LIST]).
+		MUSTACHE_JAVA_GENERATED_ACCESSORS {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				SpringMustacheResolver resolver = new SpringMustacheResolver(templateLoader);
+				SpringMustacheFactory factory = new SpringMustacheFactory(resolver, templateLoader);
+				factory.setGeneratedAccessors(true);
+				return new MustacheJavaCompiler(factory, templateLoader);
+			}
+		},
+
+		COMPILED {
+			@Override
+			MustacheCompiler compiler(MustacheTemplateLoader templateLoader) {
+				return new CompiledMustacheCompiler(templateLoader);
+			}
+		};
+
+		abstract MustacheCompiler compiler(MustacheTemplateLoader templateLoader);
+	}
+
+	/// The template suite rendered by each engine.
+	public enum Suite {
+		/// A small page, with a few variables and no partials.
+		SMALL_PAGE("benchmarks/small", null) {
+			@Override
+			Map<String, Object> model() {
+				return page(10);
+			}
+		},
+
+		/// A layout, including a few partials, and the view itself (mapped to the `content` partial).
+		LAYOUT_WITH_PARTIALS("benchmarks/layout", "benchmarks/page") {
+			@Override
+			Map<String, Object> model() {
+				return page(20);
+			}
+		},
+
+		/// A large table, with one row per item.
+		LARGE_LIST("benchmarks/list", null) {
+			@Override
+			Map<String, Object> model() {
+				return page(1000);
+			}
+		},
+
+		/// Deeply nested sections, referencing a variable of the root context.
+		DEEP_NESTING("benchmarks/nested", null) {
+			@Override
+			Map<String, Object> model() {
+				Map<String, Object> model = page(0);
+				Map<String, Object> parent = model;
+				for (int i = 1; i <= 10; i++) {
+					Map<String, Object> child = new HashMap<>();
+					child.put("level", i);
+					child.put("name", "Node " + i);
+					parent.put("child", child);
+					parent = child;
+				}
+
+				return model;
+			}
+		};
+
+		private final String viewName;
+		private final String content;
+
+		Suite(String viewName, String content) {
+			this.viewName = viewName;
+			this.content = content;
+		}
+
+		abstract Map<String, Object> model();
+
+		private static Map<String, Object> page(int size) {
+			List<Item> items = new ArrayList<>(size);
+			for (int i = 0; i < size; i++) {
+				items.add(new Item(i));
+			}
+
+			Map<String, Object> user = new HashMap<>();
+			user.put("firstName", "John");
+			user.put("lastName", "<Doe>");
+			user.put("admin", true);
+
+			Map<String, Object> model = new HashMap<>();
+			model.put("title", "Benchmark & Co");
+			model.put("message", "Hello <World>");
+			model.put("copyright", "(c) springmvc-mustache");
+			model.put("user", user);
+			model.put("items", items);
+			return model;
+		}
+	}
+
+	/// An item, rendered as a bean (i.e. using getters) by each engine.
+	public static class Item {
+		private final int id;
+		private final String name;
+		private final String description;
+		private final String price;
+		private final boolean available;
+
+		Item(int id) {
+			this.id = id;
+			this.name = "Item #" + id;
+			this.description = "Description of <item> " + id;
+			this.price = (id % 100) + ".99";
+			this.available = id % 3 != 0;
+		}
+
+		public int getId() {
+			return id;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public String getDescription() {
+			return description;
+		}
+
+		public String getPrice() {
+			return price;
+		}
+
+		public boolean isAvailable() {
+			return available;
+		}
+	}
+
+	/// Expose [MustacheView#renderMergedTemplateModel] to the benchmark.
+	private static final class BenchmarkMustacheView extends MustacheView {
+		@Override
+		public void renderMergedTemplateModel(Map<String, Object> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+			super.renderMergedTemplateModel(model, request, response);
+		}
+	}
+
+	@Param
+	public Engine engine;
+
+	@Param
+	public Suite suite;
+
+	private BenchmarkMustacheView view;
+
+	private Map<String, Object> model;
+
+	private MockHttpServletRequest request;
+
+	private MockHttpServletResponse response;
+
+	@Setup(Level.Trial)
+	public void setup() throws Exception {
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader(), PREFIX, SUFFIX);
+		templateLoader.setSourceCacheInterval(-1);
+
+		view = new BenchmarkMustacheView();
+		view.setCompiler(engine.compiler(templateLoader));
+		view.setUrl(PREFIX + suite.viewName + SUFFIX);
+
+		if (suite.content != null) {
+			view.addAlias("content", suite.content);
+		}
+
+		model = suite.model();
+		request = new MockHttpServletRequest();
+		response = new MockHttpServletResponse();
+
+		// Compile templates (and load partials) before measurement.
+		render();
+	}
+
+	@Benchmark
+	public MockHttpServletResponse render() throws Exception {
+		// Large pages exceed the response buffer size: the response must be "uncommitted" to be reused.
+		response.setCommitted(false);
+		response.reset();
+		view.renderMergedTemplateModel(model, request, response);
+		return response;
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		Options options = new OptionsBuilder()
+				.include(MustacheViewBenchmark.class.getSimpleName())
+				.addProfiler("gc")
+				.build();
+
+		new Runner(options).run();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/// Writer coalescing the short writes of a rendering (static text, values) into larger writes to the target
+/// writer: each write to a servlet writer has a fixed cost (synchronization, encoding and buffer checks), that
+/// is paid once per chunk instead of once per segment.
+///
+/// Buffered characters are written to the target writer when the buffer is full, when [#drain()] is called and
+/// when this writer is flushed: the target writer is never closed by this writer.
+///
+/// This class is not thread safe: a writer must be used for a single rendering.
+final class CoalescingWriter extends Writer {
+
+	/// Target writer.
+	private final Writer target;
+
+	/// Buffered characters.
+	private final char[] buffer;
+
+	/// Number of buffered characters.
+	private int count;
+
+	/// Create writer.
+	///
+	/// @param target Target writer.
+	/// @param size Size of the buffer.
+	CoalescingWriter(Writer target, int size) {
+		this.target = target;
+		this.buffer = new char[size];
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		if (count == buffer.length) {
+			drain();
+		}
+
+		buffer[count++] = (char) c;
+	}
+
+	@Override
+	public void write(String str) throws IOException {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int off, int len) throws IOException {
+		if (len > buffer.length - count) {
+			drain();
+			if (len > buffer.length) {
+				target.write(str, off, len);
+				return;
+			}
+		}
+
+		str.getChars(off, off + len, buffer, count);
+		count += len;
+	}
+
+	@Override
+	public void write(char[] cbuf, int off, int len) throws IOException {
+		if (len > buffer.length - count) {
+			drain();
+			if (len > buffer.length) {
+				target.write(cbuf, off, len);
+				return;
+			}
+		}
+
+		System.arraycopy(cbuf, off, buffer, count, len);
+		count += len;
+	}
+
+	/// Write buffered characters to the target writer (the target writer is not flushed).
+	///
+	/// @throws IOException If writing to the target writer fails.
+	void drain() throws IOException {
+		if (count > 0) {
+			target.write(buffer, 0, count);
+			count = 0;
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		drain();
+		target.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		drain();
+	}
+}
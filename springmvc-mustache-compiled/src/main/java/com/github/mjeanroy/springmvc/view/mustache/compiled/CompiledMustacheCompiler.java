@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.List;
+import java.util.Objects;
+
+/// Mustache compiler that does not rely on a third party engine: each template, and each of its partials,
+/// is parsed once and compiled to a tree of renderers specialized for each segment (see [TemplateCompiler]).
+///
+/// Partials are loaded, and compiled, with the template: a template referencing a missing partial cannot
+/// be compiled.
+///
+/// Templates parsed at build time can be used instead of template sources (see [#setPrecompiledTemplates]).
+public final class CompiledMustacheCompiler extends AbstractMustacheCompiler {
+
+	private static final Logger log = LoggerFactory.getLogger(CompiledMustacheCompiler.class);
+
+	/// Size of buffer used to read templates.
+	private static final int BUFFER_SIZE = 4096;
+
+	/// Templates parsed at build time, `null` to always parse template sources.
+	private volatile PrecompiledTemplates precompiledTemplates;
+
+	/// Build new compiler.
+	///
+	/// @param templateLoader Template Loader.
+	public CompiledMustacheCompiler(MustacheTemplateLoader templateLoader) {
+		super(templateLoader);
+	}
+
+	@Override
+	protected MustacheTemplate doCompile(String name, RenderContext context) {
+		return doCompile(name, context, templateLoader);
+	}
+
+	@Override
+	protected MustacheTemplate doCompile(String name, RenderContext context, MustacheTemplateLoader templateLoader) {
+		final TemplateCompiler compiler = new TemplateCompiler(partial -> parse(partial, templateLoader, context), this::internStaticText);
+		final Renderer renderer = compiler.compile(parse(name, templateLoader, context));
+		return new CompiledMustacheTemplate(name, renderer, compiler.getRootVariables());
+	}
+
+	/// Use templates parsed at build time: these templates are compiled without loading their sources.
+	///
+	/// Precompiled templates are ignored when template sources may differ from the sources parsed at build time,
+	/// i.e. when the template loader revalidates (or does not cache) template sources, or minifies them.
+	///
+	/// @param precompiledTemplates Precompiled templates, `null` to always parse template sources.
+	public void setPrecompiledTemplates(PrecompiledTemplates precompiledTemplates) {
+		this.precompiledTemplates = precompiledTemplates;
+	}
+
+	/// Get [#precompiledTemplates]
+	///
+	/// @return [#precompiledTemplates]
+	public PrecompiledTemplates getPrecompiledTemplates() {
+		return precompiledTemplates;
+	}
+
+	private List<Segment> parse(String name, MustacheTemplateLoader templateLoader, RenderContext context) {
+		final PrecompiledTemplates precompiledTemplates = this.precompiledTemplates;
+		if (precompiledTemplates != null && isSourceImmutable(this.templateLoader)) {
+			final List<Segment> segments = precompiledTemplates.get(templateLoader.resolve(name, context));
+			if (segments != null) {
+				log.debug("Use precompiled template: {}", name);
+				return segments;
+			}
+		}
+
+		log.debug("Parse template: {}", name);
+		try (Reader reader = templateLoader.getTemplate(name, context)) {
+			return MustacheParser.parse(name, read(reader));
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage());
+			throw new MustacheIOException(ex);
+		}
+	}
+
+	/// Check if template sources read by given template loader are the sources parsed at build time: precompiled
+	/// templates are ignored if sources are revalidated (or read on each call), or if sources are minified.
+	///
+	/// @param templateLoader Template loader.
+	/// @return `true` if precompiled templates can be used, `false` otherwise.
+	private static boolean isSourceImmutable(MustacheTemplateLoader templateLoader) {
+		if (templateLoader instanceof DefaultTemplateLoader) {
+			DefaultTemplateLoader defaultTemplateLoader = (DefaultTemplateLoader) templateLoader;
+			return defaultTemplateLoader.getSourceCacheInterval() < 0 && !defaultTemplateLoader.isMinify();
+		}
+
+		return true;
+	}
+
+	private static String read(Reader reader) throws IOException {
+		final StringBuilder sb = new StringBuilder();
+		final char[] buffer = new char[BUFFER_SIZE];
+
+		int count;
+		while ((count = reader.read(buffer)) >= 0) {
+			sb.append(buffer, 0, count);
+		}
+
+		return sb.toString();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("templateLoader", templateLoader)
+				.append("precompiledTemplates", precompiledTemplates)
+				.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof CompiledMustacheCompiler) {
+			CompiledMustacheCompiler c = (CompiledMustacheCompiler) o;
+			return Objects.equals(templateLoader, c.templateLoader);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return Objects.hash(templateLoader);
+	}
+}
@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.IntrospectedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.MarkerFlushingWriter;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBuffer;
+
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+/// Template compiled by [CompiledMustacheCompiler]: rendering a template only executes the renderers
+/// created at compilation time. Writes of a rendering are coalesced (see [CoalescingWriter]), unless the
+/// output is already buffered, or flushed at markers.
+final class CompiledMustacheTemplate extends AbstractMustacheTemplate implements IntrospectedTemplate {
+
+	/// Size of buffer used to coalesce writes of a rendering (see [CoalescingWriter]).
+	private static final int BUFFER_SIZE = 2048;
+
+	/// Template name.
+	private final String name;
+
+	/// Template renderer.
+	private final Renderer renderer;
+
+	/// Root variables referenced by the template, and its partials.
+	private final Set<String> rootVariables;
+
+	/// Create template.
+	///
+	/// @param name Template name.
+	/// @param renderer Template renderer.
+	/// @param rootVariables Root variables referenced by the template, and its partials.
+	CompiledMustacheTemplate(String name, Renderer renderer, Set<String> rootVariables) {
+		this.name = name;
+		this.renderer = renderer;
+		this.rootVariables = rootVariables;
+	}
+
+	@Override
+	protected void doExecute(Map<String, Object> model, Writer writer) throws Exception {
+		final Scope scope = new Scope(model);
+
+		// Output already buffered, or inspected as it is written to flush the response at markers.
+		if (writer instanceof RenderBuffer || writer instanceof MarkerFlushingWriter) {
+			renderer.render(scope, writer);
+			return;
+		}
+
+		final CoalescingWriter out = new CoalescingWriter(writer, BUFFER_SIZE);
+		try {
+			renderer.render(scope, out);
+		}
+		finally {
+			out.drain();
+		}
+	}
+
+	@Override
+	public Set<String> getRootVariables() {
+		return rootVariables;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("name", name)
+				.build();
+	}
+}
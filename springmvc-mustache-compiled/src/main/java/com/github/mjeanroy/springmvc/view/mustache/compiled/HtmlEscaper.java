@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/// Escape HTML characters, as JMustache does: `&`, `<`, `>`, `"`, `'`, `` ` `` and `=` are replaced
+/// by their entities.
+final class HtmlEscaper {
+
+	private HtmlEscaper() {
+	}
+
+	/// Write escaped value to given writer: the value is written at once, so that rendering a variable
+	/// is a single call to the writer.
+	///
+	/// @param value The value.
+	/// @param writer The output.
+	/// @throws IOException If writing output fails.
+	static void escape(String value, Writer writer) throws IOException {
+		final int length = value.length();
+
+		int i = 0;
+		while (i < length && entity(value.charAt(i)) == null) {
+			i++;
+		}
+
+		if (i == length) {
+			writer.write(value);
+			return;
+		}
+
+		final StringBuilder sb = new StringBuilder(length + 16);
+		sb.append(value, 0, i);
+		for (; i < length; i++) {
+			final char c = value.charAt(i);
+			final String entity = entity(c);
+			if (entity == null) {
+				sb.append(c);
+			}
+			else {
+				sb.append(entity);
+			}
+		}
+
+		writer.write(sb.toString());
+	}
+
+	private static String entity(char c) {
+		switch (c) {
+			case '&':
+				return "&amp;";
+			case '<':
+				return "&lt;";
+			case '>':
+				return "&gt;";
+			case '"':
+				return "&quot;";
+			case '\'':
+				return "&#39;";
+			case '`':
+				return "&#x60;";
+			case '=':
+				return "&#x3D;";
+			default:
+				return null;
+		}
+	}
+}
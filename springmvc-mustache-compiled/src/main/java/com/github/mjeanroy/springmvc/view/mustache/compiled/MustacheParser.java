@@ -0,0 +1,299 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+
+/// Parser of mustache templates, producing the tree of [Segment] compiled by [TemplateCompiler].
+///
+/// Supported tags are variables (`{{name}}`, `{{{name}}}` and `{{&name}}`), sections (`{{#name}}`),
+/// inverted sections (`{{^name}}`), comments (`{{!comment}}`), partials (`{{>name}}`) and delimiters
+/// changes (`{{=<% %>=}}`). As defined by the mustache specification, a line containing only a section,
+/// comment, partial or delimiters tag (and whitespaces) is removed from the output: the indentation of a
+/// standalone partial tag is prepended to each line of the partial (see [Segment#getIndent()]).
+///
+/// This class is not thread safe: a parser must be used once, to parse a single template.
+final class MustacheParser {
+
+	/// Parse given template.
+	///
+	/// @param templateName Template name, used in error messages.
+	/// @param template Template content.
+	/// @return Parsed segments.
+	/// @throws MustacheSyntaxException If template is not a valid mustache template.
+	static List<Segment> parse(String templateName, String template) {
+		return new MustacheParser(templateName, template).parse();
+	}
+
+	/// Template name.
+	private final String templateName;
+
+	/// Template content.
+	private final String template;
+
+	/// Current opening delimiter.
+	private String openTag;
+
+	/// Current closing delimiter.
+	private String closeTag;
+
+	/// Static text not added to segments yet.
+	private final StringBuilder text;
+
+	/// Segments of the current section (or of the template itself).
+	private List<Segment> segments;
+
+	/// Open sections.
+	private final Deque<OpenSection> sections;
+
+	private MustacheParser(String templateName, String template) {
+		this.templateName = templateName;
+		this.template = template;
+		this.openTag = "{{";
+		this.closeTag = "}}";
+		this.text = new StringBuilder();
+		this.segments = new ArrayList<>();
+		this.sections = new ArrayDeque<>();
+	}
+
+	private List<Segment> parse() {
+		final int length = template.length();
+
+		int position = 0;
+		while (position < length) {
+			final int start = template.indexOf(openTag, position);
+			if (start < 0) {
+				text.append(template, position, length);
+				break;
+			}
+
+			text.append(template, position, start);
+			position = parseTag(start, position);
+		}
+
+		if (!sections.isEmpty()) {
+			throw error(sections.peek().position, "Unclosed section '" + sections.peek().name + "'");
+		}
+
+		flushText();
+		return segments;
+	}
+
+	/// Parse tag starting at given position.
+	///
+	/// @param start Position of the opening delimiter.
+	/// @param previousEnd Position following the previous tag.
+	/// @return Position following the tag (and the end of line, for a standalone tag).
+	private int parseTag(int start, int previousEnd) {
+		final boolean triple = openTag.equals("{{") && template.startsWith("{{{", start);
+		final String close = triple ? "}" + closeTag : closeTag;
+		final int contentStart = start + openTag.length() + (triple ? 1 : 0);
+		final int contentEnd = template.indexOf(close, contentStart);
+		if (contentEnd < 0) {
+			throw error(start, "Unclosed tag");
+		}
+
+		final int end = contentEnd + close.length();
+		final String content = template.substring(contentStart, contentEnd).trim();
+		if (content.isEmpty()) {
+			throw error(start, "Empty tag");
+		}
+
+		if (triple) {
+			addVariable(content, false);
+			return end;
+		}
+
+		final String name = content.substring(1).trim();
+		switch (content.charAt(0)) {
+			case '&':
+				addVariable(checkName(name, start), false);
+				return end;
+
+			case '!':
+				return standalone(start, end, previousEnd);
+
+			case '#':
+			case '^':
+				return openSection(checkName(name, start), content.charAt(0) == '^', start, standalone(start, end, previousEnd));
+
+			case '/':
+				return closeSection(checkName(name, start), start, standalone(start, end, previousEnd));
+
+			case '>':
+				return addPartial(checkName(name, start), start, end, previousEnd);
+
+			case '=':
+				return changeDelimiters(content, start, standalone(start, end, previousEnd));
+
+			default:
+				addVariable(content, true);
+				return end;
+		}
+	}
+
+	private int openSection(String name, boolean inverted, int start, int next) {
+		flushText();
+		sections.push(new OpenSection(name, inverted, segments, start));
+		segments = new ArrayList<>();
+		return next;
+	}
+
+	private int closeSection(String name, int start, int next) {
+		flushText();
+
+		final OpenSection section = sections.peek();
+		if (section == null || !section.name.equals(name)) {
+			throw error(start, "Unexpected closing tag '" + name + "'");
+		}
+
+		sections.pop();
+		final List<Segment> children = segments;
+		segments = section.parent;
+		segments.add(Segment.section(section.name, section.inverted, children));
+		return next;
+	}
+
+	private int changeDelimiters(String content, int start, int next) {
+		final String[] delimiters = content.length() > 2 && content.endsWith("=") ?
+				content.substring(1, content.length() - 1).trim().split("\\s+") :
+				new String[0];
+
+		if (delimiters.length != 2 || delimiters[0].isEmpty()) {
+			throw error(start, "Invalid delimiters tag");
+		}
+
+		openTag = delimiters[0];
+		closeTag = delimiters[1];
+		return next;
+	}
+
+	private int addPartial(String name, int start, int end, int previousEnd) {
+		final String indent = isStandalone(start, end, previousEnd) ? template.substring(lineStart(start), start) : "";
+		final int next = standalone(start, end, previousEnd);
+		flushText();
+		segments.add(Segment.partial(name, indent));
+		return next;
+	}
+
+	private void addVariable(String name, boolean escape) {
+		flushText();
+		segments.add(Segment.variable(name, escape));
+	}
+
+	/// Check if tag at given position is standalone, i.e the only tag on its line, surrounded by
+	/// whitespaces only: in this case, the whole line is removed.
+	///
+	/// @param start Position of the opening delimiter.
+	/// @param end Position following the tag.
+	/// @param previousEnd Position following the previous tag.
+	/// @return Position following the line, if tag is standalone, position following the tag otherwise.
+	private int standalone(int start, int end, int previousEnd) {
+		if (!isStandalone(start, end, previousEnd)) {
+			return end;
+		}
+
+		// Indentation of the tag has already been added to the pending text.
+		text.setLength(text.length() - (start - lineStart(start)));
+
+		final int lineEnd = template.indexOf('\n', end);
+		return lineEnd < 0 ? template.length() : lineEnd + 1;
+	}
+
+	/// Check if tag at given position is the only tag on its line, surrounded by whitespaces only.
+	///
+	/// @param start Position of the opening delimiter.
+	/// @param end Position following the tag.
+	/// @param previousEnd Position following the previous tag.
+	/// @return `true` if tag is standalone, `false` otherwise.
+	private boolean isStandalone(int start, int end, int previousEnd) {
+		final int lineStart = lineStart(start);
+		if (lineStart < previousEnd || !isBlank(lineStart, start)) {
+			return false;
+		}
+
+		final int lineEnd = template.indexOf('\n', end);
+		return isBlank(end, lineEnd < 0 ? template.length() : lineEnd);
+	}
+
+	private int lineStart(int position) {
+		return template.lastIndexOf('\n', position - 1) + 1;
+	}
+
+	private boolean isBlank(int from, int to) {
+		for (int i = from; i < to; i++) {
+			final char c = template.charAt(i);
+			if (c != ' ' && c != '\t' && c != '\r') {
+				return false;
+			}
+		}
+
+		return true;
+	}
+
+	private void flushText() {
+		if (text.length() > 0) {
+			segments.add(Segment.text(text.toString()));
+			text.setLength(0);
+		}
+	}
+
+	private String checkName(String name, int position) {
+		if (name.isEmpty()) {
+			throw error(position, "Missing name");
+		}
+
+		return name;
+	}
+
+	private MustacheSyntaxException error(int position, String message) {
+		int line = 1;
+		for (int i = 0; i < position; i++) {
+			if (template.charAt(i) == '\n') {
+				line++;
+			}
+		}
+
+		return new MustacheSyntaxException(templateName, line, message);
+	}
+
+	/// Section opened, and not closed yet.
+	private static final class OpenSection {
+		private final String name;
+		private final boolean inverted;
+		private final List<Segment> parent;
+		private final int position;
+
+		private OpenSection(String name, boolean inverted, List<Segment> parent, int position) {
+			this.name = name;
+			this.inverted = inverted;
+			this.parent = parent;
+			this.position = position;
+		}
+	}
+}
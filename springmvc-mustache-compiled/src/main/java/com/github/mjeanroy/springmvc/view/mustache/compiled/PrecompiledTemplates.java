@@ -0,0 +1,270 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
+
+/// Templates parsed at build time (typically by the `springmvc-mustache-maven-plugin`), stored in a single
+/// classpath resource ([#LOCATION]) as a compact binary syntax tree: a [CompiledMustacheCompiler] configured with
+/// these templates compiles them without loading, or parsing, their sources.
+///
+/// Templates are identified by their classpath path (such as `templates/index.template.html`), and are looked up
+/// with the location resolved by the template loader (such as `classpath:/templates/index.template.html`):
+/// templates that are not precompiled, or whose location does not start with a `classpath:` prefix, are parsed
+/// as usual.
+///
+/// Precompiled templates are never revalidated: they are ignored when templates may change at runtime (see
+/// [CompiledMustacheCompiler#setPrecompiledTemplates(PrecompiledTemplates)]).
+public final class PrecompiledTemplates {
+
+	private static final Logger log = LoggerFactory.getLogger(PrecompiledTemplates.class);
+
+	/// Classpath location of precompiled templates.
+	public static final String LOCATION = "META-INF/springmvc-mustache/precompiled-templates.bin";
+
+	/// Header of the binary format.
+	private static final int MAGIC = 0x4D535443;
+
+	/// Version of the binary format.
+	private static final int VERSION = 2;
+
+	/// Segment types, indexed by their serialized value.
+	private static final Segment.Type[] TYPES = Segment.Type.values();
+
+	/// Precompiled templates, by classpath path.
+	private final Map<String, List<Segment>> templates;
+
+	private PrecompiledTemplates(Map<String, List<Segment>> templates) {
+		this.templates = templates;
+	}
+
+	/// Load precompiled templates from the classpath ([#LOCATION]).
+	///
+	/// @param classLoader Class loader used to load precompiled templates.
+	/// @return Precompiled templates (empty if classpath does not contain precompiled templates).
+	/// @throws MustacheIOException If precompiled templates cannot be read.
+	public static PrecompiledTemplates load(ClassLoader classLoader) {
+		notNull(classLoader, "Class loader must not be null");
+
+		try (InputStream stream = classLoader.getResourceAsStream(LOCATION)) {
+			if (stream == null) {
+				log.debug("No precompiled templates found in classpath");
+				return new PrecompiledTemplates(Collections.emptyMap());
+			}
+
+			PrecompiledTemplates precompiledTemplates = read(stream);
+			log.debug("Loaded {} precompiled templates", precompiledTemplates.size());
+			return precompiledTemplates;
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage());
+			throw new MustacheIOException(ex);
+		}
+	}
+
+	/// Read precompiled templates.
+	///
+	/// @param stream Stream containing precompiled templates, written by [#write(Map, OutputStream)].
+	/// @return Precompiled templates.
+	/// @throws IOException If stream cannot be read, or does not contain precompiled templates.
+	public static PrecompiledTemplates read(InputStream stream) throws IOException {
+		DataInputStream input = new DataInputStream(new BufferedInputStream(stream));
+		if (input.readInt() != MAGIC) {
+			throw new IOException("Invalid precompiled templates");
+		}
+
+		int version = input.readUnsignedShort();
+		if (version != VERSION) {
+			throw new IOException("Unsupported precompiled templates version: " + version);
+		}
+
+		int count = input.readInt();
+		Map<String, List<Segment>> templates = new HashMap<>(count * 4 / 3 + 1);
+		for (int i = 0; i < count; i++) {
+			String path = readString(input);
+			templates.put(path, readSegments(input));
+		}
+
+		return new PrecompiledTemplates(templates);
+	}
+
+	/// Parse templates, and write their syntax trees.
+	///
+	/// @param sources Template sources, by classpath path (such as `templates/index.template.html`).
+	/// @param stream Output stream.
+	/// @throws MustacheSyntaxException If a template is not a valid mustache template.
+	/// @throws IOException If precompiled templates cannot be written.
+	public static void write(Map<String, String> sources, OutputStream stream) throws IOException {
+		// Parse all templates first, so that nothing is written if a template is invalid.
+		Map<String, List<Segment>> templates = new TreeMap<>();
+		for (Map.Entry<String, String> entry : sources.entrySet()) {
+			templates.put(entry.getKey(), MustacheParser.parse(entry.getKey(), entry.getValue()));
+		}
+
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+		output.writeInt(MAGIC);
+		output.writeShort(VERSION);
+		output.writeInt(templates.size());
+		for (Map.Entry<String, List<Segment>> entry : templates.entrySet()) {
+			writeString(output, entry.getKey());
+			writeSegments(output, entry.getValue());
+		}
+
+		output.flush();
+	}
+
+	/// Get number of precompiled templates.
+	///
+	/// @return Number of precompiled templates.
+	public int size() {
+		return templates.size();
+	}
+
+	/// Get classpath paths of precompiled templates.
+	///
+	/// @return Classpath paths.
+	public Set<String> getPaths() {
+		return Collections.unmodifiableSet(templates.keySet());
+	}
+
+	/// Get segments of template at given location.
+	///
+	/// @param location Template location, as resolved by the template loader.
+	/// @return Template segments, `null` if template has not been precompiled.
+	List<Segment> get(String location) {
+		String path = path(location);
+		return path == null ? null : templates.get(path);
+	}
+
+	/// Get classpath path of given location.
+	///
+	/// @param location Template location.
+	/// @return Classpath path, `null` if location does not start with a `classpath:` (or `classpath*:`) prefix.
+	private static String path(String location) {
+		String path;
+		if (location.startsWith("classpath:")) {
+			path = location.substring("classpath:".length());
+		}
+		else if (location.startsWith("classpath*:")) {
+			path = location.substring("classpath*:".length());
+		}
+		else {
+			return null;
+		}
+
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+
+	private static List<Segment> readSegments(DataInputStream input) throws IOException {
+		int count = input.readInt();
+		List<Segment> segments = new ArrayList<>(count);
+		for (int i = 0; i < count; i++) {
+			int type = input.readUnsignedByte();
+			if (type >= TYPES.length) {
+				throw new IOException("Invalid segment type: " + type);
+			}
+
+			String value = readString(input);
+			switch (TYPES[type]) {
+				case TEXT:
+					segments.add(Segment.text(value));
+					break;
+				case VARIABLE:
+					segments.add(Segment.variable(value, true));
+					break;
+				case UNESCAPED_VARIABLE:
+					segments.add(Segment.variable(value, false));
+					break;
+				case SECTION:
+					segments.add(Segment.section(value, false, readSegments(input)));
+					break;
+				case INVERTED_SECTION:
+					segments.add(Segment.section(value, true, readSegments(input)));
+					break;
+				default:
+					segments.add(Segment.partial(value, readString(input)));
+					break;
+			}
+		}
+
+		return unmodifiableList(segments);
+	}
+
+	private static void writeSegments(DataOutputStream output, List<Segment> segments) throws IOException {
+		output.writeInt(segments.size());
+		for (Segment segment : segments) {
+			output.writeByte(segment.getType().ordinal());
+			writeString(output, segment.getValue());
+			if (segment.getType() == Segment.Type.SECTION || segment.getType() == Segment.Type.INVERTED_SECTION) {
+				writeSegments(output, segment.getChildren());
+			}
+			else if (segment.getType() == Segment.Type.PARTIAL) {
+				writeString(output, segment.getIndent());
+			}
+		}
+	}
+
+	// Strings are written with their length, since DataOutput#writeUTF is limited to 64KB.
+	private static String readString(DataInputStream input) throws IOException {
+		byte[] bytes = new byte[input.readInt()];
+		input.readFully(bytes);
+		return new String(bytes, StandardCharsets.UTF_8);
+	}
+
+	private static void writeString(DataOutputStream output, String value) throws IOException {
+		byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+		output.writeInt(bytes.length);
+		output.write(bytes);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("size", templates.size())
+				.build();
+	}
+}
@@ -0,0 +1,207 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.reflection.Accessors;
+
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/// Accessor of a named property, created once for each name referenced by a compiled template.
+///
+/// Map entries are read directly, other properties are read through the method named as the property, its
+/// getter (`getName()` or `isName()`), or its field, using accessors generated once per class (see
+/// [Accessors]) and shared by all templates. Each accessor also caches the accessor of the last class it has
+/// read, so that reading the same property of objects of the same class (such as items of a list) is a
+/// direct call.
+final class PropertyAccessor {
+
+	/// Value returned when a property does not exist.
+	static final Object NOT_FOUND = new Object();
+
+	/// Accessor of missing properties.
+	private static final Function<Object, Object> MISSING = object -> NOT_FOUND;
+
+	/// Accessors, by class and property name: entries are removed when a class is unloaded.
+	private static final ClassValue<ConcurrentMap<String, Function<Object, Object>>> ACCESSORS = new ClassValue<ConcurrentMap<String, Function<Object, Object>>>() {
+		@Override
+		protected ConcurrentMap<String, Function<Object, Object>> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/// Property name.
+	private final String name;
+
+	/// Accessor of the last class read by this accessor.
+	// Not volatile: a stale value is only a cache miss, and cached accessors are immutable.
+	private CachedAccessor cached;
+
+	/// Create accessor.
+	///
+	/// @param name Property name.
+	PropertyAccessor(String name) {
+		this.name = name;
+	}
+
+	/// Read property of given object.
+	///
+	/// @param target The object.
+	/// @return Property value, [#NOT_FOUND] if object does not have this property.
+	Object get(Object target) {
+		if (target == null) {
+			return NOT_FOUND;
+		}
+
+		if (target instanceof Map) {
+			final Map<?, ?> map = (Map<?, ?>) target;
+			final Object value = map.get(name);
+			return value != null || map.containsKey(name) ? value : NOT_FOUND;
+		}
+
+		final Class<?> type = target.getClass();
+		CachedAccessor accessor = cached;
+		if (accessor == null || accessor.type != type) {
+			accessor = new CachedAccessor(type, ACCESSORS.get(type).computeIfAbsent(name, n -> createAccessor(type, n)));
+			cached = accessor;
+		}
+
+		return accessor.accessor.apply(target);
+	}
+
+	private static Function<Object, Object> createAccessor(Class<?> type, String name) {
+		final AccessibleObject member = findMember(type, name);
+		if (member instanceof Method) {
+			return Accessors.methodAccessor((Method) member);
+		}
+
+		if (member instanceof Field) {
+			return Accessors.fieldAccessor((Field) member);
+		}
+
+		return MISSING;
+	}
+
+	/// Find member used to read given property: method named as the property, getter, then field, declared by
+	/// given class or by one of its superclasses, then public (default) methods of implemented interfaces.
+	///
+	/// @param type The class.
+	/// @param name Property name.
+	/// @return The member, `null` if class does not have this property.
+	private static AccessibleObject findMember(Class<?> type, String name) {
+		final String suffix = Character.toUpperCase(name.charAt(0)) + name.substring(1);
+		final String[] methodNames = {name, "get" + suffix, "is" + suffix};
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			for (String methodName : methodNames) {
+				final Method method = accessible(findMethod(current, methodName, false));
+				if (method != null) {
+					return method;
+				}
+			}
+		}
+
+		for (Class<?> current = type; current != null && current != Object.class; current = current.getSuperclass()) {
+			final Field field = accessible(findField(current, name));
+			if (field != null) {
+				return field;
+			}
+		}
+
+		for (String methodName : methodNames) {
+			final Method method = accessible(findMethod(type, methodName, true));
+			if (method != null) {
+				return method;
+			}
+		}
+
+		return null;
+	}
+
+	private static Method findMethod(Class<?> type, String name, boolean inherited) {
+		try {
+			final Method method = inherited ? type.getMethod(name) : type.getDeclaredMethod(name);
+			if (method.getReturnType() == void.class || Modifier.isStatic(method.getModifiers())) {
+				return null;
+			}
+
+			if (name.startsWith("is") && method.getReturnType() != boolean.class && method.getReturnType() != Boolean.class) {
+				return null;
+			}
+
+			return method;
+		}
+		catch (NoSuchMethodException ex) {
+			return null;
+		}
+	}
+
+	private static Field findField(Class<?> type, String name) {
+		try {
+			final Field field = type.getDeclaredField(name);
+			return Modifier.isStatic(field.getModifiers()) ? null : field;
+		}
+		catch (NoSuchFieldException ex) {
+			return null;
+		}
+	}
+
+	/// Make given member accessible, if needed.
+	///
+	/// @param member The member.
+	/// @param <T> Type of member.
+	/// @return The member, `null` if member cannot be made accessible.
+	private static <T extends AccessibleObject> T accessible(T member) {
+		if (member == null) {
+			return null;
+		}
+
+		try {
+			member.setAccessible(true);
+			return member;
+		}
+		catch (RuntimeException ex) {
+			// Member of a class that is not open to this module (with Java 9 or later).
+			return null;
+		}
+	}
+
+	/// Accessor, and the class it reads.
+	private static final class CachedAccessor {
+		private final Class<?> type;
+		private final Function<Object, Object> accessor;
+
+		private CachedAccessor(Class<?> type, Function<Object, Object> accessor) {
+			this.type = type;
+			this.accessor = accessor;
+		}
+	}
+}
@@ -0,0 +1,86 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+
+/// Reference to a (possibly dotted) name, such as `user.name`, resolved against a [Scope].
+///
+/// As defined by the mustache specification, the first part of a dotted name is resolved against the
+/// innermost scope defining it, and other parts are resolved against the resolved value. The implicit
+/// iterator (`.`) is the value of the current scope. [LazyValue] instances are unwrapped.
+final class Reference {
+
+	/// Referenced name.
+	private final String name;
+
+	/// Accessors of each part of the name, empty for the implicit iterator.
+	private final PropertyAccessor[] path;
+
+	/// Create reference.
+	///
+	/// @param name Referenced name.
+	Reference(String name) {
+		this.name = name;
+
+		final String[] parts = ".".equals(name) ? new String[0] : name.split("\\.");
+		this.path = new PropertyAccessor[parts.length];
+		for (int i = 0; i < parts.length; i++) {
+			this.path[i] = new PropertyAccessor(parts[i]);
+		}
+	}
+
+	/// Get [#name]
+	///
+	/// @return [#name]
+	String getName() {
+		return name;
+	}
+
+	/// Get the first part of the name, i.e the name of the model value read by this reference if it is
+	/// resolved against the root scope.
+	///
+	/// @return First part of the name, `null` for the implicit iterator.
+	String getRootName() {
+		return path.length == 0 ? null : name.split("\\.", 2)[0];
+	}
+
+	/// Resolve value.
+	///
+	/// @param scope The current scope.
+	/// @return Resolved value, `null` if name cannot be resolved.
+	Object resolve(Scope scope) {
+		if (path.length == 0) {
+			return LazyValue.unwrap(scope.getValue());
+		}
+
+		Object value = LazyValue.unwrap(scope.lookup(path[0]));
+		for (int i = 1; i < path.length && value != PropertyAccessor.NOT_FOUND; i++) {
+			value = LazyValue.unwrap(path[i].get(value));
+		}
+
+		return value == PropertyAccessor.NOT_FOUND ? null : value;
+	}
+}
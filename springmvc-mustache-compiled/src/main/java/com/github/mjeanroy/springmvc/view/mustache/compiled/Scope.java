@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+/// Stack of contexts, used to resolve variables: the model is the root scope, and each section pushes
+/// a new scope containing its value.
+final class Scope {
+
+	/// Value of this scope.
+	private final Object value;
+
+	/// Enclosing scope, `null` for the root scope.
+	private final Scope parent;
+
+	/// Create root scope.
+	///
+	/// @param value Value of the scope (i.e the model).
+	Scope(Object value) {
+		this(value, null);
+	}
+
+	private Scope(Object value, Scope parent) {
+		this.value = value;
+		this.parent = parent;
+	}
+
+	/// Create scope nested in this scope.
+	///
+	/// @param value Value of the nested scope.
+	/// @return The nested scope.
+	Scope push(Object value) {
+		return new Scope(value, this);
+	}
+
+	/// Get [#value]
+	///
+	/// @return [#value]
+	Object getValue() {
+		return value;
+	}
+
+	/// Read property from the innermost scope defining it.
+	///
+	/// @param accessor The property accessor.
+	/// @return Property value, [PropertyAccessor#NOT_FOUND] if no scope defines this property.
+	Object lookup(PropertyAccessor accessor) {
+		for (Scope scope = this; scope != null; scope = scope.parent) {
+			final Object result = accessor.get(scope.value);
+			if (result != PropertyAccessor.NOT_FOUND) {
+				return result;
+			}
+		}
+
+		return PropertyAccessor.NOT_FOUND;
+	}
+}
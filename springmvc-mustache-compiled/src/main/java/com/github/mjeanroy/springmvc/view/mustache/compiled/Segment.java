@@ -0,0 +1,149 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import java.util.List;
+
+import static java.util.Collections.emptyList;
+
+/// Segment of a parsed template: static text, variable, section or partial.
+final class Segment {
+
+	/// Segment type.
+	enum Type {
+		/// Static text.
+		TEXT,
+
+		/// Variable, escaped when rendered.
+		VARIABLE,
+
+		/// Variable, never escaped.
+		UNESCAPED_VARIABLE,
+
+		/// Section, rendered if its value is not falsey.
+		SECTION,
+
+		/// Inverted section, rendered if its value is falsey.
+		INVERTED_SECTION,
+
+		/// Partial, rendered with the current context.
+		PARTIAL
+	}
+
+	/// Segment type.
+	private final Type type;
+
+	/// Static text, or name of variable, section or partial.
+	private final String value;
+
+	/// Segments nested in a section.
+	private final List<Segment> children;
+
+	/// Indentation of a standalone partial, prepended to each line of the partial (empty otherwise).
+	private final String indent;
+
+	private Segment(Type type, String value, List<Segment> children) {
+		this(type, value, children, "");
+	}
+
+	private Segment(Type type, String value, List<Segment> children, String indent) {
+		this.type = type;
+		this.value = value;
+		this.children = children;
+		this.indent = indent;
+	}
+
+	/// Create static text segment.
+	///
+	/// @param text Static text.
+	/// @return The segment.
+	static Segment text(String text) {
+		return new Segment(Type.TEXT, text, emptyList());
+	}
+
+	/// Create variable segment.
+	///
+	/// @param name Variable name.
+	/// @param escape `true` if value must be escaped, `false` otherwise.
+	/// @return The segment.
+	static Segment variable(String name, boolean escape) {
+		return new Segment(escape ? Type.VARIABLE : Type.UNESCAPED_VARIABLE, name, emptyList());
+	}
+
+	/// Create section segment.
+	///
+	/// @param name Section name.
+	/// @param inverted `true` for an inverted section, `false` otherwise.
+	/// @param children Nested segments.
+	/// @return The segment.
+	static Segment section(String name, boolean inverted, List<Segment> children) {
+		return new Segment(inverted ? Type.INVERTED_SECTION : Type.SECTION, name, children);
+	}
+
+	/// Create partial segment.
+	///
+	/// @param name Partial name.
+	/// @return The segment.
+	static Segment partial(String name) {
+		return partial(name, "");
+	}
+
+	/// Create partial segment.
+	///
+	/// @param name Partial name.
+	/// @param indent Indentation of a standalone partial tag, prepended to each line of the partial.
+	/// @return The segment.
+	static Segment partial(String name, String indent) {
+		return new Segment(Type.PARTIAL, name, emptyList(), indent);
+	}
+
+	/// Get [#type]
+	///
+	/// @return [#type]
+	Type getType() {
+		return type;
+	}
+
+	/// Get [#value]
+	///
+	/// @return [#value]
+	String getValue() {
+		return value;
+	}
+
+	/// Get [#children]
+	///
+	/// @return [#children]
+	List<Segment> getChildren() {
+		return children;
+	}
+
+	/// Get [#indent]
+	///
+	/// @return [#indent]
+	String getIndent() {
+		return indent;
+	}
+}
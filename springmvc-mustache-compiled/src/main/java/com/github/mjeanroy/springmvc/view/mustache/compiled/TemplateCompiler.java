@@ -0,0 +1,505 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.function.UnaryOperator;
+
+import static java.util.Collections.unmodifiableSet;
+
+/// Compile parsed segments of a template, and of its partials, into a tree of [Renderer]:
+///
+/// - Partials are inlined, so that static text of a partial is merged with the static text surrounding the
+///   partial tag. Recursive partials are compiled once (per template and indentation), and referenced by the tree.
+/// - Adjacent static text segments are merged into a single constant string (that can be shared with other
+///   compiled templates, see [com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool]).
+/// - Each variable, and each section, gets its own [Reference], caching accessors of the properties it reads.
+///
+/// As defined by the mustache specification, the indentation of a standalone partial tag is prepended to each
+/// line of the partial. The indentation of a recursive partial is not accumulated at each level of recursion:
+/// nested levels are rendered with the indentation of the first level.
+///
+/// Sections follow the same rules as other engines configured by this library: `null`, `false`, zero, empty
+/// strings and empty collections (or arrays) are falsey values.
+///
+/// This class is not thread safe: a compiler must be used once, to compile a single template.
+final class TemplateCompiler {
+
+	/// Renderer of empty segments list.
+	private static final Renderer EMPTY = (scope, writer) -> {
+	};
+
+	/// Function loading, and parsing, partials by name.
+	private final Function<String, List<Segment>> partialLoader;
+
+	/// Function returning the instance of static text to keep in compiled template.
+	private final UnaryOperator<String> textInterner;
+
+	/// Partials loaded so far, by name.
+	private final Map<String, List<Segment>> loadedPartials;
+
+	/// Recursive partials compiled so far, by name and indentation.
+	private final Map<String, PartialRenderer> partials;
+
+	/// Recursive partials being compiled, by name.
+	private final Map<String, PartialRenderer> compiling;
+
+	/// Root variable names referenced by the template and its partials.
+	private final Set<String> rootVariables;
+
+	/// Create compiler.
+	///
+	/// @param partialLoader Function loading, and parsing, partials by name.
+	TemplateCompiler(Function<String, List<Segment>> partialLoader) {
+		this(partialLoader, UnaryOperator.identity());
+	}
+
+	/// Create compiler.
+	///
+	/// @param partialLoader Function loading, and parsing, partials by name.
+	/// @param textInterner Function returning the instance of static text to keep in compiled template.
+	TemplateCompiler(Function<String, List<Segment>> partialLoader, UnaryOperator<String> textInterner) {
+		this.partialLoader = partialLoader;
+		this.textInterner = textInterner;
+		this.loadedPartials = new HashMap<>();
+		this.partials = new HashMap<>();
+		this.compiling = new HashMap<>();
+		this.rootVariables = new HashSet<>();
+	}
+
+	/// Compile segments.
+	///
+	/// @param segments Segments.
+	/// @return The renderer.
+	Renderer compile(List<Segment> segments) {
+		return link(inline(segments, new HashSet<>()));
+	}
+
+	/// Get root variable names referenced by compiled segments (including partials).
+	///
+	/// @return Root variable names.
+	Set<String> getRootVariables() {
+		return unmodifiableSet(rootVariables);
+	}
+
+	/// Replace partial segments by the segments of the partial, unless the partial is being inlined (i.e the
+	/// partial is recursive).
+	///
+	/// @param segments Segments.
+	/// @param inlining Names of partials being inlined.
+	/// @return Segments, with partials inlined.
+	private List<Segment> inline(List<Segment> segments, Set<String> inlining) {
+		final List<Segment> result = new ArrayList<>(segments.size());
+		for (Segment segment : segments) {
+			switch (segment.getType()) {
+				case PARTIAL:
+					final String name = segment.getValue();
+					if (inlining.add(name)) {
+						result.addAll(inline(indent(load(name), segment.getIndent()), inlining));
+						inlining.remove(name);
+					}
+					else {
+						result.add(segment);
+					}
+
+					break;
+
+				case SECTION:
+				case INVERTED_SECTION:
+					final boolean inverted = segment.getType() == Segment.Type.INVERTED_SECTION;
+					result.add(Segment.section(segment.getValue(), inverted, inline(segment.getChildren(), inlining)));
+					break;
+
+				default:
+					result.add(segment);
+					break;
+			}
+		}
+
+		return result;
+	}
+
+	/// Create renderer of given segments, merging adjacent static text segments.
+	///
+	/// @param segments Segments, with partials inlined.
+	/// @return The renderer.
+	private Renderer link(List<Segment> segments) {
+		final List<Renderer> renderers = new ArrayList<>(segments.size());
+		final StringBuilder text = new StringBuilder();
+
+		for (Segment segment : segments) {
+			if (segment.getType() == Segment.Type.TEXT) {
+				text.append(segment.getValue());
+				continue;
+			}
+
+			if (text.length() > 0) {
+				renderers.add(new TextRenderer(textInterner.apply(text.toString())));
+				text.setLength(0);
+			}
+
+			renderers.add(linkSegment(segment));
+		}
+
+		if (text.length() > 0) {
+			renderers.add(new TextRenderer(textInterner.apply(text.toString())));
+		}
+
+		if (renderers.isEmpty()) {
+			return EMPTY;
+		}
+
+		return renderers.size() == 1 ? renderers.get(0) : new CompositeRenderer(renderers.toArray(new Renderer[0]));
+	}
+
+	private Renderer linkSegment(Segment segment) {
+		switch (segment.getType()) {
+			case VARIABLE:
+				return new VariableRenderer(reference(segment.getValue()), true);
+			case UNESCAPED_VARIABLE:
+				return new VariableRenderer(reference(segment.getValue()), false);
+			case SECTION:
+				return new SectionRenderer(reference(segment.getValue()), link(segment.getChildren()));
+			case INVERTED_SECTION:
+				return new InvertedSectionRenderer(reference(segment.getValue()), link(segment.getChildren()));
+			case PARTIAL:
+				return partial(segment.getValue(), segment.getIndent());
+			default:
+				throw new IllegalArgumentException("Unexpected segment: " + segment.getType());
+		}
+	}
+
+	private Reference reference(String name) {
+		final Reference reference = new Reference(name);
+		final String rootName = reference.getRootName();
+		if (rootName != null) {
+			rootVariables.add(rootName);
+		}
+
+		return reference;
+	}
+
+	private List<Segment> load(String name) {
+		List<Segment> segments = loadedPartials.get(name);
+		if (segments == null) {
+			segments = partialLoader.apply(name);
+			loadedPartials.put(name, segments);
+		}
+
+		return segments;
+	}
+
+	private Renderer partial(String name, String indent) {
+		// Nested levels of a recursive partial reference the renderer being compiled: indentation is not accumulated.
+		PartialRenderer partial = compiling.get(name);
+		if (partial != null) {
+			return partial;
+		}
+
+		// Indentation cannot contain any line break.
+		final String key = indent + '\n' + name;
+		partial = partials.get(key);
+		if (partial == null) {
+			// Register partial before compiling it, so that recursive partials reference the same renderer.
+			partial = new PartialRenderer();
+			partials.put(key, partial);
+			compiling.put(name, partial);
+
+			final Set<String> inlining = new HashSet<>();
+			inlining.add(name);
+			partial.renderer = link(inline(indent(load(name), indent), inlining));
+			compiling.remove(name);
+		}
+
+		return partial;
+	}
+
+	/// Prepend given indentation to each line of given segments.
+	///
+	/// @param segments Segments.
+	/// @param indent Indentation.
+	/// @return Indented segments.
+	private static List<Segment> indent(List<Segment> segments, String indent) {
+		return indent.isEmpty() ? segments : new Indentation(indent).apply(segments);
+	}
+
+	/// Check if given section value is falsey.
+	///
+	/// @param value The value.
+	/// @return `true` if value is falsey, `false` otherwise.
+	private static boolean isFalsey(Object value) {
+		if (value == null) {
+			return true;
+		}
+
+		if (value instanceof Boolean) {
+			return !((Boolean) value);
+		}
+
+		if (value instanceof Number) {
+			return ((Number) value).doubleValue() == 0;
+		}
+
+		if (value instanceof CharSequence) {
+			return ((CharSequence) value).length() == 0;
+		}
+
+		if (value instanceof Collection) {
+			return ((Collection<?>) value).isEmpty();
+		}
+
+		if (value instanceof Iterable) {
+			return !((Iterable<?>) value).iterator().hasNext();
+		}
+
+		if (value instanceof Iterator) {
+			return !((Iterator<?>) value).hasNext();
+		}
+
+		return value.getClass().isArray() && Array.getLength(value) == 0;
+	}
+
+	/// Renderer of static text.
+	private static final class TextRenderer implements Renderer {
+		private final String text;
+
+		private TextRenderer(String text) {
+			this.text = text;
+		}
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			writer.write(text);
+		}
+	}
+
+	/// Renderer of a sequence of segments.
+	private static final class CompositeRenderer implements Renderer {
+		private final Renderer[] renderers;
+
+		private CompositeRenderer(Renderer[] renderers) {
+			this.renderers = renderers;
+		}
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			for (Renderer renderer : renderers) {
+				renderer.render(scope, writer);
+			}
+		}
+	}
+
+	/// Renderer of a variable.
+	private static final class VariableRenderer implements Renderer {
+		private final Reference reference;
+		private final boolean escape;
+
+		private VariableRenderer(Reference reference, boolean escape) {
+			this.reference = reference;
+			this.escape = escape;
+		}
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			final Object value = reference.resolve(scope);
+			if (value == null) {
+				return;
+			}
+
+			if (escape) {
+				HtmlEscaper.escape(value.toString(), writer);
+			}
+			else {
+				writer.write(value.toString());
+			}
+		}
+	}
+
+	/// Renderer of a section: the section is rendered once for each item of a collection (or array), once
+	/// with the current scope for `true`, once with a nested scope for other values that are not falsey.
+	private static final class SectionRenderer implements Renderer {
+		private final Reference reference;
+		private final Renderer body;
+
+		private SectionRenderer(Reference reference, Renderer body) {
+			this.reference = reference;
+			this.body = body;
+		}
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			final Object value = reference.resolve(scope);
+			if (value instanceof Boolean) {
+				if ((Boolean) value) {
+					body.render(scope, writer);
+				}
+			}
+			else if (value instanceof List && value instanceof RandomAccess) {
+				final List<?> list = (List<?>) value;
+				for (int i = 0, size = list.size(); i < size; i++) {
+					body.render(scope.push(list.get(i)), writer);
+				}
+			}
+			else if (value instanceof Iterable) {
+				for (Object item : (Iterable<?>) value) {
+					body.render(scope.push(item), writer);
+				}
+			}
+			else if (value instanceof Iterator) {
+				final Iterator<?> iterator = (Iterator<?>) value;
+				while (iterator.hasNext()) {
+					body.render(scope.push(iterator.next()), writer);
+				}
+			}
+			else if (value instanceof Object[]) {
+				for (Object item : (Object[]) value) {
+					body.render(scope.push(item), writer);
+				}
+			}
+			else if (value != null && value.getClass().isArray()) {
+				final int length = Array.getLength(value);
+				for (int i = 0; i < length; i++) {
+					body.render(scope.push(Array.get(value, i)), writer);
+				}
+			}
+			else if (!isFalsey(value)) {
+				body.render(scope.push(value), writer);
+			}
+		}
+	}
+
+	/// Renderer of an inverted section: the section is rendered, with the current scope, for falsey values.
+	private static final class InvertedSectionRenderer implements Renderer {
+		private final Reference reference;
+		private final Renderer body;
+
+		private InvertedSectionRenderer(Reference reference, Renderer body) {
+			this.reference = reference;
+			this.body = body;
+		}
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			if (isFalsey(reference.resolve(scope))) {
+				body.render(scope, writer);
+			}
+		}
+	}
+
+	/// Indentation of a standalone partial, prepended to each line of the partial.
+	private static final class Indentation {
+		private final String indent;
+
+		// Segments are read in rendering order: a partial always starts a new line.
+		private boolean lineStart;
+
+		private Indentation(String indent) {
+			this.indent = indent;
+			this.lineStart = true;
+		}
+
+		private List<Segment> apply(List<Segment> segments) {
+			final List<Segment> result = new ArrayList<>(segments.size() + 1);
+			for (Segment segment : segments) {
+				switch (segment.getType()) {
+					case TEXT:
+						result.add(Segment.text(apply(segment.getValue())));
+						break;
+
+					case SECTION:
+					case INVERTED_SECTION:
+						final boolean inverted = segment.getType() == Segment.Type.INVERTED_SECTION;
+						result.add(Segment.section(segment.getValue(), inverted, apply(segment.getChildren())));
+						break;
+
+					case PARTIAL:
+						if (!segment.getIndent().isEmpty()) {
+							// Standalone partial: indentation is prepended to each line of the nested partial.
+							result.add(Segment.partial(segment.getValue(), indent + segment.getIndent()));
+							lineStart = true;
+							break;
+						}
+
+						startLine(result);
+						result.add(segment);
+						break;
+
+					default:
+						startLine(result);
+						result.add(segment);
+						break;
+				}
+			}
+
+			return result;
+		}
+
+		private String apply(String text) {
+			final StringBuilder sb = new StringBuilder(text.length() + indent.length());
+			for (int i = 0; i < text.length(); i++) {
+				if (lineStart) {
+					sb.append(indent);
+					lineStart = false;
+				}
+
+				final char c = text.charAt(i);
+				sb.append(c);
+				lineStart = c == '\n';
+			}
+
+			return sb.toString();
+		}
+
+		private void startLine(List<Segment> segments) {
+			if (lineStart) {
+				segments.add(Segment.text(indent));
+				lineStart = false;
+			}
+		}
+	}
+
+	/// Renderer of a partial, rendered with the current scope.
+	private static final class PartialRenderer implements Renderer {
+		// Set once, when the partial is compiled, before the template is published.
+		private Renderer renderer;
+
+		@Override
+		public void render(Scope scope, Writer writer) throws IOException {
+			renderer.render(scope, writer);
+		}
+	}
+}
@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheCompilerConfigurer;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.util.ClassUtils;
+
+/// Spring configuration for [CompiledMustacheCompiler] engine.
+@Configuration
+public class CompiledMustacheConfiguration {
+
+	private static final Logger log = LoggerFactory.getLogger(CompiledMustacheConfiguration.class);
+
+	private final Environment environment;
+
+	/// Create configuration with given environment.
+	///
+	/// @param environment Environment, typically automatically injected by Spring.
+	@Autowired
+	public CompiledMustacheConfiguration(Environment environment) {
+		this.environment = environment;
+	}
+
+	/// Build mustache compiler.
+	///
+	/// @param templateLoader Template loader.
+	/// @return Mustache compiler implementation.
+	@Bean
+	public MustacheCompiler mustacheCompiler(MustacheTemplateLoader templateLoader) {
+		boolean precompiledTemplates = getPrecompiledTemplates();
+		boolean watch = getWatch();
+
+		log.info("Create compiled mustache compiler");
+		log.debug(" - precompiledTemplates = {}", precompiledTemplates);
+
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+
+		if (precompiledTemplates && watch) {
+			log.warn("Templates are watched, precompiled templates are ignored");
+		}
+		else if (precompiledTemplates) {
+			compiler.setPrecompiledTemplates(PrecompiledTemplates.load(ClassUtils.getDefaultClassLoader()));
+		}
+
+		return new MustacheCompilerConfigurer(environment).configure(compiler);
+	}
+
+	private boolean getPrecompiledTemplates() {
+		return environment.getProperty("mustache.compiled.precompiledTemplates", Boolean.class, false);
+	}
+
+	private boolean getWatch() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.watch", String.valueOf(MustacheSettings.WATCH)).trim());
+	}
+}
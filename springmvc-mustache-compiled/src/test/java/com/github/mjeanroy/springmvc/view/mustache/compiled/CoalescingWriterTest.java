@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class CoalescingWriterTest {
+
+	@Test
+	void it_should_buffer_writes_until_drained() throws Exception {
+		StringWriter target = new StringWriter();
+		CoalescingWriter writer = new CoalescingWriter(target, 16);
+
+		writer.write("<p>");
+		writer.write('a');
+		writer.write(new char[]{'b', 'c'}, 0, 2);
+		writer.write("</p>", 0, 4);
+		assertThat(target.toString()).isEmpty();
+
+		writer.drain();
+		assertThat(target).hasToString("<p>abc</p>");
+	}
+
+	@Test
+	void it_should_write_buffer_when_full() throws Exception {
+		StringWriter target = new StringWriter();
+		CoalescingWriter writer = new CoalescingWriter(target, 8);
+
+		writer.write("12345");
+		writer.write("6789");
+		assertThat(target).hasToString("12345");
+
+		writer.drain();
+		assertThat(target).hasToString("123456789");
+	}
+
+	@Test
+	void it_should_write_large_strings_directly() throws Exception {
+		Writer target = mock(Writer.class);
+		CoalescingWriter writer = new CoalescingWriter(target, 4);
+
+		writer.write("ab");
+		writer.write("0123456789");
+
+		verify(target).write(new char[]{'a', 'b', 0, 0}, 0, 2);
+		verify(target).write("0123456789", 0, 10);
+		verifyNoMoreInteractions(target);
+	}
+
+	@Test
+	void it_should_flush_target_when_flushed() throws Exception {
+		Writer target = mock(Writer.class);
+		CoalescingWriter writer = new CoalescingWriter(target, 4);
+
+		writer.flush();
+
+		verify(target).flush();
+		verifyNoMoreInteractions(target);
+	}
+
+	@Test
+	void it_should_not_close_target_when_closed() throws Exception {
+		Writer target = mock(Writer.class);
+		CoalescingWriter writer = new CoalescingWriter(target, 4);
+
+		writer.close();
+
+		verifyNoInteractions(target);
+		verify(target, never()).close();
+	}
+}
@@ -0,0 +1,278 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.IntrospectedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.MarkerFlushingWriter;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheCompilationException;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class CompiledMustacheCompilerTest {
+
+	@Test
+	void it_should_render_template() {
+		MustacheTemplate template = compiler().compile("foo");
+		assertThat(render(template, model())).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_render_template_with_partials() {
+		MustacheTemplate template = compiler().compile("composite");
+		assertThat(render(template, model())).isEqualTo("<div>\n\t<div>Hello foo</div></div>");
+	}
+
+	@Test
+	void it_should_render_template_with_partial_aliases() {
+		RenderContext context = RenderContext.of(singletonMap("header", "foo"));
+		MustacheTemplate template = compiler().compile("composite-aliases", context);
+		assertThat(render(template, model())).isEqualTo("<div>\n\t<div>Hello foo</div></div>");
+	}
+
+	@Test
+	void it_should_share_static_text_of_compiled_templates() {
+		StaticTextPool pool = new StaticTextPool();
+		CompiledMustacheCompiler compiler = compiler();
+		compiler.setStaticTextPool(pool);
+
+		RenderContext context = RenderContext.of(singletonMap("header", "foo"));
+		assertThat(render(compiler.compile("composite"), model())).isEqualTo("<div>\n\t<div>Hello foo</div></div>");
+		assertThat(render(compiler.compile("composite-aliases", context), model())).isEqualTo("<div>\n\t<div>Hello foo</div></div>");
+		assertThat(pool.size()).isEqualTo(2);
+		assertThat(pool.getHits()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_coalesce_writes() throws Exception {
+		Writer writer = mock(Writer.class);
+		compiler().compile("list").execute(model(), writer);
+
+		verify(writer).write(any(char[].class), eq(0), anyInt());
+		verifyNoMoreInteractions(writer);
+	}
+
+	@Test
+	void it_should_not_coalesce_writes_flushed_at_markers() throws Exception {
+		Writer writer = mock(Writer.class);
+		compiler().compile("foo").execute(model(), new MarkerFlushingWriter(writer, singletonList("<div>")));
+
+		verify(writer).flush();
+	}
+
+	@Test
+	void it_should_render_recursive_partials() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "root");
+		model.put("children", asList(node("a"), node("b")));
+
+		MustacheTemplate template = compiler().compile("tree");
+		assertThat(render(template, model)).isEqualTo("root(a)(b)");
+	}
+
+	@Test
+	void it_should_expose_root_variables() {
+		MustacheTemplate template = compiler().compile("composite");
+		assertThat(template).isInstanceOf(IntrospectedTemplate.class);
+		assertThat(((IntrospectedTemplate) template).getRootVariables()).containsOnly("name");
+	}
+
+	@Test
+	void it_should_render_precompiled_templates() throws Exception {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("templates/composite.template.html", "<section>{{> foo}}</section>");
+		sources.put("templates/foo.template.html", "<p>Precompiled {{name}}</p>");
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrecompiledTemplates.write(sources, output);
+
+		DefaultTemplateLoader templateLoader = classpathTemplateLoader();
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+		compiler.setPrecompiledTemplates(PrecompiledTemplates.read(new ByteArrayInputStream(output.toByteArray())));
+
+		assertThat(render(compiler.compile("composite"), model())).isEqualTo("<section><p>Precompiled foo</p></section>");
+		assertThat(render(compiler.compile("zero"), model())).isEqualTo(render(compiler().compile("zero"), model()));
+	}
+
+	@Test
+	void it_should_ignore_precompiled_templates_if_sources_are_revalidated() throws Exception {
+		DefaultTemplateLoader templateLoader = classpathTemplateLoader();
+		templateLoader.setSourceCacheInterval(1000);
+
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+		compiler.setPrecompiledTemplates(precompiledFoo());
+
+		assertThat(render(compiler.compile("foo"), model())).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_ignore_precompiled_templates_if_sources_are_minified() throws Exception {
+		DefaultTemplateLoader templateLoader = classpathTemplateLoader();
+		templateLoader.setMinify(true);
+
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+		compiler.setPrecompiledTemplates(precompiledFoo());
+
+		assertThat(render(compiler.compile("foo"), model())).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_ignore_precompiled_templates_without_classpath_location() throws Exception {
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader(), "/templates/", ".template.html");
+		templateLoader.setSourceCacheInterval(-1);
+
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+		compiler.setPrecompiledTemplates(precompiledFoo());
+
+		assertThat(render(compiler.compile("foo"), model())).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_fail_to_compile_template_with_missing_partial() {
+		assertThatThrownBy(() -> compiler().compile("missing-partial")).isInstanceOf(MustacheCompilationException.class);
+	}
+
+	@ParameterizedTest
+	@ValueSource(strings = {"foo", "zero", "list", "tree"})
+	void it_should_render_same_output_as_jmustache(String name) {
+		MustacheTemplateLoader templateLoader = templateLoader();
+		Mustache.Compiler jmustache = Mustache.compiler().zeroIsFalse(true).emptyStringIsFalse(true).defaultValue("");
+		MustacheTemplate expected = new JMustacheCompiler(jmustache, templateLoader).compile(name);
+		MustacheTemplate template = new CompiledMustacheCompiler(templateLoader).compile(name);
+
+		Map<String, Object> model = model();
+		assertThat(render(template, model)).isEqualTo(render(expected, model));
+	}
+
+	@Test
+	void it_should_implement_equals_hash_code() {
+		MustacheTemplateLoader templateLoader = templateLoader();
+		CompiledMustacheCompiler c1 = new CompiledMustacheCompiler(templateLoader);
+		CompiledMustacheCompiler c2 = new CompiledMustacheCompiler(templateLoader);
+		CompiledMustacheCompiler c3 = new CompiledMustacheCompiler(new DefaultTemplateLoader(new DefaultResourceLoader(), "/other/", ".html"));
+
+		assertThat(c1).isEqualTo(c1).isEqualTo(c2).isNotEqualTo(c3).isNotEqualTo(null);
+		assertThat(c1).hasSameHashCodeAs(c2);
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MustacheTemplateLoader templateLoader = templateLoader();
+		CompiledMustacheCompiler compiler = new CompiledMustacheCompiler(templateLoader);
+
+		assertThat(compiler.toString()).isEqualTo(String.format(
+				"com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompiler@%s{templateLoader=%s, precompiledTemplates=null}",
+				Integer.toHexString(System.identityHashCode(compiler)), templateLoader
+		));
+	}
+
+	private static Map<String, Object> model() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "foo");
+		model.put("zero", 0);
+		model.put("items", asList(new Item("<Book>", 10), new Item("Pen", 0)));
+		model.put("children", asList(node("a"), node("b")));
+		return model;
+	}
+
+	private static Map<String, Object> node(String name) {
+		Map<String, Object> node = new HashMap<>();
+		node.put("name", name);
+		node.put("children", emptyList());
+		return node;
+	}
+
+	private static String render(MustacheTemplate template, Map<String, Object> model) {
+		StringWriter writer = new StringWriter();
+		template.execute(model, writer);
+		return writer.toString();
+	}
+
+	private static CompiledMustacheCompiler compiler() {
+		return new CompiledMustacheCompiler(templateLoader());
+	}
+
+	private static DefaultTemplateLoader classpathTemplateLoader() {
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader(), "classpath:/templates/", ".template.html");
+		templateLoader.setSourceCacheInterval(-1);
+		return templateLoader;
+	}
+
+	private static PrecompiledTemplates precompiledFoo() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrecompiledTemplates.write(singletonMap("templates/foo.template.html", "<p>Precompiled {{name}}</p>"), output);
+		return PrecompiledTemplates.read(new ByteArrayInputStream(output.toByteArray()));
+	}
+
+	private static MustacheTemplateLoader templateLoader() {
+		return new DefaultTemplateLoader(new DefaultResourceLoader(), "/templates/", ".template.html");
+	}
+
+	public static final class Item {
+		private final String name;
+		private final int price;
+
+		Item(String name, int price) {
+			this.name = name;
+			this.price = price;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public int getPrice() {
+			return price;
+		}
+	}
+}
@@ -0,0 +1,60 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+
+class HtmlEscaperTest {
+
+	@Test
+	void it_should_escape_html_characters() throws Exception {
+		StringWriter writer = new StringWriter();
+		HtmlEscaper.escape("<a href=\"x\" title='y'>`&`</a>", writer);
+		assertThat(writer).hasToString("&lt;a href&#x3D;&quot;x&quot; title&#x3D;&#39;y&#39;&gt;&#x60;&amp;&#x60;&lt;/a&gt;");
+	}
+
+	@Test
+	void it_should_write_escaped_value_at_once() throws Exception {
+		Writer writer = mock(Writer.class);
+		HtmlEscaper.escape("Description of <item>", writer);
+		verify(writer).write("Description of &lt;item&gt;");
+		verifyNoMoreInteractions(writer);
+	}
+
+	@Test
+	void it_should_write_value_without_html_characters() throws Exception {
+		StringWriter writer = new StringWriter();
+		HtmlEscaper.escape("Hello World", writer);
+		assertThat(writer).hasToString("Hello World");
+	}
+}
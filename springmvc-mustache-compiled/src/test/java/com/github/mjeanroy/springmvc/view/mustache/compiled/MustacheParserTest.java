@@ -0,0 +1,161 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MustacheParserTest {
+
+	@Test
+	void it_should_parse_text_and_variables() {
+		List<Segment> segments = MustacheParser.parse("foo", "Hello {{ name }}, {{{html}}} {{&raw}}!");
+
+		assertThat(segments).hasSize(7);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "Hello ");
+		assertSegment(segments.get(1), Segment.Type.VARIABLE, "name");
+		assertSegment(segments.get(2), Segment.Type.TEXT, ", ");
+		assertSegment(segments.get(3), Segment.Type.UNESCAPED_VARIABLE, "html");
+		assertSegment(segments.get(4), Segment.Type.TEXT, " ");
+		assertSegment(segments.get(5), Segment.Type.UNESCAPED_VARIABLE, "raw");
+		assertSegment(segments.get(6), Segment.Type.TEXT, "!");
+	}
+
+	@Test
+	void it_should_parse_sections() {
+		List<Segment> segments = MustacheParser.parse("foo", "{{#items}}{{name}}{{/items}}{{^items}}None{{/items}}");
+
+		assertThat(segments).hasSize(2);
+		assertSegment(segments.get(0), Segment.Type.SECTION, "items");
+		assertThat(segments.get(0).getChildren()).hasSize(1);
+		assertSegment(segments.get(0).getChildren().get(0), Segment.Type.VARIABLE, "name");
+
+		assertSegment(segments.get(1), Segment.Type.INVERTED_SECTION, "items");
+		assertThat(segments.get(1).getChildren()).hasSize(1);
+		assertSegment(segments.get(1).getChildren().get(0), Segment.Type.TEXT, "None");
+	}
+
+	@Test
+	void it_should_remove_standalone_lines() {
+		List<Segment> segments = MustacheParser.parse("foo", "<ul>\n  {{#items}}\n  <li/>\n  {{/items}}\n  {{! comment }}\n</ul>");
+
+		assertThat(segments).hasSize(3);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "<ul>\n");
+		assertSegment(segments.get(1), Segment.Type.SECTION, "items");
+		assertSegment(segments.get(1).getChildren().get(0), Segment.Type.TEXT, "  <li/>\n");
+		assertSegment(segments.get(2), Segment.Type.TEXT, "</ul>");
+	}
+
+	@Test
+	void it_should_not_remove_lines_with_other_content() {
+		List<Segment> segments = MustacheParser.parse("foo", "<p>{{! comment }}</p>\n");
+
+		assertThat(segments).hasSize(1);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "<p></p>\n");
+	}
+
+	@Test
+	void it_should_remove_lines_of_standalone_partials() {
+		List<Segment> segments = MustacheParser.parse("foo", "<div>\n\t{{> bar}}\n</div>");
+
+		assertThat(segments).hasSize(3);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "<div>\n");
+		assertSegment(segments.get(1), Segment.Type.PARTIAL, "bar");
+		assertSegment(segments.get(2), Segment.Type.TEXT, "</div>");
+		assertThat(segments.get(1).getIndent()).isEqualTo("\t");
+	}
+
+	@Test
+	void it_should_keep_lines_of_partials_with_other_content() {
+		List<Segment> segments = MustacheParser.parse("foo", "<div>{{> bar}}</div>\n");
+
+		assertThat(segments).hasSize(3);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "<div>");
+		assertSegment(segments.get(1), Segment.Type.PARTIAL, "bar");
+		assertSegment(segments.get(2), Segment.Type.TEXT, "</div>\n");
+		assertThat(segments.get(1).getIndent()).isEmpty();
+	}
+
+	@Test
+	void it_should_change_delimiters() {
+		List<Segment> segments = MustacheParser.parse("foo", "{{=<% %>=}}<% name %> {{name}}<%={{ }}=%>{{name}}");
+
+		assertThat(segments).hasSize(3);
+		assertSegment(segments.get(0), Segment.Type.VARIABLE, "name");
+		assertSegment(segments.get(1), Segment.Type.TEXT, " {{name}}");
+		assertSegment(segments.get(2), Segment.Type.VARIABLE, "name");
+	}
+
+	@Test
+	void it_should_fail_with_unclosed_tag() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "Hello\n{{name"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Unclosed tag (template: foo, line: 2)");
+	}
+
+	@Test
+	void it_should_fail_with_empty_tag() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "Hello {{ }}"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Empty tag (template: foo, line: 1)");
+	}
+
+	@Test
+	void it_should_fail_with_missing_name() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "{{#}}"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Missing name (template: foo, line: 1)");
+	}
+
+	@Test
+	void it_should_fail_with_unclosed_section() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "\n{{#items}}"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Unclosed section 'items' (template: foo, line: 2)");
+	}
+
+	@Test
+	void it_should_fail_with_unexpected_closing_tag() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "{{#items}}{{/item}}"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Unexpected closing tag 'item' (template: foo, line: 1)");
+	}
+
+	@Test
+	void it_should_fail_with_invalid_delimiters() {
+		assertThatThrownBy(() -> MustacheParser.parse("foo", "{{=<%=}}"))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Invalid delimiters tag (template: foo, line: 1)");
+	}
+
+	private static void assertSegment(Segment segment, Segment.Type type, String value) {
+		assertThat(segment.getType()).isEqualTo(type);
+		assertThat(segment.getValue()).isEqualTo(value);
+	}
+}
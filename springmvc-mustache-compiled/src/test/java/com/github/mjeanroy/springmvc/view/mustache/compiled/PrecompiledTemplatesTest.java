@@ -0,0 +1,157 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrecompiledTemplatesTest {
+
+	@Test
+	void it_should_write_and_read_templates() throws Exception {
+		Map<String, String> sources = new HashMap<>();
+		sources.put("templates/index.template.html", "<h1>{{title}}</h1>{{#items}}{{{name}}}{{/items}}{{^items}}None{{/items}}{{> footer}}");
+		sources.put("templates/footer.template.html", "<footer>{{&copyright}}</footer>");
+
+		PrecompiledTemplates templates = PrecompiledTemplates.read(new ByteArrayInputStream(write(sources)));
+
+		assertThat(templates.size()).isEqualTo(2);
+		assertThat(templates.getPaths()).containsOnly("templates/index.template.html", "templates/footer.template.html");
+
+		List<Segment> segments = templates.get("classpath:/templates/index.template.html");
+		assertThat(segments).hasSize(6);
+		assertSegment(segments.get(0), Segment.Type.TEXT, "<h1>");
+		assertSegment(segments.get(1), Segment.Type.VARIABLE, "title");
+		assertSegment(segments.get(2), Segment.Type.TEXT, "</h1>");
+		assertSegment(segments.get(3), Segment.Type.SECTION, "items");
+		assertSegment(segments.get(3).getChildren().get(0), Segment.Type.UNESCAPED_VARIABLE, "name");
+		assertSegment(segments.get(4), Segment.Type.INVERTED_SECTION, "items");
+		assertSegment(segments.get(4).getChildren().get(0), Segment.Type.TEXT, "None");
+		assertSegment(segments.get(5), Segment.Type.PARTIAL, "footer");
+	}
+
+	@Test
+	void it_should_get_templates_by_classpath_location() throws Exception {
+		Map<String, String> sources = singletonMap("templates/index.template.html", "Hello");
+		PrecompiledTemplates templates = PrecompiledTemplates.read(new ByteArrayInputStream(write(sources)));
+
+		assertThat(templates.get("classpath:/templates/index.template.html")).isNotNull();
+		assertThat(templates.get("classpath:templates/index.template.html")).isNotNull();
+		assertThat(templates.get("classpath*:templates/index.template.html")).isNotNull();
+		assertThat(templates.get("templates/index.template.html")).isNull();
+		assertThat(templates.get("/templates/index.template.html")).isNull();
+		assertThat(templates.get("file:/templates/index.template.html")).isNull();
+		assertThat(templates.get("classpath:/templates/missing.template.html")).isNull();
+	}
+
+	@Test
+	void it_should_fail_to_write_invalid_templates() {
+		Map<String, String> sources = singletonMap("templates/index.template.html", "{{#items}}");
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+		assertThatThrownBy(() -> PrecompiledTemplates.write(sources, output))
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Unclosed section 'items' (template: templates/index.template.html, line: 1)");
+
+		assertThat(output.size()).isZero();
+	}
+
+	@Test
+	void it_should_fail_to_read_invalid_stream() {
+		assertThatThrownBy(() -> PrecompiledTemplates.read(new ByteArrayInputStream(new byte[]{1, 2, 3, 4})))
+				.isInstanceOf(IOException.class)
+				.hasMessage("Invalid precompiled templates");
+	}
+
+	@Test
+	void it_should_load_templates_from_classpath(@TempDir Path tmp) throws Exception {
+		File file = tmp.resolve(PrecompiledTemplates.LOCATION).toFile();
+		assertThat(file.getParentFile().mkdirs()).isTrue();
+		try (OutputStream output = new FileOutputStream(file)) {
+			output.write(write(singletonMap("templates/index.template.html", "Hello")));
+		}
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tmp.toUri().toURL()}, null)) {
+			PrecompiledTemplates templates = PrecompiledTemplates.load(classLoader);
+			assertThat(templates.getPaths()).containsOnly("templates/index.template.html");
+		}
+	}
+
+	@Test
+	void it_should_load_empty_templates_without_precompiled_templates(@TempDir Path tmp) throws Exception {
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tmp.toUri().toURL()}, null)) {
+			assertThat(PrecompiledTemplates.load(classLoader).size()).isZero();
+		}
+	}
+
+	@Test
+	void it_should_fail_to_load_invalid_templates(@TempDir Path tmp) throws Exception {
+		File file = tmp.resolve(PrecompiledTemplates.LOCATION).toFile();
+		assertThat(file.getParentFile().mkdirs()).isTrue();
+		assertThat(file.createNewFile()).isTrue();
+
+		try (URLClassLoader classLoader = new URLClassLoader(new URL[]{tmp.toUri().toURL()}, null)) {
+			assertThatThrownBy(() -> PrecompiledTemplates.load(classLoader)).isInstanceOf(MustacheIOException.class);
+		}
+	}
+
+	@Test
+	void it_should_implement_to_string() throws Exception {
+		PrecompiledTemplates templates = PrecompiledTemplates.read(new ByteArrayInputStream(write(singletonMap("foo", "Hello"))));
+		assertThat(templates.toString()).isEqualTo(String.format(
+				"com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates@%s{size=1}",
+				Integer.toHexString(System.identityHashCode(templates))
+		));
+	}
+
+	private static byte[] write(Map<String, String> sources) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrecompiledTemplates.write(sources, output);
+		return output.toByteArray();
+	}
+
+	private static void assertSegment(Segment segment, Segment.Type type, String value) {
+		assertThat(segment.getType()).isEqualTo(type);
+		assertThat(segment.getValue()).isEqualTo(value);
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class PropertyAccessorTest {
+
+	@Test
+	void it_should_read_map_entries() {
+		Map<String, Object> map = new HashMap<>();
+		map.put("name", "John");
+		map.put("nullValue", null);
+
+		assertThat(new PropertyAccessor("name").get(map)).isEqualTo("John");
+		assertThat(new PropertyAccessor("nullValue").get(map)).isNull();
+		assertThat(new PropertyAccessor("missing").get(map)).isSameAs(PropertyAccessor.NOT_FOUND);
+	}
+
+	@Test
+	void it_should_read_methods_getters_and_fields() {
+		Bean bean = new Bean();
+
+		assertThat(new PropertyAccessor("name").get(bean)).isEqualTo("John");
+		assertThat(new PropertyAccessor("age").get(bean)).isEqualTo(42);
+		assertThat(new PropertyAccessor("active").get(bean)).isEqualTo(true);
+		assertThat(new PropertyAccessor("title").get(bean)).isEqualTo("Mr");
+		assertThat(new PropertyAccessor("parent").get(bean)).isEqualTo("Parent");
+		assertThat(new PropertyAccessor("missing").get(bean)).isSameAs(PropertyAccessor.NOT_FOUND);
+	}
+
+	@Test
+	void it_should_read_properties_of_different_classes() {
+		PropertyAccessor accessor = new PropertyAccessor("name");
+
+		assertThat(accessor.get(new Bean())).isEqualTo("John");
+		assertThat(accessor.get(singletonMap("name", "Jane"))).isEqualTo("Jane");
+		assertThat(accessor.get(new Other())).isEqualTo("Other");
+		assertThat(accessor.get(new Bean())).isEqualTo("John");
+		assertThat(accessor.get(null)).isSameAs(PropertyAccessor.NOT_FOUND);
+	}
+
+	private static class Parent {
+		String getParent() {
+			return "Parent";
+		}
+	}
+
+	private static final class Bean extends Parent {
+		private final String title = "Mr";
+
+		String name() {
+			return "John";
+		}
+
+		int getAge() {
+			return 42;
+		}
+
+		boolean isActive() {
+			return true;
+		}
+	}
+
+	public static final class Other {
+		public String getName() {
+			return "Other";
+		}
+	}
+}
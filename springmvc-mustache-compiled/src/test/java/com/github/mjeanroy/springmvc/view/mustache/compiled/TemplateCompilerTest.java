@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateCompilerTest {
+
+	@Test
+	void it_should_render_variables() throws Exception {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "<John>");
+		model.put("age", 42);
+
+		assertThat(render("{{name}} - {{{name}}} - {{&name}} - {{age}} - {{missing}}", model)).isEqualTo(
+				"&lt;John&gt; - <John> - <John> - 42 - "
+		);
+	}
+
+	@Test
+	void it_should_render_dotted_names() throws Exception {
+		Map<String, Object> model = singletonMap("user", new User("John", new Address("Paris")));
+		assertThat(render("{{user.address.city}}{{user.company.name}}", model)).isEqualTo("Paris");
+	}
+
+	@Test
+	void it_should_render_sections_with_lists_and_arrays() throws Exception {
+		Map<String, Object> model = new HashMap<>();
+		model.put("users", asList(new User("John", null), new User("Jane", null)));
+		model.put("numbers", new int[]{1, 2, 3});
+		model.put("names", new String[]{"a", "b"});
+
+		assertThat(render("{{#users}}{{name}};{{/users}} {{#numbers}}{{.}}{{/numbers}} {{#names}}{{.}}{{/names}}", model)).isEqualTo(
+				"John;Jane; 123 ab"
+		);
+	}
+
+	@Test
+	void it_should_render_sections_with_objects_and_booleans() throws Exception {
+		Map<String, Object> model = new HashMap<>();
+		model.put("user", new User("John", null));
+		model.put("title", "Hello");
+		model.put("visible", true);
+
+		assertThat(render("{{#user}}{{title}} {{name}}{{/user}}{{#visible}} {{title}}{{/visible}}", model)).isEqualTo(
+				"Hello John Hello"
+		);
+	}
+
+	@Test
+	void it_should_treat_falsey_values() throws Exception {
+		Map<String, Object> model = new LinkedHashMap<>();
+		model.put("nullValue", null);
+		model.put("falseValue", false);
+		model.put("zero", 0);
+		model.put("zeroDouble", 0.0);
+		model.put("emptyString", "");
+		model.put("emptyList", emptyList());
+		model.put("emptyArray", new Object[0]);
+
+		for (String name : model.keySet()) {
+			String template = "{{#" + name + "}}truthy{{/" + name + "}}{{^" + name + "}}falsey{{/" + name + "}}";
+			assertThat(render(template, model)).as(name).isEqualTo("falsey");
+		}
+	}
+
+	@Test
+	void it_should_unwrap_lazy_values() throws Exception {
+		Map<String, Object> model = new HashMap<>();
+		model.put("user", LazyValue.of(() -> new User("John", new Address("Paris"))));
+		model.put("title", LazyValue.of(() -> "Hello"));
+
+		assertThat(render("{{title}} {{user.name}}{{#user}} {{address.city}}{{/user}}", model)).isEqualTo(
+				"Hello John Paris"
+		);
+	}
+
+	@Test
+	void it_should_render_recursive_partials() throws Exception {
+		Map<String, String> partials = singletonMap("node", "{{name}}{{#children}}({{> node}}){{/children}}");
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "root");
+		model.put("children", asList(
+				node("a"),
+				node("b", node("c"))
+		));
+
+		assertThat(render("{{> node}}", model, partials)).isEqualTo("root(a)(b(c))");
+	}
+
+	@Test
+	void it_should_intern_merged_static_text() {
+		List<String> texts = new ArrayList<>();
+		TemplateCompiler compiler = new TemplateCompiler(name -> emptyList(), text -> {
+			texts.add(text);
+			return text;
+		});
+
+		compiler.compile(MustacheParser.parse("foo", "<div>{{! comment }}Hello {{name}}</div>{{#items}} - {{/items}}"));
+
+		assertThat(texts).containsExactly("<div>Hello ", "</div>", " - ");
+	}
+
+	@Test
+	void it_should_merge_static_text_of_inlined_partials() {
+		List<String> texts = new ArrayList<>();
+		Map<String, String> partials = singletonMap("bar", "<span>{{name}}</span>");
+		TemplateCompiler compiler = new TemplateCompiler(name -> MustacheParser.parse(name, partials.get(name)), text -> {
+			texts.add(text);
+			return text;
+		});
+
+		compiler.compile(MustacheParser.parse("foo", "<div>{{> bar}}</div>"));
+
+		assertThat(texts).containsExactly("<div><span>", "</span></div>");
+	}
+
+	@Test
+	void it_should_indent_standalone_partials() throws Exception {
+		Map<String, String> partials = new HashMap<>();
+		partials.put("list", "<ul>\n{{#items}}\n\t<li>{{.}}</li>\n{{/items}}\n\t{{> footer}}\n</ul>\n");
+		partials.put("footer", "<li>{{title}}</li>\n");
+
+		Map<String, Object> model = new HashMap<>();
+		model.put("title", "end");
+		model.put("items", asList("a", "b"));
+
+		assertThat(render("<div>\n\t{{> list}}\n</div>", model, partials)).isEqualTo(
+				"<div>\n\t<ul>\n\t\t<li>a</li>\n\t\t<li>b</li>\n\t\t<li>end</li>\n\t</ul>\n</div>"
+		);
+	}
+
+	@Test
+	void it_should_not_indent_partials_with_other_content() throws Exception {
+		Map<String, String> partials = singletonMap("bar", "<b>\n{{name}}</b>");
+		Map<String, Object> model = singletonMap("name", "foo");
+
+		assertThat(render("<p>\n\t<i>{{> bar}}</i>\n</p>", model, partials)).isEqualTo("<p>\n\t<i><b>\nfoo</b></i>\n</p>");
+	}
+
+	@Test
+	void it_should_render_recursive_standalone_partials() throws Exception {
+		Map<String, String> partials = singletonMap("node", "{{name}}\n{{#children}}\n\t{{> node}}\n{{/children}}\n");
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "root");
+		model.put("children", asList(node("a"), node("b", node("c"))));
+
+		assertThat(render("{{> node}}", model, partials)).isEqualTo("root\n\ta\n\tb\n\tc\n");
+	}
+
+	@Test
+	void it_should_render_recursive_standalone_partials_with_different_indentation() throws Exception {
+		Map<String, String> partials = singletonMap("node", "{{name}}\n{{#children}}\n\t{{> node}}\n{{/children}}\n");
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "root");
+		model.put("children", asList(node("a")));
+
+		assertThat(render("<div>\n\t{{> node}}\n</div>\n<p>\n\t\t{{> node}}\n</p>\n", model, partials)).isEqualTo(
+				"<div>\n\troot\n\t\ta\n</div>\n<p>\n\t\troot\n\t\t\ta\n</p>\n"
+		);
+	}
+
+	@Test
+	void it_should_collect_root_variables() {
+		Map<String, String> partials = singletonMap("bar", "{{#items}}{{name}}{{/items}}{{> bar}}");
+		TemplateCompiler compiler = new TemplateCompiler(name -> MustacheParser.parse(name, partials.get(name)));
+		compiler.compile(MustacheParser.parse("foo", "{{title}} {{user.name}} {{.}} {{> bar}}"));
+
+		assertThat(compiler.getRootVariables()).containsOnly("title", "user", "items", "name");
+	}
+
+	private static Map<String, Object> node(String name, Object... children) {
+		Map<String, Object> node = new HashMap<>();
+		node.put("name", name);
+		node.put("children", asList(children));
+		return node;
+	}
+
+	private static String render(String template, Map<String, Object> model) throws Exception {
+		return render(template, model, new HashMap<>());
+	}
+
+	private static String render(String template, Map<String, Object> model, Map<String, String> partials) throws Exception {
+		TemplateCompiler compiler = new TemplateCompiler(name -> MustacheParser.parse(name, partials.get(name)));
+		Renderer renderer = compiler.compile(MustacheParser.parse("template", template));
+		StringWriter writer = new StringWriter();
+		renderer.render(new Scope(model), writer);
+		return writer.toString();
+	}
+
+	public static class User {
+		private final String name;
+		private final Address address;
+
+		User(String name, Address address) {
+			this.name = name;
+			this.address = address;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public Address getAddress() {
+			return address;
+		}
+	}
+
+	public static class Address {
+		private final String city;
+
+		Address(String city) {
+			this.city = city;
+		}
+
+		public String getCity() {
+			return city;
+		}
+	}
+}
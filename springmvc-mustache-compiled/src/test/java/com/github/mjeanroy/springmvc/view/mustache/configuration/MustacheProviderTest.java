@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
+import org.springframework.core.env.StandardEnvironment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class MustacheProviderTest {
+
+	@Test
+	void it_should_check_if_compiled_engine_is_available() {
+		assertThat(MustacheProvider.COMPILED.isAvailable()).isTrue();
+	}
+
+	@Test
+	void it_should_get_compiled_engine_configuration_class() {
+		assertThat(MustacheProvider.COMPILED.configurationClass()).isEqualTo(
+				"com.github.mjeanroy.springmvc.view.mustache.configuration.compiled.CompiledMustacheConfiguration"
+		);
+	}
+
+	@Test
+	void it_should_instantiate_compiled_engine_compiler() throws Exception {
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		ApplicationContext applicationContext = mock(ApplicationContext.class);
+		when(applicationContext.getBean(MustacheTemplateLoader.class)).thenReturn(templateLoader);
+		when(applicationContext.getBean(Environment.class)).thenReturn(new StandardEnvironment());
+
+		MustacheCompiler compiler = MustacheProvider.COMPILED.instantiate(applicationContext);
+
+		assertThat(compiler).isEqualTo(new CompiledMustacheCompiler(templateLoader));
+	}
+
+	@Test
+	void it_should_detect_compiled_engine_with_spi() throws Exception {
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		ApplicationContext applicationContext = mock(ApplicationContext.class);
+		when(applicationContext.getBean(MustacheTemplateLoader.class)).thenReturn(templateLoader);
+		when(applicationContext.getBean(Environment.class)).thenReturn(new StandardEnvironment());
+
+		MustacheCompiler compiler = MustacheProvider.AUTO.instantiate(applicationContext);
+
+		assertThat(MustacheProvider.SPI.isAvailable()).isTrue();
+		assertThat(compiler).isEqualTo(new CompiledMustacheCompiler(templateLoader));
+	}
+}
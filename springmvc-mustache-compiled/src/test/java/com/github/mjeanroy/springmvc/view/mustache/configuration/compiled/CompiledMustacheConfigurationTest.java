@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration.compiled;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.env.Environment;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CompiledMustacheConfigurationTest {
+
+	private Environment environment;
+	private CompiledMustacheConfiguration configuration;
+
+	@BeforeEach
+	void setUp() {
+		environment = mock(Environment.class);
+		when(environment.getProperty(anyString(), anyString())).thenAnswer(invocation -> invocation.getArgument(1));
+		when(environment.getProperty("mustache.compiled.precompiledTemplates", Boolean.class, false)).thenReturn(false);
+		configuration = new CompiledMustacheConfiguration(environment);
+	}
+
+	@Test
+	void it_should_instantiate_mustache_compiler() {
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+
+		MustacheCompiler mustacheCompiler = configuration.mustacheCompiler(templateLoader);
+
+		assertThat(mustacheCompiler).isEqualTo(new CompiledMustacheCompiler(templateLoader));
+		assertThat(((CompiledMustacheCompiler) mustacheCompiler).getPrecompiledTemplates()).isNull();
+	}
+
+	@Test
+	void it_should_instantiate_mustache_compiler_with_precompiled_templates() {
+		when(environment.getProperty("mustache.compiled.precompiledTemplates", Boolean.class, false)).thenReturn(true);
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+
+		CompiledMustacheCompiler mustacheCompiler = (CompiledMustacheCompiler) configuration.mustacheCompiler(templateLoader);
+
+		assertThat(mustacheCompiler.getPrecompiledTemplates()).isNotNull();
+		assertThat(mustacheCompiler.getPrecompiledTemplates().size()).isZero();
+	}
+
+	@Test
+	void it_should_instantiate_mustache_compiler_without_precompiled_templates_if_templates_are_watched() {
+		when(environment.getProperty("mustache.compiled.precompiledTemplates", Boolean.class, false)).thenReturn(true);
+		when(environment.getProperty("mustache.watch", "false")).thenReturn("true");
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+
+		CompiledMustacheCompiler mustacheCompiler = (CompiledMustacheCompiler) configuration.mustacheCompiler(templateLoader);
+
+		assertThat(mustacheCompiler.getPrecompiledTemplates()).isNull();
+	}
+}
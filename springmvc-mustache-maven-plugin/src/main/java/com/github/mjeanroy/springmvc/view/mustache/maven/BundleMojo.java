@@ -0,0 +1,92 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+
+/// Bundle templates into a single indexed file (see [TemplateBundle]), at build time.
+///
+/// Templates are read from the build output directory (i.e once resources have been copied, and filtered), so
+/// that the bundle matches templates packaged with the application.
+///
+/// The bundle is used by the template loader when `mustache.templateBundle` property is set: a bundle
+/// available on the file system (for example, `file:/opt/app/templates.bundle`) is memory-mapped, a bundle
+/// packaged in the application (for example, `classpath:/META-INF/springmvc-mustache/templates.bundle`) is
+/// read once in memory.
+@Mojo(name = "bundle", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class BundleMojo extends AbstractMojo {
+
+	/// Classpath root.
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	/// Directory containing templates, inside [#classesDirectory].
+	@Parameter(defaultValue = "${project.build.outputDirectory}/templates", required = true)
+	private File templatesDirectory;
+
+	/// Suffix of template files.
+	@Parameter(property = "mustache.suffix", defaultValue = ".template.html")
+	private String suffix;
+
+	/// Bundle file.
+	@Parameter(property = "mustache.bundle.output", defaultValue = "${project.build.outputDirectory}/META-INF/springmvc-mustache/templates.bundle", required = true)
+	private File output;
+
+	/// Skip bundle.
+	@Parameter(property = "mustache.bundle.skip", defaultValue = "false")
+	private boolean skip;
+
+	/// Create mojo.
+	public BundleMojo() {
+	}
+
+	@Override
+	public void execute() throws MojoExecutionException {
+		if (skip) {
+			getLog().info("Skipping mustache templates bundle");
+			return;
+		}
+
+		try {
+			TemplateBundler bundler = new TemplateBundler(classesDirectory.toPath(), templatesDirectory.toPath(), suffix, output.toPath());
+			int count = bundler.bundle();
+			getLog().info("Bundled " + count + " mustache template(s) from " + templatesDirectory + " to " + output);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new MojoExecutionException(ex.getMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new MojoExecutionException("Unable to bundle mustache templates: " + ex.getMessage(), ex);
+		}
+	}
+}
@@ -0,0 +1,100 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.compiled.MustacheSyntaxException;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+/// Validate templates, and precompile them to [PrecompiledTemplates#LOCATION], at build time.
+///
+/// Templates are read from the build output directory (i.e once resources have been copied, and filtered), so
+/// that precompiled templates match templates packaged with the application: the build fails if a template is
+/// not a valid mustache template.
+///
+/// Precompiled templates are used by the compiled engine when `mustache.compiled.precompiledTemplates` property
+/// is enabled.
+@Mojo(name = "precompile", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public class PrecompileMojo extends AbstractMojo {
+
+	/// Classpath root, where precompiled templates are written.
+	@Parameter(defaultValue = "${project.build.outputDirectory}", required = true)
+	private File classesDirectory;
+
+	/// Directory containing templates, inside [#classesDirectory].
+	@Parameter(defaultValue = "${project.build.outputDirectory}/templates", required = true)
+	private File templatesDirectory;
+
+	/// Suffix of template files.
+	@Parameter(property = "mustache.suffix", defaultValue = ".template.html")
+	private String suffix;
+
+	/// Charset of template files (UTF-8 if not set).
+	@Parameter(property = "mustache.encoding", defaultValue = "${project.build.sourceEncoding}")
+	private String encoding;
+
+	/// Skip precompilation.
+	@Parameter(property = "mustache.precompile.skip", defaultValue = "false")
+	private boolean skip;
+
+	/// Create mojo.
+	public PrecompileMojo() {
+	}
+
+	@Override
+	public void execute() throws MojoExecutionException, MojoFailureException {
+		if (skip) {
+			getLog().info("Skipping mustache templates precompilation");
+			return;
+		}
+
+		Charset charset = encoding == null || encoding.isEmpty() ? StandardCharsets.UTF_8 : Charset.forName(encoding);
+
+		try {
+			TemplatePrecompiler precompiler = new TemplatePrecompiler(classesDirectory.toPath(), templatesDirectory.toPath(), suffix, charset);
+			int count = precompiler.precompile();
+			getLog().info("Precompiled " + count + " mustache template(s) from " + templatesDirectory);
+		}
+		catch (MustacheSyntaxException ex) {
+			throw new MojoFailureException("Invalid mustache template: " + ex.getMessage(), ex);
+		}
+		catch (IllegalArgumentException ex) {
+			throw new MojoExecutionException(ex.getMessage(), ex);
+		}
+		catch (IOException ex) {
+			throw new MojoExecutionException("Unable to precompile mustache templates: " + ex.getMessage(), ex);
+		}
+	}
+}
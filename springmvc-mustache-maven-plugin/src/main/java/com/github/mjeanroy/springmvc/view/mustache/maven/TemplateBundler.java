@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/// Write templates found in a directory of the classpath to a single [TemplateBundle] file.
+///
+/// Template contents are bundled as is (i.e not decoded): they are decoded at runtime, with the charset
+/// of the template loader.
+final class TemplateBundler {
+
+	/// Templates to bundle.
+	private final TemplateFiles templates;
+
+	/// Bundle file.
+	private final Path output;
+
+	/// Create bundler.
+	///
+	/// @param classesDirectory Classpath root.
+	/// @param templatesDirectory Directory containing templates, inside classpath root.
+	/// @param suffix Suffix of template files.
+	/// @param output Bundle file.
+	/// @throws IllegalArgumentException If templates directory is not inside classpath root.
+	TemplateBundler(Path classesDirectory, Path templatesDirectory, String suffix, Path output) {
+		this.templates = new TemplateFiles(classesDirectory, templatesDirectory, suffix);
+		this.output = output;
+	}
+
+	/// Read templates, and write bundle.
+	///
+	/// @return Number of bundled templates.
+	/// @throws IOException If templates cannot be read, or if bundle cannot be written.
+	int bundle() throws IOException {
+		Map<String, byte[]> contents = new LinkedHashMap<>();
+		for (Map.Entry<String, Path> template : templates.find().entrySet()) {
+			contents.put(template.getKey(), Files.readAllBytes(template.getValue()));
+		}
+
+		ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+		TemplateBundle.write(contents, bytes);
+
+		Path parent = output.toAbsolutePath().getParent();
+		if (parent != null) {
+			Files.createDirectories(parent);
+		}
+
+		Files.write(output, bytes.toByteArray());
+		return contents.size();
+	}
+}
@@ -0,0 +1,91 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.stream.Stream;
+
+/// Template files found in a directory of the classpath.
+///
+/// Templates are identified by their path relative to the classpath root, so that they can be looked up
+/// with locations resolved by the template loader at runtime.
+final class TemplateFiles {
+
+	/// Classpath root (typically `target/classes`).
+	private final Path classesDirectory;
+
+	/// Directory containing templates, inside [#classesDirectory].
+	private final Path templatesDirectory;
+
+	/// Suffix of template files.
+	private final String suffix;
+
+	/// Create template files.
+	///
+	/// @param classesDirectory Classpath root.
+	/// @param templatesDirectory Directory containing templates, inside classpath root.
+	/// @param suffix Suffix of template files.
+	/// @throws IllegalArgumentException If templates directory is not inside classpath root.
+	TemplateFiles(Path classesDirectory, Path templatesDirectory, String suffix) {
+		this.classesDirectory = classesDirectory.toAbsolutePath().normalize();
+		this.templatesDirectory = templatesDirectory.toAbsolutePath().normalize();
+		this.suffix = suffix;
+
+		if (!this.templatesDirectory.startsWith(this.classesDirectory)) {
+			throw new IllegalArgumentException("Templates directory " + templatesDirectory + " must be inside " + classesDirectory);
+		}
+	}
+
+	/// Get [#classesDirectory]
+	///
+	/// @return [#classesDirectory]
+	Path getClassesDirectory() {
+		return classesDirectory;
+	}
+
+	/// Find template files: an empty map is returned if templates directory does not exist.
+	///
+	/// @return Template files, sorted by path relative to classpath root.
+	/// @throws IOException If templates directory cannot be read.
+	Map<String, Path> find() throws IOException {
+		Map<String, Path> templates = new TreeMap<>();
+		if (!Files.isDirectory(templatesDirectory)) {
+			return templates;
+		}
+
+		try (Stream<Path> paths = Files.walk(templatesDirectory)) {
+			paths
+					.filter(Files::isRegularFile)
+					.filter(path -> path.getFileName().toString().endsWith(suffix))
+					.forEach(path -> templates.put(classesDirectory.relativize(path).toString().replace('\\', '/'), path));
+		}
+
+		return templates;
+	}
+}
@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.compiled.MustacheSyntaxException;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.TreeMap;
+
+/// Parse templates found in a directory of the classpath, and write them to [PrecompiledTemplates#LOCATION].
+///
+/// Templates are identified by their path relative to the classpath root, so that they can be looked up
+/// with locations resolved by the template loader at runtime.
+final class TemplatePrecompiler {
+
+	/// Templates to precompile.
+	private final TemplateFiles templates;
+
+	/// Charset of template files.
+	private final Charset charset;
+
+	/// Create precompiler.
+	///
+	/// @param classesDirectory Classpath root.
+	/// @param templatesDirectory Directory containing templates, inside classpath root.
+	/// @param suffix Suffix of template files.
+	/// @param charset Charset of template files.
+	/// @throws IllegalArgumentException If templates directory is not inside classpath root.
+	TemplatePrecompiler(Path classesDirectory, Path templatesDirectory, String suffix, Charset charset) {
+		this.templates = new TemplateFiles(classesDirectory, templatesDirectory, suffix);
+		this.charset = charset;
+	}
+
+	/// Parse templates, and write precompiled templates: nothing is written if a template is invalid.
+	///
+	/// @return Number of precompiled templates.
+	/// @throws MustacheSyntaxException If a template is not a valid mustache template.
+	/// @throws IOException If templates cannot be read, or if precompiled templates cannot be written.
+	int precompile() throws IOException {
+		Map<String, String> sources = new TreeMap<>();
+		for (Map.Entry<String, Path> template : templates.find().entrySet()) {
+			sources.put(template.getKey(), new String(Files.readAllBytes(template.getValue()), charset));
+		}
+
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		PrecompiledTemplates.write(sources, output);
+
+		Path target = templates.getClassesDirectory().resolve(PrecompiledTemplates.LOCATION);
+		Files.createDirectories(target.getParent());
+		Files.write(target, output.toByteArray());
+		return sources.size();
+	}
+}
@@ -0,0 +1,98 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.lang.reflect.Field;
+import java.nio.file.Path;
+
+import static com.github.mjeanroy.springmvc.view.mustache.maven.TemplatePrecompilerTest.read;
+import static com.github.mjeanroy.springmvc.view.mustache.maven.TemplatePrecompilerTest.write;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PrecompileMojoTest {
+
+	@Test
+	void it_should_precompile_templates(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>{{title}}</h1>");
+
+		PrecompileMojo mojo = mojo(classes, false);
+		mojo.execute();
+
+		assertThat(read(classes).getPaths()).containsOnly("templates/index.template.html");
+	}
+
+	@Test
+	void it_should_skip_precompilation(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>{{title}}</h1>");
+
+		PrecompileMojo mojo = mojo(classes, true);
+		mojo.execute();
+
+		assertThat(classes.resolve(PrecompiledTemplates.LOCATION)).doesNotExist();
+	}
+
+	@Test
+	void it_should_fail_build_with_invalid_template(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>{{title</h1>");
+
+		PrecompileMojo mojo = mojo(classes, false);
+
+		assertThatThrownBy(mojo::execute)
+				.isInstanceOf(MojoFailureException.class)
+				.hasMessage("Invalid mustache template: Unclosed tag (template: templates/index.template.html, line: 1)");
+	}
+
+	@Test
+	void it_should_fail_with_templates_directory_outside_classes_directory(@TempDir Path tmp) throws Exception {
+		PrecompileMojo mojo = mojo(tmp.resolve("classes"), false);
+		setField(mojo, "templatesDirectory", tmp.resolve("templates").toFile());
+
+		assertThatThrownBy(mojo::execute).isInstanceOf(MojoExecutionException.class);
+	}
+
+	private static PrecompileMojo mojo(Path classes, boolean skip) throws Exception {
+		PrecompileMojo mojo = new PrecompileMojo();
+		setField(mojo, "classesDirectory", classes.toFile());
+		setField(mojo, "templatesDirectory", new File(classes.toFile(), "templates"));
+		setField(mojo, "suffix", ".template.html");
+		setField(mojo, "encoding", "UTF-8");
+		setField(mojo, "skip", skip);
+		return mojo;
+	}
+
+	private static void setField(PrecompileMojo mojo, String name, Object value) throws Exception {
+		Field field = PrecompileMojo.class.getDeclaredField(name);
+		field.setAccessible(true);
+		field.set(mojo, value);
+	}
+}
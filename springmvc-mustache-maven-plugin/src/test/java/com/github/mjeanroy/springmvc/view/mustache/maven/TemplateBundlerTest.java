@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+
+import static com.github.mjeanroy.springmvc.view.mustache.maven.TemplatePrecompilerTest.write;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateBundlerTest {
+
+	@Test
+	void it_should_bundle_templates(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>{{title}}</h1>{{> partials/footer}}");
+		write(classes.resolve("templates/partials/footer.template.html"), "<footer>{{copyright}} é</footer>");
+		write(classes.resolve("templates/readme.txt"), "Readme");
+		write(classes.resolve("other/other.template.html"), "Other");
+
+		Path output = classes.resolve("META-INF/springmvc-mustache/templates.bundle");
+		TemplateBundler bundler = new TemplateBundler(classes, classes.resolve("templates"), ".template.html", output);
+		int count = bundler.bundle();
+
+		TemplateBundle bundle = TemplateBundle.open(output);
+		assertThat(count).isEqualTo(2);
+		assertThat(bundle.getPaths()).containsOnly(
+				"templates/index.template.html",
+				"templates/partials/footer.template.html"
+		);
+
+		assertThat(StandardCharsets.UTF_8.decode(bundle.get("templates/partials/footer.template.html")).toString())
+				.isEqualTo("<footer>{{copyright}} é</footer>");
+	}
+
+	@Test
+	void it_should_bundle_empty_templates_without_templates_directory(@TempDir Path classes) throws Exception {
+		Path output = classes.resolve("templates.bundle");
+		TemplateBundler bundler = new TemplateBundler(classes, classes.resolve("templates"), ".template.html", output);
+		int count = bundler.bundle();
+
+		assertThat(count).isZero();
+		assertThat(TemplateBundle.open(output).size()).isZero();
+	}
+
+	@Test
+	void it_should_fail_with_templates_directory_outside_classes_directory(@TempDir Path tmp) {
+		Path classes = tmp.resolve("classes");
+		Path templates = tmp.resolve("templates");
+
+		assertThatThrownBy(() -> new TemplateBundler(classes, templates, ".template.html", tmp.resolve("templates.bundle")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Templates directory " + templates + " must be inside " + classes);
+	}
+}
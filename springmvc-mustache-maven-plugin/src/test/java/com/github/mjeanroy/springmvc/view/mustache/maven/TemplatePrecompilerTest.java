@@ -0,0 +1,102 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.maven;
+
+import com.github.mjeanroy.springmvc.view.mustache.compiled.MustacheSyntaxException;
+import com.github.mjeanroy.springmvc.view.mustache.compiled.PrecompiledTemplates;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplatePrecompilerTest {
+
+	@Test
+	void it_should_precompile_templates(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>{{title}}</h1>{{> partials/footer}}");
+		write(classes.resolve("templates/partials/footer.template.html"), "<footer>{{copyright}}</footer>");
+		write(classes.resolve("templates/readme.txt"), "{{#unclosed}}");
+		write(classes.resolve("other/other.template.html"), "Other");
+
+		TemplatePrecompiler precompiler = new TemplatePrecompiler(classes, classes.resolve("templates"), ".template.html", StandardCharsets.UTF_8);
+		int count = precompiler.precompile();
+
+		assertThat(count).isEqualTo(2);
+		assertThat(read(classes).getPaths()).containsOnly(
+				"templates/index.template.html",
+				"templates/partials/footer.template.html"
+		);
+	}
+
+	@Test
+	void it_should_precompile_empty_templates_without_templates_directory(@TempDir Path classes) throws Exception {
+		TemplatePrecompiler precompiler = new TemplatePrecompiler(classes, classes.resolve("templates"), ".template.html", StandardCharsets.UTF_8);
+		int count = precompiler.precompile();
+
+		assertThat(count).isZero();
+		assertThat(read(classes).size()).isZero();
+	}
+
+	@Test
+	void it_should_fail_with_invalid_template(@TempDir Path classes) throws Exception {
+		write(classes.resolve("templates/index.template.html"), "<h1>\n{{#title}}</h1>");
+
+		TemplatePrecompiler precompiler = new TemplatePrecompiler(classes, classes.resolve("templates"), ".template.html", StandardCharsets.UTF_8);
+
+		assertThatThrownBy(precompiler::precompile)
+				.isInstanceOf(MustacheSyntaxException.class)
+				.hasMessage("Unclosed section 'title' (template: templates/index.template.html, line: 2)");
+
+		assertThat(classes.resolve(PrecompiledTemplates.LOCATION)).doesNotExist();
+	}
+
+	@Test
+	void it_should_fail_with_templates_directory_outside_classes_directory(@TempDir Path tmp) {
+		Path classes = tmp.resolve("classes");
+		Path templates = tmp.resolve("templates");
+
+		assertThatThrownBy(() -> new TemplatePrecompiler(classes, templates, ".template.html", StandardCharsets.UTF_8))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Templates directory " + templates + " must be inside " + classes);
+	}
+
+	static void write(Path path, String content) throws IOException {
+		Files.createDirectories(path.getParent());
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	static PrecompiledTemplates read(Path classes) throws IOException {
+		try (InputStream stream = Files.newInputStream(classes.resolve(PrecompiledTemplates.LOCATION))) {
+			return PrecompiledTemplates.read(stream);
+		}
+	}
+}
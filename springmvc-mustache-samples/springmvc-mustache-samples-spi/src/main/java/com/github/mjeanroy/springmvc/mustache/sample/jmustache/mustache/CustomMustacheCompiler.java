@@ -26,6 +26,7 @@ package com.github.mjeanroy.springmvc.mustache.sample.jmustache.mustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
 import org.apache.commons.io.IOUtils;
 
@@ -39,8 +40,8 @@ class CustomMustacheCompiler extends AbstractMustacheCompiler {
 	}
 
 	@Override
-	protected MustacheTemplate doCompile(String name) {
-		try(Reader reader = templateLoader.getTemplate(name)) {
+	protected MustacheTemplate doCompile(String name, RenderContext context) {
+		try(Reader reader = templateLoader.getTemplate(name, context)) {
 			return new CustomMustacheTemplate(IOUtils.toString(reader));
 		}
 		catch (IOException ex) {
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.function.Consumer;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Writer encoding rendered characters into [DataBuffer] instances allocated by a [DataBufferFactory] (pooled
+/// buffers with Netty): each buffer is emitted, to given consumer, as soon as it is full, so that the rendered
+/// page is streamed and never materialized in memory.
+///
+/// Flushing this writer emits buffered characters, closing this writer emits remaining characters. Emitted buffers
+/// are owned by the consumer, that is responsible for releasing them.
+///
+/// This class is not thread safe: a writer must be confined to a single thread.
+final class DataBufferWriter extends Writer {
+
+	/// Factory used to allocate emitted buffers.
+	private final DataBufferFactory bufferFactory;
+
+	/// Consumer of emitted buffers.
+	private final Consumer<DataBuffer> consumer;
+
+	/// Encoder used for rendered characters.
+	private final CharsetEncoder encoder;
+
+	/// Buffer of characters not encoded yet.
+	private final CharBuffer chars;
+
+	/// Buffer of encoded characters, not emitted yet.
+	private final ByteBuffer bytes;
+
+	/// Create writer.
+	///
+	/// @param bufferFactory Factory used to allocate emitted buffers.
+	/// @param charset Charset used to encode characters.
+	/// @param bufferSize Size (in bytes) of emitted buffers (at least the size of two encoded characters).
+	/// @param consumer Consumer of emitted buffers.
+	DataBufferWriter(DataBufferFactory bufferFactory, Charset charset, int bufferSize, Consumer<DataBuffer> consumer) {
+		this.bufferFactory = notNull(bufferFactory, "Buffer factory must not be null");
+		this.consumer = notNull(consumer, "Consumer must not be null");
+		this.encoder = notNull(charset, "Charset must not be null").newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive");
+		}
+
+		// Encoding buffer must be large enough to hold a surrogate pair, whatever the buffer size is.
+		this.chars = CharBuffer.allocate(bufferSize);
+		this.bytes = ByteBuffer.allocate(Math.max(bufferSize, 2 * (int) Math.ceil(encoder.maxBytesPerChar())));
+	}
+
+	@Override
+	public void write(String str) {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int offset, int len) {
+		int start = offset;
+		int end = offset + len;
+		while (start < end) {
+			int count = Math.min(end - start, chars.remaining());
+			str.getChars(start, start + count, chars.array(), chars.position());
+			chars.position(chars.position() + count);
+			start += count;
+			if (!chars.hasRemaining()) {
+				encodeChars(false);
+			}
+		}
+	}
+
+	@Override
+	public void write(char[] buffer, int offset, int len) {
+		int start = offset;
+		int end = offset + len;
+		while (start < end) {
+			int count = Math.min(end - start, chars.remaining());
+			chars.put(buffer, start, count);
+			start += count;
+			if (!chars.hasRemaining()) {
+				encodeChars(false);
+			}
+		}
+	}
+
+	@Override
+	public void write(int c) {
+		chars.put((char) c);
+		if (!chars.hasRemaining()) {
+			encodeChars(false);
+		}
+	}
+
+	@Override
+	public void flush() {
+		encodeChars(false);
+		emitBytes();
+	}
+
+	@Override
+	public void close() {
+		encodeChars(true);
+		emitBytes();
+	}
+
+	/// Encode buffered characters: encoded bytes are emitted each time a buffer is full.
+	///
+	/// If `endOfInput` is `false`, a trailing high surrogate is kept in the buffer, since it may be followed
+	/// by its low surrogate: otherwise, it is replaced, as a [java.io.OutputStreamWriter] would do.
+	///
+	/// @param endOfInput `true` if buffered characters are not followed by other characters.
+	private void encodeChars(boolean endOfInput) {
+		chars.flip();
+
+		CoderResult result = encoder.encode(chars, bytes, endOfInput);
+		while (result.isOverflow()) {
+			emitBytes();
+			result = encoder.encode(chars, bytes, endOfInput);
+		}
+
+		if (endOfInput) {
+			result = encoder.flush(bytes);
+			while (result.isOverflow()) {
+				emitBytes();
+				result = encoder.flush(bytes);
+			}
+
+			encoder.reset();
+		}
+
+		chars.compact();
+	}
+
+	private void emitBytes() {
+		if (bytes.position() > 0) {
+			DataBuffer buffer = bufferFactory.allocateBuffer(bytes.position());
+			buffer.write(bytes.array(), 0, bytes.position());
+			bytes.clear();
+			consumer.accept(buffer);
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("charset", encoder.charset())
+				.append("bufferSize", bytes.capacity())
+				.build();
+	}
+}
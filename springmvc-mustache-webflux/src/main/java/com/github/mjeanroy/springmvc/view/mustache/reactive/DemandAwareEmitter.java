@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import reactor.core.publisher.FluxSink;
+
+import java.util.concurrent.CancellationException;
+import java.util.function.Consumer;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Consumer emitting buffers to a [FluxSink] only when they are requested downstream: when the subscriber
+/// (i.e. the response) is slower than the template, the rendering thread waits for demand instead of
+/// queueing rendered buffers, so at most one buffer per view is pending.
+///
+/// Since this consumer may block the rendering thread, it must never be used on a non-blocking thread (such as
+/// a Netty event loop).
+final class DemandAwareEmitter implements Consumer<DataBuffer> {
+
+	/// The sink.
+	private final FluxSink<DataBuffer> sink;
+
+	/// Monitor used to wait for demand.
+	private final Object lock;
+
+	/// Create emitter.
+	///
+	/// @param sink The sink.
+	DemandAwareEmitter(FluxSink<DataBuffer> sink) {
+		this.sink = notNull(sink, "Sink must not be null");
+		this.lock = new Object();
+
+		sink.onRequest(n -> signal());
+		sink.onDispose(this::signal);
+	}
+
+	@Override
+	public void accept(DataBuffer buffer) {
+		try {
+			awaitDemand();
+		}
+		catch (RuntimeException ex) {
+			DataBufferUtils.release(buffer);
+			throw ex;
+		}
+
+		sink.next(buffer);
+	}
+
+	private void awaitDemand() {
+		synchronized (lock) {
+			while (true) {
+				if (sink.isCancelled()) {
+					throw new CancellationException("Rendering has been cancelled");
+				}
+
+				if (sink.requestedFromDownstream() > 0) {
+					return;
+				}
+
+				try {
+					lock.wait();
+				}
+				catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					throw new CancellationException("Rendering has been interrupted");
+				}
+			}
+		}
+	}
+
+	private void signal() {
+		synchronized (lock) {
+			lock.notifyAll();
+		}
+	}
+}
@@ -0,0 +1,264 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustachePartialsMappingException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferFactory;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.web.reactive.result.view.AbstractUrlBasedView;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.FluxSink;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.nio.charset.Charset;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableMap;
+
+/// Implementation of mustache view for Spring WebFlux.
+///
+/// Asynchronous model attributes (such as [Mono] or [Flux]) are resolved, without
+/// blocking, before the template is rendered: a [Mono] is rendered as its value, a
+/// [Flux] as the list of its values.
+///
+/// Rendered output is streamed to the response as [DataBuffer] instances, allocated by the response buffer
+/// factory: a buffer is emitted only when it is requested by the response, so that the whole page is never
+/// materialized in memory (the rendering thread waits for the client instead).
+///
+/// Since loading templates and waiting for the client are blocking operations, templates are compiled and
+/// rendered on a dedicated [Scheduler] (by default, [Schedulers#boundedElastic()]), never on the event loop.
+public class ReactiveMustacheView extends AbstractUrlBasedView {
+
+	private static final Logger log = LoggerFactory.getLogger(ReactiveMustacheView.class);
+
+	/// Default size (in bytes) of buffers written to the response.
+	public static final int DEFAULT_BUFFER_SIZE = 8 * 1024;
+
+	/// Mustache compiler.
+	private MustacheCompiler compiler;
+
+	/// List of aliases that map alias name to partial path.
+	private final Map<String, String> aliases;
+
+	/// Size (in bytes) of buffers written to the response.
+	private int bufferSize;
+
+	/// Scheduler used to compile and render templates.
+	private Scheduler scheduler;
+
+	/// Build new view.
+	public ReactiveMustacheView() {
+		this.aliases = new HashMap<>();
+		this.bufferSize = DEFAULT_BUFFER_SIZE;
+		this.scheduler = Schedulers.boundedElastic();
+	}
+
+	/// Set new mustache compiler that can be used to compile view.
+	///
+	/// @param compiler Mustache compiler.
+	public void setCompiler(MustacheCompiler compiler) {
+		notNull(compiler, "Compiler must not be null");
+		this.compiler = compiler;
+	}
+
+	/// Get compiler that will be used to compile view.
+	///
+	/// @return Mustache compiler.
+	public MustacheCompiler getCompiler() {
+		return compiler;
+	}
+
+	/// Set size (in bytes) of buffers written to the response: each buffer is written as soon as it is full.
+	///
+	/// @param bufferSize Buffer size.
+	public void setBufferSize(int bufferSize) {
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive");
+		}
+
+		this.bufferSize = bufferSize;
+	}
+
+	/// Get size (in bytes) of buffers written to the response.
+	///
+	/// @return Buffer size.
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/// Set scheduler used to compile and render templates: since rendering may block, this scheduler must
+	/// support blocking tasks.
+	///
+	/// @param scheduler Scheduler.
+	public void setScheduler(Scheduler scheduler) {
+		this.scheduler = notNull(scheduler, "Scheduler must not be null");
+	}
+
+	/// Get scheduler used to compile and render templates.
+	///
+	/// @return Scheduler.
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	/// Add partials mapping.
+	///
+	/// @param aliases New aliases.
+	public void addAliases(Map<String, String> aliases) {
+		notNull(aliases, "Aliases must not be null");
+		for (Map.Entry<String, String> entry : aliases.entrySet()) {
+			addAlias(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/// Add alias mapping.
+	///
+	/// @param key Partial key.
+	/// @param value Partial name.
+	public void addAlias(String key, String value) {
+		this.aliases.put(
+				notNull(key, "Key must not be null"),
+				notNull(value, "Value must not be null")
+		);
+	}
+
+	/// Get list of aliases that map alias name to partial path.
+	///
+	/// @return Aliases.
+	public Map<String, String> getAliases() {
+		return unmodifiableMap(aliases);
+	}
+
+	@Override
+	public boolean checkResourceExists(Locale locale) {
+		// Template is resolved (and compiled) when view is rendered, as servlet views do.
+		return true;
+	}
+
+	@Override
+	protected Mono<Void> renderInternal(Map<String, Object> model, MediaType contentType, ServerWebExchange exchange) {
+		notNull(compiler, "Compiler must not be null and must have been set");
+		notNull(model, "Model must not be null");
+
+		if (log.isDebugEnabled()) {
+			log.debug("Render template {}", viewLayoutName());
+
+			if (log.isTraceEnabled()) {
+				log.trace("Using model: ");
+				for (Map.Entry<String, Object> entry : model.entrySet()) {
+					log.trace("  => {} = {}", entry.getKey(), entry.getValue());
+				}
+			}
+		}
+
+		final Charset charset = contentType != null && contentType.getCharset() != null ? contentType.getCharset() : getDefaultCharset();
+		final DataBufferFactory bufferFactory = exchange.getResponse().bufferFactory();
+
+		// Buffers are emitted on demand only, so overflow is an error. Requests must not be scheduled on the
+		// rendering thread, since it is blocked while waiting for them. Buffers emitted after cancellation (or not
+		// written yet) are released.
+		final Flux<DataBuffer> body = Flux.<DataBuffer>create(sink -> render(model, charset, bufferFactory, sink), FluxSink.OverflowStrategy.ERROR)
+				.subscribeOn(scheduler, false)
+				.doOnDiscard(DataBuffer.class, DataBufferUtils::release);
+
+		return exchange.getResponse().writeWith(body);
+	}
+
+	private void render(Map<String, Object> model, Charset charset, DataBufferFactory bufferFactory, FluxSink<DataBuffer> sink) {
+		try {
+			final MustacheTemplate template = compileTemplate(model);
+			final DataBufferWriter writer = new DataBufferWriter(bufferFactory, charset, bufferSize, new DemandAwareEmitter(sink));
+			template.execute(model, writer);
+			writer.close();
+			sink.complete();
+		}
+		catch (RuntimeException ex) {
+			// Template engines may wrap the cancellation thrown while waiting for demand: a cancelled sink must not
+			// receive any error.
+			if (sink.isCancelled() || isCancellation(ex)) {
+				log.debug("Rendering of template {} has been cancelled", viewLayoutName());
+			}
+			else {
+				sink.error(ex);
+			}
+		}
+	}
+
+	private static boolean isCancellation(Throwable ex) {
+		for (Throwable cause = ex; cause != null; cause = cause.getCause()) {
+			if (cause instanceof CancellationException) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@SuppressWarnings("unchecked")
+	private MustacheTemplate compileTemplate(Map<String, Object> model) {
+		final Map<String, String> viewPartials = new HashMap<>(aliases);
+		final Object object = model.get(MustacheSettings.PARTIALS_KEY);
+
+		if (object != null) {
+			if (!(object instanceof Map)) {
+				throw new MustachePartialsMappingException();
+			}
+
+			viewPartials.putAll((Map<String, String>) object);
+		}
+
+		return compiler.compile(viewLayoutName(), RenderContext.of(viewPartials));
+	}
+
+	private String viewLayoutName() {
+		return getUrl();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("compiler", compiler)
+				.append("aliases", aliases)
+				.append("bufferSize", bufferSize)
+				.append("scheduler", scheduler)
+				.build();
+	}
+}
@@ -0,0 +1,234 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.web.reactive.result.view.AbstractUrlBasedView;
+import org.springframework.web.reactive.result.view.UrlBasedViewResolver;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.hasText;
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Mustache View Resolver for Spring WebFlux.
+///
+/// Views are rendered with given [MustacheCompiler], so templates (and partials) are resolved by its
+/// [com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader], as with [com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver].
+public class ReactiveMustacheViewResolver extends UrlBasedViewResolver {
+
+	private static final Logger log = LoggerFactory.getLogger(ReactiveMustacheViewResolver.class);
+
+	/// Mustache compiler.
+	private final MustacheCompiler compiler;
+
+	/// Main layout that can be used to define view layouts.
+	/// This layout will be used by default for each views if it has been set.
+	// Volatile because it can be accessed from more than one thread
+	private volatile String defaultLayout;
+
+	/// Key to use to define layout content (see [com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver#setLayoutKey(String)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile String layoutKey;
+
+	/// Layout mappings that can be used to map different layout for different views.
+	/// If mapping is not found and a default layout is defined, default layout will be used.
+	private final Map<String, String> layoutMappings;
+
+	/// Size (in bytes) of buffers written to the response by views (see [ReactiveMustacheView#setBufferSize(int)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile int bufferSize;
+
+	/// Scheduler used by views to compile and render templates (see [ReactiveMustacheView#setScheduler(Scheduler)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile Scheduler scheduler;
+
+	/// Build new mustache resolver using compiler
+	///
+	/// @param compiler Mustache compiler.
+	public ReactiveMustacheViewResolver(MustacheCompiler compiler) {
+		setViewClass(requiredViewClass());
+
+		this.compiler = notNull(compiler, "Compiler must not be null");
+		this.layoutKey = MustacheSettings.DEFAULT_LAYOUT_KEY;
+		this.layoutMappings = new HashMap<>();
+		this.bufferSize = ReactiveMustacheView.DEFAULT_BUFFER_SIZE;
+		this.scheduler = Schedulers.boundedElastic();
+	}
+
+	@Override
+	protected Class<?> requiredViewClass() {
+		return ReactiveMustacheView.class;
+	}
+
+	@Override
+	public void setPrefix(String prefix) {
+		log.trace("Set view resolver prefix: '{}'", prefix);
+
+		super.setPrefix(prefix);
+		compiler.setPrefix(prefix);
+	}
+
+	@Override
+	public void setSuffix(String suffix) {
+		log.trace("Set view resolver suffix: '{}'", suffix);
+
+		super.setSuffix(suffix);
+		compiler.setSuffix(suffix);
+	}
+
+	/// Update default layout view.
+	///
+	/// @param defaultLayout Default layout.
+	public void setDefaultLayout(String defaultLayout) {
+		log.trace("Set view resolver default layout: '{}'", defaultLayout);
+		this.defaultLayout = hasText(defaultLayout, "Default layout must not be empty");
+	}
+
+	/// Update view layout key.
+	///
+	/// @param layoutKey New view layout key.
+	public void setLayoutKey(String layoutKey) {
+		log.trace("Set view resolver layout key: '{}'", layoutKey);
+		this.layoutKey = hasText(layoutKey, "Layout key must not be empty");
+	}
+
+	/// Set size (in bytes) of buffers written to the response by views.
+	///
+	/// @param bufferSize Buffer size.
+	public void setBufferSize(int bufferSize) {
+		log.trace("Set view resolver buffer size: {}", bufferSize);
+
+		if (bufferSize <= 0) {
+			throw new IllegalArgumentException("Buffer size must be positive");
+		}
+
+		this.bufferSize = bufferSize;
+	}
+
+	/// Get size (in bytes) of buffers written to the response by views.
+	///
+	/// @return Buffer size.
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/// Set scheduler used by views to compile and render templates: since rendering may block, this scheduler
+	/// must support blocking tasks.
+	///
+	/// @param scheduler Scheduler.
+	public void setScheduler(Scheduler scheduler) {
+		log.trace("Set view resolver scheduler: {}", scheduler);
+		this.scheduler = notNull(scheduler, "Scheduler must not be null");
+	}
+
+	/// Get scheduler used by views to compile and render templates.
+	///
+	/// @return Scheduler.
+	public Scheduler getScheduler() {
+		return scheduler;
+	}
+
+	/// Replace current layout mappings by new mappings.
+	///
+	/// @param layoutMappings New mappings.
+	public void setLayoutMappings(Map<String, String> layoutMappings) {
+		notNull(layoutMappings, "Layout mappings must not be null");
+
+		log.debug("Set view resolver layout mappings");
+
+		this.layoutMappings.clear();
+		for (Map.Entry<String, String> entry : layoutMappings.entrySet()) {
+			addLayoutMapping(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/// Replace current layout mappings by new mappings.
+	///
+	/// @param viewName View name to map.
+	/// @param layoutName Layout name to use for given view.
+	public void addLayoutMapping(String viewName, String layoutName) {
+		log.debug("Add new layout mapping");
+		log.trace("  => {} -> {}", viewName, layoutName);
+
+		notNull(viewName, "View name must not be null");
+		notNull(layoutName, "Layout name must not be null");
+		this.layoutMappings.put(viewName, layoutName);
+	}
+
+	@Override
+	protected AbstractUrlBasedView createView(String viewName) {
+		final String mapping = layoutMappings.get(viewName);
+		final String layout = mapping != null ? mapping : defaultLayout;
+		final boolean useLayout = layout != null && layoutKey != null;
+		final String name = useLayout ? layout : viewName;
+
+		log.info("Build view '{}'", viewName);
+
+		if (log.isTraceEnabled()) {
+			log.trace("  => Use layout: {}", useLayout);
+			log.trace("  => Layout: {}", layout);
+			log.trace("  => Name: {}", name);
+		}
+
+		final ReactiveMustacheView view = (ReactiveMustacheView) super.createView(name);
+		view.setCompiler(compiler);
+		view.setBufferSize(bufferSize);
+		view.setScheduler(scheduler);
+
+		if (useLayout) {
+			// Add alias to map main content to real view
+			view.addAlias(layoutKey, viewName);
+		}
+
+		if (log.isDebugEnabled()) {
+			log.debug("View has been built: {}", view);
+		}
+
+		return view;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("compiler", compiler)
+				.append("defaultLayout", defaultLayout)
+				.append("layoutKey", layoutKey)
+				.append("layoutMappings", layoutMappings)
+				.append("bufferSize", bufferSize)
+				.append("scheduler", scheduler)
+				.append("order", getOrder())
+				.append("prefix", getPrefix())
+				.append("suffix", getSuffix())
+				.build();
+	}
+}
@@ -0,0 +1,120 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DefaultDataBufferFactory;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class DataBufferWriterTest {
+
+	@Test
+	void it_should_emit_full_buffers() {
+		List<DataBuffer> buffers = new ArrayList<>();
+		DataBufferWriter writer = new DataBufferWriter(DefaultDataBufferFactory.sharedInstance, StandardCharsets.UTF_8, 8, buffers::add);
+
+		writer.write("Hello");
+		writer.write(" World".toCharArray(), 0, 6);
+		writer.write(" and Moon");
+		writer.write('!');
+		assertThat(buffers).hasSize(1);
+
+		writer.close();
+		assertThat(buffers).extracting(DataBuffer::readableByteCount).containsExactly(8, 8, 5);
+		assertThat(toString(buffers)).isEqualTo("Hello World and Moon!");
+	}
+
+	@Test
+	void it_should_emit_buffered_characters_on_flush() {
+		List<DataBuffer> buffers = new ArrayList<>();
+		DataBufferWriter writer = new DataBufferWriter(DefaultDataBufferFactory.sharedInstance, StandardCharsets.UTF_8, 16, buffers::add);
+
+		writer.write("Hello");
+		assertThat(buffers).isEmpty();
+
+		writer.flush();
+		assertThat(toString(buffers)).isEqualTo("Hello");
+
+		writer.flush();
+		assertThat(buffers).hasSize(1);
+	}
+
+	@Test
+	void it_should_encode_multi_bytes_characters() {
+		List<DataBuffer> buffers = new ArrayList<>();
+		DataBufferWriter writer = new DataBufferWriter(DefaultDataBufferFactory.sharedInstance, StandardCharsets.UTF_8, 3, buffers::add);
+
+		writer.write("héllo 😀");
+		writer.close();
+
+		assertThat(toString(buffers)).isEqualTo("héllo 😀");
+		assertThat(buffers).allSatisfy(buffer -> assertThat(buffer.readableByteCount()).isLessThanOrEqualTo(6));
+	}
+
+	@Test
+	void it_should_fail_with_invalid_buffer_size() {
+		assertThatThrownBy(() -> new DataBufferWriter(DefaultDataBufferFactory.sharedInstance, StandardCharsets.UTF_8, 0, buffer -> {}))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Buffer size must be positive");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		DataBufferWriter writer = new DataBufferWriter(DefaultDataBufferFactory.sharedInstance, StandardCharsets.UTF_8, 16, buffer -> {});
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.reactive.DataBufferWriter@%s{" +
+						"charset=UTF-8, " +
+						"bufferSize=16" +
+				"}";
+		// @formatter:on
+
+		assertThat(writer).hasToString(String.format(
+				expectedToString, Integer.toHexString(System.identityHashCode(writer))
+		));
+	}
+
+	private static String toString(List<DataBuffer> buffers) {
+		StringBuilder sb = new StringBuilder();
+		int size = buffers.stream().mapToInt(DataBuffer::readableByteCount).sum();
+		byte[] bytes = new byte[size];
+		int offset = 0;
+		for (DataBuffer buffer : buffers) {
+			int count = buffer.readableByteCount();
+			buffer.read(bytes, offset, count);
+			offset += count;
+		}
+
+		return sb.append(new String(bytes, StandardCharsets.UTF_8)).toString();
+	}
+}
@@ -0,0 +1,128 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import org.springframework.web.reactive.result.view.View;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Locale;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class ReactiveMustacheViewResolverTest {
+
+	private MustacheCompiler compiler;
+	private ReactiveMustacheViewResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		compiler = new JMustacheCompiler(Mustache.compiler(), new DefaultTemplateLoader(new DefaultResourceLoader()));
+		resolver = new ReactiveMustacheViewResolver(compiler);
+		resolver.setPrefix("/templates/");
+		resolver.setSuffix(".template.html");
+	}
+
+	@Test
+	void it_should_set_prefix_and_suffix_on_compiler() {
+		assertThat(compiler.getPrefix()).isEqualTo("/templates/");
+		assertThat(compiler.getSuffix()).isEqualTo(".template.html");
+	}
+
+	@Test
+	void it_should_resolve_view() {
+		Scheduler scheduler = Schedulers.immediate();
+		resolver.setBufferSize(16);
+		resolver.setScheduler(scheduler);
+
+		ReactiveMustacheView view = (ReactiveMustacheView) resolver.resolveViewName("foo", Locale.ENGLISH).block();
+
+		assertThat(view).isNotNull();
+		assertThat(view.getUrl()).isEqualTo("/templates/foo.template.html");
+		assertThat(view.getCompiler()).isSameAs(compiler);
+		assertThat(view.getBufferSize()).isEqualTo(16);
+		assertThat(view.getScheduler()).isSameAs(scheduler);
+		assertThat(view.getAliases()).isEmpty();
+	}
+
+	@Test
+	void it_should_resolve_view_with_default_layout() {
+		resolver.setDefaultLayout("layout");
+
+		View view = resolver.resolveViewName("foo", Locale.ENGLISH).block();
+		MockServerWebExchange exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(((ReactiveMustacheView) view).getAliases()).containsExactly(entry("content", "foo"));
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<main><div>Hello foo</div></main>");
+	}
+
+	@Test
+	void it_should_resolve_view_with_layout_mappings() {
+		resolver.setDefaultLayout("foo");
+		resolver.addLayoutMapping("items", "layout");
+
+		ReactiveMustacheView view = (ReactiveMustacheView) resolver.resolveViewName("items", Locale.ENGLISH).block();
+
+		assertThat(view.getUrl()).isEqualTo("/templates/layout.template.html");
+		assertThat(view.getAliases()).containsExactly(entry("content", "items"));
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		resolver.setDefaultLayout("index");
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.reactive.ReactiveMustacheViewResolver@%s{" +
+						"compiler=%s, " +
+						"defaultLayout=\"index\", " +
+						"layoutKey=\"content\", " +
+						"layoutMappings={}, " +
+						"bufferSize=8192, " +
+						"scheduler=%s, " +
+						"order=2147483647, " +
+						"prefix=\"/templates/\", " +
+						"suffix=\".template.html\"" +
+				"}";
+		// @formatter:on
+
+		assertThat(resolver).hasToString(String.format(
+				expectedToString, Integer.toHexString(System.identityHashCode(resolver)), compiler, Schedulers.boundedElastic()
+		));
+	}
+}
@@ -0,0 +1,359 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.reactive;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheExecutionException;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.reactivestreams.Subscription;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.http.MediaType;
+import org.springframework.mock.http.server.reactive.MockServerHttpRequest;
+import org.springframework.mock.web.server.MockServerWebExchange;
+import reactor.core.publisher.BaseSubscriber;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReactiveMustacheViewTest {
+
+	private MustacheCompiler compiler;
+	private ReactiveMustacheView view;
+	private MockServerWebExchange exchange;
+
+	@BeforeEach
+	void setUp() {
+		compiler = new JMustacheCompiler(Mustache.compiler(), new DefaultTemplateLoader(new DefaultResourceLoader()));
+		view = new ReactiveMustacheView();
+		view.setCompiler(compiler);
+		exchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+	}
+
+	@Test
+	void it_should_render_template() {
+		view.setUrl("/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(exchange.getResponse().getHeaders().getContentType()).isEqualTo(MediaType.TEXT_HTML);
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_resolve_mono_and_flux_model_attributes() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", Mono.just("foo"));
+		model.put("items", Flux.just("a", "b"));
+
+		view.setUrl("/templates/foo.template.html");
+		view.render(model, MediaType.TEXT_HTML, exchange).block();
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<div>Hello foo</div>");
+
+		MockServerWebExchange itemsExchange = MockServerWebExchange.from(MockServerHttpRequest.get("/"));
+		view.setUrl("/templates/items.template.html");
+		view.render(model, MediaType.TEXT_HTML, itemsExchange).block();
+		assertThat(itemsExchange.getResponse().getBodyAsString().block()).isEqualTo("<ul><li>a</li><li>b</li></ul>");
+	}
+
+	@Test
+	void it_should_stream_rendered_template_as_data_buffers() {
+		view.setBufferSize(8);
+		view.setUrl("/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		List<DataBuffer> buffers = exchange.getResponse().getBody().collectList().block();
+		assertThat(buffers).hasSize(3);
+		assertThat(buffers).extracting(DataBuffer::readableByteCount).containsExactly(8, 8, 4);
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_render_template_on_scheduler() {
+		AtomicReference<Thread> renderingThread = new AtomicReference<>();
+		view.setCompiler(givenCompiler((model, writer) -> {
+			renderingThread.set(Thread.currentThread());
+			write(writer, "Hello");
+		}));
+
+		view.setUrl("/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(view.getScheduler()).isSameAs(Schedulers.boundedElastic());
+		assertThat(renderingThread.get()).isNotSameAs(Thread.currentThread());
+		assertThat(renderingThread.get().getName()).startsWith("boundedElastic");
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("Hello");
+	}
+
+	@Test
+	void it_should_emit_buffers_before_rendering_completes() {
+		CountDownLatch firstBuffer = new CountDownLatch(1);
+		List<String> chunks = new CopyOnWriteArrayList<>();
+
+		view.setBufferSize(8);
+		view.setCompiler(givenCompiler((model, writer) -> {
+			write(writer, "01234567abcdefgh");
+			await(firstBuffer);
+			write(writer, "end");
+		}));
+
+		exchange.getResponse().setWriteHandler(body -> body
+				.doOnNext(buffer -> {
+					chunks.add(buffer.toString(StandardCharsets.UTF_8));
+					DataBufferUtils.release(buffer);
+					firstBuffer.countDown();
+				})
+				.then()
+		);
+
+		view.setUrl("/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(chunks).containsExactly("01234567", "abcdefgh", "end");
+	}
+
+	@Test
+	void it_should_emit_buffers_on_demand() throws Exception {
+		AtomicBoolean rendered = new AtomicBoolean(false);
+		CountDownLatch completed = new CountDownLatch(1);
+		List<String> chunks = new CopyOnWriteArrayList<>();
+
+		BaseSubscriber<DataBuffer> subscriber = new BaseSubscriber<DataBuffer>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(DataBuffer buffer) {
+				chunks.add(buffer.toString(StandardCharsets.UTF_8));
+				DataBufferUtils.release(buffer);
+			}
+
+			@Override
+			protected void hookOnComplete() {
+				completed.countDown();
+			}
+		};
+
+		view.setBufferSize(8);
+		view.setCompiler(givenCompiler((model, writer) -> {
+			write(writer, "01234567abcdefgh01234567abcdefgh");
+			rendered.set(true);
+		}));
+
+		exchange.getResponse().setWriteHandler(body -> {
+			body.subscribe(subscriber);
+			return Mono.empty();
+		});
+
+		view.setUrl("/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		Thread.sleep(200);
+		assertThat(chunks).containsExactly("01234567");
+		assertThat(rendered).isFalse();
+
+		subscriber.request(Long.MAX_VALUE);
+		assertThat(completed.await(5, TimeUnit.SECONDS)).isTrue();
+		assertThat(rendered).isTrue();
+		assertThat(chunks).containsExactly("01234567", "abcdefgh", "01234567", "abcdefgh");
+	}
+
+	@Test
+	void it_should_not_signal_error_when_rendering_is_cancelled() {
+		List<Throwable> errors = new CopyOnWriteArrayList<>();
+		AtomicReference<Throwable> failure = new AtomicReference<>();
+		List<String> chunks = new CopyOnWriteArrayList<>();
+
+		BaseSubscriber<DataBuffer> subscriber = new BaseSubscriber<DataBuffer>() {
+			@Override
+			protected void hookOnSubscribe(Subscription subscription) {
+				request(1);
+			}
+
+			@Override
+			protected void hookOnNext(DataBuffer buffer) {
+				chunks.add(buffer.toString(StandardCharsets.UTF_8));
+				DataBufferUtils.release(buffer);
+				cancel();
+			}
+
+			@Override
+			protected void hookOnError(Throwable throwable) {
+				errors.add(throwable);
+			}
+		};
+
+		MustacheTemplate template = compiler.compile("/templates/items.template.html");
+		Scheduler scheduler = Schedulers.newSingle("mustache-rendering");
+
+		try {
+			view.setScheduler(scheduler);
+			view.setBufferSize(8);
+			view.setCompiler(givenCompiler((model, writer) -> {
+				try {
+					template.execute(model, writer);
+				}
+				catch (RuntimeException ex) {
+					failure.set(ex);
+					throw ex;
+				}
+			}));
+
+			exchange.getResponse().setWriteHandler(body -> {
+				body.subscribe(subscriber);
+				return Mono.empty();
+			});
+
+			view.setUrl("/templates/items.template.html");
+			view.render(singletonMap("items", asList("a", "b", "c", "d", "e")), MediaType.TEXT_HTML, exchange).block();
+
+			// Wait for rendering task to complete.
+			Mono.empty().subscribeOn(scheduler).block();
+		}
+		finally {
+			scheduler.dispose();
+		}
+
+		assertThat(chunks).containsExactly("<ul><li>");
+		assertThat(failure.get()).isInstanceOf(MustacheExecutionException.class).hasRootCauseInstanceOf(CancellationException.class);
+		assertThat(errors).isEmpty();
+	}
+
+	@Test
+	void it_should_render_template_with_partial_aliases() {
+		view.setUrl("/templates/layout.template.html");
+		view.addAlias("content", "/templates/foo.template.html");
+		view.render(singletonMap("name", "foo"), MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<main><div>Hello foo</div></main>");
+	}
+
+	@Test
+	void it_should_render_template_with_model_partial_aliases() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "foo");
+		model.put(MustacheSettings.PARTIALS_KEY, singletonMap("content", "/templates/foo.template.html"));
+
+		view.setUrl("/templates/layout.template.html");
+		view.render(model, MediaType.TEXT_HTML, exchange).block();
+
+		assertThat(exchange.getResponse().getBodyAsString().block()).isEqualTo("<main><div>Hello foo</div></main>");
+	}
+
+	@Test
+	void it_should_fail_with_null_scheduler() {
+		assertThatThrownBy(() -> view.setScheduler(null))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Scheduler must not be null");
+	}
+
+	@Test
+	void it_should_fail_with_invalid_buffer_size() {
+		assertThatThrownBy(() -> view.setBufferSize(0))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Buffer size must be positive");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		view.addAlias("john", "jane");
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.reactive.ReactiveMustacheView@%s{" +
+						"compiler=%s, " +
+						"aliases={" +
+								"john=jane" +
+						"}, " +
+						"bufferSize=8192, " +
+						"scheduler=%s" +
+				"}";
+		// @formatter:on
+
+		assertThat(view).hasToString(String.format(
+				expectedToString, Integer.toHexString(System.identityHashCode(view)), compiler, Schedulers.boundedElastic()
+		));
+	}
+
+	private static MustacheCompiler givenCompiler(MustacheTemplate template) {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		when(compiler.compile(anyString(), any(RenderContext.class))).thenReturn(template);
+		return compiler;
+	}
+
+	private static void write(Writer writer, String text) {
+		try {
+			writer.write(text);
+		}
+		catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new AssertionError("Buffer has not been emitted before rendering completes");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new AssertionError(ex);
+		}
+	}
+}
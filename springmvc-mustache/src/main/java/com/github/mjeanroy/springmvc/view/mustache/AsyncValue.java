@@ -0,0 +1,79 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.util.concurrent.Callable;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Model value computed, before rendering, on the executor of the asynchronous model resolver (see
+/// [com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver]), concurrently with other
+/// asynchronous values.
+///
+/// ```
+/// model.addAttribute("menu", AsyncValue.of(() -> menuService.getMenu(user)));
+/// ```
+///
+/// Since the value is computed on another thread, thread-bound context (such as request attributes of
+/// [org.springframework.web.context.request.RequestContextHolder], security context or logging MDC) is not
+/// available to the callable: such context must be captured before the value is created. Other [Callable] and
+/// [java.util.function.Supplier] model values are never resolved on another thread.
+///
+/// @param <T> Type of value.
+public final class AsyncValue<T> {
+
+	/// Create asynchronous value, computed by given callable.
+	///
+	/// @param callable The callable.
+	/// @param <T> Type of value.
+	/// @return Asynchronous value.
+	public static <T> AsyncValue<T> of(Callable<? extends T> callable) {
+		return new AsyncValue<>(notNull(callable, "Callable must not be null"));
+	}
+
+	/// The callable.
+	private final Callable<? extends T> callable;
+
+	private AsyncValue(Callable<? extends T> callable) {
+		this.callable = callable;
+	}
+
+	/// Compute the value.
+	///
+	/// @return The value.
+	/// @throws Exception If the value cannot be computed.
+	public T call() throws Exception {
+		return callable.call();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("callable", callable)
+				.build();
+	}
+}
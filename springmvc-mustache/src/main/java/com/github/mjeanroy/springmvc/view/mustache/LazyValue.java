@@ -0,0 +1,116 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Model value computed only if the template reads it: the value is computed on first access, and memoized
+/// for the rest of the rendering.
+///
+/// Lazy values are unwrapped by all template engines (JMustache, Handlebars and mustache.java), at any depth
+/// of the model: for example, a navigation menu that is never displayed by the rendered template is never
+/// computed.
+///
+/// ```
+/// model.addAttribute("menu", LazyValue.of(() -> menuService.getMenu(user)));
+/// ```
+///
+/// This class is thread safe.
+///
+/// @param <T> Type of value.
+public final class LazyValue<T> {
+
+	/// Create lazy value, computed (once) by given supplier.
+	///
+	/// @param supplier The supplier.
+	/// @param <T> Type of value.
+	/// @return Lazy value.
+	public static <T> LazyValue<T> of(Supplier<? extends T> supplier) {
+		return new LazyValue<>(notNull(supplier, "Supplier must not be null"));
+	}
+
+	/// Unwrap given value: if it is a lazy value, it is computed (if needed) and its value is returned, otherwise
+	/// the value is returned as is.
+	///
+	/// @param value The value.
+	/// @return The unwrapped value.
+	public static Object unwrap(Object value) {
+		Object result = value;
+		while (result instanceof LazyValue) {
+			result = ((LazyValue<?>) result).get();
+		}
+
+		return result;
+	}
+
+	/// The supplier, `null` once value has been computed.
+	private Supplier<? extends T> supplier;
+
+	/// The computed value.
+	private T value;
+
+	/// Computation state.
+	// Volatile because it can be accessed by more than one thread
+	private volatile boolean resolved;
+
+	private LazyValue(Supplier<? extends T> supplier) {
+		this.supplier = supplier;
+	}
+
+	/// Get the value: computed on first call, and memoized.
+	///
+	/// @return The value.
+	public T get() {
+		if (!resolved) {
+			synchronized (this) {
+				if (!resolved) {
+					value = supplier.get();
+					supplier = null;
+					resolved = true;
+				}
+			}
+		}
+
+		return value;
+	}
+
+	/// Check if the value has already been computed.
+	///
+	/// @return `true` if the value has been computed, `false` otherwise.
+	public boolean isResolved() {
+		return resolved;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("resolved", resolved)
+				.build();
+	}
+}
@@ -36,6 +36,17 @@ public interface MustacheCompiler {
 	/// @return Compiled template.
 	MustacheTemplate compile(String name);
 
+	/// Compile template, using given render context.
+	///
+	/// Partial aliases of given context take precedence over global aliases, and are used to
+	/// resolve the template and its partials: the context is carried explicitly by the compiled
+	/// template, so no thread-bound state is used during rendering.
+	///
+	/// @param name Template name.
+	/// @param context Render context.
+	/// @return Compiled template.
+	MustacheTemplate compile(String name, RenderContext context);
+
 	/// Set prefix to prepend to template names before it is compiled.
 	///
 	/// @param prefix New prefix value.
@@ -64,11 +75,16 @@ public interface MustacheCompiler {
 	/// Implementation should be thread safe.
 	///
 	/// @param partialAliases Partials aliases to add.
+	/// @deprecated Temporary aliases are bound to the current thread, use [#compile(String, RenderContext)] instead.
+	@Deprecated
 	void addTemporaryPartialAliases(Map<String, String> partialAliases);
 
 	/// Remove temporary partial aliases previously added
 	/// with [#addTemporaryPartialAliases(java.util.Map)] method.
 	///
 	/// Implementation should be thread safe.
+	///
+	/// @deprecated Temporary aliases are bound to the current thread, use [#compile(String, RenderContext)] instead.
+	@Deprecated
 	void removeTemporaryPartialAliases();
 }
@@ -50,6 +50,127 @@ public final class MustacheSettings {
 	/// on [org.springframework.web.servlet.view.UrlBasedViewResolver#setCache].
 	public static final boolean CACHE = true;
 
+	/// Default maximum number of compiled templates kept in memory by
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler].
+	/// This cache is disabled when view cache is disabled, unless a limit is explicitly set.
+	public static final int TEMPLATE_CACHE_LIMIT = 1024;
+
+	/// Default TTL (in milliseconds) of template locations resolved by
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader]: a negative value means
+	/// that resolved locations never expire, `0` disables the cache.
+	/// This cache is disabled when view cache is disabled, unless a TTL is explicitly set.
+	public static final long RESOURCE_CACHE_TTL = -1;
+
+	/// Default maximum number of template locations cached by
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader]: oldest locations are evicted
+	/// once this limit is reached, `0` disables the cache.
+	public static final int RESOURCE_CACHE_LIMIT = 1024;
+
+	/// Default interval (in milliseconds) between two revalidations of template sources cached by
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader]: a negative value means
+	/// that cached sources are never revalidated, `0` disables the cache.
+	/// This cache is disabled when view cache is disabled, unless an interval is explicitly set.
+	public static final long SOURCE_CACHE_INTERVAL = -1;
+
+	/// Default template bundle location: if defined, templates are read from this bundle (see
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle]) before being resolved by resource loaders.
+	/// By default, this feature is disabled.
+	public static final String TEMPLATE_BUNDLE = "";
+
+	/// Default minification settings: if enabled, static HTML text of templates (i.e. whitespace and comments) is minified
+	/// when template sources are read (see [com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader#setMinify(boolean)]).
+	/// By default, this feature is disabled.
+	public static final boolean MINIFY = false;
+
+	/// Default precompilation settings: if enabled, all templates are compiled when
+	/// application context is refreshed (see [com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplatePrecompiler]).
+	/// By default, this feature is disabled.
+	public static final boolean PRECOMPILE = false;
+
+	/// Default number of threads used to precompile templates, `0` means that the number
+	/// of available processors will be used.
+	public static final int PRECOMPILE_THREADS = 0;
+
+	/// Default template watch settings: if enabled, template directories are watched, and templates are
+	/// invalidated as soon as they are modified (see [com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateWatcher]).
+	/// By default, this feature is disabled.
+	public static final boolean WATCH = false;
+
+	/// Default buffered rendering settings: if enabled, templates are rendered in a reusable buffer, and
+	/// written to the response (with `Content-Length` header) once rendered (see [MustacheView#setBufferPool]).
+	/// By default, this feature is disabled.
+	public static final boolean BUFFERED_RENDERING = false;
+
+	/// Default initial size (in characters) of buffers used for buffered rendering.
+	public static final int RENDER_BUFFER_INITIAL_SIZE = 8 * 1024;
+
+	/// Default maximum size (in characters) of a buffer kept after buffered rendering: larger buffers are shrunk,
+	/// so that memory retained for large pages remains bounded.
+	public static final int RENDER_BUFFER_MAX_RETAINED_SIZE = 256 * 1024;
+
+	/// Default maximum number of idle buffers kept, and shared by all threads, after buffered rendering.
+	public static final int RENDER_BUFFER_MAX_RETAINED_COUNT = 64;
+
+	/// Default markers (comma separated) after which views flush the response during rendering (see
+	/// [MustacheViewResolver#setFlushMarkers(java.util.Collection)]).
+	/// Partials are resolved inside template engines, so views cannot flush after each partial: to flush after a
+	/// partial, use a marker it renders last (such as its closing tag).
+	/// By default, this feature is disabled.
+	public static final String FLUSH_MARKERS = "";
+
+	/// Default flush markers mappings, using `[viewName]:[marker],[marker];[viewName]:[marker]` format (see
+	/// [MustacheViewResolver#setFlushMarkersMappings(java.util.Map)]).
+	public static final String FLUSH_MARKERS_MAPPINGS = "";
+
+	/// Default asynchronous model settings: if enabled, asynchronous model values are resolved concurrently before
+	/// rendering (see [com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver]).
+	/// By default, this feature is disabled.
+	public static final boolean ASYNC_MODEL = false;
+
+	/// Default number of threads used to resolve asynchronous model values, `0` means that the number
+	/// of available processors will be used.
+	public static final int ASYNC_MODEL_THREADS = 0;
+
+	/// Default maximum time (in milliseconds) to wait for asynchronous model values: a negative value
+	/// means no deadline.
+	public static final long ASYNC_MODEL_TIMEOUT = -1;
+
+	/// Default lazy suppliers settings: if enabled, each [java.util.function.Supplier] model value is rendered
+	/// as a [LazyValue] (see [MustacheViewResolver#setLazySuppliers(boolean)]).
+	/// By default, this feature is disabled.
+	public static final boolean LAZY_SUPPLIERS = false;
+
+	/// Default model pruning settings: if enabled, views render a model containing only the values of variables
+	/// referenced by the template (see [MustacheViewResolver#setModelPruning(boolean)]).
+	/// Only JMustache and compiled templates support this feature: other engines render the whole model.
+	/// By default, this feature is disabled.
+	public static final boolean MODEL_PRUNING = false;
+
+	/// Default pre-encoding settings: if enabled, static text segments of compiled templates are encoded at compilation
+	/// time, and written as bytes to the response (see
+	/// [com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler#setPreEncoding(boolean)]).
+	/// Only JMustache supports this feature, and only for static text of the root template: partials and layouts are
+	/// loaded lazily during rendering, so their static text is not pre-encoded.
+	/// By default, this feature is disabled.
+	public static final boolean PRE_ENCODING = false;
+
+	/// Default static text pooling settings: if enabled, identical static text segments of compiled templates are
+	/// shared (see [com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool]).
+	///
+	/// Pooling is supported by mustache.java and by the compiled engine: JMustache and Handlebars do not expose any
+	/// public hook to create static text segments, and ignore this setting.
+	///
+	/// By default, this feature is disabled.
+	public static final boolean STATIC_TEXT_POOLING = false;
+
+	/// Default maximum number of template locations tracked by metrics (see
+	/// [com.github.mjeanroy.springmvc.view.mustache.micrometer.MicrometerMustacheMetrics]): other templates are
+	/// recorded under a single tag value (`__other__`), so that tag cardinality remains bounded.
+	///
+	/// Rendered output is measured in characters, not bytes: the `mustache.template.rendered.chars` distribution
+	/// has `chars` as base unit.
+	public static final int METRICS_MAX_TEMPLATES = 100;
+
 	/// Default cache settings defined
 	/// on [org.springframework.web.servlet.view.UrlBasedViewResolver#setCache].
 	/// This settings set the view names (or name patterns) that can be handled by
@@ -49,6 +49,13 @@ public interface MustacheTemplateLoader {
 	/// @return Template reader.
 	Reader getTemplate(String name);
 
+	/// Get template from name, using partial aliases of given render context.
+	///
+	/// @param name Name of template.
+	/// @param context Render context.
+	/// @return Template reader.
+	Reader getTemplate(String name, RenderContext context);
+
 	/// Resolve template location from template name.
 	/// This location must include prefix and suffix of template location.
 	///
@@ -56,6 +63,16 @@ public interface MustacheTemplateLoader {
 	/// @return Full template location.
 	String resolve(String name);
 
+	/// Resolve template location from template name, using partial aliases of given render context.
+	///
+	/// Aliases of given context are checked first, then global aliases: temporary aliases (bound to
+	/// current thread) are ignored.
+	///
+	/// @param name Template name.
+	/// @param context Render context.
+	/// @return Full template location.
+	String resolve(String name, RenderContext context);
+
 	/// Set prefix on template names.
 	///
 	/// @param prefix New prefix.
@@ -96,6 +113,14 @@ public interface MustacheTemplateLoader {
 	/// @param partialAliases Partials aliases.
 	void addPartialAliases(Map<String, String> partialAliases);
 
+	/// Get partials aliases currently in effect: global aliases added with [#addPartialAliases(java.util.Map)]
+	/// overridden by temporary aliases added with [#addTemporaryPartialAliases(java.util.Map)].
+	///
+	/// Returned map must not be modified by callers.
+	///
+	/// @return Effective partials aliases.
+	Map<String, String> getPartialAliases();
+
 	/// Add temporary partials aliases.
 	///
 	/// These partials can be removed later with [#removeTemporaryPartialAliases()]
@@ -104,10 +129,15 @@ public interface MustacheTemplateLoader {
 	/// Implementation should be thread safe.
 	///
 	/// @param partialAliases Partials aliases to add.
+	/// @deprecated Temporary aliases are bound to the current thread, use [RenderContext] instead.
+	@Deprecated
 	void addTemporaryPartialAliases(Map<String, String> partialAliases);
 
 	/// Remove temporary partial aliases previously added
 	/// with [#addTemporaryPartialAliases(java.util.Map)] method.
 	/// Implementation should be thread safe.
+	///
+	/// @deprecated Temporary aliases are bound to the current thread, use [RenderContext] instead.
+	@Deprecated
 	void removeTemporaryPartialAliases();
 }
@@ -25,18 +25,39 @@
 package com.github.mjeanroy.springmvc.view.mustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.IntrospectedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.MarkerFlushingWriter;
+import com.github.mjeanroy.springmvc.view.mustache.core.PreEncodedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBuffer;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
+import com.github.mjeanroy.springmvc.view.mustache.core.SegmentEncodingWriter;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustachePartialsMappingException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.web.servlet.support.RequestContext;
 import org.springframework.web.servlet.view.AbstractTemplateView;
 
+import javax.servlet.ServletException;
+import javax.servlet.ServletOutputStream;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 import java.io.Writer;
+import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
 
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.hasText;
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 
 /// Implementation of mustache view.
@@ -45,16 +66,46 @@ public class MustacheView extends AbstractTemplateView {
 
 	private static final Logger log = LoggerFactory.getLogger(MustacheView.class);
 
+	/// Compiler types for which model pruning has been reported as not supported (see [#setModelPruning(boolean)]).
+	private static final Set<Class<?>> UNSUPPORTED_MODEL_PRUNING = ConcurrentHashMap.newKeySet();
+
 	/// Mustache compiler.
 	private MustacheCompiler compiler;
 
 	/// List of aliases that map alias name to partial path.
 	private final Map<String, String> aliases;
 
+	/// Pool of buffers used to render template in memory before writing it to the response: if `null`, template
+	/// is rendered directly to the response writer.
+	private RenderBufferPool bufferPool;
+
+	/// Markers (such as `</head>`) after which the response is flushed during rendering: if empty, response
+	/// is not flushed until the whole template is rendered.
+	private final List<String> flushMarkers;
+
+	/// Resolver of asynchronous model values, awaited before rendering: if `null`, model values are
+	/// rendered as is.
+	private AsyncModelResolver asyncModelResolver;
+
+	/// If `true`, [Supplier] model values are rendered as [LazyValue] instances.
+	private boolean lazySuppliers;
+
+	/// If `true`, the model contains only the values that the template may read (see [#setModelPruning(boolean)]).
+	private boolean modelPruning;
+
+	// Settings of AbstractTemplateView, not exposed by getters, needed to render pruned model.
+	private boolean exposeRequestAttributes;
+	private boolean allowRequestOverride;
+	private boolean exposeSessionAttributes;
+	private boolean allowSessionOverride;
+	private boolean exposeSpringMacroHelpers;
+
 	/// Build new view.
 	public MustacheView() {
 		setContentType("text/html; charset=utf-8");
 		this.aliases = new HashMap<>();
+		this.flushMarkers = new ArrayList<>();
+		this.exposeSpringMacroHelpers = true;
 	}
 
 	/// Set new mustache compiler that can be used to compile view.
@@ -72,6 +123,130 @@ public class MustacheView extends AbstractTemplateView {
 		return compiler;
 	}
 
+	/// Set pool of buffers used to render template in memory: once rendered, `Content-Length` header is
+	/// set and the response body is written in one bulk operation.
+	///
+	/// If `null` (the default), template is rendered directly to the response writer.
+	///
+	/// @param bufferPool Pool of buffers, may be `null`.
+	public void setBufferPool(RenderBufferPool bufferPool) {
+		this.bufferPool = bufferPool;
+	}
+
+	/// Get pool of buffers used to render template in memory.
+	///
+	/// @return Pool of buffers, `null` if template is rendered directly to the response writer.
+	public RenderBufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	/// Set markers after which the response is flushed during rendering: for example, flushing the response
+	/// after `</head>` lets the client fetch stylesheets and scripts while the rest of the page is rendered.
+	///
+	/// If markers are set, buffered rendering is disabled for this view (see [#setBufferPool(RenderBufferPool)]).
+	///
+	/// @param flushMarkers Markers, empty to render the whole template before flushing the response.
+	public void setFlushMarkers(Collection<String> flushMarkers) {
+		notNull(flushMarkers, "Flush markers must not be null");
+
+		this.flushMarkers.clear();
+		for (String flushMarker : flushMarkers) {
+			this.flushMarkers.add(hasText(flushMarker, "Flush marker must not be empty"));
+		}
+	}
+
+	/// Get markers after which the response is flushed during rendering.
+	///
+	/// @return Markers.
+	public List<String> getFlushMarkers() {
+		return unmodifiableList(flushMarkers);
+	}
+
+	/// Set resolver of asynchronous model values: if set, [java.util.concurrent.CompletionStage] and [AsyncValue]
+	/// model values are resolved concurrently before the template is rendered.
+	///
+	/// @param asyncModelResolver Resolver, may be `null`.
+	public void setAsyncModelResolver(AsyncModelResolver asyncModelResolver) {
+		this.asyncModelResolver = asyncModelResolver;
+	}
+
+	/// Get resolver of asynchronous model values.
+	///
+	/// @return Resolver, `null` if model values are rendered as is.
+	public AsyncModelResolver getAsyncModelResolver() {
+		return asyncModelResolver;
+	}
+
+	/// Enable (or disable) lazy suppliers: if enabled, each [Supplier] model value is wrapped in a [LazyValue],
+	/// computed only if the template reads it (and never resolved by the [AsyncModelResolver]).
+	///
+	/// @param lazySuppliers Lazy suppliers settings.
+	public void setLazySuppliers(boolean lazySuppliers) {
+		this.lazySuppliers = lazySuppliers;
+	}
+
+	/// Check if [Supplier] model values are rendered as [LazyValue] instances.
+	///
+	/// @return `true` if lazy suppliers are enabled, `false` otherwise.
+	public boolean isLazySuppliers() {
+		return lazySuppliers;
+	}
+
+	/// Enable (or disable) model pruning: if enabled, variables of the template (and its partials) are extracted
+	/// at compilation time, and the rendered model contains only the values of these variables.
+	///
+	/// Request attributes, session attributes and Spring macro helpers (see
+	/// [AbstractTemplateView#setExposeRequestAttributes(boolean)], [AbstractTemplateView#setExposeSessionAttributes(boolean)]
+	/// and [AbstractTemplateView#setExposeSpringMacroHelpers(boolean)]) are then looked up only for these
+	/// variables, instead of being copied to the model: for templates that do not reference them, this copy
+	/// disappears entirely.
+	///
+	/// If template variables cannot be determined (see [IntrospectedTemplate]), the whole model is rendered, and a
+	/// warning is logged once for each compiler type. Variables are determined for JMustache and compiled templates:
+	/// Handlebars and mustache.java templates are always rendered with the whole model.
+	///
+	/// @param modelPruning Model pruning settings.
+	public void setModelPruning(boolean modelPruning) {
+		this.modelPruning = modelPruning;
+	}
+
+	/// Check if the model is pruned before rendering.
+	///
+	/// @return `true` if model pruning is enabled, `false` otherwise.
+	public boolean isModelPruning() {
+		return modelPruning;
+	}
+
+	@Override
+	public void setExposeRequestAttributes(boolean exposeRequestAttributes) {
+		super.setExposeRequestAttributes(exposeRequestAttributes);
+		this.exposeRequestAttributes = exposeRequestAttributes;
+	}
+
+	@Override
+	public void setAllowRequestOverride(boolean allowRequestOverride) {
+		super.setAllowRequestOverride(allowRequestOverride);
+		this.allowRequestOverride = allowRequestOverride;
+	}
+
+	@Override
+	public void setExposeSessionAttributes(boolean exposeSessionAttributes) {
+		super.setExposeSessionAttributes(exposeSessionAttributes);
+		this.exposeSessionAttributes = exposeSessionAttributes;
+	}
+
+	@Override
+	public void setAllowSessionOverride(boolean allowSessionOverride) {
+		super.setAllowSessionOverride(allowSessionOverride);
+		this.allowSessionOverride = allowSessionOverride;
+	}
+
+	@Override
+	public void setExposeSpringMacroHelpers(boolean exposeSpringMacroHelpers) {
+		super.setExposeSpringMacroHelpers(exposeSpringMacroHelpers);
+		this.exposeSpringMacroHelpers = exposeSpringMacroHelpers;
+	}
+
 	/// Add partials mapping.
 	///
 	/// @param aliases New aliases.
@@ -100,11 +275,109 @@ public class MustacheView extends AbstractTemplateView {
 		return unmodifiableMap(aliases);
 	}
 
+	@Override
+	public void render(Map<String, ?> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
+		if (!modelPruning) {
+			super.render(model, request, response);
+			return;
+		}
+
+		notNull(compiler, "Compiler must not be null and must have been set");
+
+		final Map<String, Object> mergedModel = createMergedOutputModel(model, request, response);
+		final MustacheTemplate template = compileTemplate(mergedModel);
+		final Set<String> variables = template instanceof IntrospectedTemplate ? ((IntrospectedTemplate) template).getRootVariables() : null;
+
+		prepareResponse(request, response);
+
+		if (variables == null) {
+			warnUnsupportedModelPruning();
+			log.debug("Variables of template {} cannot be determined, render whole model", viewLayoutName());
+			renderMergedOutputModel(mergedModel, getRequestToExpose(request), response);
+			return;
+		}
+
+		renderTemplate(template, pruneModel(mergedModel, variables, request, response), response);
+	}
+
+	/// Log a warning, once for each compiler type, when variables of templates cannot be determined: model pruning
+	/// is then silently disabled, which is worth knowing for engines that never support it (such as Handlebars or
+	/// mustache.java, see [IntrospectedTemplate]).
+	private void warnUnsupportedModelPruning() {
+		if (UNSUPPORTED_MODEL_PRUNING.add(compiler.getClass())) {
+			log.warn("Model pruning is enabled, but variables of templates compiled by {} cannot be determined: whole model is rendered", compiler.getClass().getName());
+		}
+	}
+
+	/// Build model containing only values of given variables, read from the model, request attributes, or session
+	/// attributes (with the same precedence rules as [AbstractTemplateView]).
+	///
+	/// @param model The model.
+	/// @param variables Template variables.
+	/// @param request The request.
+	/// @param response The response.
+	/// @return The pruned model.
+	/// @throws ServletException If a request (or session) attribute cannot override a model value.
+	private Map<String, Object> pruneModel(Map<String, Object> model, Set<String> variables, HttpServletRequest request, HttpServletResponse response) throws ServletException {
+		final Map<String, Object> prunedModel = new HashMap<>();
+		final HttpSession session = exposeSessionAttributes ? request.getSession(false) : null;
+		boolean exposeRequestContext = false;
+
+		for (String variable : variables) {
+			boolean exists = model.containsKey(variable);
+			Object value = model.get(variable);
+
+			if (exposeRequestAttributes) {
+				final Object attribute = request.getAttribute(variable);
+				if (attribute != null) {
+					if (exists && !allowRequestOverride) {
+						throw new ServletException("Cannot expose request attribute '" + variable + "' because of an existing model object of the same name");
+					}
+
+					exists = true;
+					value = attribute;
+				}
+			}
+
+			if (session != null) {
+				final Object attribute = session.getAttribute(variable);
+				if (attribute != null) {
+					if (exists && !allowSessionOverride) {
+						throw new ServletException("Cannot expose session attribute '" + variable + "' because of an existing model object of the same name");
+					}
+
+					exists = true;
+					value = attribute;
+				}
+			}
+
+			if (exposeSpringMacroHelpers && SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE.equals(variable)) {
+				if (exists) {
+					throw new ServletException("Cannot expose bind macro helper '" + SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE + "' because of an existing model object of the same name");
+				}
+
+				exposeRequestContext = true;
+			}
+			else if (exists) {
+				prunedModel.put(variable, value);
+			}
+		}
+
+		if (exposeRequestContext) {
+			prunedModel.put(SPRING_MACRO_REQUEST_CONTEXT_ATTRIBUTE, new RequestContext(request, response, getServletContext(), prunedModel));
+		}
+
+		return prunedModel;
+	}
+
 	@Override
 	protected void renderMergedTemplateModel(Map<String, Object> model, HttpServletRequest request, HttpServletResponse response) throws Exception {
 		notNull(compiler, "Compiler must not be null and must have been set");
 		notNull(model, "Model must not be null");
+		renderTemplate(compileTemplate(model), model, response);
+	}
 
+	private void renderTemplate(MustacheTemplate template, Map<String, Object> model, HttpServletResponse response) throws Exception {
 		if (log.isDebugEnabled()) {
 			log.debug("Render template {}", viewLayoutName());
 
@@ -117,36 +390,122 @@ public class MustacheView extends AbstractTemplateView {
 		}
 
 		response.setContentType(getContentType());
-		renderTemplate(model, response.getWriter());
+
+		final Map<String, Object> lazyModel = lazySuppliers ? toLazyValues(model) : model;
+		final Map<String, Object> resolvedModel = asyncModelResolver == null ? lazyModel : asyncModelResolver.resolve(lazyModel);
+		renderModel(template, resolvedModel, response);
 	}
 
-	@SuppressWarnings("unchecked")
-	private void renderTemplate(Map<String, Object> model, Writer writer) {
-		final Map<String, String> viewPartials = new HashMap<>(aliases);
-		final Object object = model.get(MustacheSettings.PARTIALS_KEY);
+	private static Map<String, Object> toLazyValues(Map<String, Object> model) {
+		Map<String, Object> lazyModel = model;
+		for (Map.Entry<String, Object> entry : model.entrySet()) {
+			final Object value = entry.getValue();
+			if (value instanceof Supplier) {
+				if (lazyModel == model) {
+					lazyModel = new HashMap<>(model);
+				}
 
-		if (object != null) {
-			if (!(object instanceof Map)) {
-				throw new MustachePartialsMappingException();
+				lazyModel.put(entry.getKey(), LazyValue.of((Supplier<?>) value));
 			}
+		}
 
-			viewPartials.putAll((Map<String, String>) object);
+		return lazyModel;
+	}
+
+	private void renderModel(MustacheTemplate template, Map<String, Object> model, HttpServletResponse response) throws Exception {
+		if (bufferPool != null && flushMarkers.isEmpty()) {
+			renderBufferedTemplate(template, model, response);
+			return;
 		}
 
-		final boolean hasAliases = !viewPartials.isEmpty();
-		if (hasAliases) {
-			compiler.addTemporaryPartialAliases(viewPartials);
+		// Closing the segment encoding writer writes pending dynamic values, even if rendering fails: the
+		// resource is null (and skipped) if template is rendered to the response writer.
+		try (SegmentEncodingWriter segmentEncodingWriter = segmentEncodingWriter(template, response)) {
+			final Writer writer = segmentEncodingWriter == null ? response.getWriter() : segmentEncodingWriter;
+			template.execute(model, flushMarkers.isEmpty() ? writer : new MarkerFlushingWriter(writer, flushMarkers));
+		}
+	}
+
+	/// Create writer used to render template with static text segments encoded at compilation time (see [PreEncodedTemplate]):
+	/// static segments are written, as bytes, to the response output stream, and only dynamic values are encoded.
+	///
+	/// @param template Compiled template.
+	/// @param response Response.
+	/// @return The writer, `null` if template cannot be rendered this way.
+	/// @throws Exception If an error occurs.
+	private static SegmentEncodingWriter segmentEncodingWriter(MustacheTemplate template, HttpServletResponse response) throws Exception {
+		if (!(template instanceof PreEncodedTemplate)) {
+			return null;
 		}
 
+		final StaticSegments segments = ((PreEncodedTemplate) template).getStaticSegments();
+		if (segments == null || !segments.getCharset().equals(Charset.forName(response.getCharacterEncoding()))) {
+			return null;
+		}
+
+		final ServletOutputStream outputStream;
+
 		try {
-			final MustacheTemplate template = compiler.compile(viewLayoutName());
-			template.execute(model, writer);
+			outputStream = response.getOutputStream();
+		}
+		catch (IllegalStateException ex) {
+			// Response writer has already been used: template can only be rendered to this writer.
+			log.debug("Response output stream is not available, render template to response writer");
+			return null;
+		}
+
+		return new SegmentEncodingWriter(outputStream, segments);
+	}
+
+	private void renderBufferedTemplate(MustacheTemplate template, Map<String, Object> model, HttpServletResponse response) throws Exception {
+		final RenderBuffer buffer = bufferPool.acquire();
+
+		try {
+			template.execute(model, buffer);
+			writeBuffer(buffer, response);
 		}
 		finally {
-			if (hasAliases) {
-				compiler.removeTemporaryPartialAliases();
+			bufferPool.release(buffer);
+		}
+	}
+
+	private static void writeBuffer(RenderBuffer buffer, HttpServletResponse response) throws Exception {
+		final ServletOutputStream outputStream;
+
+		try {
+			outputStream = response.getOutputStream();
+		}
+		catch (IllegalStateException ex) {
+			// Response writer has already been used: rendered template can only be written to this writer.
+			log.debug("Response output stream is not available, write rendered template to response writer");
+			buffer.writeTo(response.getWriter());
+			return;
+		}
+
+		final int length = buffer.encode(Charset.forName(response.getCharacterEncoding()));
+		response.setContentLength(length);
+		buffer.writeTo(outputStream);
+	}
+
+	@SuppressWarnings("unchecked")
+	private MustacheTemplate compileTemplate(Map<String, Object> model) {
+		final Object object = model.get(MustacheSettings.PARTIALS_KEY);
+		Map<String, String> viewPartials = aliases;
+
+		if (object != null) {
+			if (!(object instanceof Map)) {
+				throw new MustachePartialsMappingException();
 			}
+
+			viewPartials = new HashMap<>(aliases);
+			viewPartials.putAll((Map<String, String>) object);
 		}
+
+		// Aliases are carried by the render context: no temporary (thread-bound) aliases are
+		// registered, so rendering does not depend on the current thread.
+		// Render context copies given aliases defensively: view aliases are given as is.
+		final RenderContext context = RenderContext.of(viewPartials);
+		return compiler.compile(viewLayoutName(), context);
 	}
 
 	private String viewLayoutName() {
@@ -158,6 +517,11 @@ public class MustacheView extends AbstractTemplateView {
 		return ToStringBuilder.builder(this)
 				.append("compiler", compiler)
 				.append("aliases", aliases)
+				.append("bufferPool", bufferPool)
+				.append("flushMarkers", flushMarkers)
+				.append("asyncModelResolver", asyncModelResolver)
+				.append("lazySuppliers", lazySuppliers)
+				.append("modelPruning", modelPruning)
 				.build();
 	}
 }
@@ -25,15 +25,22 @@
 package com.github.mjeanroy.springmvc.view.mustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import org.springframework.web.servlet.view.AbstractTemplateViewResolver;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.hasText;
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
 
 /// Mustache View Resolver.
 public class MustacheViewResolver extends AbstractTemplateViewResolver {
@@ -67,6 +74,32 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 	/// If mapping is not found and a default layout is defined, default layout will be used.
 	private final Map<String, String> layoutMappings;
 
+	/// Pool of buffers used by views to render templates in memory, `null` if templates are
+	/// rendered directly to the response writer (see [MustacheView#setBufferPool(RenderBufferPool)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile RenderBufferPool bufferPool;
+
+	/// Markers after which views flush the response during rendering (see [MustacheView#setFlushMarkers(Collection)]).
+	/// This markers will be used by default for each views, unless a mapping is defined for the view.
+	// Volatile because it can be accessed from more than one thread
+	private volatile List<String> flushMarkers;
+
+	/// Flush markers mappings that can be used to define different markers for different views.
+	private final Map<String, List<String>> flushMarkersMappings;
+
+	/// Resolver of asynchronous model values used by views, `null` if model values are rendered as is
+	/// (see [MustacheView#setAsyncModelResolver(AsyncModelResolver)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile AsyncModelResolver asyncModelResolver;
+
+	/// Lazy suppliers settings used by views (see [MustacheView#setLazySuppliers(boolean)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile boolean lazySuppliers;
+
+	/// Model pruning settings used by views (see [MustacheView#setModelPruning(boolean)]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile boolean modelPruning;
+
 	/// Build new mustache resolver using compiler
 	///
 	/// @param compiler Mustache compiler.
@@ -76,6 +109,8 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 		this.compiler = notNull(compiler, "Compiler must not be null");
 		this.layoutKey = MustacheSettings.DEFAULT_LAYOUT_KEY;
 		this.layoutMappings = new HashMap<>();
+		this.flushMarkers = emptyList();
+		this.flushMarkersMappings = new HashMap<>();
 	}
 
 	@Override
@@ -115,6 +150,132 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 		this.layoutKey = hasText(layoutKey, "Layout key must not be empty");
 	}
 
+	/// Set pool of buffers used by views to render templates in memory, before writing them (with `Content-Length`
+	/// header) to the response.
+	///
+	/// @param bufferPool Pool of buffers, `null` to render templates directly to the response writer.
+	public void setBufferPool(RenderBufferPool bufferPool) {
+		log.trace("Set view resolver buffer pool: {}", bufferPool);
+		this.bufferPool = bufferPool;
+	}
+
+	/// Get pool of buffers used by views to render templates in memory.
+	///
+	/// @return Pool of buffers, `null` if templates are rendered directly to the response writer.
+	public RenderBufferPool getBufferPool() {
+		return bufferPool;
+	}
+
+	/// Set resolver of asynchronous model values used by views: [java.util.concurrent.CompletionStage] and
+	/// [AsyncValue] model values are then resolved concurrently before templates are rendered.
+	///
+	/// @param asyncModelResolver Resolver, `null` to render model values as is.
+	public void setAsyncModelResolver(AsyncModelResolver asyncModelResolver) {
+		log.trace("Set view resolver async model resolver: {}", asyncModelResolver);
+		this.asyncModelResolver = asyncModelResolver;
+	}
+
+	/// Get resolver of asynchronous model values used by views.
+	///
+	/// @return Resolver, `null` if model values are rendered as is.
+	public AsyncModelResolver getAsyncModelResolver() {
+		return asyncModelResolver;
+	}
+
+	/// Enable (or disable) lazy suppliers: if enabled, each [java.util.function.Supplier] model value is wrapped
+	/// in a [LazyValue], computed only if the template reads it.
+	///
+	/// @param lazySuppliers Lazy suppliers settings.
+	public void setLazySuppliers(boolean lazySuppliers) {
+		log.trace("Set view resolver lazy suppliers: {}", lazySuppliers);
+		this.lazySuppliers = lazySuppliers;
+	}
+
+	/// Check if views render [java.util.function.Supplier] model values as [LazyValue] instances.
+	///
+	/// @return `true` if lazy suppliers are enabled, `false` otherwise.
+	public boolean isLazySuppliers() {
+		return lazySuppliers;
+	}
+
+	/// Enable (or disable) model pruning: if enabled, views render a model containing only the values of variables
+	/// referenced by the template, and request (or session) attributes are not copied to the model.
+	///
+	/// Only JMustache and compiled templates support model pruning: with other engines, views render the whole
+	/// model and log a warning (see [MustacheView#setModelPruning(boolean)]).
+	///
+	/// @param modelPruning Model pruning settings.
+	public void setModelPruning(boolean modelPruning) {
+		log.trace("Set view resolver model pruning: {}", modelPruning);
+		this.modelPruning = modelPruning;
+	}
+
+	/// Check if views prune the model before rendering.
+	///
+	/// @return `true` if model pruning is enabled, `false` otherwise.
+	public boolean isModelPruning() {
+		return modelPruning;
+	}
+
+	/// Set markers after which views flush the response during rendering, so that the client can start fetching
+	/// resources (such as stylesheets or scripts) while the rest of the page is rendered: for example, `</head>`.
+	///
+	/// These markers are used by each view, unless a mapping is defined for the view (see [#addFlushMarkersMapping(String, Collection)]).
+	///
+	/// Views detect markers in rendered output only: partials are resolved inside template engines, so flushing
+	/// after a partial requires a marker rendered at its end (such as its closing tag).
+	///
+	/// @param flushMarkers Markers, empty to flush the response once the whole template has been rendered.
+	public void setFlushMarkers(Collection<String> flushMarkers) {
+		log.trace("Set view resolver flush markers: {}", flushMarkers);
+		this.flushMarkers = copyFlushMarkers(flushMarkers);
+	}
+
+	/// Get markers after which views flush the response during rendering.
+	///
+	/// @return Markers.
+	public List<String> getFlushMarkers() {
+		return flushMarkers;
+	}
+
+	/// Replace current flush markers mappings by new mappings.
+	///
+	/// @param flushMarkersMappings New mappings.
+	public void setFlushMarkersMappings(Map<String, ? extends Collection<String>> flushMarkersMappings) {
+		notNull(flushMarkersMappings, "Flush markers mappings must not be null");
+
+		log.debug("Set view resolver flush markers mappings");
+
+		this.flushMarkersMappings.clear();
+		for (Map.Entry<String, ? extends Collection<String>> entry : flushMarkersMappings.entrySet()) {
+			addFlushMarkersMapping(entry.getKey(), entry.getValue());
+		}
+	}
+
+	/// Define markers after which given view flushes the response during rendering: an empty collection
+	/// disables early flush for this view.
+	///
+	/// @param viewName View name to map.
+	/// @param flushMarkers Markers to use for given view.
+	public void addFlushMarkersMapping(String viewName, Collection<String> flushMarkers) {
+		log.debug("Add new flush markers mapping");
+		log.trace("  => {} -> {}", viewName, flushMarkers);
+
+		notNull(viewName, "View name must not be null");
+		this.flushMarkersMappings.put(viewName, copyFlushMarkers(flushMarkers));
+	}
+
+	private static List<String> copyFlushMarkers(Collection<String> flushMarkers) {
+		notNull(flushMarkers, "Flush markers must not be null");
+
+		List<String> markers = new ArrayList<>(flushMarkers.size());
+		for (String flushMarker : flushMarkers) {
+			markers.add(hasText(flushMarker, "Flush marker must not be empty"));
+		}
+
+		return unmodifiableList(markers);
+	}
+
 	/// Replace current layout mappings by new mappings.
 	///
 	/// @param layoutMappings New mappings.
@@ -148,6 +309,7 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 		final String layout = mapping != null ? mapping : defaultLayout;
 		final boolean useLayout = layout != null && layoutKey != null;
 		final String name = useLayout ? layout : viewName;
+		final List<String> markers = flushMarkersMappings.get(viewName);
 
 		log.info("Build view '{}'", viewName);
 
@@ -155,10 +317,16 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 			log.trace("  => Use layout: {}", useLayout);
 			log.trace("  => Layout: {}", layout);
 			log.trace("  => Name: {}", name);
+			log.trace("  => Flush markers: {}", markers != null ? markers : flushMarkers);
 		}
 
 		final MustacheView view = (MustacheView) super.buildView(name);
 		view.setCompiler(compiler);
+		view.setBufferPool(bufferPool);
+		view.setFlushMarkers(markers != null ? markers : flushMarkers);
+		view.setAsyncModelResolver(asyncModelResolver);
+		view.setLazySuppliers(lazySuppliers);
+		view.setModelPruning(modelPruning);
 
 		if (useLayout) {
 			// Add alias to map main content to real view
@@ -179,6 +347,12 @@ public class MustacheViewResolver extends AbstractTemplateViewResolver {
 				.append("defaultLayout", defaultLayout)
 				.append("layoutKey", layoutKey)
 				.append("layoutMappings", layoutMappings)
+				.append("bufferPool", bufferPool)
+				.append("flushMarkers", flushMarkers)
+				.append("flushMarkersMappings", flushMarkersMappings)
+				.append("asyncModelResolver", asyncModelResolver)
+				.append("lazySuppliers", lazySuppliers)
+				.append("modelPruning", modelPruning)
 				.append("order", getOrder())
 				.append("prefix", getPrefix())
 				.append("suffix", getSuffix())
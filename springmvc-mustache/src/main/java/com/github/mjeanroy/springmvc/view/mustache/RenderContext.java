@@ -0,0 +1,123 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Render-scoped context, carried explicitly through template compilation and rendering.
+///
+/// A render context holds partial aliases that are specific to a rendering (for example, the
+/// layout aliases of a view, or partials added in the model with [MustacheSettings#PARTIALS_KEY]):
+/// these aliases take precedence over global aliases of the template loader.
+///
+/// Since the context is passed explicitly (instead of being bound to the current thread), a render
+/// context can be safely used with asynchronous executors (or virtual threads).
+///
+/// This class is immutable, and so thread safe.
+public final class RenderContext {
+
+	/// Render context without any partial aliases.
+	private static final RenderContext EMPTY = new RenderContext(Collections.emptyMap());
+
+	/// Get a render context without any partial aliases.
+	///
+	/// @return Empty render context.
+	public static RenderContext empty() {
+		return EMPTY;
+	}
+
+	/// Create render context with given partial aliases.
+	///
+	/// @param partialAliases Partial aliases.
+	/// @return Render context.
+	public static RenderContext of(Map<String, String> partialAliases) {
+		notNull(partialAliases, "Partial aliases must not be null");
+		return partialAliases.isEmpty() ? EMPTY : new RenderContext(Collections.unmodifiableMap(new HashMap<>(partialAliases)));
+	}
+
+	/// Partial aliases, specific to this rendering.
+	private final Map<String, String> partialAliases;
+
+	/// Create render context.
+	///
+	/// @param partialAliases Partial aliases (immutable).
+	private RenderContext(Map<String, String> partialAliases) {
+		this.partialAliases = partialAliases;
+	}
+
+	/// Get partial aliases of this rendering.
+	///
+	/// @return Partial aliases (unmodifiable).
+	public Map<String, String> getPartialAliases() {
+		return partialAliases;
+	}
+
+	/// Get the aliased name of given partial, if any.
+	///
+	/// @param name Partial name.
+	/// @return The aliased name, `null` if given partial is not aliased in this context.
+	public String getPartialAlias(String name) {
+		return partialAliases.get(name);
+	}
+
+	/// Check if this context defines partial aliases.
+	///
+	/// @return `true` if this context defines at least one partial alias, `false` otherwise.
+	public boolean hasPartialAliases() {
+		return !partialAliases.isEmpty();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("partialAliases", partialAliases)
+				.build();
+	}
+
+	@Override
+	public boolean equals(Object o) {
+		if (o == this) {
+			return true;
+		}
+
+		if (o instanceof RenderContext) {
+			RenderContext ctx = (RenderContext) o;
+			return partialAliases.equals(ctx.partialAliases);
+		}
+
+		return false;
+	}
+
+	@Override
+	public int hashCode() {
+		return partialAliases.hashCode();
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.commons.reflection;
+
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.ReflectionException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.lang.invoke.CallSite;
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isPublic;
+
+/// Static utilities creating property accessors, used by template engines to read model values.
+///
+/// Public getters are called through functions generated with [LambdaMetafactory] (invoked as any other lambda,
+/// and inlined by the JIT compiler): other members (fields, or methods of classes not visible from this class)
+/// are read with reflection, and must have been made accessible.
+public final class Accessors {
+
+	private static final Logger log = LoggerFactory.getLogger(Accessors.class);
+
+	/// Lookup used to generate accessors.
+	private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+	private Accessors() {
+	}
+
+	/// Create accessor calling given method (without arguments): exceptions thrown by the method are wrapped
+	/// in a [ReflectionException].
+	///
+	/// @param method The method.
+	/// @return The accessor.
+	public static Function<Object, Object> methodAccessor(Method method) {
+		notNull(method, "Method must not be null");
+
+		if (isLambdaAccessible(method)) {
+			try {
+				final MethodHandle handle = LOOKUP.unreflect(method);
+				final CallSite site = LambdaMetafactory.metafactory(
+						LOOKUP,
+						"apply",
+						methodType(Function.class),
+						methodType(Object.class, Object.class),
+						handle,
+						handle.type().wrap()
+				);
+
+				@SuppressWarnings("unchecked")
+				final Function<Object, Object> accessor = (Function<Object, Object>) site.getTarget().invokeWithArguments();
+				return accessor;
+			}
+			catch (Throwable ex) {
+				log.debug("Cannot generate accessor for {}, use reflection: {}", method, ex.getMessage());
+			}
+		}
+
+		return object -> {
+			try {
+				return method.invoke(object);
+			}
+			catch (InvocationTargetException ex) {
+				throw new ReflectionException(ex);
+			}
+			catch (IllegalAccessException ex) {
+				throw new ReflectionException(ex);
+			}
+		};
+	}
+
+	/// Create accessor reading given field.
+	///
+	/// @param field The field.
+	/// @return The accessor.
+	public static Function<Object, Object> fieldAccessor(Field field) {
+		notNull(field, "Field must not be null");
+		return object -> {
+			try {
+				return field.get(object);
+			}
+			catch (IllegalAccessException ex) {
+				throw new ReflectionException(ex);
+			}
+		};
+	}
+
+	/// Check if a function calling given method can be generated: method must be a public method, of a public
+	/// class visible from this class (generated functions are defined in the class loader of this class).
+	///
+	/// @param method The method.
+	/// @return `true` if a function can be generated, `false` otherwise.
+	private static boolean isLambdaAccessible(Method method) {
+		final Class<?> type = method.getDeclaringClass();
+		if (!isPublic(method.getModifiers()) || !isPublic(type.getModifiers())) {
+			return false;
+		}
+
+		try {
+			return Class.forName(type.getName(), false, Accessors.class.getClassLoader()) == type;
+		}
+		catch (ClassNotFoundException | LinkageError ex) {
+			return false;
+		}
+	}
+}
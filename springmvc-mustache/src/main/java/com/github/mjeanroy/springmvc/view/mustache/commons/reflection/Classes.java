@@ -24,8 +24,10 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.commons.reflection;
 
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.ReflectionException;
 import org.springframework.core.type.AnnotationMetadata;
 
+import java.lang.reflect.InvocationTargetException;
 import java.util.Map;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.hasText;
@@ -52,6 +54,35 @@ public final class Classes {
 		}
 	}
 
+	/// Create instance of given class, using its public default constructor.
+	///
+	/// @param klass Class name.
+	/// @param type Expected type of instance.
+	/// @param <T> Expected type of instance.
+	/// @return The created instance.
+	/// @throws ReflectionException If class cannot be instantiated.
+	public static <T> T newInstance(String klass, Class<T> type) {
+		hasText(klass, "Class name must not be empty");
+		try {
+			return type.cast(Class.forName(klass).getConstructor().newInstance());
+		}
+		catch (ClassNotFoundException ex) {
+			throw new ReflectionException(ex);
+		}
+		catch (NoSuchMethodException ex) {
+			throw new ReflectionException(ex);
+		}
+		catch (InstantiationException ex) {
+			throw new ReflectionException(ex);
+		}
+		catch (IllegalAccessException ex) {
+			throw new ReflectionException(ex);
+		}
+		catch (InvocationTargetException ex) {
+			throw new ReflectionException(ex);
+		}
+	}
+
 	/// Get annotation method value.
 	///
 	/// @param importingClassMetadata Metadata.
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.lang.String.valueOf;
+
+/// Configure compilers created by engine configurations (such as
+/// [com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache.JMustacheConfiguration]) with settings
+/// shared by all engines: template cache limit, pre-encoding and static text pooling.
+///
+/// These settings are supported by compilers extending [AbstractMustacheCompiler]: other compilers are
+/// left untouched.
+///
+/// If no environment is available (for example, when compilers are created outside of a fully configured
+/// application context), default settings (see [MustacheSettings]) are applied.
+public final class MustacheCompilerConfigurer {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheCompilerConfigurer.class);
+
+	/// The environment, may be `null`.
+	private final Environment environment;
+
+	/// Create configurer.
+	///
+	/// @param environment The environment, `null` to apply default settings.
+	public MustacheCompilerConfigurer(Environment environment) {
+		this.environment = environment;
+	}
+
+	/// Configure given compiler.
+	///
+	/// @param compiler The compiler.
+	/// @param <T> Type of compiler.
+	/// @return The compiler.
+	public <T extends MustacheCompiler> T configure(T compiler) {
+		notNull(compiler, "Mustache compiler must not be null");
+
+		if (!(compiler instanceof AbstractMustacheCompiler)) {
+			log.debug("Mustache compiler {} does not support compiler settings, skip configuration", compiler);
+			return compiler;
+		}
+
+		int templateCacheLimit = getTemplateCacheLimit();
+		boolean preEncoding = getPreEncoding();
+		boolean staticTextPooling = getStaticTextPooling();
+
+		if (log.isTraceEnabled()) {
+			log.trace("Configure mustache compiler {}", compiler);
+			log.trace("  => Template Cache Limit: {}", templateCacheLimit);
+			log.trace("  => Pre-encoding: {}", preEncoding);
+			log.trace("  => Static text pooling: {}", staticTextPooling);
+		}
+
+		AbstractMustacheCompiler mustacheCompiler = (AbstractMustacheCompiler) compiler;
+		mustacheCompiler.setCacheLimit(templateCacheLimit);
+		mustacheCompiler.setPreEncoding(preEncoding);
+		mustacheCompiler.setStaticTextPool(staticTextPooling ? new StaticTextPool() : null);
+		return compiler;
+	}
+
+	/// Resolve the maximum number of compiled templates kept in memory by the mustache compiler.
+	///
+	/// Default is to look for "mustache.templateCacheLimit" property or use [MustacheSettings#TEMPLATE_CACHE_LIMIT] if
+	/// property cannot be resolved. If view cache is disabled (i.e. "mustache.cache" is `false`), default is `0`
+	/// (i.e. templates are compiled on each rendering).
+	///
+	/// @return Template cache limit.
+	public int getTemplateCacheLimit() {
+		int defaultLimit = getCache() ? MustacheSettings.TEMPLATE_CACHE_LIMIT : 0;
+		return Integer.parseInt(getProperty("mustache.templateCacheLimit", valueOf(defaultLimit)).trim());
+	}
+
+	/// Resolve pre-encoding settings: if enabled, static text segments of compiled templates are encoded at
+	/// compilation time, and written as bytes to the response.
+	///
+	/// Default is to look for "mustache.preEncoding" property or use [MustacheSettings#PRE_ENCODING] if
+	/// property cannot be resolved.
+	///
+	/// @return Pre-encoding settings.
+	public boolean getPreEncoding() {
+		return Boolean.parseBoolean(getProperty("mustache.preEncoding", valueOf(MustacheSettings.PRE_ENCODING)).trim());
+	}
+
+	/// Resolve static text pooling settings: if enabled, identical static text segments of compiled templates
+	/// are shared between compiled templates.
+	///
+	/// Default is to look for "mustache.staticTextPooling" property or use [MustacheSettings#STATIC_TEXT_POOLING] if
+	/// property cannot be resolved.
+	///
+	/// @return Static text pooling settings.
+	public boolean getStaticTextPooling() {
+		return Boolean.parseBoolean(getProperty("mustache.staticTextPooling", valueOf(MustacheSettings.STATIC_TEXT_POOLING)).trim());
+	}
+
+	private boolean getCache() {
+		return Boolean.parseBoolean(getProperty("mustache.cache", valueOf(MustacheSettings.CACHE)).trim());
+	}
+
+	private String getProperty(String key, String defaultValue) {
+		return environment == null ? defaultValue : environment.getProperty(key, defaultValue);
+	}
+}
@@ -48,6 +48,7 @@ import java.util.Collection;
 import java.util.ServiceLoader;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.reflection.Classes.isPresent;
+import static com.github.mjeanroy.springmvc.view.mustache.commons.reflection.Classes.newInstance;
 import static java.util.Arrays.sort;
 
 /// Set of mustache provider.
@@ -70,7 +71,7 @@ public enum MustacheProvider {
 
 		@Override
 		MustacheCompiler doInstantiate(ApplicationContext applicationContext, Environment environment, MustacheTemplateLoader templateLoader) {
-			return new SpiConfiguration().mustacheCompiler(templateLoader);
+			return new SpiConfiguration(environment).mustacheCompiler(templateLoader);
 		}
 	},
 
@@ -194,6 +195,26 @@ public enum MustacheProvider {
 		}
 	},
 
+	/// Mustache implementation that compiles templates to renderers specialized for each template, available
+	/// with the `springmvc-mustache-compiled` module.
+	COMPILED {
+		@Override
+		public boolean isAvailable() {
+			return isPresent(COMPILED_PROVIDER);
+		}
+
+		@Override
+		public String configurationClass() {
+			return COMPILED_CONFIGURATION;
+		}
+
+		@Override
+		MustacheCompiler doInstantiate(ApplicationContext applicationContext, Environment environment, MustacheTemplateLoader templateLoader) {
+			MustacheCompiler compiler = newInstance(COMPILED_PROVIDER, MustacheCompilerProvider.class).mustacheCompiler(templateLoader);
+			return new MustacheCompilerConfigurer(environment).configure(compiler);
+		}
+	},
+
 	/// Option that detect class available on classpath
 	/// and select the best implementation.
 	AUTO {
@@ -231,10 +252,24 @@ public enum MustacheProvider {
 	/// @throws Exception If an error occurred while instantiating bean.
 	public MustacheCompiler instantiate(ApplicationContext applicationContext) throws Exception {
 		MustacheTemplateLoader templateLoader = mustacheTemplateLoader(applicationContext);
-		Environment environment = applicationContext.getBean(Environment.class);
+		Environment environment = environment(applicationContext);
 		return doInstantiate(applicationContext, environment, templateLoader);
 	}
 
+	/// Get environment of given application context.
+	///
+	/// @param applicationContext The application context.
+	/// @return The environment, `null` if application context does not expose any environment.
+	private static Environment environment(ApplicationContext applicationContext) {
+		try {
+			return applicationContext.getBean(Environment.class);
+		}
+		catch (NoSuchBeanDefinitionException ex) {
+			log.debug("No environment found in application context, use default settings");
+			return null;
+		}
+	}
+
 	/// Create mustache compiler to use application context.
 	///
 	/// @param applicationContext The application context, used to retrieve dependencies.
@@ -260,6 +295,12 @@ public enum MustacheProvider {
 	/// Logger.
 	private static final Logger log = LoggerFactory.getLogger(MustacheProvider.class);
 
+	/// Provider of the compiled mustache implementation (not a dependency of this module).
+	private static final String COMPILED_PROVIDER = "com.github.mjeanroy.springmvc.view.mustache.compiled.CompiledMustacheCompilerProvider";
+
+	/// Configuration of the compiled mustache implementation (not a dependency of this module).
+	private static final String COMPILED_CONFIGURATION = "com.github.mjeanroy.springmvc.view.mustache.configuration.compiled.CompiledMustacheConfiguration";
+
 	/// Detect mustache provider.
 	/// Use classpath detection under the hood.
 	///
@@ -32,6 +32,8 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.env.Environment;
 
+import static java.lang.String.valueOf;
+
 /// Abstraction that create basic beans to use with
 /// mustache template engine.
 @Configuration
@@ -60,6 +62,11 @@ public class MustacheTemplateLoaderConfiguration {
 		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
 		factoryBean.setPrefix(getPrefix());
 		factoryBean.setSuffix(getSuffix());
+		factoryBean.setResourceCacheTtl(getResourceCacheTtl());
+		factoryBean.setResourceCacheLimit(getResourceCacheLimit());
+		factoryBean.setSourceCacheInterval(getSourceCacheInterval());
+		factoryBean.setTemplateBundle(getTemplateBundle());
+		factoryBean.setMinify(getMinify());
 		return factoryBean;
 	}
 
@@ -80,4 +87,62 @@ public class MustacheTemplateLoaderConfiguration {
 	public String getSuffix() {
 		return environment.getProperty("mustache.suffix", MustacheSettings.SUFFIX).trim();
 	}
+
+	/// Resolve TTL (in milliseconds) of resolved template locations.
+	///
+	/// Default is to look for "mustache.resourceCacheTtl" property or use [MustacheSettings#RESOURCE_CACHE_TTL] if
+	/// property cannot be resolved. If view cache is disabled (i.e. "mustache.cache" is `false`), default is `0`
+	/// (i.e. template locations are resolved on each lookup).
+	///
+	/// @return Resource cache TTL.
+	public long getResourceCacheTtl() {
+		long defaultTtl = getCache() ? MustacheSettings.RESOURCE_CACHE_TTL : 0;
+		return Long.parseLong(environment.getProperty("mustache.resourceCacheTtl", valueOf(defaultTtl)).trim());
+	}
+
+	/// Resolve maximum number of resolved template locations kept in cache.
+	///
+	/// Default is to look for "mustache.resourceCacheLimit" property or use [MustacheSettings#RESOURCE_CACHE_LIMIT] if
+	/// property cannot be resolved.
+	///
+	/// @return Resource cache limit.
+	public int getResourceCacheLimit() {
+		return Integer.parseInt(environment.getProperty("mustache.resourceCacheLimit", valueOf(MustacheSettings.RESOURCE_CACHE_LIMIT)).trim());
+	}
+
+	/// Resolve interval (in milliseconds) between two revalidations of cached template sources.
+	///
+	/// Default is to look for "mustache.sourceCacheInterval" property or use [MustacheSettings#SOURCE_CACHE_INTERVAL] if
+	/// property cannot be resolved. If view cache is disabled (i.e. "mustache.cache" is `false`), default is `0`
+	/// (i.e. templates are read on each call).
+	///
+	/// @return Source cache interval.
+	public long getSourceCacheInterval() {
+		long defaultInterval = getCache() ? MustacheSettings.SOURCE_CACHE_INTERVAL : 0;
+		return Long.parseLong(environment.getProperty("mustache.sourceCacheInterval", valueOf(defaultInterval)).trim());
+	}
+
+	/// Resolve location of template bundle.
+	///
+	/// Default is to look for "mustache.templateBundle" property or use [MustacheSettings#TEMPLATE_BUNDLE] if
+	/// property cannot be resolved. A bundle available on the file system (i.e. `file:` location) is memory-mapped.
+	///
+	/// @return Template bundle location, empty if templates are not bundled.
+	public String getTemplateBundle() {
+		return environment.getProperty("mustache.templateBundle", MustacheSettings.TEMPLATE_BUNDLE).trim();
+	}
+
+	/// Resolve minification settings of template sources.
+	///
+	/// Default is to look for "mustache.minify" property or use [MustacheSettings#MINIFY] if
+	/// property cannot be resolved.
+	///
+	/// @return Minification settings.
+	public boolean getMinify() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.minify", valueOf(MustacheSettings.MINIFY)).trim());
+	}
+
+	private boolean getCache() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.cache", valueOf(MustacheSettings.CACHE)).trim());
+	}
 }
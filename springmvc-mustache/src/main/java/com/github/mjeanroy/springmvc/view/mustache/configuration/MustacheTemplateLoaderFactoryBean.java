@@ -24,10 +24,13 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.configuration;
 
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle;
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundleResourceLoader;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import org.springframework.beans.BeansException;
@@ -41,6 +44,7 @@ import org.springframework.core.io.ClassPathResource;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
 import org.springframework.util.ClassUtils;
+import org.springframework.util.StringUtils;
 
 import java.util.Collection;
 import java.util.HashMap;
@@ -73,10 +77,27 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 	/// @see com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader#addPartialAliases(java.util.Map)
 	private final Map<String, String> partialAliases;
 
+	/// @see com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader#getCacheTtl()
+	private long resourceCacheTtl;
+
+	/// @see com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader#getCacheLimit()
+	private int resourceCacheLimit;
+
+	/// @see com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader#getSourceCacheInterval()
+	private long sourceCacheInterval;
+
+	/// Location of template bundle, templates are not bundled if empty.
+	/// @see com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle
+	private String templateBundle;
+
+	/// @see com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader#isMinify()
+	private boolean minify;
+
 	/// Default constructor.
 	public MustacheTemplateLoaderFactoryBean() {
 		super();
 		this.partialAliases = new HashMap<>();
+		this.resourceCacheLimit = MustacheSettings.RESOURCE_CACHE_LIMIT;
 	}
 
 	@Override
@@ -87,10 +108,12 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 	@Override
 	protected MustacheTemplateLoader createInstance() {
 		log.debug("Create instance of {}", DefaultTemplateLoader.class);
-		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(computeResourceLoader());
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(computeTemplateResourceLoader());
 		templateLoader.setPrefix(prefix);
 		templateLoader.setSuffix(suffix);
 		templateLoader.addPartialAliases(partialAliases);
+		templateLoader.setSourceCacheInterval(sourceCacheInterval);
+		templateLoader.setMinify(minify);
 		return templateLoader;
 	}
 
@@ -104,6 +127,22 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 		this.resourceLoader = resourceLoader;
 	}
 
+	/// Build resource loader used to read templates: templates are read from [#templateBundle], if any, and
+	/// resolved by [#computeResourceLoader()] otherwise.
+	///
+	/// @return Resource loader.
+	private ResourceLoader computeTemplateResourceLoader() {
+		ResourceLoader resourceLoader = computeResourceLoader();
+		if (!StringUtils.hasText(templateBundle)) {
+			return resourceLoader;
+		}
+
+		log.debug("Load template bundle: {}", templateBundle);
+		TemplateBundle bundle = TemplateBundle.load(resourceLoader.getResource(templateBundle));
+		log.debug(" => Number of bundled templates: {}", bundle.size());
+		return new TemplateBundleResourceLoader(bundle, resourceLoader);
+	}
+
 	/// Build a composite resource loader that will automatically delegate to:
 	/// - [#resourceLoader].
 	/// - Spring application context.
@@ -139,7 +178,9 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 
 		log.debug("Create composite resource loader using: {}", resourceLoaders);
 		log.trace(" => Number of loaders: {}", resourceLoaders.size());
-		return new CompositeResourceLoader(resourceLoaders);
+		log.trace(" => Resource cache TTL: {}", resourceCacheTtl);
+		log.trace(" => Resource cache limit: {}", resourceCacheLimit);
+		return new CompositeResourceLoader(resourceLoaders, resourceCacheTtl, resourceCacheLimit);
 	}
 
 	/// Set [#prefix]
@@ -163,6 +204,41 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 		this.partialAliases.putAll(partialAliases);
 	}
 
+	/// Set [#resourceCacheTtl]
+	///
+	/// @param resourceCacheTtl New [#resourceCacheTtl]
+	public void setResourceCacheTtl(long resourceCacheTtl) {
+		this.resourceCacheTtl = resourceCacheTtl;
+	}
+
+	/// Set [#resourceCacheLimit]
+	///
+	/// @param resourceCacheLimit New [#resourceCacheLimit]
+	public void setResourceCacheLimit(int resourceCacheLimit) {
+		this.resourceCacheLimit = resourceCacheLimit;
+	}
+
+	/// Set [#sourceCacheInterval]
+	///
+	/// @param sourceCacheInterval New [#sourceCacheInterval]
+	public void setSourceCacheInterval(long sourceCacheInterval) {
+		this.sourceCacheInterval = sourceCacheInterval;
+	}
+
+	/// Set [#templateBundle]
+	///
+	/// @param templateBundle New [#templateBundle]
+	public void setTemplateBundle(String templateBundle) {
+		this.templateBundle = templateBundle;
+	}
+
+	/// Set [#minify]
+	///
+	/// @param minify New [#minify]
+	public void setMinify(boolean minify) {
+		this.minify = minify;
+	}
+
 	/// Implementation of spring [org.springframework.core.io.ResourceLoader]
 	/// that will always check for resources in the classpath (not the root of the application
 	/// context).
@@ -206,6 +282,11 @@ public class MustacheTemplateLoaderFactoryBean extends AbstractFactoryBean<Musta
 				.append("resourceLoader", resourceLoader)
 				.append("prefix", prefix)
 				.append("suffix", suffix)
+				.append("resourceCacheTtl", resourceCacheTtl)
+				.append("resourceCacheLimit", resourceCacheLimit)
+				.append("sourceCacheInterval", sourceCacheInterval)
+				.append("templateBundle", templateBundle)
+				.append("minify", minify)
 				.append("applicationContext", applicationContext)
 				.build();
 	}
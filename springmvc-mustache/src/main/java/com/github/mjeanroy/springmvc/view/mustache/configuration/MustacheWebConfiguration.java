@@ -27,9 +27,14 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplatePrecompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateWatcher;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Condition;
 import org.springframework.context.annotation.ConditionContext;
@@ -39,11 +44,15 @@ import org.springframework.context.annotation.PropertySource;
 import org.springframework.core.env.Environment;
 import org.springframework.core.type.AnnotatedTypeMetadata;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
 import static java.lang.String.valueOf;
 import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Collections.unmodifiableMap;
 
 /// Spring Web configuration for mustache engine.
@@ -59,9 +68,14 @@ public class MustacheWebConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(MustacheWebConfiguration.class);
 
+	/// Name of the (optional) executor bean used to resolve asynchronous model values.
+	public static final String ASYNC_MODEL_EXECUTOR_BEAN_NAME = "mustacheAsyncModelExecutor";
+
 	private final Environment environment;
 	private final MustacheCompiler mustacheCompiler;
 
+	private Executor asyncModelExecutor;
+
 	/// Create configuration.
 	///
 	/// @param environment The environment, automatically injected by Spring.
@@ -72,6 +86,16 @@ public class MustacheWebConfiguration {
 		this.mustacheCompiler = mustacheCompiler;
 	}
 
+	/// Set executor used to resolve asynchronous model values: if not set, a dedicated pool is created (see
+	/// [#getAsyncModelThreads()]), and shut down with the application context.
+	///
+	/// @param asyncModelExecutor Executor, automatically injected by Spring if a bean named
+	///                           [#ASYNC_MODEL_EXECUTOR_BEAN_NAME] is available.
+	@Autowired(required = false)
+	public void setAsyncModelExecutor(@Qualifier(ASYNC_MODEL_EXECUTOR_BEAN_NAME) Executor asyncModelExecutor) {
+		this.asyncModelExecutor = asyncModelExecutor;
+	}
+
 	/// Build mustache view resolver.
 	///
 	/// This view resolver needs an instance of [com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler]
@@ -89,6 +113,12 @@ public class MustacheWebConfiguration {
 		String defaultLayout = getDefaultLayout();
 		String layoutKey = getLayoutKey();
 		Map<String, String> mappings = getLayoutMappings();
+		boolean bufferedRendering = getBufferedRendering();
+		List<String> flushMarkers = getFlushMarkers();
+		Map<String, List<String>> flushMarkersMappings = getFlushMarkersMappings();
+		boolean asyncModel = getAsyncModel();
+		boolean lazySuppliers = getLazySuppliers();
+		boolean modelPruning = getModelPruning();
 
 		log.info("Create mustache view resolver");
 
@@ -101,6 +131,12 @@ public class MustacheWebConfiguration {
 			log.trace("  => Default layout: {}", defaultLayout);
 			log.trace("  => Layout key: {}", layoutKey);
 			log.trace("  => Mappings: {}", mappings);
+			log.trace("  => Buffered rendering: {}", bufferedRendering);
+			log.trace("  => Flush markers: {}", flushMarkers);
+			log.trace("  => Flush markers mappings: {}", flushMarkersMappings);
+			log.trace("  => Async model: {}", asyncModel);
+			log.trace("  => Lazy suppliers: {}", lazySuppliers);
+			log.trace("  => Model pruning: {}", modelPruning);
 		}
 
 		MustacheViewResolver resolver = new MustacheViewResolver(mustacheCompiler);
@@ -110,6 +146,8 @@ public class MustacheWebConfiguration {
 		resolver.setOrder(order);
 		resolver.setViewNames(viewNames);
 		resolver.setLayoutKey(layoutKey);
+		resolver.setLazySuppliers(lazySuppliers);
+		resolver.setModelPruning(modelPruning);
 
 		if (defaultLayout != null && !defaultLayout.isEmpty()) {
 			resolver.setDefaultLayout(defaultLayout);
@@ -119,9 +157,93 @@ public class MustacheWebConfiguration {
 			resolver.setLayoutMappings(mappings);
 		}
 
+		if (!flushMarkers.isEmpty()) {
+			resolver.setFlushMarkers(flushMarkers);
+		}
+
+		if (!flushMarkersMappings.isEmpty()) {
+			resolver.setFlushMarkersMappings(flushMarkersMappings);
+		}
+
+		if (asyncModel) {
+			resolver.setAsyncModelResolver(mustacheAsyncModelResolver());
+		}
+
+		if (bufferedRendering) {
+			resolver.setBufferPool(new RenderBufferPool(getRenderBufferInitialSize(), getRenderBufferMaxRetainedSize(), getRenderBufferMaxRetainedCount()));
+		}
+
 		return resolver;
 	}
 
+	/// Build resolver of asynchronous model values, using the executor set with [#setAsyncModelExecutor(Executor)]
+	/// or a dedicated pool of threads, shut down when the resolver is destroyed.
+	///
+	/// This bean is created only if asynchronous model is enabled (see [#getAsyncModel()]).
+	///
+	/// @return Asynchronous model resolver.
+	@Bean
+	@Conditional(MustacheAsyncModelCondition.class)
+	public AsyncModelResolver mustacheAsyncModelResolver() {
+		long timeout = getAsyncModelTimeout();
+
+		log.info("Create mustache asynchronous model resolver");
+
+		if (log.isTraceEnabled()) {
+			log.trace("  => Executor: {}", asyncModelExecutor);
+			log.trace("  => Timeout: {}", timeout);
+		}
+
+		return asyncModelExecutor != null ?
+				new AsyncModelResolver(asyncModelExecutor, timeout) :
+				new AsyncModelResolver(getAsyncModelThreads(), timeout);
+	}
+
+	/// Build mustache template precompiler, compiling all templates when application context
+	/// is refreshed.
+	///
+	/// This bean is created only if precompilation is enabled (see [#getPrecompile()]).
+	///
+	/// @return Mustache template precompiler.
+	@Bean
+	@Conditional(MustachePrecompilationCondition.class)
+	public MustacheTemplatePrecompiler mustacheTemplatePrecompiler() {
+		String prefix = getPrefix();
+		String suffix = getSuffix();
+		int threads = getPrecompileThreads();
+
+		log.info("Create mustache template precompiler");
+
+		if (log.isTraceEnabled()) {
+			log.trace("  => Prefix: {}", prefix);
+			log.trace("  => Suffix: {}", suffix);
+			log.trace("  => Threads: {}", threads);
+		}
+
+		return new MustacheTemplatePrecompiler(mustacheCompiler, prefix, suffix, threads);
+	}
+
+	/// Build mustache template watcher, invalidating templates as soon as they are modified.
+	///
+	/// This bean is created only if template watch is enabled (see [#getWatch()]).
+	///
+	/// @return Mustache template watcher.
+	@Bean
+	@Conditional(MustacheWatchCondition.class)
+	public MustacheTemplateWatcher mustacheTemplateWatcher() {
+		String prefix = getPrefix();
+		String suffix = getSuffix();
+
+		log.info("Create mustache template watcher");
+
+		if (log.isTraceEnabled()) {
+			log.trace("  => Prefix: {}", prefix);
+			log.trace("  => Suffix: {}", suffix);
+		}
+
+		return new MustacheTemplateWatcher(mustacheCompiler, prefix, suffix);
+	}
+
 	/// Resolve views prefix value.
 	///
 	/// Default is to look for "mustache.prefix" property or use [com.github.mjeanroy.springmvc.view.mustache.MustacheSettings#PREFIX] if
@@ -162,6 +284,130 @@ public class MustacheWebConfiguration {
 		return Boolean.parseBoolean(environment.getProperty("mustache.cache", valueOf(MustacheSettings.CACHE)).trim());
 	}
 
+	/// Resolve template precompilation settings.
+	///
+	/// Default is to look for "mustache.precompile" property or use [MustacheSettings#PRECOMPILE] if
+	/// property cannot be resolved.
+	///
+	/// @return Precompilation settings.
+	public boolean getPrecompile() {
+		return isPrecompilationEnabled(environment);
+	}
+
+	/// Resolve the number of threads used to precompile templates.
+	///
+	/// Default is to look for "mustache.precompileThreads" property or use [MustacheSettings#PRECOMPILE_THREADS] if
+	/// property cannot be resolved (i.e. the number of available processors).
+	///
+	/// @return Number of threads.
+	public int getPrecompileThreads() {
+		return Integer.parseInt(environment.getProperty("mustache.precompileThreads", valueOf(MustacheSettings.PRECOMPILE_THREADS)).trim());
+	}
+
+	/// Resolve template watch settings.
+	///
+	/// Default is to look for "mustache.watch" property or use [MustacheSettings#WATCH] if
+	/// property cannot be resolved.
+	///
+	/// @return Template watch settings.
+	public boolean getWatch() {
+		return isWatchEnabled(environment);
+	}
+
+	/// Resolve buffered rendering settings: if enabled, templates are rendered in a reusable buffer
+	/// before being written to the response.
+	///
+	/// Default is to look for "mustache.bufferedRendering" property or use [MustacheSettings#BUFFERED_RENDERING] if
+	/// property cannot be resolved.
+	///
+	/// @return Buffered rendering settings.
+	public boolean getBufferedRendering() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.bufferedRendering", valueOf(MustacheSettings.BUFFERED_RENDERING)).trim());
+	}
+
+	/// Resolve initial size (in characters) of buffers used for buffered rendering.
+	///
+	/// Default is to look for "mustache.renderBufferInitialSize" property or use [MustacheSettings#RENDER_BUFFER_INITIAL_SIZE] if
+	/// property cannot be resolved.
+	///
+	/// @return Initial size.
+	public int getRenderBufferInitialSize() {
+		return Integer.parseInt(environment.getProperty("mustache.renderBufferInitialSize", valueOf(MustacheSettings.RENDER_BUFFER_INITIAL_SIZE)).trim());
+	}
+
+	/// Resolve maximum size (in characters) of buffers retained after buffered rendering.
+	///
+	/// Default is to look for "mustache.renderBufferMaxRetainedSize" property or use [MustacheSettings#RENDER_BUFFER_MAX_RETAINED_SIZE] if
+	/// property cannot be resolved.
+	///
+	/// @return Maximum retained size.
+	public int getRenderBufferMaxRetainedSize() {
+		return Integer.parseInt(environment.getProperty("mustache.renderBufferMaxRetainedSize", valueOf(MustacheSettings.RENDER_BUFFER_MAX_RETAINED_SIZE)).trim());
+	}
+
+	/// Resolve maximum number of idle buffers retained after buffered rendering.
+	///
+	/// Default is to look for "mustache.renderBufferMaxRetainedCount" property or use [MustacheSettings#RENDER_BUFFER_MAX_RETAINED_COUNT] if
+	/// property cannot be resolved.
+	///
+	/// @return Maximum number of retained buffers.
+	public int getRenderBufferMaxRetainedCount() {
+		return Integer.parseInt(environment.getProperty("mustache.renderBufferMaxRetainedCount", valueOf(MustacheSettings.RENDER_BUFFER_MAX_RETAINED_COUNT)).trim());
+	}
+
+	/// Resolve asynchronous model settings: if enabled, asynchronous model values (such as
+	/// [java.util.concurrent.CompletableFuture]) are resolved concurrently before rendering.
+	///
+	/// Default is to look for "mustache.asyncModel" property or use [MustacheSettings#ASYNC_MODEL] if
+	/// property cannot be resolved.
+	///
+	/// @return Asynchronous model settings.
+	public boolean getAsyncModel() {
+		return isAsyncModelEnabled(environment);
+	}
+
+	/// Resolve the number of threads used to resolve asynchronous model values.
+	///
+	/// Default is to look for "mustache.asyncModelThreads" property or use [MustacheSettings#ASYNC_MODEL_THREADS] if
+	/// property cannot be resolved (i.e. the number of available processors).
+	///
+	/// @return Number of threads.
+	public int getAsyncModelThreads() {
+		return Integer.parseInt(environment.getProperty("mustache.asyncModelThreads", valueOf(MustacheSettings.ASYNC_MODEL_THREADS)).trim());
+	}
+
+	/// Resolve maximum time (in milliseconds) to wait for asynchronous model values before rendering.
+	///
+	/// Default is to look for "mustache.asyncModelTimeout" property or use [MustacheSettings#ASYNC_MODEL_TIMEOUT] if
+	/// property cannot be resolved (i.e. no deadline).
+	///
+	/// @return Timeout.
+	public long getAsyncModelTimeout() {
+		return Long.parseLong(environment.getProperty("mustache.asyncModelTimeout", valueOf(MustacheSettings.ASYNC_MODEL_TIMEOUT)).trim());
+	}
+
+	/// Resolve lazy suppliers settings: if enabled, each [java.util.function.Supplier] model value is computed
+	/// only if the rendered template reads it.
+	///
+	/// Default is to look for "mustache.lazySuppliers" property or use [MustacheSettings#LAZY_SUPPLIERS] if
+	/// property cannot be resolved.
+	///
+	/// @return Lazy suppliers settings.
+	public boolean getLazySuppliers() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.lazySuppliers", valueOf(MustacheSettings.LAZY_SUPPLIERS)).trim());
+	}
+
+	/// Resolve model pruning settings: if enabled, rendered model contains only the values of variables that
+	/// the template may read.
+	///
+	/// Default is to look for "mustache.modelPruning" property or use [MustacheSettings#MODEL_PRUNING] if
+	/// property cannot be resolved.
+	///
+	/// @return Model pruning settings.
+	public boolean getModelPruning() {
+		return Boolean.parseBoolean(environment.getProperty("mustache.modelPruning", valueOf(MustacheSettings.MODEL_PRUNING)).trim());
+	}
+
 	/// Resolve default layout to use.
 	///
 	/// This layout can be used to define template to be used as main layout and render
@@ -225,6 +471,95 @@ public class MustacheWebConfiguration {
 		return unmodifiableMap(mappings);
 	}
 
+	/// Resolve markers after which views flush the response during rendering.
+	///
+	/// Default is to look for "mustache.flushMarkers" property (comma separated markers, such as `</head>`) or
+	/// use [MustacheSettings#FLUSH_MARKERS] if property cannot be resolved.
+	///
+	/// @return Flush markers.
+	public List<String> getFlushMarkers() {
+		return parseFlushMarkers(environment.getProperty("mustache.flushMarkers", MustacheSettings.FLUSH_MARKERS));
+	}
+
+	/// Resolve flush markers mappings, defining markers for given views.
+	///
+	/// Default is to look for "mustache.flushMarkersMappings" property (using `[viewName]:[marker],[marker];[viewName]:[marker]`
+	/// format) or use [MustacheSettings#FLUSH_MARKERS_MAPPINGS] if property cannot be resolved.
+	///
+	/// @return Flush markers mappings.
+	public Map<String, List<String>> getFlushMarkersMappings() {
+		String mappingsValues = environment.getProperty("mustache.flushMarkersMappings", MustacheSettings.FLUSH_MARKERS_MAPPINGS).trim();
+
+		if (mappingsValues.isEmpty()) {
+			return emptyMap();
+		}
+
+		Map<String, List<String>> mappings = new HashMap<>();
+		for (String value : mappingsValues.split(";")) {
+			String val = value.trim();
+			if (val.isEmpty()) {
+				continue;
+			}
+
+			String[] mapping = val.split(":", 2);
+			if (mapping.length != 2) {
+				throw new IllegalArgumentException("Mapping must use [viewName]:[marker],[marker] format!");
+			}
+
+			mappings.put(mapping[0].trim(), parseFlushMarkers(mapping[1]));
+		}
+
+		return unmodifiableMap(mappings);
+	}
+
+	private static List<String> parseFlushMarkers(String value) {
+		List<String> markers = new ArrayList<>();
+		for (String marker : value.split(",")) {
+			String val = marker.trim();
+			if (!val.isEmpty()) {
+				markers.add(val);
+			}
+		}
+
+		return unmodifiableList(markers);
+	}
+
+	private static boolean isPrecompilationEnabled(Environment environment) {
+		return Boolean.parseBoolean(environment.getProperty("mustache.precompile", valueOf(MustacheSettings.PRECOMPILE)).trim());
+	}
+
+	private static boolean isAsyncModelEnabled(Environment environment) {
+		return Boolean.parseBoolean(environment.getProperty("mustache.asyncModel", valueOf(MustacheSettings.ASYNC_MODEL)).trim());
+	}
+
+	private static boolean isWatchEnabled(Environment environment) {
+		return Boolean.parseBoolean(environment.getProperty("mustache.watch", valueOf(MustacheSettings.WATCH)).trim());
+	}
+
+	private static class MustacheWatchCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return isWatchEnabled(context.getEnvironment());
+		}
+	}
+
+	private static class MustacheAsyncModelCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return isAsyncModelEnabled(context.getEnvironment());
+		}
+	}
+
+	private static class MustachePrecompilationCondition implements Condition {
+
+		@Override
+		public boolean matches(ConditionContext context, AnnotatedTypeMetadata metadata) {
+			return isPrecompilationEnabled(context.getEnvironment());
+		}
+	}
+
 	private static class MustacheViewResolverCondition implements Condition {
 
 		@Override
@@ -30,8 +30,11 @@ import com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver;
 import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheEngineConfiguration;
 import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheTemplateLoaderConfiguration;
 import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheWebConfiguration;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.micrometer.MustacheMetricsConfiguration;
 import org.springframework.boot.autoconfigure.AutoConfigureBefore;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnClass;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnMissingBean;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnWebApplication;
 import org.springframework.boot.autoconfigure.mustache.MustacheAutoConfiguration;
 import org.springframework.context.annotation.Configuration;
@@ -41,6 +44,7 @@ import org.springframework.context.annotation.Import;
 /// - Template loader.
 /// - Mustache engine (auto detected).
 /// - Spring View Resolver.
+/// - Micrometer metrics (if Micrometer is available on the classpath).
 @Configuration
 @AutoConfigureBefore(MustacheAutoConfiguration.class)
 public class SpringMustacheAutoConfiguration {
@@ -71,6 +75,20 @@ public class SpringMustacheAutoConfiguration {
 		}
 	}
 
+	/// Auto configuration for Micrometer metrics, enabled if Micrometer is available and unless
+	/// `mustache.metrics.enabled` is set to `false`.
+	@Configuration
+	@AutoConfigureBefore(MustacheAutoConfiguration.class)
+	@ConditionalOnClass(name = "io.micrometer.core.instrument.binder.MeterBinder")
+	@ConditionalOnProperty(name = "mustache.metrics.enabled", havingValue = "true", matchIfMissing = true)
+	@ConditionalOnMissingBean(type = "com.github.mjeanroy.springmvc.view.mustache.micrometer.MustacheMetricsBinder")
+	@Import(MustacheMetricsConfiguration.class)
+	public static class MustacheMetricsAutoConfiguration {
+		/// Create configuration.
+		public MustacheMetricsAutoConfiguration() {
+		}
+	}
+
 	/// Auto configuration for spring web.
 	@Configuration
 	@AutoConfigureBefore(MustacheAutoConfiguration.class)
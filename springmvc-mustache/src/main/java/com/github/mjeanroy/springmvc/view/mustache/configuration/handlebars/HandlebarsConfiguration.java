@@ -27,6 +27,7 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration.handlebars;
 import com.github.jknack.handlebars.Handlebars;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheCompilerConfigurer;
 import com.github.mjeanroy.springmvc.view.mustache.handlebars.HandlebarsCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
@@ -77,7 +78,7 @@ public class HandlebarsConfiguration {
 	@Bean
 	public MustacheCompiler mustacheCompiler(Handlebars handlebars, MustacheTemplateLoader templateLoader) {
 		log.info("Create handlebar compiler");
-		return new HandlebarsCompiler(handlebars, templateLoader);
+		return new MustacheCompilerConfigurer(environment).configure(new HandlebarsCompiler(handlebars, templateLoader));
 	}
 
 	/// Build original [com.github.jknack.handlebars.Handlebars] compiler
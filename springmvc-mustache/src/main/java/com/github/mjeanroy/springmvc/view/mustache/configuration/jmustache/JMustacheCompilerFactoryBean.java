@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache;
 
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.AccessorCollector;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import com.samskivert.mustache.Mustache;
@@ -78,6 +79,10 @@ public class JMustacheCompilerFactoryBean extends AbstractFactoryBean<Mustache.C
 	/// @see com.samskivert.mustache.Mustache.Compiler#standardsMode
 	private Boolean standardsMode;
 
+	/// Whether or not variables are fetched with generated accessors, instead of reflection (see
+	/// [AccessorCollector]).
+	private Boolean generatedAccessors;
+
 	/// List of customizers that will be applied on [Mustache.Compiler] instance
 	/// before creating object instance.
 	private Collection<JMustacheCustomizer> customizers;
@@ -93,6 +98,7 @@ public class JMustacheCompilerFactoryBean extends AbstractFactoryBean<Mustache.C
 		this.escapeHTML = true;
 		this.strictSections = false;
 		this.standardsMode = false;
+		this.generatedAccessors = false;
 	}
 
 	@Override
@@ -110,6 +116,7 @@ public class JMustacheCompilerFactoryBean extends AbstractFactoryBean<Mustache.C
 		log.debug(" - escapeHTML = {}", escapeHTML);
 		log.debug(" - strictSections = {}", strictSections);
 		log.debug(" - standardsMode = {}", standardsMode);
+		log.debug(" - generatedAccessors = {}", generatedAccessors);
 
 		Mustache.Compiler compiler = Mustache.compiler();
 
@@ -141,6 +148,10 @@ public class JMustacheCompilerFactoryBean extends AbstractFactoryBean<Mustache.C
 			compiler = compiler.standardsMode(standardsMode);
 		}
 
+		if (generatedAccessors != null && generatedAccessors) {
+			compiler = compiler.withCollector(new AccessorCollector());
+		}
+
 		if (customizers != null && !customizers.isEmpty()) {
 			log.debug("Applying JMustache customizers");
 			for (JMustacheCustomizer customizer : customizers) {
@@ -201,6 +212,13 @@ public class JMustacheCompilerFactoryBean extends AbstractFactoryBean<Mustache.C
 		this.standardsMode = standardsMode;
 	}
 
+	/// Set [#generatedAccessors]
+	///
+	/// @param generatedAccessors [#generatedAccessors]
+	public void setGeneratedAccessors(boolean generatedAccessors) {
+		this.generatedAccessors = generatedAccessors;
+	}
+
 	/// Set [#customizers]
 	///
 	/// @param customizers [#customizers]
@@ -26,6 +26,7 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheCompilerConfigurer;
 import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
@@ -78,7 +79,7 @@ public class JMustacheConfiguration {
 	@Bean
 	public MustacheCompiler mustacheCompiler(Mustache.Compiler compiler, MustacheTemplateLoader templateLoader) {
 		log.info("Create JMustache compiler");
-		return new JMustacheCompiler(compiler, templateLoader);
+		return new MustacheCompilerConfigurer(environment).configure(new JMustacheCompiler(compiler, templateLoader));
 	}
 
 	/// Build original jmustache [Compiler] that will be used
@@ -124,6 +125,11 @@ public class JMustacheConfiguration {
 			factoryBean.setStandardsMode(standardsMode);
 		}
 
+		Boolean generatedAccessors = getGeneratedAccessors();
+		if (generatedAccessors != null) {
+			factoryBean.setGeneratedAccessors(generatedAccessors);
+		}
+
 		if (customizers != null && !customizers.isEmpty()) {
 			factoryBean.setCustomizers(unmodifiableCollection(customizers));
 		}
@@ -158,4 +164,8 @@ public class JMustacheConfiguration {
 	private Boolean getStandardsMode() {
 		return environment.getProperty("mustache.jmustache.standardsMode", Boolean.class);
 	}
+
+	private Boolean getGeneratedAccessors() {
+		return environment.getProperty("mustache.jmustache.generatedAccessors", Boolean.class);
+	}
 }
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import com.github.mjeanroy.springmvc.view.mustache.micrometer.MustacheMetricsBinder;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+/// Configure Micrometer metrics of mustache compiler: the meter binder is automatically bound to
+/// the application meter registry with Spring Boot Actuator.
+@Configuration
+public class MustacheMetricsConfiguration {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheMetricsConfiguration.class);
+
+	private final Environment environment;
+
+	/// Create configuration with with given environment.
+	///
+	/// @param environment Environment, typically automatically injected by Spring.
+	@Autowired
+	public MustacheMetricsConfiguration(Environment environment) {
+		this.environment = environment;
+	}
+
+	/// Build meter binder recording mustache metrics.
+	///
+	/// @param mustacheCompiler The mustache compiler.
+	/// @return The meter binder.
+	@Bean
+	public MustacheMetricsBinder mustacheMetricsBinder(MustacheCompiler mustacheCompiler) {
+		int maxTemplates = getMaxTemplates();
+
+		log.info("Create mustache metrics binder");
+		log.debug(" - maxTemplates = {}", maxTemplates);
+
+		return new MustacheMetricsBinder(mustacheCompiler, maxTemplates);
+	}
+
+	/// Resolve the maximum number of template locations tracked by metrics (i.e. the maximum number of
+	/// values of the `template` tag).
+	///
+	/// Default is to look for "mustache.metrics.maxTemplates" property or use [MustacheSettings#METRICS_MAX_TEMPLATES]
+	/// if property cannot be resolved.
+	///
+	/// @return Maximum number of tracked templates.
+	public int getMaxTemplates() {
+		return environment.getProperty("mustache.metrics.maxTemplates", Integer.class, MustacheSettings.METRICS_MAX_TEMPLATES);
+	}
+}
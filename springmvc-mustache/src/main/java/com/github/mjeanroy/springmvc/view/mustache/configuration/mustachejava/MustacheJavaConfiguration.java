@@ -26,6 +26,7 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheCompilerConfigurer;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import com.github.mjeanroy.springmvc.view.mustache.mustachejava.MustacheJavaCompiler;
@@ -77,7 +78,7 @@ public class MustacheJavaConfiguration {
 	@Bean
 	public MustacheCompiler mustacheCompiler(MustacheFactory mustacheFactory, MustacheTemplateLoader templateLoader) {
 		log.info("Create mustache.java compiler");
-		return new MustacheJavaCompiler(mustacheFactory, templateLoader);
+		return new MustacheCompilerConfigurer(environment).configure(new MustacheJavaCompiler(mustacheFactory, templateLoader));
 	}
 
 	/// The mustache template resolver, use [MustacheTemplateLoader].
@@ -97,9 +98,11 @@ public class MustacheJavaConfiguration {
 	@Bean
 	public MustacheFactory mustacheFactory(MustacheResolver mustacheResolver, MustacheTemplateLoader templateLoader) {
 		Integer recursionLimit = getRecursionLimit();
+		boolean generatedAccessors = getGeneratedAccessors();
 
 		log.debug("Creating mustache factory");
 		log.debug(" - recursionLimit = {}", recursionLimit);
+		log.debug(" - generatedAccessors = {}", generatedAccessors);
 
 		SpringMustacheFactory factory = new SpringMustacheFactory(mustacheResolver, templateLoader);
 
@@ -107,6 +110,10 @@ public class MustacheJavaConfiguration {
 			factory.setRecursionLimit(recursionLimit);
 		}
 
+		if (generatedAccessors) {
+			factory.setGeneratedAccessors(true);
+		}
+
 		if (customizers != null && !customizers.isEmpty()) {
 			log.debug("Applying mustache factory customizers");
 			for (MustacheJavaCustomizer customizer : customizers) {
@@ -121,4 +128,8 @@ public class MustacheJavaConfiguration {
 	private Integer getRecursionLimit() {
 		return environment.getProperty("mustache.mustachejava.recursionLimit", Integer.class);
 	}
+
+	private boolean getGeneratedAccessors() {
+		return environment.getProperty("mustache.mustachejava.generatedAccessors", Boolean.class, false);
+	}
 }
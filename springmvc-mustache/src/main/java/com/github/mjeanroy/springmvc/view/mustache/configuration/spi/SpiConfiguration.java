@@ -26,11 +26,14 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration.spi;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.MustacheCompilerConfigurer;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheCompilerProviderException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -43,8 +46,14 @@ public class SpiConfiguration {
 
 	private static final Logger log = LoggerFactory.getLogger(SpiConfiguration.class);
 
-	/// Create configuration.
-	public SpiConfiguration() {
+	private final Environment environment;
+
+	/// Create configuration with given environment.
+	///
+	/// @param environment Environment, typically automatically injected by Spring.
+	@Autowired
+	public SpiConfiguration(Environment environment) {
+		this.environment = environment;
 	}
 
 	/// Create mustache compiler by loading available implementation from the SPI
@@ -75,6 +84,6 @@ public class SpiConfiguration {
 			}
 		}
 
-		return providers.get(0).mustacheCompiler(templateLoader);
+		return new MustacheCompilerConfigurer(environment).configure(providers.get(0).mustacheCompiler(templateLoader));
 	}
 }
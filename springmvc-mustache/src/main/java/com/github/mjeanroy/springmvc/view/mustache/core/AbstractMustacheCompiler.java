@@ -25,13 +25,21 @@
 package com.github.mjeanroy.springmvc.view.mustache.core;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheCompilationException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateCache.TemplateKey;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
 
@@ -45,47 +53,362 @@ public abstract class AbstractMustacheCompiler implements MustacheCompiler {
 	/// and partials.
 	protected final MustacheTemplateLoader templateLoader;
 
+	/// Cache of compiled templates, so that templates and partials are not
+	/// read and parsed on each rendering.
+	private final MustacheTemplateCache cache;
+
+	/// Compilations in progress: concurrent callers requesting the same template while it is being compiled
+	/// wait for this compilation, instead of compiling the same template again.
+	private final ConcurrentMap<TemplateKey, CompletableFuture<MustacheTemplate>> compilations;
+
+	/// Dependencies between compiled templates and the templates they load, used to evict
+	/// compiled templates when one of their partials is modified.
+	private final MustacheTemplateDependencyGraph dependencies;
+
+	/// Metrics, disabled by default.
+	// Volatile because it can be accessed by more than one thread
+	private volatile MustacheMetrics metrics;
+
+	/// Pre-encoding settings, disabled by default.
+	// Volatile because it can be accessed by more than one thread
+	private volatile boolean preEncoding;
+
+	/// Pool of static text segments, disabled (i.e. `null`) by default.
+	// Volatile because it can be accessed by more than one thread
+	private volatile StaticTextPool staticTextPool;
+
 	/// Build new compiler.
 	///
 	/// @param templateLoader Template loader to use.
 	protected AbstractMustacheCompiler(MustacheTemplateLoader templateLoader) {
 		this.templateLoader = notNull(templateLoader, "Template loader must not be null");
+		this.cache = new MustacheTemplateCache(MustacheSettings.TEMPLATE_CACHE_LIMIT);
+		this.compilations = new ConcurrentHashMap<>();
+		this.dependencies = new MustacheTemplateDependencyGraph();
+		this.metrics = NoopMustacheMetrics.getInstance();
 	}
 
 	@Override
 	public MustacheTemplate compile(String name) {
+		notNull(name, "Template name must not be null");
+		return compile(name, RenderContext.of(templateLoader.getPartialAliases()));
+	}
+
+	@Override
+	public MustacheTemplate compile(String name, RenderContext context) {
 		log.debug("Compile template: {}", name);
 		notNull(name, "Template name must not be null");
+		notNull(context, "Render context must not be null");
+
+		String location = templateLoader.resolve(name, context);
+		if (!cache.isEnabled()) {
+			return compileTemplate(name, context, location);
+		}
+
+		TemplateKey key = new TemplateKey(location, context.getPartialAliases());
+		MustacheTemplate template = cache.get(key);
+		if (template != null) {
+			log.trace("Template {} found in cache", key);
+			metrics.recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, true);
+			return template;
+		}
+
+		log.trace("Template {} not found in cache, compile it", key);
+		metrics.recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, false);
+		return compileOnce(key.snapshot(), name, context, location);
+	}
+
+	/// Compile template and put it in the cache, unless the same template is already being compiled by another
+	/// thread: in this case, wait for this compilation and returns its result (or rethrow its failure).
+	///
+	/// A failed compilation is never cached: next call will try to compile the template again. A template
+	/// compiled while templates are invalidated is not cached either, since it may have been compiled from
+	/// stale sources.
+	///
+	/// @param key Template key (immutable).
+	/// @param name Template name.
+	/// @param context Render context.
+	/// @param location Resolved template location.
+	/// @return Compiled template.
+	private MustacheTemplate compileOnce(TemplateKey key, String name, RenderContext context, String location) {
+		final CompletableFuture<MustacheTemplate> future = new CompletableFuture<>();
+		final CompletableFuture<MustacheTemplate> compilation = compilations.putIfAbsent(key, future);
+		if (compilation != null) {
+			log.trace("Template {} is being compiled, wait for compilation", key);
+			return await(compilation);
+		}
 
 		try {
-			return doCompile(name);
+			// Read generation before cache lookup: templates invalidated from now on must not be cached by this compilation.
+			final long generation = cache.getGeneration();
+
+			// Template may have been compiled (and cached) since cache lookup.
+			MustacheTemplate template = cache.get(key);
+			if (template == null) {
+				template = compileTemplate(name, context, location);
+				cache.put(key, template, generation);
+			}
+
+			future.complete(template);
+			return template;
+		}
+		catch (RuntimeException | Error ex) {
+			future.completeExceptionally(ex);
+			throw ex;
+		}
+		finally {
+			compilations.remove(key, future);
+		}
+	}
+
+	private static MustacheTemplate await(CompletableFuture<MustacheTemplate> compilation) {
+		try {
+			return compilation.join();
+		}
+		catch (CompletionException ex) {
+			// Compilations only fail with unchecked exceptions (see compileOnce).
+			final Throwable cause = ex.getCause();
+			if (cause instanceof Error) {
+				throw (Error) cause;
+			}
+
+			throw (RuntimeException) cause;
+		}
+	}
+
+	private MustacheTemplate compileTemplate(String name, RenderContext context, String location) {
+		final MustacheMetrics metrics = this.metrics;
+		final long start = System.nanoTime();
+		final MustacheTemplate template;
+
+		try {
+			template = doCompile(name, context, new DependencyRecordingTemplateLoader(templateLoader, dependencies, location));
 		}
 		catch (Exception ex) {
 			throw new MustacheCompilationException(ex);
 		}
+
+		if (metrics == NoopMustacheMetrics.getInstance()) {
+			return template;
+		}
+
+		metrics.recordCompile(location, System.nanoTime() - start);
+		return new InstrumentedMustacheTemplate(template, location, metrics);
+	}
+
+	/// Process template compilation, loading templates and partials with given template loader.
+	///
+	/// Given template loader records each loaded template in the dependency graph of this compiler (see
+	/// [#getDependencyGraph()]), so that compiled templates can be evicted when one of their partials is
+	/// modified: it must be used to load the template and its partials (including partials loaded lazily,
+	/// during rendering).
+	///
+	/// Default implementation ignores given template loader and delegates to [#doCompile(String, RenderContext)]:
+	/// dependencies of compiled templates are then unknown, and compiled templates are evicted each time
+	/// a template is invalidated.
+	///
+	/// @param name Template name.
+	/// @param context Render context.
+	/// @param templateLoader Template loader to use.
+	/// @return Mustache template.
+	/// @throws Exception If something bad happens (will be catched and rethrows).
+	protected MustacheTemplate doCompile(String name, RenderContext context, MustacheTemplateLoader templateLoader) throws Exception {
+		return doCompile(name, context);
 	}
 
 	/// Process template compilation.
 	///
+	/// Template, and its partials, must be resolved using given render context: the
+	/// context must be bound to the compiled template, since partials may be loaded
+	/// lazily, during rendering.
+	///
 	/// This methods should rethrows exception since it will be
 	/// catches later (and a new [MustacheCompilationException] will
 	/// be thrown).
 	///
+	/// Default implementation ignores given render context and delegates to the deprecated [#doCompile(String)],
+	/// so that compilers implementing the previous contract are still supported: implementations should override
+	/// this method.
+	///
 	/// @param name Template name.
+	/// @param context Render context.
 	/// @return Mustache template.
 	/// @throws Exception If something bad happens (will be catched and rethrows).
-	protected abstract MustacheTemplate doCompile(String name) throws Exception;
+	protected MustacheTemplate doCompile(String name, RenderContext context) throws Exception {
+		return doCompile(name);
+	}
+
+	/// Process template compilation, without any render context.
+	///
+	/// @param name Template name.
+	/// @return Mustache template.
+	/// @throws Exception If something bad happens (will be catched and rethrows).
+	/// @deprecated Partials must be resolved using the render context, override [#doCompile(String, RenderContext)] instead.
+	@Deprecated
+	protected MustacheTemplate doCompile(String name) throws Exception {
+		throw new UnsupportedOperationException("Compiler must implement doCompile(String, RenderContext)");
+	}
+
+	/// Set the maximum number of compiled templates kept in the cache.
+	///
+	/// @param cacheLimit Maximum number of cached templates, `0` to disable cache.
+	public void setCacheLimit(int cacheLimit) {
+		log.trace("Set compiler cache limit: {}", cacheLimit);
+		cache.setLimit(cacheLimit);
+	}
+
+	/// Get the maximum number of compiled templates kept in the cache.
+	///
+	/// @return Cache limit, `0` if cache is disabled.
+	public int getCacheLimit() {
+		return cache.getLimit();
+	}
+
+	/// Set metrics recording compilation, rendering and cache accesses of this compiler: metrics are
+	/// also set on the template loader if it is a [DefaultTemplateLoader].
+	///
+	/// Compiled templates are evicted from the cache, so that all templates are recorded.
+	///
+	/// @param metrics Metrics.
+	public void setMetrics(MustacheMetrics metrics) {
+		log.trace("Set compiler metrics: {}", metrics);
+		this.metrics = notNull(metrics, "Metrics must not be null");
+
+		if (templateLoader instanceof DefaultTemplateLoader) {
+			((DefaultTemplateLoader) templateLoader).setMetrics(metrics);
+		}
+
+		clearCache();
+	}
+
+	/// Get metrics recording compilation, rendering and cache accesses of this compiler.
+	///
+	/// @return Metrics.
+	public MustacheMetrics getMetrics() {
+		return metrics;
+	}
+
+	/// Enable (or disable) pre-encoding: if enabled, static text segments of compiled templates are encoded,
+	/// at compilation time, with the charset of the template loader (see [PreEncodedTemplate]), so that only
+	/// dynamic values are encoded during rendering.
+	///
+	/// Pre-encoding is supported only by compilers exposing static text segments of compiled templates: other
+	/// compilers ignore this setting. Only static text of the compiled template itself is pre-encoded: with JMustache,
+	/// partials (and layouts) are loaded lazily during rendering, so their static text is encoded during rendering,
+	/// as dynamic values are.
+	///
+	/// Compiled templates are evicted from the cache, so that all templates are compiled with this setting.
+	///
+	/// @param preEncoding Pre-encoding settings.
+	public void setPreEncoding(boolean preEncoding) {
+		log.trace("Set compiler pre-encoding: {}", preEncoding);
+		this.preEncoding = preEncoding;
+		clearCache();
+	}
+
+	/// Check if static text segments of compiled templates are encoded at compilation time.
+	///
+	/// @return `true` if pre-encoding is enabled, `false` otherwise.
+	public boolean isPreEncoding() {
+		return preEncoding;
+	}
+
+	/// Set the pool used to share static text segments between compiled templates (`null` to disable pooling).
+	///
+	/// Pooling is supported only by compilers calling [#internStaticText(String)] for the static text segments they
+	/// create (mustache.java and the compiled engine): other compilers, such as JMustache and Handlebars, ignore
+	/// this setting.
+	///
+	/// Compiled templates are evicted from the cache, so that all templates are compiled with this setting.
+	///
+	/// @param staticTextPool Pool of static text segments.
+	public void setStaticTextPool(StaticTextPool staticTextPool) {
+		log.trace("Set compiler static text pool: {}", staticTextPool);
+		this.staticTextPool = staticTextPool;
+		clearCache();
+	}
+
+	/// Get the pool used to share static text segments between compiled templates.
+	///
+	/// @return Pool of static text segments, `null` if pooling is disabled.
+	public StaticTextPool getStaticTextPool() {
+		return staticTextPool;
+	}
+
+	/// Get pooled instance of given static text segment: should be called by compilers, at compilation time,
+	/// for each static text segment of a compiled template.
+	///
+	/// @param text Static text segment.
+	/// @return Pooled text, or given text if pooling is disabled.
+	protected String internStaticText(String text) {
+		final StaticTextPool pool = staticTextPool;
+		return pool == null ? text : pool.intern(text);
+	}
+
+	/// Remove all compiled templates from the cache.
+	public void clearCache() {
+		cache.clear();
+		dependencies.clear();
+		compilations.clear();
+	}
+
+	/// Get the dependency graph between compiled templates and the templates they load.
+	///
+	/// @return Dependency graph.
+	public MustacheTemplateDependencyGraph getDependencyGraph() {
+		return dependencies;
+	}
+
+	/// Invalidate given template location, typically because template has been modified, created
+	/// or removed: cached source of this template is evicted from the template loader (if supported),
+	/// and compiled templates depending on this template (including the template itself) are evicted
+	/// from the cache.
+	///
+	/// @param location Resolved template location.
+	public void invalidate(String location) {
+		log.debug("Invalidate template: {}", location);
+		notNull(location, "Template location must not be null");
+
+		if (templateLoader instanceof DefaultTemplateLoader) {
+			((DefaultTemplateLoader) templateLoader).invalidate(location);
+		}
+
+		Set<String> roots = dependencies.getInvalidated(location);
+		int evicted = cache.evict(roots);
+		for (String root : roots) {
+			dependencies.remove(root);
+		}
+
+		// Compilations in progress may have read the invalidated source: next callers must not wait for them.
+		compilations.clear();
+
+		log.debug("Template {} invalidated, {} compiled template(s) evicted", location, evicted);
+	}
+
+	/// Invalidate all templates: compiled templates, and cached sources (if supported by the
+	/// template loader), are evicted.
+	public void invalidateAll() {
+		log.debug("Invalidate all templates");
+
+		if (templateLoader instanceof DefaultTemplateLoader) {
+			((DefaultTemplateLoader) templateLoader).clearSourceCache();
+		}
+
+		clearCache();
+	}
 
 	@Override
 	public void setPrefix(String prefix) {
 		log.trace("Set compiler prefix: {}", prefix);
 		templateLoader.setPrefix(notNull(prefix, "Prefix must not be null"));
+		clearCache();
 	}
 
 	@Override
 	public void setSuffix(String suffix) {
 		log.trace("Set compiler suffix: '{}'", suffix);
 		templateLoader.setSuffix(notNull(suffix, "Suffix must not be null"));
+		clearCache();
 	}
 
 	@Override
@@ -99,6 +422,7 @@ public abstract class AbstractMustacheCompiler implements MustacheCompiler {
 	}
 
 	@Override
+	@Deprecated
 	public void addTemporaryPartialAliases(Map<String, String> partialAliases) {
 		notNull(partialAliases, "Partial aliases must not be null");
 
@@ -113,6 +437,7 @@ public abstract class AbstractMustacheCompiler implements MustacheCompiler {
 	}
 
 	@Override
+	@Deprecated
 	public void removeTemporaryPartialAliases() {
 		log.debug("Remove temporary partial aliases");
 		templateLoader.removeTemporaryPartialAliases();
@@ -0,0 +1,273 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.AsyncValue;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheModelResolutionException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.beans.factory.DisposableBean;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.lang.String.format;
+
+/// Resolve asynchronous model values before rendering, so that templates are rendered with plain values, whatever
+/// the template engine.
+///
+/// Top-level model values that are instances of:
+///
+/// - [CompletionStage] (such as [CompletableFuture]) are awaited.
+/// - [AsyncValue] are computed, concurrently, on the executor of this resolver.
+///
+/// Other values, including plain [java.util.concurrent.Callable] or [java.util.function.Supplier], are left
+/// untouched: values are computed on another thread only when they are explicitly asynchronous, since thread-bound
+/// context (such as request attributes) is not available there.
+///
+/// All values are awaited until a global deadline (see [#getTimeout()]): if a value cannot be resolved before
+/// this deadline, or if it fails, a [MustacheModelResolutionException] is thrown and the template is not rendered.
+///
+/// When the resolver creates its own pool of threads, this pool is shut down when the resolver is destroyed
+/// (see [#destroy()]).
+///
+/// This class is thread safe.
+public final class AsyncModelResolver implements DisposableBean {
+
+	private static final Logger log = LoggerFactory.getLogger(AsyncModelResolver.class);
+
+	/// Executor running [AsyncValue] model values.
+	private final Executor executor;
+
+	/// Pool of threads created by this resolver, `null` if the executor has been given.
+	private final ExecutorService ownedExecutor;
+
+	/// Maximum time (in milliseconds) to wait for model values, a negative value means no deadline.
+	private final long timeout;
+
+	/// Create resolver running [AsyncValue] model values on given executor: this executor is owned by the caller,
+	/// and is never shut down by this resolver.
+	///
+	/// @param executor The executor.
+	/// @param timeout Maximum time (in milliseconds) to wait for model values, a negative value means no deadline.
+	public AsyncModelResolver(Executor executor, long timeout) {
+		this(notNull(executor, "Executor must not be null"), timeout, false);
+	}
+
+	/// Create resolver running [AsyncValue] model values on a dedicated pool of daemon threads, shut down when
+	/// this resolver is destroyed.
+	///
+	/// @param threads Maximum number of threads, `0` to use the number of available processors.
+	/// @param timeout Maximum time (in milliseconds) to wait for model values, a negative value means no deadline.
+	public AsyncModelResolver(int threads, long timeout) {
+		this(newExecutor(threads), timeout, true);
+	}
+
+	private AsyncModelResolver(Executor executor, long timeout, boolean owned) {
+		this.executor = executor;
+		this.ownedExecutor = owned ? (ExecutorService) executor : null;
+		this.timeout = timeout;
+	}
+
+	private static ExecutorService newExecutor(int threads) {
+		if (threads < 0) {
+			throw new IllegalArgumentException("Number of threads must be positive");
+		}
+
+		int nbThreads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+		ThreadPoolExecutor executor = new ThreadPoolExecutor(nbThreads, nbThreads, 60L, TimeUnit.SECONDS, new LinkedBlockingQueue<>(), new ModelThreadFactory());
+		executor.allowCoreThreadTimeOut(true);
+		return executor;
+	}
+
+	/// Get executor running [AsyncValue] model values.
+	///
+	/// @return The executor.
+	public Executor getExecutor() {
+		return executor;
+	}
+
+	/// Get maximum time (in milliseconds) to wait for model values.
+	///
+	/// @return Timeout, a negative value means no deadline.
+	public long getTimeout() {
+		return timeout;
+	}
+
+	/// Resolve asynchronous values of given model.
+	///
+	/// @param model The model.
+	/// @return Model with resolved values, the same model if it does not contain any asynchronous value.
+	/// @throws MustacheModelResolutionException If a value fails, or cannot be resolved before the deadline.
+	public Map<String, Object> resolve(Map<String, Object> model) {
+		notNull(model, "Model must not be null");
+
+		final long start = System.nanoTime();
+		List<String> keys = null;
+		List<CompletableFuture<?>> futures = null;
+		List<CompletableFuture<?>> tasks = null;
+
+		for (Map.Entry<String, Object> entry : model.entrySet()) {
+			final Object value = entry.getValue();
+			final CompletableFuture<?> future;
+
+			if (value instanceof CompletionStage) {
+				future = ((CompletionStage<?>) value).toCompletableFuture();
+			}
+			else if (value instanceof AsyncValue) {
+				future = submit((AsyncValue<?>) value);
+			}
+			else {
+				continue;
+			}
+
+			if (keys == null) {
+				keys = new ArrayList<>();
+				futures = new ArrayList<>();
+				tasks = new ArrayList<>();
+			}
+
+			keys.add(entry.getKey());
+			futures.add(future);
+			if (future != value) {
+				tasks.add(future);
+			}
+		}
+
+		if (keys == null) {
+			return model;
+		}
+
+		log.debug("Resolve {} asynchronous model value(s)", keys.size());
+
+		await(futures, tasks, start);
+
+		final Map<String, Object> resolved = new HashMap<>(model);
+		for (int i = 0; i < keys.size(); i++) {
+			resolved.put(keys.get(i), futures.get(i).join());
+		}
+
+		return resolved;
+	}
+
+	private CompletableFuture<?> submit(AsyncValue<?> value) {
+		return CompletableFuture.supplyAsync(() -> call(value), executor);
+	}
+
+	private static Object call(AsyncValue<?> value) {
+		try {
+			return value.call();
+		}
+		catch (Exception ex) {
+			throw new CompletionException(ex);
+		}
+	}
+
+	/// Wait for given futures until the deadline: on failure, tasks submitted by this resolver are cancelled (futures
+	/// provided by the model are left untouched).
+	///
+	/// @param futures Futures to wait for.
+	/// @param tasks Tasks submitted by this resolver.
+	/// @param start Start of the resolution (in nanoseconds).
+	private void await(List<CompletableFuture<?>> futures, List<CompletableFuture<?>> tasks, long start) {
+		final CompletableFuture<Void> all = CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0]));
+
+		try {
+			if (timeout < 0) {
+				all.get();
+			}
+			else {
+				all.get(Math.max(0, TimeUnit.MILLISECONDS.toNanos(timeout) - (System.nanoTime() - start)), TimeUnit.NANOSECONDS);
+			}
+		}
+		catch (ExecutionException ex) {
+			cancel(tasks);
+			throw new MustacheModelResolutionException("Model value cannot be resolved", ex.getCause());
+		}
+		catch (TimeoutException ex) {
+			cancel(tasks);
+			throw new MustacheModelResolutionException(format("Model values have not been resolved within %d ms", timeout), ex);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			cancel(tasks);
+			throw new MustacheModelResolutionException("Interrupted while resolving model values", ex);
+		}
+	}
+
+	private static void cancel(List<CompletableFuture<?>> tasks) {
+		for (CompletableFuture<?> task : tasks) {
+			task.cancel(false);
+		}
+	}
+
+	/// Shut down the pool of threads created by this resolver, if any: an executor given to this resolver is left
+	/// untouched.
+	@Override
+	public void destroy() {
+		if (ownedExecutor != null) {
+			log.debug("Shut down asynchronous model resolver executor");
+			ownedExecutor.shutdown();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("executor", executor)
+				.append("timeout", timeout)
+				.build();
+	}
+
+	/// Thread factory, creating daemon threads used to resolve model values.
+	private static final class ModelThreadFactory implements ThreadFactory {
+
+		/// Thread counter, used to generate thread names.
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "mustache-model-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.core;
 
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
@@ -33,7 +34,12 @@ import org.springframework.util.ClassUtils;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notEmpty;
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
@@ -45,6 +51,20 @@ import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreCondit
 /// an existing resources.
 ///
 /// If no one find an existing resource, the last computed resource is returned.
+///
+/// Since checking for resource existence may be expensive (filesystem access, classpath
+/// scanning, etc.), resolved locations can be cached: the cache remembers the resource
+/// found for a given location, or the fact that no resource loader found it (negative result),
+/// so that next lookups do not need to query each resource loader again.
+///
+/// Cache behavior is configured with a TTL (in milliseconds):
+/// - A negative value means that cached locations never expire (this should be used in production).
+/// - `0` means that the cache is disabled, each resource loader is queried on each lookup (this is the default).
+/// - A positive value means that cached locations expire after given delay.
+///
+/// The cache is bounded: once it contains the maximum number of locations, the oldest resolved locations are evicted,
+/// so that looking up arbitrary locations (such as view names built from request parameters) cannot make it grow
+/// indefinitely.
 public class CompositeResourceLoader implements ResourceLoader {
 
 	/// Class logger.
@@ -53,19 +73,147 @@ public class CompositeResourceLoader implements ResourceLoader {
 	/// Set of resource loaders that will be used internally.
 	private final List<ResourceLoader> resourceLoaders;
 
-	/// Create new composite resource loader.
+	/// Cache TTL, in milliseconds.
+	private final long cacheTtl;
+
+	/// Cache TTL, in nanoseconds.
+	private final long cacheTtlNanos;
+
+	/// Maximum number of cached locations.
+	private final int cacheLimit;
+
+	/// Resolved locations, indexed by location: fast access cache, lock free.
+	private final ConcurrentMap<String, CachedResource> cache;
+
+	/// Resolved locations, in insertion order: creation cache, used to evict oldest entries.
+	private final Map<String, CachedResource> creationCache;
+
+	/// Create new composite resource loader, without any location cache.
 	///
 	/// @param resourceLoaders Collection of resource loaders.
 	public CompositeResourceLoader(Collection<ResourceLoader> resourceLoaders) {
+		this(resourceLoaders, 0);
+	}
+
+	/// Create new composite resource loader, caching at most [MustacheSettings#RESOURCE_CACHE_LIMIT] locations.
+	///
+	/// @param resourceLoaders Collection of resource loaders.
+	/// @param cacheTtl Cache TTL in milliseconds: negative value means that resolved locations never expire, `0` disables the cache.
+	public CompositeResourceLoader(Collection<ResourceLoader> resourceLoaders, long cacheTtl) {
+		this(resourceLoaders, cacheTtl, MustacheSettings.RESOURCE_CACHE_LIMIT);
+	}
+
+	/// Create new composite resource loader.
+	///
+	/// @param resourceLoaders Collection of resource loaders.
+	/// @param cacheTtl Cache TTL in milliseconds: negative value means that resolved locations never expire, `0` disables the cache.
+	/// @param cacheLimit Maximum number of cached locations, `0` disables the cache.
+	public CompositeResourceLoader(Collection<ResourceLoader> resourceLoaders, long cacheTtl, int cacheLimit) {
 		notNull(resourceLoaders, "Resource loaders must not be null");
 		notEmpty(resourceLoaders, "Resource loaders must not be empty");
+		if (cacheLimit < 0) {
+			throw new IllegalArgumentException("Cache limit must be positive or zero");
+		}
+
 		this.resourceLoaders = new ArrayList<>(resourceLoaders);
+		this.cacheTtl = cacheTtl;
+		this.cacheTtlNanos = TimeUnit.MILLISECONDS.toNanos(cacheTtl);
+		this.cacheLimit = cacheLimit;
+		this.cache = new ConcurrentHashMap<>();
+		this.creationCache = new LinkedHashMap<String, CachedResource>(16, 0.75f) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, CachedResource> eldest) {
+				if (size() > CompositeResourceLoader.this.cacheLimit) {
+					log.debug("Resource location cache limit reached, evict location: {}", eldest.getKey());
+					cache.remove(eldest.getKey());
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/// Get [#cacheTtl]
+	///
+	/// @return [#cacheTtl]
+	public long getCacheTtl() {
+		return cacheTtl;
+	}
+
+	/// Get [#cacheLimit]
+	///
+	/// @return [#cacheLimit]
+	public int getCacheLimit() {
+		return cacheLimit;
+	}
+
+	/// Check if location cache is enabled.
+	///
+	/// @return `true` if location cache is enabled, `false` otherwise.
+	public boolean isCacheEnabled() {
+		return cacheTtl != 0 && cacheLimit > 0;
+	}
+
+	/// Remove all cached locations: next lookups will query each resource loader again.
+	public void clearCache() {
+		log.debug("Clear resource location cache");
+		synchronized (creationCache) {
+			cache.clear();
+			creationCache.clear();
+		}
+	}
+
+	/// Remove cached location: next lookup of this location will query each resource loader again.
+	///
+	/// @param location Resource location.
+	public void evict(String location) {
+		log.debug("Evict resource location {} from cache", location);
+		synchronized (creationCache) {
+			cache.remove(location);
+			creationCache.remove(location);
+		}
 	}
 
 	@Override
 	public Resource getResource(String location) {
 		log.debug("Get resource: {}", location);
 
+		if (!isCacheEnabled()) {
+			return findResource(location);
+		}
+
+		final long now = System.nanoTime();
+		final CachedResource cachedResource = cache.get(location);
+		if (cachedResource != null && !isExpired(cachedResource, now)) {
+			log.trace("Resource {} found in cache, return it", location);
+			return cachedResource.resource;
+		}
+
+		final Resource resource = findResource(location);
+		final CachedResource entry = new CachedResource(resource, now);
+		synchronized (creationCache) {
+			cache.put(location, entry);
+			creationCache.put(location, entry);
+		}
+
+		return resource;
+	}
+
+	/// Check if given cache entry is expired.
+	///
+	/// @param cachedResource Cache entry.
+	/// @param now Current time, as returned by [System#nanoTime()].
+	/// @return `true` if entry is expired, `false` otherwise.
+	private boolean isExpired(CachedResource cachedResource, long now) {
+		return cacheTtlNanos > 0 && now - cachedResource.timestamp >= cacheTtlNanos;
+	}
+
+	/// Query each resource loader until one of them find an existing resource.
+	///
+	/// @param location Resource location.
+	/// @return The resource found, or the last computed resource if no one find an existing resource.
+	private Resource findResource(String location) {
 		Resource resource = null;
 
 		for (ResourceLoader resourceLoader : resourceLoaders) {
@@ -92,6 +240,28 @@ public class CompositeResourceLoader implements ResourceLoader {
 	public String toString() {
 		return ToStringBuilder.builder(this)
 				.append("resourceLoaders", resourceLoaders)
+				.append("cacheTtl", cacheTtl)
+				.append("cacheLimit", cacheLimit)
 				.build();
 	}
+
+	/// A resolved resource, stored in location cache: note that the resource may not exist (i.e. negative
+	/// result are cached too).
+	private static final class CachedResource {
+
+		/// The resolved resource.
+		private final Resource resource;
+
+		/// Time at which resource has been resolved (as returned by [System#nanoTime()]).
+		private final long timestamp;
+
+		/// Create cache entry.
+		///
+		/// @param resource The resolved resource.
+		/// @param timestamp Time at which resource has been resolved.
+		private CachedResource(Resource resource, long timestamp) {
+			this.resource = resource;
+			this.timestamp = timestamp;
+		}
+	}
 }
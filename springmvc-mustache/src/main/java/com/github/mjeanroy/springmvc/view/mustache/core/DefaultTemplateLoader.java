@@ -25,6 +25,7 @@
 package com.github.mjeanroy.springmvc.view.mustache.core;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheTemplateException;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheTemplateNotFoundException;
@@ -32,23 +33,40 @@ import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.FileCopyUtils;
 
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
 import java.io.Reader;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
 
 /// Default template loader implementation.
 ///
 /// This class can be considered as thread safe if internal state is not
-/// modified (if prefix and suffix are not modified, or if aliases are not added).
+/// modified (if prefix and suffix are not modified).
+///
+/// Template sources can be kept in memory, indexed by their resolved location, so that
+/// templates are not read again each time they are requested (see [#setSourceCacheInterval(long)]):
+/// - A negative interval means that cached sources are never revalidated (this should be used in production).
+/// - `0` means that the cache is disabled, templates are read on each call (this is the default).
+/// - A positive value means that cached sources are revalidated (using [Resource#lastModified()]) once
+///   the interval (in milliseconds) has elapsed since the last check.
+///
+/// Static HTML text of template sources can also be minified when templates are read (see [#setMinify(boolean)]),
+/// before being compiled by mustache engines.
 public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 
 	private static final Logger log = LoggerFactory.getLogger(DefaultTemplateLoader.class);
@@ -70,15 +88,38 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 	private volatile Charset charset;
 
 	/// Partial aliases.
-	private final Map<String, String> partialAliases = new HashMap<>();
+	///
+	/// This map is immutable: it is replaced (copy-on-write) each time new aliases are
+	/// added, so that it can be read without any locking or copy during template resolution.
+	// Volatile because it can be accessed by more than one thread
+	private volatile Map<String, String> partialAliases = Collections.emptyMap();
 
 	/// Temporary partial aliases: i.e. aliases that can be added
 	/// before compilation with [#addPartialAliases(java.util.Map)] method and
 	/// removed after compilation with [#removeTemporaryPartialAliases()] method.
 	/// This implementation use a thread local object to be thread safe.
-	private final ThreadLocal<Map<String, String>> temporaryPartialAliases = ThreadLocal.withInitial(
-			HashMap::new
-	);
+	///
+	/// Note that there is no initial value: thread local map is only created when
+	/// temporary aliases are added, so that resolving a template name does not allocate
+	/// anything if no temporary aliases have been registered.
+	private final ThreadLocal<Map<String, String>> temporaryPartialAliases = new ThreadLocal<>();
+
+	/// Interval (in milliseconds) between two revalidations of cached template sources:
+	/// negative means that sources are never revalidated, `0` disables source cache.
+	// Volatile because it can be accessed by more than one thread
+	private volatile long sourceCacheInterval;
+
+	/// Minify static text of template sources, disabled by default.
+	/// @see TemplateMinifier
+	// Volatile because it can be accessed by more than one thread
+	private volatile boolean minify;
+
+	/// Template sources, indexed by resolved template location.
+	private final ConcurrentMap<String, TemplateSource> sources = new ConcurrentHashMap<>();
+
+	/// Metrics, disabled by default.
+	// Volatile because it can be accessed by more than one thread
+	private volatile MustacheMetrics metrics = NoopMustacheMetrics.getInstance();
 
 	/// Build new template loader.
 	///
@@ -132,18 +173,197 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 	public void setCharset(Charset charset) {
 		log.trace("Set charset: {}", charset);
 		this.charset = charset;
+		this.sources.clear();
+	}
+
+	/// Get [#sourceCacheInterval]
+	///
+	/// @return [#sourceCacheInterval]
+	public long getSourceCacheInterval() {
+		return sourceCacheInterval;
+	}
+
+	/// Set [#sourceCacheInterval]
+	///
+	/// @param sourceCacheInterval New [#sourceCacheInterval]
+	public void setSourceCacheInterval(long sourceCacheInterval) {
+		log.trace("Set source cache interval: {}", sourceCacheInterval);
+		this.sourceCacheInterval = sourceCacheInterval;
+		this.sources.clear();
+	}
+
+	/// Check if static text of template sources is minified when templates are read.
+	///
+	/// @return `true` if template sources are minified, `false` otherwise.
+	public boolean isMinify() {
+		return minify;
+	}
+
+	/// Enable (or disable) minification of static text of template sources (see [TemplateMinifier]):
+	/// sources are minified once, when they are read, so minification is mostly free if the source
+	/// cache is enabled.
+	///
+	/// @param minify Minification settings.
+	public void setMinify(boolean minify) {
+		log.trace("Set template minification: {}", minify);
+		this.minify = minify;
+		this.sources.clear();
+	}
+
+	/// Set metrics recording template loading and source cache accesses.
+	///
+	/// @param metrics Metrics.
+	public void setMetrics(MustacheMetrics metrics) {
+		log.trace("Set template loader metrics: {}", metrics);
+		this.metrics = notNull(metrics, "Metrics must not be null");
+	}
+
+	/// Get metrics recording template loading and source cache accesses.
+	///
+	/// @return Metrics.
+	public MustacheMetrics getMetrics() {
+		return metrics;
+	}
+
+	/// Remove all cached template sources (and resolved template locations): templates will be read again on next call.
+	public void clearSourceCache() {
+		log.debug("Clear template source cache");
+		sources.clear();
+
+		if (resourceLoader instanceof CompositeResourceLoader) {
+			((CompositeResourceLoader) resourceLoader).clearCache();
+		}
+	}
+
+	/// Invalidate cached data of given template location (i.e. cached source and resolved resource), typically
+	/// because template has been modified, created or removed: template will be read again on next call.
+	///
+	/// @param location Resolved template location.
+	public void invalidate(String location) {
+		log.debug("Invalidate template {}", location);
+		sources.remove(location);
+
+		if (resourceLoader instanceof CompositeResourceLoader) {
+			((CompositeResourceLoader) resourceLoader).evict(location);
+		}
 	}
 
 	@Override
-	public void addPartialAliases(Map<String, String> partialAliases) {
+	public synchronized void addPartialAliases(Map<String, String> partialAliases) {
 		log.trace("Add new partial aliases: {}", partialAliases);
 		notNull(partialAliases, "Partial aliases must not be null");
-		this.partialAliases.putAll(partialAliases);
+
+		Map<String, String> aliases = new HashMap<>(this.partialAliases);
+		aliases.putAll(partialAliases);
+		this.partialAliases = Collections.unmodifiableMap(aliases);
+	}
+
+	@Override
+	public Map<String, String> getPartialAliases() {
+		final Map<String, String> globalAliases = partialAliases;
+		final Map<String, String> temporaryAliases = temporaryPartialAliases.get();
+
+		if (temporaryAliases == null || temporaryAliases.isEmpty()) {
+			return globalAliases;
+		}
+
+		if (globalAliases.isEmpty()) {
+			return Collections.unmodifiableMap(temporaryAliases);
+		}
+
+		Map<String, String> aliases = new HashMap<>(globalAliases);
+		aliases.putAll(temporaryAliases);
+		return Collections.unmodifiableMap(aliases);
 	}
 
 	@Override
 	public Reader getTemplate(String name) {
-		final String templateName = resolve(name);
+		return loadTemplate(resolve(name));
+	}
+
+	@Override
+	public Reader getTemplate(String name, RenderContext context) {
+		return loadTemplate(resolve(name, context));
+	}
+
+	private Reader loadTemplate(String templateName) {
+		final MustacheMetrics metrics = this.metrics;
+		final long start = System.nanoTime();
+		final long interval = sourceCacheInterval;
+		final Reader reader;
+		if (interval == 0) {
+			final Resource resource = findTemplate(templateName);
+			reader = minify ? new StringReader(readTemplate(resource)) : openTemplate(resource);
+		}
+		else {
+			reader = new StringReader(loadTemplateSource(templateName, interval, metrics));
+		}
+
+		metrics.recordLoad(templateName, System.nanoTime() - start);
+		return reader;
+	}
+
+	/// Get template source from source cache, or read it if it is not cached yet (or if it has been
+	/// modified since it has been cached).
+	///
+	/// @param templateName Resolved template name.
+	/// @param interval Revalidation interval, in milliseconds.
+	/// @param metrics Metrics recording source cache accesses.
+	/// @return Template source.
+	private String loadTemplateSource(String templateName, long interval, MustacheMetrics metrics) {
+		final long now = System.nanoTime();
+		final TemplateSource cachedSource = sources.get(templateName);
+
+		if (cachedSource != null && (interval < 0 || now - cachedSource.checkedAt < TimeUnit.MILLISECONDS.toNanos(interval))) {
+			metrics.recordCacheAccess(MustacheMetrics.SOURCE_CACHE, true);
+			return cachedSource.source;
+		}
+
+		// Remove entry first: if template has been removed, it should not remain in the cache.
+		if (cachedSource != null) {
+			sources.remove(templateName, cachedSource);
+		}
+
+		final Resource resource = findTemplate(templateName);
+		final long lastModified = lastModified(resource);
+
+		if (cachedSource != null && lastModified == cachedSource.lastModified) {
+			log.trace("Template {} has not been modified, keep cached source", templateName);
+			sources.put(templateName, new TemplateSource(cachedSource.source, lastModified, now));
+			metrics.recordCacheAccess(MustacheMetrics.SOURCE_CACHE, true);
+			return cachedSource.source;
+		}
+
+		log.debug("Read template {} and store it in source cache", templateName);
+		metrics.recordCacheAccess(MustacheMetrics.SOURCE_CACHE, false);
+
+		final String source = readTemplate(resource);
+		sources.put(templateName, new TemplateSource(source, lastModified, now));
+		return source;
+	}
+
+	private String readTemplate(Resource resource) {
+		final String source = decodeTemplate(resource);
+		return minify ? TemplateMinifier.minify(source) : source;
+	}
+
+	private String decodeTemplate(Resource resource) {
+		// Bundled templates are decoded directly from the bundle buffer.
+		if (resource instanceof TemplateBundleResourceLoader.BundledResource) {
+			final ByteBuffer content = ((TemplateBundleResourceLoader.BundledResource) resource).getContent();
+			return (charset == null ? Charset.defaultCharset() : charset).decode(content).toString();
+		}
+
+		try (Reader reader = openTemplate(resource)) {
+			return FileCopyUtils.copyToString(reader);
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage(), ex);
+			throw new MustacheTemplateException(ex);
+		}
+	}
+
+	private Resource findTemplate(String templateName) {
 		final Resource resource = resourceLoader.getResource(templateName);
 
 		if (!resource.exists()) {
@@ -151,6 +371,10 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 			throw new MustacheTemplateNotFoundException(templateName);
 		}
 
+		return resource;
+	}
+
+	private Reader openTemplate(Resource resource) {
 		try {
 			final InputStream inputStream = resource.getInputStream();
 			return charset == null ? new InputStreamReader(inputStream) : new InputStreamReader(inputStream, charset);
@@ -161,6 +385,21 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 		}
 	}
 
+	/// Get last modification date of given resource, or `-1` if it cannot be determined (in which case
+	/// the cached source will never be considered as modified).
+	///
+	/// @param resource The resource.
+	/// @return Last modification date.
+	private static long lastModified(Resource resource) {
+		try {
+			return resource.lastModified();
+		}
+		catch (IOException ex) {
+			log.trace("Cannot get last modification date of {}: {}", resource, ex.getMessage());
+			return -1;
+		}
+	}
+
 	@Override
 	public String resolve(String name) {
 		name = resolveTemplateName(name);
@@ -168,12 +407,31 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 	}
 
 	@Override
+	public String resolve(String name, RenderContext context) {
+		notNull(context, "Render context must not be null");
+
+		final String alias = context.getPartialAlias(name);
+		final String realName = alias == null ? partialAliases.getOrDefault(name, name) : alias;
+		log.trace("Resolve template {} with render context => {}", name, realName);
+		return formatName(realName);
+	}
+
+	@Override
+	@Deprecated
 	public void addTemporaryPartialAliases(Map<String, String> partialAliases) {
 		notNull(partialAliases, "Partial aliases must not be null");
-		temporaryPartialAliases.get().putAll(partialAliases);
+
+		Map<String, String> aliases = temporaryPartialAliases.get();
+		if (aliases == null) {
+			aliases = new HashMap<>();
+			temporaryPartialAliases.set(aliases);
+		}
+
+		aliases.putAll(partialAliases);
 	}
 
 	@Override
+	@Deprecated
 	public void removeTemporaryPartialAliases() {
 		temporaryPartialAliases.remove();
 	}
@@ -209,8 +467,7 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 	}
 
 	private String resolveTemplateName(String name) {
-		final Map<String, String> partialsAliases = getPartialAliases();
-		final String realName = partialsAliases.getOrDefault(name, name);
+		final String realName = lookupPartialAlias(name);
 
 		if (log.isDebugEnabled()) {
 			log.debug("Load template: {}", name);
@@ -220,7 +477,7 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 				log.trace("  => Template name: {}", realName);
 				log.trace("  => Partials: ");
 
-				for (Map.Entry<String, String> entry : partialsAliases.entrySet()) {
+				for (Map.Entry<String, String> entry : getPartialAliases().entrySet()) {
 					log.trace("     {} -> {}", entry.getKey(), entry.getValue());
 				}
 			}
@@ -229,11 +486,21 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 		return realName;
 	}
 
-	private Map<String, String> getPartialAliases() {
-		Map<String, String> aliases = new HashMap<>();
-		aliases.putAll(partialAliases);
-		aliases.putAll(temporaryPartialAliases.get());
-		return aliases;
+	/// Lookup real name of given partial: temporary aliases are checked first, then global
+	/// aliases: this lookup does not copy (nor merge) any map, so it does not allocate anything.
+	///
+	/// @param name Partial name.
+	/// @return The real name (i.e. the aliased name if an alias exist, the name itself otherwise).
+	private String lookupPartialAlias(String name) {
+		final Map<String, String> temporaryAliases = temporaryPartialAliases.get();
+		if (temporaryAliases != null) {
+			final String alias = temporaryAliases.get(name);
+			if (alias != null) {
+				return alias;
+			}
+		}
+
+		return partialAliases.getOrDefault(name, name);
 	}
 
 	@Override
@@ -245,6 +512,8 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 				.append("charset", charset)
 				.append("partialAliases", partialAliases)
 				.append("temporaryPartialAliases", temporaryPartialAliases.get())
+				.append("sourceCacheInterval", sourceCacheInterval)
+				.append("minify", minify)
 				.build();
 	}
 
@@ -260,7 +529,9 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 					&& Objects.equals(prefix, tl.prefix)
 					&& Objects.equals(suffix, tl.suffix)
 					&& Objects.equals(charset, tl.charset)
-					&& Objects.equals(partialAliases, tl.partialAliases);
+					&& Objects.equals(partialAliases, tl.partialAliases)
+					&& sourceCacheInterval == tl.sourceCacheInterval
+					&& minify == tl.minify;
 		}
 
 		return false;
@@ -268,6 +539,25 @@ public final class DefaultTemplateLoader implements MustacheTemplateLoader {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(resourceLoader, prefix, suffix, charset, partialAliases);
+		return Objects.hash(resourceLoader, prefix, suffix, charset, partialAliases, sourceCacheInterval, minify);
+	}
+
+	/// A template source, stored in source cache.
+	private static final class TemplateSource {
+
+		/// Template source.
+		private final String source;
+
+		/// Last modification date of template resource, when source has been read.
+		private final long lastModified;
+
+		/// Time at which the resource has been checked for the last time (as returned by [System#nanoTime()]).
+		private final long checkedAt;
+
+		private TemplateSource(String source, long lastModified, long checkedAt) {
+			this.source = source;
+			this.lastModified = lastModified;
+			this.checkedAt = checkedAt;
+		}
 	}
 }
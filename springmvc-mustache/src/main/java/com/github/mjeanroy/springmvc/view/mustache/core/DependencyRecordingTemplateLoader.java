@@ -0,0 +1,145 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Template loader, bound to a root template, recording each loaded template location in a
+/// [MustacheTemplateDependencyGraph].
+///
+/// Location is recorded before the template is loaded: a root template trying to load a missing
+/// partial depends on this partial, and must be invalidated once the partial is created.
+final class DependencyRecordingTemplateLoader implements MustacheTemplateLoader {
+
+	/// The template loader, loading templates.
+	private final MustacheTemplateLoader delegate;
+
+	/// The dependency graph.
+	private final MustacheTemplateDependencyGraph graph;
+
+	/// The root template location.
+	private final String root;
+
+	/// Create loader.
+	///
+	/// @param delegate The template loader, loading templates.
+	/// @param graph The dependency graph.
+	/// @param root The root template location.
+	DependencyRecordingTemplateLoader(MustacheTemplateLoader delegate, MustacheTemplateDependencyGraph graph, String root) {
+		this.delegate = notNull(delegate, "Template loader must not be null");
+		this.graph = notNull(graph, "Dependency graph must not be null");
+		this.root = notNull(root, "Root template location must not be null");
+	}
+
+	@Override
+	public Reader getTemplate(String name) {
+		graph.record(root, delegate.resolve(name));
+		return delegate.getTemplate(name);
+	}
+
+	@Override
+	public Reader getTemplate(String name, RenderContext context) {
+		graph.record(root, delegate.resolve(name, context));
+		return delegate.getTemplate(name, context);
+	}
+
+	@Override
+	public String resolve(String name) {
+		return delegate.resolve(name);
+	}
+
+	@Override
+	public String resolve(String name, RenderContext context) {
+		return delegate.resolve(name, context);
+	}
+
+	@Override
+	public void setPrefix(String prefix) {
+		delegate.setPrefix(prefix);
+	}
+
+	@Override
+	public void setSuffix(String suffix) {
+		delegate.setSuffix(suffix);
+	}
+
+	@Override
+	public Charset getCharset() {
+		return delegate.getCharset();
+	}
+
+	@Override
+	public void setCharset(Charset charset) {
+		delegate.setCharset(charset);
+	}
+
+	@Override
+	public String getPrefix() {
+		return delegate.getPrefix();
+	}
+
+	@Override
+	public String getSuffix() {
+		return delegate.getSuffix();
+	}
+
+	@Override
+	public void addPartialAliases(Map<String, String> partialAliases) {
+		delegate.addPartialAliases(partialAliases);
+	}
+
+	@Override
+	public Map<String, String> getPartialAliases() {
+		return delegate.getPartialAliases();
+	}
+
+	@Override
+	@Deprecated
+	public void addTemporaryPartialAliases(Map<String, String> partialAliases) {
+		delegate.addTemporaryPartialAliases(partialAliases);
+	}
+
+	@Override
+	@Deprecated
+	public void removeTemporaryPartialAliases() {
+		delegate.removeTemporaryPartialAliases();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("delegate", delegate)
+				.append("root", root)
+				.build();
+	}
+}
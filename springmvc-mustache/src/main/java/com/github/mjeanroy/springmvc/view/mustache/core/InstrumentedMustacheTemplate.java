@@ -0,0 +1,134 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Map;
+import java.util.Set;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Mustache template recording, in [MustacheMetrics], the rendering duration and the number of characters
+/// written by a compiled template.
+///
+/// This template is used by [AbstractMustacheCompiler] only when metrics are enabled, so that
+/// rendering does not pay anything otherwise.
+final class InstrumentedMustacheTemplate implements PreEncodedTemplate, IntrospectedTemplate {
+
+	/// The compiled template.
+	private final MustacheTemplate template;
+
+	/// Resolved template location.
+	private final String location;
+
+	/// Metrics.
+	private final MustacheMetrics metrics;
+
+	/// Create instrumented template.
+	///
+	/// @param template The compiled template.
+	/// @param location Resolved template location.
+	/// @param metrics Metrics.
+	InstrumentedMustacheTemplate(MustacheTemplate template, String location, MustacheMetrics metrics) {
+		this.template = notNull(template, "Template must not be null");
+		this.location = notNull(location, "Template location must not be null");
+		this.metrics = notNull(metrics, "Metrics must not be null");
+	}
+
+	@Override
+	public void execute(Map<String, Object> model, Writer writer) {
+		final CountingWriter countingWriter = new CountingWriter(writer);
+		final long start = System.nanoTime();
+		template.execute(model, countingWriter);
+		metrics.recordRender(location, System.nanoTime() - start, countingWriter.count);
+	}
+
+	@Override
+	public StaticSegments getStaticSegments() {
+		return template instanceof PreEncodedTemplate ? ((PreEncodedTemplate) template).getStaticSegments() : null;
+	}
+
+	@Override
+	public Set<String> getRootVariables() {
+		return template instanceof IntrospectedTemplate ? ((IntrospectedTemplate) template).getRootVariables() : null;
+	}
+
+	/// Get the compiled template.
+	///
+	/// @return The compiled template.
+	MustacheTemplate getTemplate() {
+		return template;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("template", template)
+				.append("location", location)
+				.build();
+	}
+
+	/// Writer counting the number of written characters.
+	private static final class CountingWriter extends Writer {
+		private final Writer writer;
+		private long count;
+
+		private CountingWriter(Writer writer) {
+			this.writer = writer;
+		}
+
+		@Override
+		public void write(int c) throws IOException {
+			writer.write(c);
+			count++;
+		}
+
+		@Override
+		public void write(char[] buffer, int offset, int length) throws IOException {
+			writer.write(buffer, offset, length);
+			count += length;
+		}
+
+		@Override
+		public void write(String str, int offset, int length) throws IOException {
+			writer.write(str, offset, length);
+			count += length;
+		}
+
+		@Override
+		public void flush() throws IOException {
+			writer.flush();
+		}
+
+		@Override
+		public void close() throws IOException {
+			writer.close();
+		}
+	}
+}
@@ -0,0 +1,44 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+
+import java.util.Set;
+
+/// Compiled template whose variables can be extracted at compilation time: views use these variables to
+/// build a model containing only the values that the template may read (see
+/// [com.github.mjeanroy.springmvc.view.mustache.MustacheView#setModelPruning(boolean)]).
+public interface IntrospectedTemplate extends MustacheTemplate {
+
+	/// Get names of root variables (i.e the first segment of compound names, such as `user` for `user.name`)
+	/// that this template, and its partials, may reference.
+	///
+	/// Returned names may include names resolved against a nested context (such as a section value), but
+	/// never miss a model value read by the template.
+	///
+	/// @return Root variable names, `null` if they cannot be determined.
+	Set<String> getRootVariables();
+}
@@ -0,0 +1,272 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.hasText;
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Writer flushing the underlying writer each time one of the given markers (such as `</head>`) has been
+/// written: rendered output is then sent progressively to the client, that can start fetching resources
+/// while the rest of the page is being rendered.
+///
+/// Markers are detected even if they are written in several chunks, and the underlying writer is flushed
+/// once the chunk completing a marker has been written.
+///
+/// While no marker is partially matched, written characters are skipped up to the next character that can
+/// start a marker, so that markers are matched character by character only around candidate positions.
+///
+/// This class is not thread safe: a writer must be confined to a single thread.
+public final class MarkerFlushingWriter extends Writer {
+
+	/// The underlying writer.
+	private final Writer writer;
+
+	/// Markers, with their matching state.
+	private final Marker[] markers;
+
+	/// First character of each marker (without duplicates).
+	private final char[] firstChars;
+
+	/// Number of markers currently partially matched.
+	private int partials;
+
+	/// Create writer.
+	///
+	/// @param writer The underlying writer.
+	/// @param markers Markers, must not be empty.
+	public MarkerFlushingWriter(Writer writer, Collection<String> markers) {
+		this.writer = notNull(writer, "Writer must not be null");
+		notNull(markers, "Markers must not be null");
+
+		List<Marker> list = new ArrayList<>(markers.size());
+		for (String marker : markers) {
+			list.add(new Marker(hasText(marker, "Marker must not be empty")));
+		}
+
+		this.markers = list.toArray(new Marker[0]);
+
+		StringBuilder firstChars = new StringBuilder(this.markers.length);
+		for (Marker marker : this.markers) {
+			char c = marker.value.charAt(0);
+			if (firstChars.indexOf(String.valueOf(c)) < 0) {
+				firstChars.append(c);
+			}
+		}
+
+		this.firstChars = firstChars.toString().toCharArray();
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		writer.write(c);
+		if (match((char) c)) {
+			writer.flush();
+		}
+	}
+
+	@Override
+	public void write(char[] buffer, int offset, int len) throws IOException {
+		writer.write(buffer, offset, len);
+
+		boolean found = false;
+		for (int i = offset, end = offset + len; i < end; i++) {
+			if (partials == 0) {
+				i = indexOfFirstChar(buffer, i, end);
+				if (i == end) {
+					break;
+				}
+			}
+
+			found |= match(buffer[i]);
+		}
+
+		if (found) {
+			writer.flush();
+		}
+	}
+
+	@Override
+	public void write(String str, int offset, int len) throws IOException {
+		writer.write(str, offset, len);
+
+		boolean found = false;
+		for (int i = offset, end = offset + len; i < end; i++) {
+			if (partials == 0) {
+				i = indexOfFirstChar(str, i, end);
+				if (i == end) {
+					break;
+				}
+			}
+
+			found |= match(str.charAt(i));
+		}
+
+		if (found) {
+			writer.flush();
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		writer.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		writer.close();
+	}
+
+	private boolean match(char c) {
+		boolean found = false;
+		int partials = 0;
+		for (Marker marker : markers) {
+			found |= marker.next(c);
+			if (marker.matched > 0) {
+				partials++;
+			}
+		}
+
+		this.partials = partials;
+		return found;
+	}
+
+	/// Find the next character that can start a marker.
+	///
+	/// @param buffer Written characters.
+	/// @param from Index of the first character to check.
+	/// @param end Index after the last character to check.
+	/// @return Index of the character, `end` if there is none.
+	private int indexOfFirstChar(char[] buffer, int from, int end) {
+		for (int i = from; i < end; i++) {
+			if (isFirstChar(buffer[i])) {
+				return i;
+			}
+		}
+
+		return end;
+	}
+
+	/// Find the next character that can start a marker.
+	///
+	/// @param str Written characters.
+	/// @param from Index of the first character to check.
+	/// @param end Index after the last character to check.
+	/// @return Index of the character, `end` if there is none.
+	private int indexOfFirstChar(String str, int from, int end) {
+		if (firstChars.length == 1) {
+			// String#indexOf is an intrinsic: use it for the common case of markers starting with the same character.
+			int index = str.indexOf(firstChars[0], from);
+			return index < 0 || index > end ? end : index;
+		}
+
+		for (int i = from; i < end; i++) {
+			if (isFirstChar(str.charAt(i))) {
+				return i;
+			}
+		}
+
+		return end;
+	}
+
+	private boolean isFirstChar(char c) {
+		for (char firstChar : firstChars) {
+			if (c == firstChar) {
+				return true;
+			}
+		}
+
+		return false;
+	}
+
+	@Override
+	public String toString() {
+		List<String> values = new ArrayList<>(markers.length);
+		for (Marker marker : markers) {
+			values.add(marker.value);
+		}
+
+		return ToStringBuilder.builder(this)
+				.append("markers", values)
+				.build();
+	}
+
+	/// A marker, matched incrementally using the Knuth-Morris-Pratt algorithm.
+	private static final class Marker {
+		/// Marker value.
+		private final String value;
+
+		/// Length of the longest proper prefix of `value[0..i]` that is also a suffix of it.
+		private final int[] failure;
+
+		/// Number of characters currently matched.
+		private int matched;
+
+		private Marker(String value) {
+			this.value = value;
+			this.failure = new int[value.length()];
+
+			for (int i = 1, k = 0; i < value.length(); i++) {
+				while (k > 0 && value.charAt(i) != value.charAt(k)) {
+					k = failure[k - 1];
+				}
+
+				if (value.charAt(i) == value.charAt(k)) {
+					k++;
+				}
+
+				failure[i] = k;
+			}
+		}
+
+		/// Match next written character.
+		///
+		/// @param c Written character.
+		/// @return `true` if this character completes the marker, `false` otherwise.
+		private boolean next(char c) {
+			while (matched > 0 && c != value.charAt(matched)) {
+				matched = failure[matched - 1];
+			}
+
+			if (c == value.charAt(matched)) {
+				matched++;
+			}
+
+			if (matched == value.length()) {
+				matched = failure[matched - 1];
+				return true;
+			}
+
+			return false;
+		}
+	}
+}
@@ -0,0 +1,67 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+/// Metrics recorded by [AbstractMustacheCompiler] (template compilation, template rendering and cache of compiled
+/// templates) and by [DefaultTemplateLoader] (template loading and cache of template sources).
+///
+/// Templates are always identified by their resolved location: implementations must keep the
+/// number of distinct locations they track bounded.
+///
+/// Default implementation does nothing, see [com.github.mjeanroy.springmvc.view.mustache.micrometer.MicrometerMustacheMetrics]
+/// for a Micrometer implementation.
+public interface MustacheMetrics {
+
+	/// Name of the cache of compiled templates (see [AbstractMustacheCompiler]).
+	String TEMPLATE_CACHE = "templates";
+
+	/// Name of the cache of template sources (see [DefaultTemplateLoader]).
+	String SOURCE_CACHE = "sources";
+
+	/// Record template loading.
+	///
+	/// @param location Resolved template location.
+	/// @param durationNanos Duration, in nanoseconds.
+	void recordLoad(String location, long durationNanos);
+
+	/// Record template compilation (including partials loaded during compilation).
+	///
+	/// @param location Resolved template location.
+	/// @param durationNanos Duration, in nanoseconds.
+	void recordCompile(String location, long durationNanos);
+
+	/// Record template rendering.
+	///
+	/// @param location Resolved template location.
+	/// @param durationNanos Duration, in nanoseconds.
+	/// @param chars Number of characters written by the template.
+	void recordRender(String location, long durationNanos, long chars);
+
+	/// Record a cache access.
+	///
+	/// @param cache Cache name ([#TEMPLATE_CACHE] or [#SOURCE_CACHE]).
+	/// @param hit `true` if entry was found in the cache, `false` otherwise.
+	void recordCacheAccess(String cache, boolean hit);
+}
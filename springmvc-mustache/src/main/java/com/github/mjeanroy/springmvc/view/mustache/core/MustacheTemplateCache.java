@@ -0,0 +1,318 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.unmodifiableMap;
+
+/// Bounded cache of compiled [MustacheTemplate].
+///
+/// Templates are identified by their resolved location and by the partials aliases that were
+/// in effect when they have been compiled: the same layout compiled with `content` mapped to
+/// two different views produces two different entries.
+///
+/// This implementation follows [org.springframework.web.servlet.view.AbstractCachingViewResolver]: a
+/// concurrent map is used for fast (lock-free) access, and a linked map is used to evict oldest entries
+/// once the limit has been reached.
+///
+/// This class is thread safe.
+public final class MustacheTemplateCache {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheTemplateCache.class);
+
+	/// Fast access cache, lock free.
+	private final Map<TemplateKey, MustacheTemplate> accessCache;
+
+	/// Creation cache, used to evict oldest entries.
+	private final Map<TemplateKey, MustacheTemplate> creationCache;
+
+	/// Maximum number of entries, `0` means that cache is disabled.
+	// Volatile because it can be accessed by more than one thread
+	private volatile int limit;
+
+	/// Generation of cached templates, incremented each time templates are evicted (see [#getGeneration()]).
+	// Volatile because it can be accessed by more than one thread (and updated with creation cache lock)
+	private volatile long generation;
+
+	/// Create cache.
+	///
+	/// @param limit Maximum number of compiled templates, `0` to disable cache.
+	public MustacheTemplateCache(int limit) {
+		this.limit = positive(limit);
+		this.accessCache = new ConcurrentHashMap<>();
+		this.creationCache = new LinkedHashMap<TemplateKey, MustacheTemplate>(16, 0.75f) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<TemplateKey, MustacheTemplate> eldest) {
+				if (size() > MustacheTemplateCache.this.limit) {
+					log.debug("Template cache limit reached, evict template: {}", eldest.getKey());
+					accessCache.remove(eldest.getKey());
+					return true;
+				}
+
+				return false;
+			}
+		};
+	}
+
+	/// Get cached template.
+	///
+	/// @param key Template key.
+	/// @return The cached template, `null` if template is not cached.
+	public MustacheTemplate get(TemplateKey key) {
+		return accessCache.get(key);
+	}
+
+	/// Put template in the cache.
+	///
+	/// Given key may be mutable (for example when aliases map is a live view), so an immutable
+	/// snapshot of the key is stored.
+	///
+	/// @param key Template key.
+	/// @param template Compiled template.
+	public void put(TemplateKey key, MustacheTemplate template) {
+		notNull(template, "Template must not be null");
+
+		if (!isEnabled()) {
+			return;
+		}
+
+		TemplateKey snapshot = key.snapshot();
+		synchronized (creationCache) {
+			doPut(snapshot, template);
+		}
+	}
+
+	/// Put template in the cache, unless templates have been evicted since given generation (see [#getGeneration()]):
+	/// a template compiled while one of its sources was invalidated may have been compiled from a stale source,
+	/// and must not be cached.
+	///
+	/// @param key Template key.
+	/// @param template Compiled template.
+	/// @param generation Generation read before the template was compiled.
+	/// @return `true` if template has been cached, `false` otherwise.
+	public boolean put(TemplateKey key, MustacheTemplate template, long generation) {
+		notNull(template, "Template must not be null");
+
+		if (!isEnabled()) {
+			return false;
+		}
+
+		TemplateKey snapshot = key.snapshot();
+		synchronized (creationCache) {
+			if (this.generation != generation) {
+				log.debug("Templates have been evicted during compilation of {}, do not cache it", key);
+				return false;
+			}
+
+			doPut(snapshot, template);
+			return true;
+		}
+	}
+
+	private void doPut(TemplateKey snapshot, MustacheTemplate template) {
+		accessCache.put(snapshot, template);
+		creationCache.put(snapshot, template);
+	}
+
+	/// Get generation of cached templates: the generation changes each time templates are evicted (even if no
+	/// cached template matches the evicted locations), so that templates being compiled during an eviction
+	/// are not cached (see [#put(TemplateKey, MustacheTemplate, long)]).
+	///
+	/// @return The generation.
+	public long getGeneration() {
+		return generation;
+	}
+
+	/// Remove cached templates located at one of given locations (whatever the partial aliases used to
+	/// compile them).
+	///
+	/// @param locations Template locations.
+	/// @return The number of evicted templates.
+	public int evict(Collection<String> locations) {
+		notNull(locations, "Locations must not be null");
+
+		int evicted = 0;
+		synchronized (creationCache) {
+			generation++;
+			Iterator<TemplateKey> it = creationCache.keySet().iterator();
+			while (it.hasNext()) {
+				TemplateKey key = it.next();
+				if (locations.contains(key.getLocation())) {
+					log.debug("Evict template: {}", key);
+					accessCache.remove(key);
+					it.remove();
+					evicted++;
+				}
+			}
+		}
+
+		return evicted;
+	}
+
+	/// Remove all cached templates.
+	public void clear() {
+		log.debug("Clear template cache");
+		synchronized (creationCache) {
+			generation++;
+			accessCache.clear();
+			creationCache.clear();
+		}
+	}
+
+	/// Check if cache is enabled.
+	///
+	/// @return `true` if cache is enabled, `false` otherwise.
+	public boolean isEnabled() {
+		return limit > 0;
+	}
+
+	/// Get cache limit.
+	///
+	/// @return Cache limit.
+	public int getLimit() {
+		return limit;
+	}
+
+	/// Update cache limit: if new limit is lower than the number of cached templates,
+	/// cache is cleared.
+	///
+	/// @param limit New limit, `0` to disable cache.
+	public void setLimit(int limit) {
+		this.limit = positive(limit);
+
+		if (size() > this.limit) {
+			clear();
+		}
+	}
+
+	/// Get the number of cached templates.
+	///
+	/// @return Number of cached templates.
+	public int size() {
+		return accessCache.size();
+	}
+
+	private static int positive(int limit) {
+		if (limit < 0) {
+			throw new IllegalArgumentException("Cache limit must be positive");
+		}
+
+		return limit;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("limit", limit)
+				.append("size", size())
+				.build();
+	}
+
+	/// Key identifying a compiled template.
+	public static final class TemplateKey {
+
+		/// Resolved template location.
+		private final String location;
+
+		/// Partials aliases in effect during compilation.
+		private final Map<String, String> aliases;
+
+		/// Pre-computed hash code.
+		private final int hash;
+
+		/// Create key.
+		///
+		/// @param location Resolved template location.
+		/// @param aliases Partials aliases in effect during compilation.
+		public TemplateKey(String location, Map<String, String> aliases) {
+			this.location = notNull(location, "Template location must not be null");
+			this.aliases = aliases == null ? emptyMap() : aliases;
+			this.hash = 31 * location.hashCode() + this.aliases.hashCode();
+		}
+
+		/// Get [#location]
+		///
+		/// @return [#location]
+		public String getLocation() {
+			return location;
+		}
+
+		/// Get [#aliases]
+		///
+		/// @return [#aliases]
+		public Map<String, String> getAliases() {
+			return aliases;
+		}
+
+		/// Create an immutable copy of this key.
+		///
+		/// @return Immutable key.
+		TemplateKey snapshot() {
+			Map<String, String> copy = aliases.isEmpty() ? emptyMap() : unmodifiableMap(new HashMap<>(aliases));
+			return new TemplateKey(location, copy);
+		}
+
+		@Override
+		public boolean equals(Object o) {
+			if (o == this) {
+				return true;
+			}
+
+			if (o instanceof TemplateKey) {
+				TemplateKey k = (TemplateKey) o;
+				return hash == k.hash && Objects.equals(location, k.location) && Objects.equals(aliases, k.aliases);
+			}
+
+			return false;
+		}
+
+		@Override
+		public int hashCode() {
+			return hash;
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.builder(this)
+					.append("location", location)
+					.append("aliases", aliases)
+					.build();
+		}
+	}
+}
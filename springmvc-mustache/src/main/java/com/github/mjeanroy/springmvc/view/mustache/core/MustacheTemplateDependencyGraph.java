@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Dependency graph between compiled (root) templates and the templates (i.e. partials) they load.
+///
+/// Each time a template is loaded while a root template is compiled (or rendered, since some engines
+/// load partials lazily), a dependency between the root template and the loaded template is recorded:
+/// dependencies of a root template are therefore transitive (partials of partials are recorded as
+/// dependencies of the root template).
+///
+/// A root template is "tracked" once its own location has been recorded: a root template that has not been
+/// tracked has been compiled without recording anything (for example, with a custom compiler), so its
+/// dependencies are unknown and it must be considered as depending on any template.
+///
+/// This class is thread safe.
+public final class MustacheTemplateDependencyGraph {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheTemplateDependencyGraph.class);
+
+	/// Dependencies (i.e. loaded templates), indexed by root template location.
+	private final ConcurrentMap<String, Set<String>> dependencies;
+
+	/// Root templates whose dependencies are known.
+	private final Set<String> tracked;
+
+	/// Create empty graph.
+	public MustacheTemplateDependencyGraph() {
+		this.dependencies = new ConcurrentHashMap<>();
+		this.tracked = ConcurrentHashMap.newKeySet();
+	}
+
+	/// Record that given template has been loaded while compiling (or rendering) given root template.
+	///
+	/// @param root Root template location.
+	/// @param location Loaded template location.
+	public void record(String root, String location) {
+		notNull(root, "Root template location must not be null");
+		notNull(location, "Template location must not be null");
+
+		final Set<String> rootDependencies = dependencies.computeIfAbsent(root, k -> ConcurrentHashMap.newKeySet());
+		if (root.equals(location)) {
+			tracked.add(root);
+		}
+		else if (rootDependencies.add(location)) {
+			log.trace("Template {} depends on {}", root, location);
+		}
+	}
+
+	/// Check if dependencies of given root template are known.
+	///
+	/// @param root Root template location.
+	/// @return `true` if root template has been tracked, `false` otherwise.
+	public boolean isTracked(String root) {
+		return tracked.contains(root);
+	}
+
+	/// Get templates loaded by given root template (i.e. fan-out).
+	///
+	/// @param root Root template location.
+	/// @return Template dependencies.
+	public Set<String> getDependencies(String root) {
+		final Set<String> rootDependencies = dependencies.get(root);
+		return rootDependencies == null ? Collections.emptySet() : Collections.unmodifiableSet(new TreeSet<>(rootDependencies));
+	}
+
+	/// Get root templates that depend on given template (i.e. fan-in).
+	///
+	/// @param location Template location.
+	/// @return Root templates loading given template.
+	public Set<String> getDependents(String location) {
+		final Set<String> dependents = new TreeSet<>();
+		for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+			if (entry.getValue().contains(location)) {
+				dependents.add(entry.getKey());
+			}
+		}
+
+		return Collections.unmodifiableSet(dependents);
+	}
+
+	/// Get root templates that must be invalidated when given template is modified: the template itself,
+	/// root templates that depend on it, and root templates whose dependencies are unknown.
+	///
+	/// @param location Modified template location.
+	/// @return Root templates to invalidate.
+	public Set<String> getInvalidated(String location) {
+		final Set<String> invalidated = new LinkedHashSet<>();
+		invalidated.add(location);
+
+		for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+			final String root = entry.getKey();
+			if (entry.getValue().contains(location) || !tracked.contains(root)) {
+				invalidated.add(root);
+			}
+		}
+
+		return invalidated;
+	}
+
+	/// Remove given root template (and its dependencies) from the graph.
+	///
+	/// @param root Root template location.
+	public void remove(String root) {
+		dependencies.remove(root);
+		tracked.remove(root);
+	}
+
+	/// Remove all templates from the graph.
+	public void clear() {
+		dependencies.clear();
+		tracked.clear();
+	}
+
+	/// Build a report of the graph: an entry is returned for each template (root templates and loaded
+	/// templates), with its fan-in (number of root templates loading this template) and its fan-out (number
+	/// of templates loaded by this template).
+	///
+	/// Entries are sorted by fan-in (descending), then by location: most shared partials come first.
+	///
+	/// @return Graph report.
+	public List<Node> report() {
+		final Map<String, Set<String>> dependents = new HashMap<>();
+		final Map<String, Set<String>> snapshot = new HashMap<>();
+
+		for (Map.Entry<String, Set<String>> entry : dependencies.entrySet()) {
+			final String root = entry.getKey();
+			final Set<String> rootDependencies = new TreeSet<>(entry.getValue());
+			snapshot.put(root, rootDependencies);
+			dependents.computeIfAbsent(root, k -> new TreeSet<>());
+
+			for (String location : rootDependencies) {
+				dependents.computeIfAbsent(location, k -> new TreeSet<>()).add(root);
+			}
+		}
+
+		final List<Node> nodes = new ArrayList<>(dependents.size());
+		for (Map.Entry<String, Set<String>> entry : dependents.entrySet()) {
+			final String location = entry.getKey();
+			final Set<String> locationDependencies = snapshot.getOrDefault(location, Collections.emptySet());
+			nodes.add(new Node(location, entry.getValue(), locationDependencies));
+		}
+
+		nodes.sort(Comparator.comparingInt(Node::getFanIn).reversed().thenComparing(Node::getLocation));
+		return nodes;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("dependencies", dependencies)
+				.append("tracked", tracked)
+				.build();
+	}
+
+	/// A template of the dependency graph.
+	public static final class Node {
+
+		/// Template location.
+		private final String location;
+
+		/// Root templates loading this template.
+		private final Set<String> dependents;
+
+		/// Templates loaded by this template.
+		private final Set<String> dependencies;
+
+		private Node(String location, Set<String> dependents, Set<String> dependencies) {
+			this.location = location;
+			this.dependents = Collections.unmodifiableSet(dependents);
+			this.dependencies = Collections.unmodifiableSet(dependencies);
+		}
+
+		/// Get [#location]
+		///
+		/// @return [#location]
+		public String getLocation() {
+			return location;
+		}
+
+		/// Get [#dependents]
+		///
+		/// @return [#dependents]
+		public Set<String> getDependents() {
+			return dependents;
+		}
+
+		/// Get [#dependencies]
+		///
+		/// @return [#dependencies]
+		public Set<String> getDependencies() {
+			return dependencies;
+		}
+
+		/// Get the number of root templates loading this template.
+		///
+		/// @return Fan-in.
+		public int getFanIn() {
+			return dependents.size();
+		}
+
+		/// Get the number of templates loaded by this template.
+		///
+		/// @return Fan-out.
+		public int getFanOut() {
+			return dependencies.size();
+		}
+
+		@Override
+		public String toString() {
+			return ToStringBuilder.builder(this)
+					.append("location", location)
+					.append("fanIn", getFanIn())
+					.append("fanOut", getFanOut())
+					.build();
+		}
+	}
+}
@@ -0,0 +1,271 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustachePrecompilationException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Compile all templates available in the template location when the application context
+/// is refreshed, so that the first request to each view does not pay for resource lookup, parsing
+/// and class loading.
+///
+/// Templates are scanned in the prefix location, and must end with the suffix (for example,
+/// with prefix `/templates/` and suffix `.template.html`, the pattern `/templates/**/*.template.html`
+/// is used). Templates are then compiled in parallel with the configured [MustacheCompiler].
+///
+/// Precompilation fails fast: if a template cannot be compiled, remaining compilations are cancelled and
+/// a [MustachePrecompilationException] is thrown (so that application startup fails).
+public final class MustacheTemplatePrecompiler implements ApplicationListener<ContextRefreshedEvent> {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheTemplatePrecompiler.class);
+
+	/// The classpath scheme, used to scan templates in the classpath.
+	private static final String CLASSPATH_ALL_URL_PREFIX = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX;
+
+	/// The compiler, used to compile templates.
+	private final MustacheCompiler compiler;
+
+	/// Template location prefix.
+	private final String prefix;
+
+	/// Template suffix.
+	private final String suffix;
+
+	/// Number of threads used to compile templates.
+	private final int threads;
+
+	/// Flag ensuring that templates are precompiled only once, even if more than one
+	/// context is refreshed (for example, a parent and a child context).
+	private final AtomicBoolean done;
+
+	/// Create precompiler.
+	///
+	/// @param compiler The compiler.
+	/// @param prefix The template location prefix.
+	/// @param suffix The template suffix.
+	/// @param threads Number of threads used to compile templates, `0` to use the number of available processors.
+	public MustacheTemplatePrecompiler(MustacheCompiler compiler, String prefix, String suffix, int threads) {
+		if (threads < 0) {
+			throw new IllegalArgumentException("Number of threads must be positive");
+		}
+
+		this.compiler = notNull(compiler, "Compiler must not be null");
+		this.prefix = notNull(prefix, "Prefix must not be null");
+		this.suffix = notNull(suffix, "Suffix must not be null");
+		this.threads = threads == 0 ? Runtime.getRuntime().availableProcessors() : threads;
+		this.done = new AtomicBoolean(false);
+	}
+
+	@Override
+	public void onApplicationEvent(ContextRefreshedEvent event) {
+		if (done.compareAndSet(false, true)) {
+			precompile(ResourcePatternUtils.getResourcePatternResolver(event.getApplicationContext()));
+		}
+	}
+
+	/// Scan and compile all templates.
+	///
+	/// @param resourcePatternResolver The resource pattern resolver, used to scan templates.
+	/// @return The number of compiled templates.
+	public int precompile(ResourcePatternResolver resourcePatternResolver) {
+		notNull(resourcePatternResolver, "Resource pattern resolver must not be null");
+
+		final long start = System.nanoTime();
+		final Set<String> templates = scan(resourcePatternResolver);
+		if (templates.isEmpty()) {
+			log.warn("No mustache templates found in {} with suffix {}, skip precompilation", prefix, suffix);
+			return 0;
+		}
+
+		final int nbThreads = Math.min(threads, templates.size());
+		log.info("Precompile {} mustache templates using {} threads", templates.size(), nbThreads);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(nbThreads, new PrecompilerThreadFactory());
+		try {
+			final CompletionService<String> completionService = new ExecutorCompletionService<>(executor);
+			for (String template : templates) {
+				completionService.submit(() -> compile(template), template);
+			}
+
+			for (int i = 0; i < templates.size(); i++) {
+				awaitCompilation(completionService);
+			}
+		}
+		finally {
+			executor.shutdownNow();
+		}
+
+		log.info("Mustache templates precompiled in {} ms", elapsed(start));
+		return templates.size();
+	}
+
+	private void compile(String template) {
+		final long start = System.nanoTime();
+
+		try {
+			compiler.compile(template);
+		}
+		catch (RuntimeException ex) {
+			log.error("Mustache template " + template + " cannot be compiled", ex);
+			throw new MustachePrecompilationException(template, ex);
+		}
+
+		log.debug("Template {} compiled in {} ms", template, elapsed(start));
+	}
+
+	private static void awaitCompilation(CompletionService<String> completionService) {
+		try {
+			completionService.take().get();
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException("Mustache templates precompilation has been interrupted", ex);
+		}
+		catch (ExecutionException ex) {
+			final Throwable cause = ex.getCause();
+			if (cause instanceof RuntimeException) {
+				throw (RuntimeException) cause;
+			}
+
+			throw new IllegalStateException(cause);
+		}
+	}
+
+	/// Scan templates available in template location.
+	///
+	/// Template location is scanned with given resolver, and in the classpath (since templates are
+	/// resolved in the classpath as a fallback by the default template loader).
+	///
+	/// @param resourcePatternResolver The resource pattern resolver.
+	/// @return Template names (i.e. template locations, prefixed with the template prefix).
+	private Set<String> scan(ResourcePatternResolver resourcePatternResolver) {
+		final List<String> rootLocations = new ArrayList<>(2);
+		rootLocations.add(prefix);
+		if (!prefix.contains(":")) {
+			rootLocations.add(CLASSPATH_ALL_URL_PREFIX + StringUtils.trimLeadingCharacter(prefix, '/'));
+		}
+
+		final Set<String> templates = new LinkedHashSet<>();
+		for (String rootLocation : rootLocations) {
+			try {
+				scan(resourcePatternResolver, rootLocation, templates);
+			}
+			catch (IOException ex) {
+				log.warn("Cannot scan mustache templates in {}: {}", rootLocation, ex.getMessage());
+			}
+		}
+
+		if (log.isTraceEnabled()) {
+			for (String template : templates) {
+				log.trace("  => Found template: {}", template);
+			}
+		}
+
+		return templates;
+	}
+
+	private void scan(ResourcePatternResolver resourcePatternResolver, String rootLocation, Set<String> templates) throws IOException {
+		final String root = rootLocation.endsWith("/") ? rootLocation : rootLocation + "/";
+		final String pattern = root + "**/*" + suffix;
+		log.debug("Scan mustache templates matching {}", pattern);
+
+		final List<String> rootUrls = new ArrayList<>();
+		for (Resource rootResource : resourcePatternResolver.getResources(root)) {
+			if (rootResource.exists()) {
+				final String url = rootResource.getURL().toString();
+				rootUrls.add(url.endsWith("/") ? url : url + "/");
+			}
+		}
+
+		for (Resource resource : resourcePatternResolver.getResources(pattern)) {
+			if (!resource.isReadable()) {
+				continue;
+			}
+
+			final String url = resource.getURL().toString();
+			for (String rootUrl : rootUrls) {
+				if (url.startsWith(rootUrl)) {
+					final String relativePath = StringUtils.uriDecode(url.substring(rootUrl.length()), StandardCharsets.UTF_8);
+					templates.add(prefix.endsWith("/") ? prefix + relativePath : prefix + "/" + relativePath);
+					break;
+				}
+			}
+		}
+	}
+
+	private static long elapsed(long start) {
+		return (System.nanoTime() - start) / 1_000_000;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("compiler", compiler)
+				.append("prefix", prefix)
+				.append("suffix", suffix)
+				.append("threads", threads)
+				.build();
+	}
+
+	/// Thread factory, creating daemon threads used to compile templates.
+	private static final class PrecompilerThreadFactory implements ThreadFactory {
+
+		/// Thread counter, used to generate thread names.
+		private final AtomicInteger counter = new AtomicInteger(0);
+
+		@Override
+		public Thread newThread(Runnable runnable) {
+			Thread thread = new Thread(runnable, "mustache-precompiler-" + counter.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		}
+	}
+}
@@ -0,0 +1,327 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.context.ResourceLoaderAware;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternResolver;
+import org.springframework.core.io.support.ResourcePatternUtils;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+/// Watch template directories, and invalidate templates as soon as they are modified, created
+/// or removed, so that caches (compiled templates, template sources and resolved locations) can remain
+/// enabled during development.
+///
+/// Template directories are the directories, available on the filesystem, matching the prefix location
+/// (with the given resource loader, and in the classpath). Each sub-directory is watched too.
+///
+/// Only the templates ending with the suffix are invalidated, using the [AbstractMustacheCompiler#invalidate(String)]
+/// method: invalidation is ignored if the compiler does not extend [AbstractMustacheCompiler].
+public final class MustacheTemplateWatcher implements SmartLifecycle, ResourceLoaderAware {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheTemplateWatcher.class);
+
+	/// The classpath scheme, used to find template directories in the classpath.
+	private static final String CLASSPATH_ALL_URL_PREFIX = ResourcePatternResolver.CLASSPATH_ALL_URL_PREFIX;
+
+	/// The compiler, whose templates are invalidated.
+	private final MustacheCompiler compiler;
+
+	/// Template location prefix.
+	private final String prefix;
+
+	/// Template suffix.
+	private final String suffix;
+
+	/// Watched directories, indexed by watch key: the value is the location prefix of templates in this directory.
+	private final Map<WatchKey, WatchedDirectory> directories;
+
+	/// The resource pattern resolver, used to find template directories.
+	private ResourcePatternResolver resourcePatternResolver;
+
+	/// The watch service, `null` if watcher is not running.
+	private WatchService watchService;
+
+	/// The thread, waiting for filesystem events.
+	private Thread thread;
+
+	/// Create watcher.
+	///
+	/// @param compiler The compiler.
+	/// @param prefix The template location prefix.
+	/// @param suffix The template suffix.
+	public MustacheTemplateWatcher(MustacheCompiler compiler, String prefix, String suffix) {
+		this.compiler = notNull(compiler, "Compiler must not be null");
+		this.prefix = notNull(prefix, "Prefix must not be null");
+		this.suffix = notNull(suffix, "Suffix must not be null");
+		this.directories = new ConcurrentHashMap<>();
+		this.resourcePatternResolver = new PathMatchingResourcePatternResolver();
+	}
+
+	@Override
+	public void setResourceLoader(ResourceLoader resourceLoader) {
+		this.resourcePatternResolver = ResourcePatternUtils.getResourcePatternResolver(resourceLoader);
+	}
+
+	@Override
+	public synchronized void start() {
+		if (watchService != null) {
+			return;
+		}
+
+		if (!(compiler instanceof AbstractMustacheCompiler)) {
+			log.warn("Mustache compiler {} does not support template invalidation, skip template watcher", compiler);
+			return;
+		}
+
+		final Map<Path, String> roots = findTemplateDirectories();
+		if (roots.isEmpty()) {
+			log.warn("No mustache template directory found on filesystem for {}, skip template watcher", prefix);
+			return;
+		}
+
+		try {
+			watchService = FileSystems.getDefault().newWatchService();
+			for (Map.Entry<Path, String> root : roots.entrySet()) {
+				log.info("Watch mustache templates in {}", root.getKey());
+				register(root.getKey(), root.getValue());
+			}
+		}
+		catch (IOException ex) {
+			log.error("Cannot watch mustache templates: " + ex.getMessage(), ex);
+			close();
+			return;
+		}
+
+		thread = new Thread(this::watch, "mustache-template-watcher");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (watchService == null) {
+			return;
+		}
+
+		log.info("Stop watching mustache templates");
+		close();
+
+		try {
+			thread.join(1000);
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+
+		thread = null;
+	}
+
+	@Override
+	public synchronized boolean isRunning() {
+		return watchService != null;
+	}
+
+	private void close() {
+		try {
+			watchService.close();
+		}
+		catch (IOException ex) {
+			log.warn("Cannot close watch service: {}", ex.getMessage());
+		}
+
+		watchService = null;
+		directories.clear();
+	}
+
+	/// Find template directories, available on the filesystem, with the location prefix of templates in
+	/// these directories.
+	///
+	/// @return Template directories.
+	private Map<Path, String> findTemplateDirectories() {
+		final List<String> rootLocations = new ArrayList<>(2);
+		rootLocations.add(prefix);
+		if (!prefix.contains(":")) {
+			rootLocations.add(CLASSPATH_ALL_URL_PREFIX + StringUtils.trimLeadingCharacter(prefix, '/'));
+		}
+
+		final String templatePrefix = prefix.endsWith("/") ? prefix : prefix + "/";
+		final Map<Path, String> roots = new LinkedHashMap<>();
+		for (String rootLocation : rootLocations) {
+			try {
+				for (Resource resource : resourcePatternResolver.getResources(rootLocation)) {
+					if (resource.exists() && resource.isFile() && resource.getFile().isDirectory()) {
+						roots.putIfAbsent(resource.getFile().toPath().toAbsolutePath().normalize(), templatePrefix);
+					}
+				}
+			}
+			catch (IOException ex) {
+				log.warn("Cannot find mustache template directories in {}: {}", rootLocation, ex.getMessage());
+			}
+		}
+
+		return roots;
+	}
+
+	/// Register given directory, and all its sub-directories.
+	///
+	/// @param directory The directory.
+	/// @param location The location prefix of templates in this directory.
+	/// @throws IOException If an I/O error occurs.
+	private void register(Path directory, String location) throws IOException {
+		Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+			@Override
+			public FileVisitResult preVisitDirectory(Path dir, BasicFileAttributes attrs) throws IOException {
+				final StringBuilder dirLocation = new StringBuilder(location);
+				for (Path part : directory.relativize(dir)) {
+					final String name = part.toString();
+					if (!name.isEmpty()) {
+						dirLocation.append(name).append('/');
+					}
+				}
+
+				log.debug("Watch template directory {}", dir);
+				final WatchKey key = dir.register(watchService, ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY);
+				directories.put(key, new WatchedDirectory(dir, dirLocation.toString()));
+				return FileVisitResult.CONTINUE;
+			}
+		});
+	}
+
+	private void watch() {
+		final WatchService watchService;
+		synchronized (this) {
+			watchService = this.watchService;
+		}
+
+		while (watchService != null) {
+			final WatchKey key;
+
+			try {
+				key = watchService.take();
+			}
+			catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+				return;
+			}
+			catch (ClosedWatchServiceException ex) {
+				return;
+			}
+
+			final WatchedDirectory directory = directories.get(key);
+			if (directory != null) {
+				for (WatchEvent<?> event : key.pollEvents()) {
+					onEvent(directory, event);
+				}
+			}
+
+			if (!key.reset()) {
+				directories.remove(key);
+			}
+		}
+	}
+
+	private void onEvent(WatchedDirectory directory, WatchEvent<?> event) {
+		try {
+			if (event.kind() == OVERFLOW) {
+				log.debug("Some template events may have been lost, invalidate all templates");
+				((AbstractMustacheCompiler) compiler).invalidateAll();
+				return;
+			}
+
+			final Path path = directory.path.resolve((Path) event.context());
+			final String location = directory.location + path.getFileName();
+
+			if (event.kind() == ENTRY_CREATE && Files.isDirectory(path)) {
+				synchronized (this) {
+					if (watchService != null) {
+						register(path, location + "/");
+					}
+				}
+			}
+			else if (location.endsWith(suffix)) {
+				log.info("Template {} has changed ({}), invalidate it", location, event.kind().name());
+				((AbstractMustacheCompiler) compiler).invalidate(location);
+			}
+		}
+		catch (IOException | RuntimeException ex) {
+			log.warn("Cannot process template event: {}", ex.getMessage());
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("compiler", compiler)
+				.append("prefix", prefix)
+				.append("suffix", suffix)
+				.build();
+	}
+
+	/// A watched directory.
+	private static final class WatchedDirectory {
+
+		/// The directory path.
+		private final Path path;
+
+		/// The location prefix of templates in this directory.
+		private final String location;
+
+		private WatchedDirectory(Path path, String location) {
+			this.path = path;
+			this.location = location;
+		}
+	}
+}
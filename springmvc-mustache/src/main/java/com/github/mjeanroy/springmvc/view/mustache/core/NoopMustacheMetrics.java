@@ -0,0 +1,59 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+/// Implementation of [MustacheMetrics] that does nothing.
+final class NoopMustacheMetrics implements MustacheMetrics {
+
+	private static final NoopMustacheMetrics INSTANCE = new NoopMustacheMetrics();
+
+	static NoopMustacheMetrics getInstance() {
+		return INSTANCE;
+	}
+
+	private NoopMustacheMetrics() {
+	}
+
+	@Override
+	public void recordLoad(String location, long durationNanos) {
+	}
+
+	@Override
+	public void recordCompile(String location, long durationNanos) {
+	}
+
+	@Override
+	public void recordRender(String location, long durationNanos, long chars) {
+	}
+
+	@Override
+	public void recordCacheAccess(String cache, boolean hit) {
+	}
+
+	@Override
+	public String toString() {
+		return "NoopMustacheMetrics";
+	}
+}
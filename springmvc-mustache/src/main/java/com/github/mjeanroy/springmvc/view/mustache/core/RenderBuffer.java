@@ -0,0 +1,211 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+
+/// Reusable buffer where a template is rendered before being written, in one bulk operation, to
+/// the response (see [RenderBufferPool]).
+///
+/// Rendered characters are stored in a growable char array, and encoded into a growable byte array: both
+/// arrays double their capacity when they are full, so that their sizes remain multiples of the initial
+/// capacity.
+///
+/// This class is not thread safe: a buffer must not be used by several threads at the same time.
+public final class RenderBuffer extends Writer {
+
+	/// Rendered characters.
+	private char[] chars;
+
+	/// Number of rendered characters.
+	private int size;
+
+	/// Encoded characters.
+	private byte[] bytes;
+
+	/// Number of encoded bytes.
+	private int length;
+
+	/// Last encoder used, reused as long as the charset does not change.
+	private CharsetEncoder encoder;
+
+	/// Buffer state, set by [RenderBufferPool].
+	boolean inUse;
+
+	/// Create buffer.
+	///
+	/// @param capacity Initial capacity (in characters, and in bytes).
+	RenderBuffer(int capacity) {
+		this.chars = new char[capacity];
+		this.bytes = new byte[capacity];
+	}
+
+	@Override
+	public void write(int c) {
+		ensureCapacity(size + 1);
+		chars[size++] = (char) c;
+	}
+
+	@Override
+	public void write(char[] buffer, int offset, int len) {
+		ensureCapacity(size + len);
+		System.arraycopy(buffer, offset, chars, size, len);
+		size += len;
+	}
+
+	@Override
+	public void write(String str) {
+		write(str, 0, str.length());
+	}
+
+	@Override
+	public void write(String str, int offset, int len) {
+		ensureCapacity(size + len);
+		str.getChars(offset, offset + len, chars, size);
+		size += len;
+	}
+
+	@Override
+	public void flush() {
+	}
+
+	@Override
+	public void close() {
+	}
+
+	/// Get the number of rendered characters.
+	///
+	/// @return Number of rendered characters.
+	public int size() {
+		return size;
+	}
+
+	/// Get the capacity of this buffer: i.e. the largest capacity of the char and byte arrays.
+	///
+	/// @return Capacity.
+	public int capacity() {
+		return Math.max(chars.length, bytes.length);
+	}
+
+	/// Encode rendered characters with given charset: unmappable characters are replaced, as a
+	/// [java.io.OutputStreamWriter] would do.
+	///
+	/// @param charset The charset.
+	/// @return Number of encoded bytes.
+	public int encode(Charset charset) {
+		CharsetEncoder encoder = this.encoder;
+		if (encoder == null || !encoder.charset().equals(charset)) {
+			encoder = charset.newEncoder()
+					.onMalformedInput(CodingErrorAction.REPLACE)
+					.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+			this.encoder = encoder;
+		}
+		else {
+			encoder.reset();
+		}
+
+		CharBuffer in = CharBuffer.wrap(chars, 0, size);
+		ByteBuffer out = ByteBuffer.wrap(bytes);
+
+		CoderResult result = encoder.encode(in, out, true);
+		while (result.isOverflow()) {
+			out = growBytes(out);
+			result = encoder.encode(in, out, true);
+		}
+
+		result = encoder.flush(out);
+		while (result.isOverflow()) {
+			out = growBytes(out);
+			result = encoder.flush(out);
+		}
+
+		length = out.position();
+		return length;
+	}
+
+	/// Write bytes encoded by [#encode(Charset)] to given output stream.
+	///
+	/// @param outputStream The output stream.
+	/// @throws IOException If an I/O error occurs.
+	public void writeTo(OutputStream outputStream) throws IOException {
+		outputStream.write(bytes, 0, length);
+	}
+
+	/// Write rendered characters to given writer.
+	///
+	/// @param writer The writer.
+	/// @throws IOException If an I/O error occurs.
+	public void writeTo(Writer writer) throws IOException {
+		writer.write(chars, 0, size);
+	}
+
+	/// Reset this buffer, keeping its capacity.
+	void reset() {
+		size = 0;
+		length = 0;
+	}
+
+	/// Reset this buffer, and shrink it to given capacity.
+	///
+	/// @param capacity New capacity.
+	void shrink(int capacity) {
+		reset();
+		chars = new char[capacity];
+		bytes = new byte[capacity];
+	}
+
+	private void ensureCapacity(int minCapacity) {
+		if (minCapacity > chars.length) {
+			chars = Arrays.copyOf(chars, Math.max(minCapacity, chars.length * 2));
+		}
+	}
+
+	private ByteBuffer growBytes(ByteBuffer out) {
+		bytes = Arrays.copyOf(bytes, bytes.length * 2);
+		ByteBuffer newOut = ByteBuffer.wrap(bytes);
+		newOut.position(out.position());
+		return newOut;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("size", size)
+				.append("capacity", capacity())
+				.build();
+	}
+}
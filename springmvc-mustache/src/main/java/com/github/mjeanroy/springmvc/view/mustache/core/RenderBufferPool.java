@@ -0,0 +1,173 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/// Pool of [RenderBuffer], used to render templates in memory before writing them, in one bulk operation,
+/// to the response.
+///
+/// Idle buffers are shared by all threads, and the pool retains at most a given number of them: a buffer
+/// released while the pool is full is dropped. Buffers are reused in LIFO order, so that the most recently
+/// used buffer (likely still in CPU caches) is acquired first. A buffer that has grown above the maximum
+/// retained capacity (i.e. after rendering a large page) is shrunk to the initial capacity once it is
+/// released, so the memory retained by the pool is bounded by `maxRetainedBuffers * maxRetainedCapacity`,
+/// whatever the number of threads rendering views.
+///
+/// If no buffer is idle (i.e. concurrent or nested rendering), a new buffer is returned.
+///
+/// This class is thread safe.
+public final class RenderBufferPool {
+
+	private static final Logger log = LoggerFactory.getLogger(RenderBufferPool.class);
+
+	/// Initial capacity of buffers (in characters, and in bytes).
+	private final int initialCapacity;
+
+	/// Maximum capacity of a buffer retained after rendering.
+	private final int maxRetainedCapacity;
+
+	/// Maximum number of idle buffers retained by the pool.
+	private final int maxRetainedBuffers;
+
+	/// Idle buffers.
+	private final Deque<RenderBuffer> buffers;
+
+	/// Number of idle buffers: [ConcurrentLinkedDeque#size()] is not a constant time operation.
+	private final AtomicInteger size;
+
+	/// Create pool, retaining at most [MustacheSettings#RENDER_BUFFER_MAX_RETAINED_COUNT] idle buffers.
+	///
+	/// @param initialCapacity Initial capacity of buffers (in characters, and in bytes).
+	/// @param maxRetainedCapacity Maximum capacity of a buffer retained after rendering.
+	public RenderBufferPool(int initialCapacity, int maxRetainedCapacity) {
+		this(initialCapacity, maxRetainedCapacity, MustacheSettings.RENDER_BUFFER_MAX_RETAINED_COUNT);
+	}
+
+	/// Create pool.
+	///
+	/// @param initialCapacity Initial capacity of buffers (in characters, and in bytes).
+	/// @param maxRetainedCapacity Maximum capacity of a buffer retained after rendering.
+	/// @param maxRetainedBuffers Maximum number of idle buffers retained by the pool.
+	public RenderBufferPool(int initialCapacity, int maxRetainedCapacity, int maxRetainedBuffers) {
+		if (initialCapacity <= 0) {
+			throw new IllegalArgumentException("Initial capacity must be positive");
+		}
+
+		if (maxRetainedBuffers < 0) {
+			throw new IllegalArgumentException("Maximum number of retained buffers must be positive or zero");
+		}
+
+		this.initialCapacity = initialCapacity;
+		this.maxRetainedCapacity = Math.max(initialCapacity, maxRetainedCapacity);
+		this.maxRetainedBuffers = maxRetainedBuffers;
+		this.buffers = new ConcurrentLinkedDeque<>();
+		this.size = new AtomicInteger(0);
+	}
+
+	/// Acquire a buffer: this buffer must be released (see [#release(RenderBuffer)]) once
+	/// rendered template has been written.
+	///
+	/// @return The buffer.
+	public RenderBuffer acquire() {
+		RenderBuffer buffer = buffers.pollFirst();
+
+		if (buffer == null) {
+			log.trace("No idle render buffer, create a new one");
+			buffer = new RenderBuffer(initialCapacity);
+		}
+		else {
+			size.decrementAndGet();
+		}
+
+		buffer.inUse = true;
+		return buffer;
+	}
+
+	/// Release given buffer, so that it can be reused.
+	///
+	/// @param buffer The buffer.
+	public void release(RenderBuffer buffer) {
+		if (!buffer.inUse) {
+			return;
+		}
+
+		buffer.inUse = false;
+
+		// Reserve a slot first, so that the number of retained buffers never exceeds the limit.
+		if (size.incrementAndGet() > maxRetainedBuffers) {
+			size.decrementAndGet();
+			log.trace("Render buffer pool is full, drop released buffer");
+			return;
+		}
+
+		if (buffer.capacity() > maxRetainedCapacity) {
+			log.trace("Render buffer capacity ({}) exceeds maximum retained capacity, shrink it", buffer.capacity());
+			buffer.shrink(initialCapacity);
+		}
+		else {
+			buffer.reset();
+		}
+
+		buffers.offerFirst(buffer);
+	}
+
+	/// Get [#initialCapacity]
+	///
+	/// @return [#initialCapacity]
+	public int getInitialCapacity() {
+		return initialCapacity;
+	}
+
+	/// Get [#maxRetainedCapacity]
+	///
+	/// @return [#maxRetainedCapacity]
+	public int getMaxRetainedCapacity() {
+		return maxRetainedCapacity;
+	}
+
+	/// Get [#maxRetainedBuffers]
+	///
+	/// @return [#maxRetainedBuffers]
+	public int getMaxRetainedBuffers() {
+		return maxRetainedBuffers;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("initialCapacity", initialCapacity)
+				.append("maxRetainedCapacity", maxRetainedCapacity)
+				.append("maxRetainedBuffers", maxRetainedBuffers)
+				.build();
+	}
+}
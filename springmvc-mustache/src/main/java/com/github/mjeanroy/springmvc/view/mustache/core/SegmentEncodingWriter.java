@@ -0,0 +1,184 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Writer encoding rendered characters to an output stream, using the charset of given [StaticSegments]: static
+/// segments of the template are written as bytes encoded at compilation time, so that only dynamic values are
+/// encoded during rendering.
+///
+/// Dynamic values are buffered, and encoded before the next static segment is written (or when this writer is
+/// flushed). Closing this writer flushes remaining characters but does not close the underlying output stream.
+///
+/// This class is not thread safe: a writer must be confined to a single thread.
+public final class SegmentEncodingWriter extends Writer {
+
+	/// Size (in characters) of the buffer of dynamic values, and size (in bytes) of the encoding buffer.
+	private static final int BUFFER_SIZE = 1024;
+
+	/// The output stream.
+	private final OutputStream outputStream;
+
+	/// Static segments, encoded at compilation time.
+	private final StaticSegments segments;
+
+	/// Encoder used for dynamic values.
+	private final CharsetEncoder encoder;
+
+	/// Buffer of dynamic values not encoded yet.
+	private final CharBuffer chars;
+
+	/// Buffer of encoded dynamic values.
+	private final ByteBuffer bytes;
+
+	/// Create writer.
+	///
+	/// @param outputStream The output stream.
+	/// @param segments Static segments.
+	public SegmentEncodingWriter(OutputStream outputStream, StaticSegments segments) {
+		this.outputStream = notNull(outputStream, "Output stream must not be null");
+		this.segments = notNull(segments, "Segments must not be null");
+		this.encoder = segments.getCharset().newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		this.chars = CharBuffer.allocate(BUFFER_SIZE);
+		this.bytes = ByteBuffer.allocate(BUFFER_SIZE);
+	}
+
+	@Override
+	public void write(String str, int offset, int len) throws IOException {
+		if (offset == 0 && len == str.length()) {
+			byte[] encoded = segments.get(str);
+			if (encoded != null) {
+				encodeChars(true);
+				outputStream.write(encoded);
+				return;
+			}
+		}
+
+		int start = offset;
+		int end = offset + len;
+		while (start < end) {
+			int count = Math.min(end - start, chars.remaining());
+			str.getChars(start, start + count, chars.array(), chars.position());
+			chars.position(chars.position() + count);
+			start += count;
+			if (!chars.hasRemaining()) {
+				encodeChars(false);
+			}
+		}
+	}
+
+	@Override
+	public void write(char[] buffer, int offset, int len) throws IOException {
+		int start = offset;
+		int end = offset + len;
+		while (start < end) {
+			int count = Math.min(end - start, chars.remaining());
+			chars.put(buffer, start, count);
+			start += count;
+			if (!chars.hasRemaining()) {
+				encodeChars(false);
+			}
+		}
+	}
+
+	@Override
+	public void write(int c) throws IOException {
+		chars.put((char) c);
+		if (!chars.hasRemaining()) {
+			encodeChars(false);
+		}
+	}
+
+	@Override
+	public void flush() throws IOException {
+		encodeChars(false);
+		outputStream.flush();
+	}
+
+	@Override
+	public void close() throws IOException {
+		encodeChars(true);
+		outputStream.flush();
+	}
+
+	/// Encode buffered dynamic values, and write them to the output stream.
+	///
+	/// If `endOfInput` is `false`, a trailing high surrogate is kept in the buffer, since it may be followed
+	/// by its low surrogate: otherwise, it is replaced, as a [java.io.OutputStreamWriter] would do.
+	///
+	/// @param endOfInput `true` if buffered values are not followed by other dynamic values.
+	/// @throws IOException If an I/O error occurs.
+	private void encodeChars(boolean endOfInput) throws IOException {
+		chars.flip();
+
+		CoderResult result = encoder.encode(chars, bytes, endOfInput);
+		while (result.isOverflow()) {
+			writeBytes();
+			result = encoder.encode(chars, bytes, endOfInput);
+		}
+
+		if (endOfInput) {
+			result = encoder.flush(bytes);
+			while (result.isOverflow()) {
+				writeBytes();
+				result = encoder.flush(bytes);
+			}
+
+			encoder.reset();
+		}
+
+		writeBytes();
+		chars.compact();
+	}
+
+	private void writeBytes() throws IOException {
+		if (bytes.position() > 0) {
+			outputStream.write(bytes.array(), 0, bytes.position());
+			bytes.clear();
+		}
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("segments", segments)
+				.build();
+	}
+}
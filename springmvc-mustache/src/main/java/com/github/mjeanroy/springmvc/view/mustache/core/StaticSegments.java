@@ -0,0 +1,127 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Static text segments of a compiled template, encoded once (at compilation time) with a given charset.
+///
+/// Segments are indexed by identity: a segment is found only if the exact same string instance, owned by
+/// the compiled template, is written during rendering (see [SegmentEncodingWriter]).
+///
+/// This class is immutable, and thread safe.
+public final class StaticSegments {
+
+	/// Encode given static text segments with given charset: unmappable characters are replaced, as
+	/// a [java.io.OutputStreamWriter] would do.
+	///
+	/// @param segments Static text segments.
+	/// @param charset The charset.
+	/// @return Encoded segments.
+	public static StaticSegments encode(Collection<String> segments, Charset charset) {
+		notNull(segments, "Segments must not be null");
+		notNull(charset, "Charset must not be null");
+
+		CharsetEncoder encoder = charset.newEncoder()
+				.onMalformedInput(CodingErrorAction.REPLACE)
+				.onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+		Map<String, byte[]> encoded = new IdentityHashMap<>(segments.size());
+		for (String segment : segments) {
+			if (!encoded.containsKey(segment)) {
+				encoded.put(segment, encode(encoder, segment));
+			}
+		}
+
+		return new StaticSegments(encoded, charset);
+	}
+
+	private static byte[] encode(CharsetEncoder encoder, String segment) {
+		try {
+			ByteBuffer buffer = encoder.encode(CharBuffer.wrap(segment));
+			return Arrays.copyOfRange(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.arrayOffset() + buffer.limit());
+		}
+		catch (CharacterCodingException ex) {
+			// Should not happen, since malformed and unmappable characters are replaced.
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/// Encoded segments, indexed by identity.
+	private final Map<String, byte[]> segments;
+
+	/// Charset used to encode segments.
+	private final Charset charset;
+
+	private StaticSegments(Map<String, byte[]> segments, Charset charset) {
+		this.segments = segments;
+		this.charset = charset;
+	}
+
+	/// Get encoded bytes of given segment.
+	///
+	/// The returned array is shared, and must not be modified.
+	///
+	/// @param segment The segment.
+	/// @return Encoded bytes, `null` if given string is not a static segment of this template.
+	public byte[] get(String segment) {
+		return segments.get(segment);
+	}
+
+	/// Get charset used to encode segments.
+	///
+	/// @return The charset.
+	public Charset getCharset() {
+		return charset;
+	}
+
+	/// Get the number of encoded segments.
+	///
+	/// @return Number of segments.
+	public int size() {
+		return segments.size();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("charset", charset)
+				.append("size", segments.size())
+				.build();
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Pool of static text segments, used by compilers to share identical static text between compiled templates (for
+/// example, a layout compiled several times with different partial aliases): see
+/// [AbstractMustacheCompiler#setStaticTextPool(StaticTextPool)].
+///
+/// Pooled strings are weakly referenced: a string is removed from the pool as soon as no compiled template
+/// references it anymore, so that the pool never retains evicted templates.
+///
+/// The pool records the number of strings found in the pool, and an estimation of the heap saved by sharing
+/// these strings (see [#getSavedBytes()]).
+///
+/// This class is thread safe.
+public final class StaticTextPool {
+
+	/// Estimated size (in bytes) of a string instance and of its (empty) array, with compressed references.
+	private static final int STRING_OVERHEAD = 24 + 16;
+
+	/// Pooled strings, weakly referenced.
+	private final Map<String, WeakReference<String>> pool;
+
+	/// Number of strings found in the pool.
+	private long hits;
+
+	/// Estimated number of bytes saved.
+	private long savedBytes;
+
+	/// Create empty pool.
+	public StaticTextPool() {
+		this.pool = new WeakHashMap<>();
+	}
+
+	/// Get pooled string equal to given text: given text is added to the pool (and returned) if the pool does
+	/// not contain such a string yet.
+	///
+	/// @param text Static text.
+	/// @return Pooled string.
+	public synchronized String intern(String text) {
+		notNull(text, "Text must not be null");
+
+		WeakReference<String> ref = pool.get(text);
+		String pooled = ref == null ? null : ref.get();
+		if (pooled == null) {
+			pool.put(text, new WeakReference<>(text));
+			return text;
+		}
+
+		if (pooled != text) {
+			hits++;
+			savedBytes += sizeOf(text);
+		}
+
+		return pooled;
+	}
+
+	/// Get the number of strings currently in the pool.
+	///
+	/// @return Number of pooled strings.
+	public synchronized int size() {
+		return pool.size();
+	}
+
+	/// Get the number of strings that have been replaced by a pooled string.
+	///
+	/// @return Number of hits.
+	public synchronized long getHits() {
+		return hits;
+	}
+
+	/// Get the estimated number of bytes saved by the pool: each string replaced by a pooled string counts for its
+	/// own size, assuming compressed references and compact strings (one byte per character for latin-1 strings,
+	/// two bytes otherwise).
+	///
+	/// This estimation is cumulative: it is never decremented when compiled templates are evicted.
+	///
+	/// @return Estimated saved bytes.
+	public synchronized long getSavedBytes() {
+		return savedBytes;
+	}
+
+	/// Remove all strings from the pool (statistics are kept).
+	public synchronized void clear() {
+		pool.clear();
+	}
+
+	private static long sizeOf(String text) {
+		int bytesPerChar = 1;
+		for (int i = 0; i < text.length(); i++) {
+			if (text.charAt(i) > 0xFF) {
+				bytesPerChar = 2;
+				break;
+			}
+		}
+
+		// Arrays are aligned on 8 bytes.
+		long arraySize = ((long) text.length() * bytesPerChar + 7) & ~7L;
+		return STRING_OVERHEAD + arraySize;
+	}
+
+	@Override
+	public synchronized String toString() {
+		return ToStringBuilder.builder(this)
+				.append("size", pool.size())
+				.append("hits", hits)
+				.append("savedBytes", savedBytes)
+				.build();
+	}
+}
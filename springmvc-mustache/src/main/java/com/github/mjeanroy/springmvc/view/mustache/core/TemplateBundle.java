@@ -0,0 +1,270 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import org.springframework.core.io.Resource;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Single-file bundle of template sources, indexed by path (such as `templates/index.template.html`).
+///
+/// The bundle starts with a header containing, for each template, its path, the offset and the length of its
+/// content, followed by the (not decoded) content of each template:
+///
+/// ```
+/// magic (int) | version (short) | count (int)
+/// [path length (int) | path (UTF-8) | offset (int) | length (int)] * count
+/// [content] * count
+/// ```
+///
+/// A bundle stored in a file is memory-mapped (see [#open(Path)]): looking up a template is a hash lookup, and
+/// returns a slice of the mapped buffer, so that template content is never copied until it is decoded. A bundle
+/// that is not stored in a file (such as a bundle packaged in a jar) is read once in memory (see [#read(InputStream)]).
+///
+/// Bundles are produced with [#write(Map, OutputStream)] (typically by the `bundle` goal of the
+/// `springmvc-mustache-maven-plugin`), and used through a [TemplateBundleResourceLoader].
+public final class TemplateBundle {
+
+	private static final Logger log = LoggerFactory.getLogger(TemplateBundle.class);
+
+	/// Header of the bundle format.
+	private static final int MAGIC = 0x4D535442;
+
+	/// Version of the bundle format.
+	private static final int VERSION = 1;
+
+	/// Bundle content (read-only).
+	private final ByteBuffer buffer;
+
+	/// Template positions, by path: offset in high bits, length in low bits.
+	private final Map<String, Long> index;
+
+	private TemplateBundle(ByteBuffer buffer, Map<String, Long> index) {
+		this.buffer = buffer;
+		this.index = index;
+	}
+
+	/// Load bundle from given resource: resource is memory-mapped if it is a file, read in memory otherwise.
+	///
+	/// @param resource Bundle resource.
+	/// @return The bundle.
+	/// @throws MustacheIOException If bundle does not exist, or cannot be read.
+	public static TemplateBundle load(Resource resource) {
+		notNull(resource, "Resource must not be null");
+
+		try {
+			if (!resource.exists()) {
+				throw new FileNotFoundException("Template bundle " + resource.getDescription() + " does not exist");
+			}
+
+			if (resource.isFile()) {
+				return open(resource.getFile().toPath());
+			}
+
+			try (InputStream stream = resource.getInputStream()) {
+				return read(stream);
+			}
+		}
+		catch (IOException ex) {
+			log.error(ex.getMessage());
+			throw new MustacheIOException(ex);
+		}
+	}
+
+	/// Open bundle stored in given file, using a [java.nio.MappedByteBuffer].
+	///
+	/// @param file Bundle file.
+	/// @return The bundle.
+	/// @throws IOException If file cannot be read, or is not a valid bundle.
+	public static TemplateBundle open(Path file) throws IOException {
+		try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+			// The mapping remains valid once the channel is closed.
+			ByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+			log.debug("Open template bundle: {}", file);
+			return of(buffer);
+		}
+	}
+
+	/// Read bundle from given stream.
+	///
+	/// @param stream Stream containing bundle.
+	/// @return The bundle.
+	/// @throws IOException If stream cannot be read, or does not contain a valid bundle.
+	public static TemplateBundle read(InputStream stream) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		byte[] bytes = new byte[8192];
+		int count;
+		while ((count = stream.read(bytes)) >= 0) {
+			output.write(bytes, 0, count);
+		}
+
+		return of(ByteBuffer.wrap(output.toByteArray()).asReadOnlyBuffer());
+	}
+
+	private static TemplateBundle of(ByteBuffer buffer) throws IOException {
+		try {
+			ByteBuffer header = buffer.duplicate();
+			if (header.getInt() != MAGIC) {
+				throw new IOException("Invalid template bundle");
+			}
+
+			int version = header.getShort() & 0xFFFF;
+			if (version != VERSION) {
+				throw new IOException("Unsupported template bundle version: " + version);
+			}
+
+			int count = header.getInt();
+			Map<String, Long> index = new HashMap<>(count * 4 / 3 + 1);
+			for (int i = 0; i < count; i++) {
+				byte[] path = new byte[header.getInt()];
+				header.get(path);
+
+				int offset = header.getInt();
+				int length = header.getInt();
+				if (offset < 0 || length < 0 || offset > buffer.limit() - length) {
+					throw new IOException("Invalid template bundle entry: " + new String(path, StandardCharsets.UTF_8));
+				}
+
+				index.put(new String(path, StandardCharsets.UTF_8), ((long) offset << 32) | length);
+			}
+
+			return new TemplateBundle(buffer, index);
+		}
+		catch (BufferUnderflowException | NegativeArraySizeException ex) {
+			throw new IOException("Invalid template bundle", ex);
+		}
+	}
+
+	/// Write bundle containing given templates.
+	///
+	/// @param templates Template contents, by path.
+	/// @param stream Output stream.
+	/// @throws IOException If bundle cannot be written.
+	public static void write(Map<String, byte[]> templates, OutputStream stream) throws IOException {
+		Map<String, byte[]> sorted = new TreeMap<>(templates);
+
+		int headerLength = 4 + 2 + 4;
+		for (String path : sorted.keySet()) {
+			headerLength += 4 + path.getBytes(StandardCharsets.UTF_8).length + 4 + 4;
+		}
+
+		DataOutputStream output = new DataOutputStream(new BufferedOutputStream(stream));
+		output.writeInt(MAGIC);
+		output.writeShort(VERSION);
+		output.writeInt(sorted.size());
+
+		long offset = headerLength;
+		for (Map.Entry<String, byte[]> entry : sorted.entrySet()) {
+			byte[] path = entry.getKey().getBytes(StandardCharsets.UTF_8);
+			int length = entry.getValue().length;
+			if (offset + length > Integer.MAX_VALUE) {
+				throw new IOException("Template bundle must not exceed 2GB");
+			}
+
+			output.writeInt(path.length);
+			output.write(path);
+			output.writeInt((int) offset);
+			output.writeInt(length);
+			offset += length;
+		}
+
+		for (byte[] content : sorted.values()) {
+			output.write(content);
+		}
+
+		output.flush();
+	}
+
+	/// Get content of template with given path.
+	///
+	/// @param path Template path.
+	/// @return Read-only buffer containing (not decoded) template content, `null` if bundle does not contain this template.
+	public ByteBuffer get(String path) {
+		Long position = index.get(path);
+		if (position == null) {
+			return null;
+		}
+
+		int offset = (int) (position >>> 32);
+		int length = (int) (long) position;
+
+		ByteBuffer content = buffer.duplicate();
+		content.position(offset);
+		content.limit(offset + length);
+		return content.slice();
+	}
+
+	/// Check if bundle contains template with given path.
+	///
+	/// @param path Template path.
+	/// @return `true` if bundle contains this template, `false` otherwise.
+	public boolean contains(String path) {
+		return index.containsKey(path);
+	}
+
+	/// Get paths of templates in this bundle.
+	///
+	/// @return Template paths.
+	public Set<String> getPaths() {
+		return Collections.unmodifiableSet(index.keySet());
+	}
+
+	/// Get number of templates in this bundle.
+	///
+	/// @return Number of templates.
+	public int size() {
+		return index.size();
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("size", index.size())
+				.build();
+	}
+}
@@ -0,0 +1,200 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import org.springframework.core.io.AbstractResource;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Implementation of spring [ResourceLoader] that looks up resources in a [TemplateBundle] first, and delegates to
+/// another resource loader for resources that are not bundled.
+///
+/// A location is looked up in the bundle with its path: `classpath:` prefix and leading slash are removed (so that
+/// `classpath:/templates/index.template.html` is looked up as `templates/index.template.html`), locations with
+/// another URL prefix (such as `file:`) are never bundled.
+///
+/// Bundled resources are read directly from the bundle buffer (and decoded from this buffer by
+/// [DefaultTemplateLoader]), and never change: their last modification date
+/// is always `0`, so that sources cached by [DefaultTemplateLoader] are never reloaded.
+public final class TemplateBundleResourceLoader implements ResourceLoader {
+
+	/// Template bundle.
+	private final TemplateBundle bundle;
+
+	/// Resource loader used for resources that are not bundled.
+	private final ResourceLoader delegate;
+
+	/// Create resource loader.
+	///
+	/// @param bundle Template bundle.
+	/// @param delegate Resource loader used for resources that are not bundled.
+	public TemplateBundleResourceLoader(TemplateBundle bundle, ResourceLoader delegate) {
+		this.bundle = notNull(bundle, "Template bundle must not be null");
+		this.delegate = notNull(delegate, "Resource loader must not be null");
+	}
+
+	@Override
+	public Resource getResource(String location) {
+		notNull(location, "Resource location must not be null");
+
+		String path = path(location);
+		ByteBuffer content = path == null ? null : bundle.get(path);
+		return content == null ? delegate.getResource(location) : new BundledResource(path, content);
+	}
+
+	@Override
+	public ClassLoader getClassLoader() {
+		return delegate.getClassLoader();
+	}
+
+	/// Get [#bundle]
+	///
+	/// @return [#bundle]
+	public TemplateBundle getBundle() {
+		return bundle;
+	}
+
+	/// Get path of given location in bundle.
+	///
+	/// @param location Resource location.
+	/// @return Path, `null` if location cannot be bundled.
+	private static String path(String location) {
+		String path = location;
+		if (path.startsWith("classpath:")) {
+			path = path.substring("classpath:".length());
+		}
+		else if (path.startsWith("classpath*:")) {
+			path = path.substring("classpath*:".length());
+		}
+		else if (path.indexOf(':') >= 0) {
+			return null;
+		}
+
+		return path.startsWith("/") ? path.substring(1) : path;
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("bundle", bundle)
+				.append("delegate", delegate)
+				.build();
+	}
+
+	/// Resource read from a template bundle.
+	static final class BundledResource extends AbstractResource {
+		private final String path;
+		private final ByteBuffer content;
+
+		private BundledResource(String path, ByteBuffer content) {
+			this.path = path;
+			this.content = content;
+		}
+
+		@Override
+		public boolean exists() {
+			return true;
+		}
+
+		@Override
+		public long contentLength() {
+			return content.remaining();
+		}
+
+		@Override
+		public long lastModified() {
+			return 0;
+		}
+
+		@Override
+		public String getFilename() {
+			return path.substring(path.lastIndexOf('/') + 1);
+		}
+
+		@Override
+		public InputStream getInputStream() {
+			return new ByteBufferInputStream(getContent());
+		}
+
+		/// Get template content, without copying it.
+		///
+		/// @return Read-only buffer containing (not decoded) template content.
+		ByteBuffer getContent() {
+			return content.duplicate();
+		}
+
+		@Override
+		public String getDescription() {
+			return "template bundle [" + path + "]";
+		}
+	}
+
+	/// Input stream reading a buffer, without copying it.
+	private static final class ByteBufferInputStream extends InputStream {
+		private final ByteBuffer buffer;
+
+		private ByteBufferInputStream(ByteBuffer buffer) {
+			this.buffer = buffer;
+		}
+
+		@Override
+		public int read() {
+			return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+		}
+
+		@Override
+		public int read(byte[] bytes, int off, int len) {
+			if (len == 0) {
+				return 0;
+			}
+
+			if (!buffer.hasRemaining()) {
+				return -1;
+			}
+
+			int count = Math.min(len, buffer.remaining());
+			buffer.get(bytes, off, count);
+			return count;
+		}
+
+		@Override
+		public long skip(long n) {
+			int count = (int) Math.max(0, Math.min(n, buffer.remaining()));
+			buffer.position(buffer.position() + count);
+			return count;
+		}
+
+		@Override
+		public int available() {
+			return buffer.remaining();
+		}
+	}
+}
@@ -0,0 +1,224 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+/// Minify static HTML text of mustache templates, once, when template sources are loaded (see
+/// [DefaultTemplateLoader#setMinify(boolean)]), so that mustache engines compile (and render) smaller templates.
+///
+/// Minification is conservative:
+/// - Whitespace runs are collapsed to a single character: a new line if the run contains a new line (so that
+///   standalone mustache tags remain standalone), a space otherwise.
+/// - Whitespace before the end of an HTML tag is removed.
+/// - HTML comments are removed, except conditional comments and comments containing mustache tags.
+/// - Mustache tags, quoted attribute values and content of `pre`, `textarea`, `script` and `style` elements
+///   are kept as is.
+///
+/// Templates changing mustache delimiters (i.e. containing a `{{=` tag) are not minified, since mustache
+/// tags cannot be identified.
+final class TemplateMinifier {
+
+	/// Elements whose content must be kept as is.
+	private static final String[] RAW_ELEMENTS = {
+			"pre",
+			"textarea",
+			"script",
+			"style",
+	};
+
+	private TemplateMinifier() {
+	}
+
+	/// Minify given template source.
+	///
+	/// @param source Template source.
+	/// @return Minified source.
+	static String minify(String source) {
+		if (source.contains("{{=")) {
+			return source;
+		}
+
+		final int length = source.length();
+		final StringBuilder out = new StringBuilder(length);
+
+		// Pending whitespace: new line, space or nothing.
+		char whitespace = 0;
+		boolean inTag = false;
+		char quote = 0;
+
+		int i = 0;
+		while (i < length) {
+			final char c = source.charAt(i);
+
+			if (c == '{' && source.startsWith("{{", i)) {
+				final int end = mustacheTagEnd(source, i);
+				whitespace = flush(out, whitespace);
+				out.append(source, i, end);
+				i = end;
+				continue;
+			}
+
+			if (quote != 0) {
+				out.append(c);
+				quote = c == quote ? 0 : quote;
+				i++;
+				continue;
+			}
+
+			if (isWhitespace(c)) {
+				whitespace = whitespace == '\n' || c == '\n' || c == '\r' ? '\n' : ' ';
+				i++;
+				continue;
+			}
+
+			if (inTag) {
+				if (c == '>') {
+					whitespace = 0;
+					inTag = false;
+				}
+				else if (c == '"' || c == '\'') {
+					quote = c;
+				}
+
+				whitespace = flush(out, whitespace);
+				out.append(c);
+				i++;
+				continue;
+			}
+
+			if (c == '<') {
+				if (source.startsWith("<!--", i)) {
+					final int end = commentEnd(source, i);
+					if (keepComment(source, i, end)) {
+						whitespace = flush(out, whitespace);
+						out.append(source, i, end);
+					}
+
+					i = end;
+					continue;
+				}
+
+				final String element = rawElement(source, i);
+				if (element != null) {
+					final int end = rawElementEnd(source, i, element);
+					whitespace = flush(out, whitespace);
+					out.append(source, i, end);
+					i = end;
+					continue;
+				}
+
+				inTag = isTagStart(source, i + 1);
+			}
+
+			whitespace = flush(out, whitespace);
+			out.append(c);
+			i++;
+		}
+
+		flush(out, whitespace);
+		return out.toString();
+	}
+
+	private static char flush(StringBuilder out, char whitespace) {
+		if (whitespace != 0) {
+			out.append(whitespace);
+		}
+
+		return 0;
+	}
+
+	private static boolean isWhitespace(char c) {
+		return c == ' ' || c == '\n' || c == '\t' || c == '\r' || c == '\f';
+	}
+
+	private static boolean isTagStart(String source, int i) {
+		if (i >= source.length()) {
+			return false;
+		}
+
+		final char c = source.charAt(i);
+		return Character.isLetter(c) || c == '/' || c == '!' || c == '?';
+	}
+
+	/// Get index following the end of the mustache tag starting at given index (or the end of the source if
+	/// the tag is not closed).
+	private static int mustacheTagEnd(String source, int start) {
+		final String close;
+		if (source.startsWith("{{{", start)) {
+			close = "}}}";
+		}
+		else if (source.startsWith("{{!--", start)) {
+			close = "--}}";
+		}
+		else {
+			close = "}}";
+		}
+
+		final int end = source.indexOf(close, start + 2);
+		return end < 0 ? source.length() : end + close.length();
+	}
+
+	/// Get index following the end of the HTML comment starting at given index (or the end of the source if
+	/// the comment is not closed).
+	private static int commentEnd(String source, int start) {
+		final int end = source.indexOf("-->", start + 4);
+		return end < 0 ? source.length() : end + 3;
+	}
+
+	private static boolean keepComment(String source, int start, int end) {
+		final boolean conditional = source.startsWith("<!--[", start) || source.startsWith("<!--<!", start);
+		return conditional || source.substring(start, end).contains("{{");
+	}
+
+	/// Get name of the raw element (i.e. element whose content must be kept as is) starting at given index.
+	///
+	/// @return Element name, `null` if given index is not the start of a raw element.
+	private static String rawElement(String source, int start) {
+		for (String element : RAW_ELEMENTS) {
+			final int end = start + 1 + element.length();
+			if (source.regionMatches(true, start + 1, element, 0, element.length()) && (end == source.length() || isNameEnd(source.charAt(end)))) {
+				return element;
+			}
+		}
+
+		return null;
+	}
+
+	private static boolean isNameEnd(char c) {
+		return c == '>' || c == '/' || isWhitespace(c);
+	}
+
+	/// Get index of the closing tag of the raw element starting at given index (or the end of the source if
+	/// the element is not closed): the closing tag itself is minified as any other tag.
+	private static int rawElementEnd(String source, int start, String element) {
+		final String close = "</" + element;
+		for (int i = start + 1 + element.length(); i <= source.length() - close.length(); i++) {
+			if (source.regionMatches(true, i, close, 0, close.length())) {
+				return i;
+			}
+		}
+
+		return source.length();
+	}
+}
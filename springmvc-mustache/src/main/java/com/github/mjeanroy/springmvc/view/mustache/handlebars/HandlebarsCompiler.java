@@ -24,10 +24,13 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.handlebars;
 
+import com.github.jknack.handlebars.Formatter;
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.HelperRegistry;
 import com.github.jknack.handlebars.Template;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
 
@@ -53,16 +56,55 @@ public final class HandlebarsCompiler extends AbstractMustacheCompiler {
 		super(templateLoader);
 
 		this.handlebars = notNull(handlebars, "Handlebars compiler must not be null").with(
-				new HandlebarsTemplateLoader(templateLoader)
+				new HandlebarsTemplateLoader(templateLoader, RenderContext.empty())
 		);
 	}
 
 	@Override
-	protected MustacheTemplate doCompile(String name) throws Exception {
-		final Template template = handlebars.compile(name);
+	protected MustacheTemplate doCompile(String name, RenderContext context) throws Exception {
+		return doCompile(name, context, templateLoader);
+	}
+
+	@Override
+	protected MustacheTemplate doCompile(String name, RenderContext context, MustacheTemplateLoader templateLoader) throws Exception {
+		// Handlebars partials capture the loader of the handlebars instance when they are parsed, and use it
+		// to load partial during rendering: templates are compiled with a copy of the handlebars instance bound
+		// to the render context, so that the shared instance is never modified.
+		final Template template = withTemplateLoader(templateLoader, context).compile(name);
 		return new HandlebarsTemplate(template);
 	}
 
+	/// Get a new handlebars instance, configured as the handlebars instance of this compiler, that resolves,
+	/// and reads, templates and partials with given template loader and given render context.
+	///
+	/// Helpers and decorators are looked up in the handlebars instance of this compiler, so helpers registered
+	/// later are still available. Charset is not copied: it is only used by the template loader and the helpers,
+	/// that are already shared.
+	///
+	/// @param templateLoader Template loader.
+	/// @param context Render context.
+	/// @return Handlebars instance bound to given template loader and render context.
+	private Handlebars withTemplateLoader(MustacheTemplateLoader templateLoader, RenderContext context) {
+		final Formatter.Chain formatter = handlebars.getFormatter();
+		final Formatter delegatingFormatter = (value, next) -> formatter.format(value);
+
+		return new Handlebars(new HandlebarsTemplateLoader(templateLoader, context))
+				.with((HelperRegistry) handlebars)
+				.with(handlebars.getCache())
+				.with(handlebars.getParserFactory())
+				.with(handlebars.getEscapingStrategy())
+				.with(delegatingFormatter)
+				.startDelimiter(handlebars.getStartDelimiter())
+				.endDelimiter(handlebars.getEndDelimiter())
+				.prettyPrint(handlebars.prettyPrint())
+				.stringParams(handlebars.stringParams())
+				.infiniteLoops(handlebars.infiniteLoops())
+				.deletePartialAfterMerge(handlebars.deletePartialAfterMerge())
+				.parentScopeResolution(handlebars.parentScopeResolution())
+				.preEvaluatePartialBlocks(handlebars.preEvaluatePartialBlocks())
+				.handlebarsJsFile(handlebars.handlebarsJsFile());
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
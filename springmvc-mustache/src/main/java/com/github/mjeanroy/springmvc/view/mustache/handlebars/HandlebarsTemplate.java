@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.handlebars;
 
+import com.github.jknack.handlebars.Context;
 import com.github.jknack.handlebars.Template;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
@@ -52,7 +53,15 @@ final class HandlebarsTemplate extends AbstractMustacheTemplate {
 
 	@Override
 	protected void doExecute(Map<String, Object> model, Writer writer) throws Exception {
-		template.apply(model, writer);
+		// Lazy model values are computed only if template reads them.
+		final Context context = Context.newBuilder(model).resolver(LazyValueResolver.INSTANCE).build();
+
+		try {
+			template.apply(context, writer);
+		}
+		finally {
+			context.destroy();
+		}
 	}
 
 	@Override
@@ -28,6 +28,7 @@ import com.github.jknack.handlebars.io.StringTemplateSource;
 import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.jknack.handlebars.io.TemplateSource;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
@@ -51,20 +52,25 @@ final class HandlebarsTemplateLoader implements TemplateLoader {
 	/// Template resolution will be delegated to this implementation.
 	private final MustacheTemplateLoader loader;
 
+	/// Render context, used to resolve templates and partials.
+	private final RenderContext context;
+
 	/// Build new handlebar template loader.
 	///
 	/// This template loader will delegate implementation to an
 	/// instance of [MustacheTemplateLoader] class.
 	///
 	/// @param loader Instance of mustache template loader.
-	public HandlebarsTemplateLoader(MustacheTemplateLoader loader) {
+	/// @param context Render context.
+	public HandlebarsTemplateLoader(MustacheTemplateLoader loader, RenderContext context) {
 		this.loader = notNull(loader, "Loader must not be null");
+		this.context = notNull(context, "Render context must not be null");
 	}
 
 	@Override
 	public TemplateSource sourceAt(String location) {
 		notNull(location, "location must not be null");
-		try (Reader reader = loader.getTemplate(location)) {
+		try (Reader reader = loader.getTemplate(location, context)) {
 			String content = read(reader);
 			return new StringTemplateSource(location, content);
 		}
@@ -77,7 +83,7 @@ final class HandlebarsTemplateLoader implements TemplateLoader {
 	@Override
 	public String resolve(String name) {
 		notNull(name, "name must not be null");
-		return loader.resolve(name);
+		return loader.resolve(name, context);
 	}
 
 	@Override
@@ -114,6 +120,7 @@ final class HandlebarsTemplateLoader implements TemplateLoader {
 	public String toString() {
 		return ToStringBuilder.builder(this)
 				.append("loader", loader)
+				.append("context", context)
 				.build();
 	}
 
@@ -125,7 +132,7 @@ final class HandlebarsTemplateLoader implements TemplateLoader {
 
 		if (o instanceof HandlebarsTemplateLoader) {
 			HandlebarsTemplateLoader tl = (HandlebarsTemplateLoader) o;
-			return Objects.equals(loader, tl.loader);
+			return Objects.equals(loader, tl.loader) && Objects.equals(context, tl.context);
 		}
 
 		return false;
@@ -133,6 +140,6 @@ final class HandlebarsTemplateLoader implements TemplateLoader {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(loader);
+		return Objects.hash(loader, context);
 	}
 }
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.handlebars;
+
+import com.github.jknack.handlebars.ValueResolver;
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/// Handlebars value resolver unwrapping [LazyValue] instances read by templates: values are resolved with
+/// default Handlebars resolvers, and lazy values are computed only when a template reads them.
+final class LazyValueResolver implements ValueResolver {
+
+	/// Resolver instance.
+	static final LazyValueResolver INSTANCE = new LazyValueResolver(ValueResolver.defaultValueResolvers());
+
+	/// Resolvers used to resolve values.
+	private final ValueResolver[] resolvers;
+
+	private LazyValueResolver(List<ValueResolver> resolvers) {
+		this.resolvers = resolvers.toArray(new ValueResolver[0]);
+	}
+
+	@Override
+	public Object resolve(Object context, String name) {
+		for (ValueResolver resolver : resolvers) {
+			Object value = resolver.resolve(context, name);
+			if (value != UNRESOLVED) {
+				return LazyValue.unwrap(value);
+			}
+		}
+
+		return UNRESOLVED;
+	}
+
+	@Override
+	public Object resolve(Object context) {
+		for (ValueResolver resolver : resolvers) {
+			Object value = resolver.resolve(context);
+			if (value != UNRESOLVED) {
+				return LazyValue.unwrap(value);
+			}
+		}
+
+		return UNRESOLVED;
+	}
+
+	@Override
+	public Set<Map.Entry<String, Object>> propertySet(Object context) {
+		Set<Map.Entry<String, Object>> properties = new LinkedHashSet<>();
+		for (ValueResolver resolver : resolvers) {
+			properties.addAll(resolver.propertySet(context));
+		}
+
+		return properties;
+	}
+}
@@ -0,0 +1,117 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.jmustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.reflection.Accessors;
+import com.samskivert.mustache.DefaultCollector;
+import com.samskivert.mustache.Mustache;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/// JMustache collector fetching bean properties with accessors generated once per class and property (see
+/// [Accessors]), instead of the reflective calls of the default collector.
+///
+/// Members are found exactly as the [DefaultCollector] does (method named as the variable, getter, field,
+/// then default interface method), so that record components are read through their accessor methods. Maps,
+/// [Mustache.CustomContext] instances and indexed variables are handled by the [DefaultCollector].
+///
+/// Generated fetchers are shared by all instances of this collector (and thus by all compilers, and all
+/// templates, using this collector): a class is inspected once, whatever the number of templates reading it.
+public final class AccessorCollector extends DefaultCollector {
+
+	/// Fetcher of missing members, never returned to JMustache.
+	private static final Mustache.VariableFetcher MISSING = (ctx, name) -> null;
+
+	/// Fetchers, by class and variable name: entries are removed when a class is unloaded.
+	private static final ClassValue<ConcurrentMap<String, Mustache.VariableFetcher>> FETCHERS = new ClassValue<ConcurrentMap<String, Mustache.VariableFetcher>>() {
+		@Override
+		protected ConcurrentMap<String, Mustache.VariableFetcher> computeValue(Class<?> type) {
+			return new ConcurrentHashMap<>();
+		}
+	};
+
+	/// Create collector.
+	public AccessorCollector() {
+		super();
+	}
+
+	@Override
+	public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+		if (ctx instanceof Map || ctx instanceof Mustache.CustomContext || isIndex(name)) {
+			return super.createFetcher(ctx, name);
+		}
+
+		final Class<?> type = ctx.getClass();
+		final Mustache.VariableFetcher fetcher = FETCHERS.get(type).computeIfAbsent(name, n -> generateFetcher(type, n));
+		return fetcher == MISSING ? null : fetcher;
+	}
+
+	private Mustache.VariableFetcher generateFetcher(Class<?> type, String name) {
+		final Method method = getMethod(type, name);
+		if (method != null) {
+			return new AccessorFetcher(Accessors.methodAccessor(method));
+		}
+
+		final Field field = getField(type, name);
+		if (field != null) {
+			return new AccessorFetcher(Accessors.fieldAccessor(field));
+		}
+
+		final Method ifaceMethod = getIfaceMethod(type, name);
+		if (ifaceMethod != null) {
+			return new AccessorFetcher(Accessors.methodAccessor(ifaceMethod));
+		}
+
+		return MISSING;
+	}
+
+	/// Check if given variable name is an index (such as `0` or `1`), read by indexing fetchers.
+	///
+	/// @param name Variable name.
+	/// @return `true` if name is an index, `false` otherwise.
+	private static boolean isIndex(String name) {
+		final char c = name.isEmpty() ? 0 : name.charAt(0);
+		return c >= '0' && c <= '9';
+	}
+
+	/// Fetcher reading variable with generated accessor.
+	private static final class AccessorFetcher implements Mustache.VariableFetcher {
+		private final Function<Object, Object> accessor;
+
+		private AccessorFetcher(Function<Object, Object> accessor) {
+			this.accessor = accessor;
+		}
+
+		@Override
+		public Object get(Object ctx, String name) {
+			return accessor.apply(ctx);
+		}
+	}
+}
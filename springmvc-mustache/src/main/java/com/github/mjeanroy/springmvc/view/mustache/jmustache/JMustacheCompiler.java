@@ -26,21 +26,29 @@ package com.github.mjeanroy.springmvc.view.mustache.jmustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import com.samskivert.mustache.Mustache;
 import com.samskivert.mustache.Template;
 
 import java.io.IOException;
 import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Objects;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
 import static com.samskivert.mustache.Mustache.Compiler;
 
 /// Mustache Compiler using JMustache as real implementation.
+///
+/// Static text pooling (see [#setStaticTextPool(com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool)])
+/// is not supported: JMustache does not expose any hook to create static text segments.
 public final class JMustacheCompiler extends AbstractMustacheCompiler {
 
 	private static final Logger log = LoggerFactory.getLogger(JMustacheCompiler.class);
@@ -61,10 +69,19 @@ public final class JMustacheCompiler extends AbstractMustacheCompiler {
 	}
 
 	@Override
-	protected MustacheTemplate doCompile(String name) {
-		try(Reader template = templateLoader.getTemplate(name)) {
-			final Template result = getTemplate(template, templateLoader);
-			return new JMustacheTemplate(result);
+	protected MustacheTemplate doCompile(String name, RenderContext context) {
+		return doCompile(name, context, templateLoader);
+	}
+
+	@Override
+	protected MustacheTemplate doCompile(String name, RenderContext context, MustacheTemplateLoader templateLoader) {
+		try(Reader template = templateLoader.getTemplate(name, context)) {
+			final Template result = getTemplate(template, templateLoader, context);
+			if (!isPreEncoding()) {
+				return new JMustacheTemplate(result);
+			}
+
+			return new JMustacheTemplate(result, encodeStaticSegments(result, templateLoader));
 		}
 		catch (IOException ex) {
 			log.error(ex.getMessage());
@@ -74,11 +91,34 @@ public final class JMustacheCompiler extends AbstractMustacheCompiler {
 
 	/// Load template.
 	///
+	/// Partials are loaded lazily by JMustache, during rendering: the render context is bound
+	/// to the partial loader, so that partials are resolved using the aliases of this context.
+	///
+	/// [com.github.mjeanroy.springmvc.view.mustache.LazyValue] instances are unwrapped when they are read
+	/// by the template (see [LazyValueCollector]).
+	///
 	/// @param template Template to load.
 	/// @param templateLoader Template loader to use.
+	/// @param context Render context.
 	/// @return The template.
-	protected Template getTemplate(Reader template, MustacheTemplateLoader templateLoader) {
-		return compiler.withLoader(new JMustacheTemplateLoader(templateLoader)).compile(template);
+	protected Template getTemplate(Reader template, MustacheTemplateLoader templateLoader, RenderContext context) {
+		return compiler.withLoader(new JMustacheTemplateLoader(templateLoader, context))
+				.withCollector(new LazyValueCollector(compiler.collector))
+				.compile(template);
+	}
+
+	/// Encode static text segments of given template, using the charset of the template loader.
+	///
+	/// Partials (and layouts) are loaded lazily, during rendering: only static text segments of the root template
+	/// are encoded, static text of partials is encoded during rendering, as dynamic values are.
+	///
+	/// @param template The template.
+	/// @param templateLoader Template loader.
+	/// @return Encoded segments.
+	private static StaticSegments encodeStaticSegments(Template template, MustacheTemplateLoader templateLoader) {
+		final StaticTextCollector collector = new StaticTextCollector();
+		template.visit(collector);
+		return StaticSegments.encode(collector.segments, templateLoader.getCharset());
 	}
 
 	@Override
@@ -107,4 +147,33 @@ public final class JMustacheCompiler extends AbstractMustacheCompiler {
 	public int hashCode() {
 		return Objects.hash(compiler, templateLoader);
 	}
+
+	/// Visitor collecting static text segments of a template, including text segments nested in sections.
+	private static final class StaticTextCollector implements Mustache.Visitor {
+		private final List<String> segments = new ArrayList<>();
+
+		@Override
+		public void visitText(String text) {
+			segments.add(text);
+		}
+
+		@Override
+		public void visitVariable(String name) {
+		}
+
+		@Override
+		public boolean visitInclude(String name) {
+			return false;
+		}
+
+		@Override
+		public boolean visitSection(String name) {
+			return true;
+		}
+
+		@Override
+		public boolean visitInvertedSection(String name) {
+			return true;
+		}
+	}
 }
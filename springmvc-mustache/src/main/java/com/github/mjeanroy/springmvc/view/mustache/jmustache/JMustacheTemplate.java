@@ -27,27 +27,56 @@ package com.github.mjeanroy.springmvc.view.mustache.jmustache;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.IntrospectedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.PreEncodedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import com.samskivert.mustache.Template;
 
 import java.io.Writer;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 
 import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+import static java.util.Collections.unmodifiableSet;
 
 /// Implementation of [MustacheTemplate] using JMustache
 /// as real template implementation.
-final class JMustacheTemplate extends AbstractMustacheTemplate {
+final class JMustacheTemplate extends AbstractMustacheTemplate implements PreEncodedTemplate, IntrospectedTemplate {
+
+	private static final Logger log = LoggerFactory.getLogger(JMustacheTemplate.class);
+
+	/// Marker of root variables that cannot be determined.
+	private static final Set<String> UNKNOWN_VARIABLES = unmodifiableSet(new HashSet<>());
 
 	/// JMustache template.
 	/// This template will be rendered using jmustache api.
 	private final Template template;
 
+	/// Static text segments, encoded at compilation time (may be `null`).
+	private final StaticSegments segments;
+
+	/// Root variables, extracted on first access (see [#getRootVariables()]).
+	// Volatile because it can be accessed from more than one thread
+	private volatile Set<String> rootVariables;
+
 	/// Build new template.
 	///
 	/// @param template JMustache template.
 	public JMustacheTemplate(Template template) {
+		this(template, null);
+	}
+
+	/// Build new template, with static text segments encoded at compilation time.
+	///
+	/// @param template JMustache template.
+	/// @param segments Static text segments of given template, may be `null`.
+	JMustacheTemplate(Template template, StaticSegments segments) {
 		this.template = notNull(template, "Template must not be null");
+		this.segments = segments;
 	}
 
 	@Override
@@ -55,6 +84,39 @@ final class JMustacheTemplate extends AbstractMustacheTemplate {
 		template.execute(model, writer);
 	}
 
+	@Override
+	public StaticSegments getStaticSegments() {
+		return segments;
+	}
+
+	/// Get root variables of this template: partials are loaded (and cached by JMustache) on first access, and
+	/// extracted variables are memoized.
+	///
+	/// If a partial cannot be loaded, variables cannot be determined: the error is reported when (and if) the
+	/// partial is rendered.
+	///
+	/// @return Root variables, `null` if they cannot be determined.
+	@Override
+	public Set<String> getRootVariables() {
+		Set<String> variables = rootVariables;
+		if (variables == null) {
+			variables = collectRootVariables();
+			rootVariables = variables;
+		}
+
+		return variables == UNKNOWN_VARIABLES ? null : variables;
+	}
+
+	private Set<String> collectRootVariables() {
+		try {
+			return RootVariableCollector.collect(template);
+		}
+		catch (RuntimeException ex) {
+			log.warn("Cannot extract variables of template: {}", ex.getMessage());
+			return UNKNOWN_VARIABLES;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.springmvc.view.mustache.jmustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 
 import java.io.Reader;
@@ -43,22 +44,28 @@ final class JMustacheTemplateLoader implements TemplateLoader {
 	/// Template resolution will be delegated to this implementation.
 	private final MustacheTemplateLoader loader;
 
+	/// Render context, used to resolve partials.
+	private final RenderContext context;
+
 	/// Build new template loader.
 	///
 	/// @param loader Loader.
-	public JMustacheTemplateLoader(MustacheTemplateLoader loader) {
+	/// @param context Render context.
+	public JMustacheTemplateLoader(MustacheTemplateLoader loader, RenderContext context) {
 		this.loader = notNull(loader, "Template loader must not be null");
+		this.context = notNull(context, "Render context must not be null");
 	}
 
 	@Override
 	public Reader getTemplate(String name) {
-		return loader.getTemplate(name);
+		return loader.getTemplate(name, context);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
 				.append("loader", loader)
+				.append("context", context)
 				.build();
 	}
 
@@ -70,7 +77,7 @@ final class JMustacheTemplateLoader implements TemplateLoader {
 
 		if (o instanceof JMustacheTemplateLoader) {
 			JMustacheTemplateLoader tl = (JMustacheTemplateLoader) o;
-			return Objects.equals(loader, tl.loader);
+			return Objects.equals(loader, tl.loader) && Objects.equals(context, tl.context);
 		}
 
 		return false;
@@ -78,6 +85,6 @@ final class JMustacheTemplateLoader implements TemplateLoader {
 
 	@Override
 	public int hashCode() {
-		return Objects.hash(loader);
+		return Objects.hash(loader, context);
 	}
 }
@@ -0,0 +1,78 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.jmustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+import com.samskivert.mustache.Mustache;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// JMustache collector unwrapping [LazyValue] instances read by templates: variables are fetched with the
+/// collector used by the compiler, and lazy values are computed only when a template reads them.
+final class LazyValueCollector implements Mustache.Collector {
+
+	/// Collector used to fetch variables.
+	private final Mustache.Collector collector;
+
+	/// Create collector.
+	///
+	/// @param collector Collector used to fetch variables.
+	LazyValueCollector(Mustache.Collector collector) {
+		this.collector = notNull(collector, "Collector must not be null");
+	}
+
+	@Override
+	public Iterator<?> toIterator(Object value) {
+		return collector.toIterator(value);
+	}
+
+	@Override
+	public Mustache.VariableFetcher createFetcher(Object ctx, String name) {
+		final Mustache.VariableFetcher fetcher = collector.createFetcher(ctx, name);
+		return fetcher == null ? null : new LazyValueFetcher(fetcher);
+	}
+
+	@Override
+	public <K, V> Map<K, V> createFetcherCache() {
+		return collector.createFetcherCache();
+	}
+
+	/// Fetcher unwrapping lazy values.
+	private static final class LazyValueFetcher implements Mustache.VariableFetcher {
+		private final Mustache.VariableFetcher fetcher;
+
+		private LazyValueFetcher(Mustache.VariableFetcher fetcher) {
+			this.fetcher = fetcher;
+		}
+
+		@Override
+		public Object get(Object ctx, String name) throws Exception {
+			return LazyValue.unwrap(fetcher.get(ctx, name));
+		}
+	}
+}
@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.jmustache;
+
+import com.samskivert.mustache.Mustache;
+import com.samskivert.mustache.Template;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static java.util.Collections.unmodifiableSet;
+
+/// Visitor collecting root variable names of a JMustache template, including names referenced in
+/// sections and partials.
+final class RootVariableCollector implements Mustache.Visitor {
+
+	/// Collect root variable names of given template.
+	///
+	/// @param template The template.
+	/// @return Root variable names.
+	static Set<String> collect(Template template) {
+		final RootVariableCollector collector = new RootVariableCollector();
+		template.visit(collector);
+		return unmodifiableSet(collector.variables);
+	}
+
+	/// Collected names.
+	private final Set<String> variables = new HashSet<>();
+
+	/// Names of visited partials: each partial is visited once, so that recursive partials are supported.
+	private final Set<String> partials = new HashSet<>();
+
+	private RootVariableCollector() {
+	}
+
+	@Override
+	public void visitText(String text) {
+	}
+
+	@Override
+	public void visitVariable(String name) {
+		addVariable(name);
+	}
+
+	@Override
+	public boolean visitInclude(String name) {
+		return partials.add(name);
+	}
+
+	@Override
+	public boolean visitSection(String name) {
+		addVariable(name);
+		return true;
+	}
+
+	@Override
+	public boolean visitInvertedSection(String name) {
+		addVariable(name);
+		return true;
+	}
+
+	private void addVariable(String name) {
+		// Special variables are not read from the model.
+		if (name.equals(".") || name.equals("this") || name.startsWith("-")) {
+			return;
+		}
+
+		final int index = name.indexOf('.');
+		variables.add(index > 0 ? name.substring(0, index) : name);
+
+		// Compound names may also be read as is from a map.
+		variables.add(name);
+	}
+}
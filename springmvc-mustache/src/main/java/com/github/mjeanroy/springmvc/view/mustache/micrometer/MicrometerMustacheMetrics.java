@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheMetrics;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Implementation of [MustacheMetrics] using Micrometer, registering:
+/// - `mustache.template.load`: timer of template loading, tagged with the template location.
+/// - `mustache.template.compile`: timer of template compilation, tagged with the template location.
+/// - `mustache.template.render`: timer of template rendering, tagged with the template location.
+/// - `mustache.template.rendered.chars`: distribution of the number of characters (base unit `chars`, not bytes)
+///   written by rendered templates, tagged with the template location.
+/// - `mustache.cache.gets`: counter of cache accesses, tagged with the cache name and the result (`hit` or `miss`).
+///
+/// To keep tag cardinality bounded, at most `maxTemplates` template locations are tracked: other templates
+/// are tagged with [#OTHER_TEMPLATE], a value that cannot clash with a template location.
+public final class MicrometerMustacheMetrics implements MustacheMetrics {
+
+	/// Tag value used once the maximum number of tracked templates has been reached.
+	public static final String OTHER_TEMPLATE = "__other__";
+
+	/// The meter registry.
+	private final MeterRegistry registry;
+
+	/// Maximum number of tracked template locations.
+	private final int maxTemplates;
+
+	/// Meters, indexed by template location.
+	private final ConcurrentMap<String, TemplateMeters> templates;
+
+	/// Meters of templates that are not tracked.
+	private final TemplateMeters otherTemplates;
+
+	private final Counter templateCacheHits;
+	private final Counter templateCacheMisses;
+	private final Counter sourceCacheHits;
+	private final Counter sourceCacheMisses;
+
+	/// Create metrics.
+	///
+	/// @param registry The meter registry.
+	/// @param maxTemplates Maximum number of tracked template locations.
+	public MicrometerMustacheMetrics(MeterRegistry registry, int maxTemplates) {
+		this.registry = notNull(registry, "Meter registry must not be null");
+		this.maxTemplates = maxTemplates;
+		this.templates = new ConcurrentHashMap<>();
+		this.otherTemplates = new TemplateMeters(registry, OTHER_TEMPLATE);
+		this.templateCacheHits = cacheCounter(registry, TEMPLATE_CACHE, "hit");
+		this.templateCacheMisses = cacheCounter(registry, TEMPLATE_CACHE, "miss");
+		this.sourceCacheHits = cacheCounter(registry, SOURCE_CACHE, "hit");
+		this.sourceCacheMisses = cacheCounter(registry, SOURCE_CACHE, "miss");
+	}
+
+	@Override
+	public void recordLoad(String location, long durationNanos) {
+		meters(location).load.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordCompile(String location, long durationNanos) {
+		meters(location).compile.record(durationNanos, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public void recordRender(String location, long durationNanos, long chars) {
+		TemplateMeters meters = meters(location);
+		meters.render.record(durationNanos, TimeUnit.NANOSECONDS);
+		meters.renderedChars.record(chars);
+	}
+
+	@Override
+	public void recordCacheAccess(String cache, boolean hit) {
+		if (TEMPLATE_CACHE.equals(cache)) {
+			(hit ? templateCacheHits : templateCacheMisses).increment();
+		}
+		else if (SOURCE_CACHE.equals(cache)) {
+			(hit ? sourceCacheHits : sourceCacheMisses).increment();
+		}
+	}
+
+	/// Get the maximum number of tracked template locations.
+	///
+	/// @return Maximum number of tracked template locations.
+	public int getMaxTemplates() {
+		return maxTemplates;
+	}
+
+	private TemplateMeters meters(String location) {
+		TemplateMeters meters = templates.get(location);
+		if (meters != null) {
+			return meters;
+		}
+
+		// Size is not checked atomically: the limit may be slightly exceeded under contention, but
+		// the number of tags remains bounded.
+		if (templates.size() >= maxTemplates) {
+			return otherTemplates;
+		}
+
+		return templates.computeIfAbsent(location, key -> new TemplateMeters(registry, key));
+	}
+
+	private static Counter cacheCounter(MeterRegistry registry, String cache, String result) {
+		return Counter.builder("mustache.cache.gets")
+				.description("Number of accesses to mustache caches")
+				.tag("cache", cache)
+				.tag("result", result)
+				.register(registry);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("registry", registry)
+				.append("maxTemplates", maxTemplates)
+				.build();
+	}
+
+	/// Meters of a given template.
+	private static final class TemplateMeters {
+		private final Timer load;
+		private final Timer compile;
+		private final Timer render;
+		private final DistributionSummary renderedChars;
+
+		private TemplateMeters(MeterRegistry registry, String template) {
+			this.load = timer(registry, "mustache.template.load", "Time spent loading mustache templates", template);
+			this.compile = timer(registry, "mustache.template.compile", "Time spent compiling mustache templates", template);
+			this.render = timer(registry, "mustache.template.render", "Time spent rendering mustache templates", template);
+			this.renderedChars = DistributionSummary.builder("mustache.template.rendered.chars")
+					.description("Number of characters written by rendered mustache templates")
+					.baseUnit("chars")
+					.tag("template", template)
+					.register(registry);
+		}
+
+		private static Timer timer(MeterRegistry registry, String name, String description, String template) {
+			return Timer.builder(name)
+					.description(description)
+					.tag("template", template)
+					.register(registry);
+		}
+	}
+}
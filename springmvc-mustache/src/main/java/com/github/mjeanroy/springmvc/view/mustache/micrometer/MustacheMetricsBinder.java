@@ -0,0 +1,103 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
+import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
+import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+
+import java.util.function.ToDoubleFunction;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
+/// Bind mustache metrics (see [MicrometerMustacheMetrics]) to a meter registry: with Spring Boot Actuator, this
+/// binder is automatically bound to the application meter registry.
+///
+/// Metrics can only be recorded by compilers extending [AbstractMustacheCompiler]: other compilers are
+/// ignored.
+///
+/// The static text pool of the compiler, if any (see [AbstractMustacheCompiler#setStaticTextPool(StaticTextPool)]),
+/// is reported with two gauges: `mustache.static.text.pooled` (number of pooled strings) and
+/// `mustache.static.text.saved` (estimated heap saved by the pool, in bytes).
+public final class MustacheMetricsBinder implements MeterBinder {
+
+	private static final Logger log = LoggerFactory.getLogger(MustacheMetricsBinder.class);
+
+	/// The mustache compiler.
+	private final MustacheCompiler compiler;
+
+	/// Maximum number of tracked template locations.
+	private final int maxTemplates;
+
+	/// Create binder.
+	///
+	/// @param compiler The mustache compiler.
+	/// @param maxTemplates Maximum number of tracked template locations.
+	public MustacheMetricsBinder(MustacheCompiler compiler, int maxTemplates) {
+		this.compiler = notNull(compiler, "Mustache compiler must not be null");
+		this.maxTemplates = maxTemplates;
+	}
+
+	@Override
+	public void bindTo(MeterRegistry registry) {
+		if (!(compiler instanceof AbstractMustacheCompiler)) {
+			log.warn("Mustache compiler {} does not support metrics, skip metrics binding", compiler);
+			return;
+		}
+
+		log.debug("Bind mustache metrics to registry {}", registry);
+		AbstractMustacheCompiler mustacheCompiler = (AbstractMustacheCompiler) compiler;
+		mustacheCompiler.setMetrics(new MicrometerMustacheMetrics(registry, maxTemplates));
+
+		// Pool is read on each measure, since it may be set once metrics are bound.
+		Gauge.builder("mustache.static.text.pooled", mustacheCompiler, c -> staticTextPool(c, StaticTextPool::size))
+				.description("Number of static text segments pooled by mustache compiler")
+				.register(registry);
+
+		Gauge.builder("mustache.static.text.saved", mustacheCompiler, c -> staticTextPool(c, StaticTextPool::getSavedBytes))
+				.description("Estimated heap saved by pooling static text segments of mustache templates")
+				.baseUnit("bytes")
+				.register(registry);
+	}
+
+	private static double staticTextPool(AbstractMustacheCompiler compiler, ToDoubleFunction<StaticTextPool> fn) {
+		StaticTextPool pool = compiler.getStaticTextPool();
+		return pool == null ? 0 : fn.applyAsDouble(pool);
+	}
+
+	@Override
+	public String toString() {
+		return ToStringBuilder.builder(this)
+				.append("compiler", compiler)
+				.append("maxTemplates", maxTemplates)
+				.build();
+	}
+}
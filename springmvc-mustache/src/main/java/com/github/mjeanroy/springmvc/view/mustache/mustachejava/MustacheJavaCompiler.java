@@ -26,8 +26,10 @@ package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.core.AbstractMustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import com.github.mustachejava.Mustache;
 import com.github.mustachejava.MustacheFactory;
 
@@ -52,11 +54,71 @@ public final class MustacheJavaCompiler extends AbstractMustacheCompiler {
 	}
 
 	@Override
-	protected MustacheTemplate doCompile(String name) {
-		Mustache mustache = mustacheFactory.compile(name);
+	protected MustacheTemplate doCompile(String name, RenderContext context) {
+		Mustache mustache = mustacheFactory(context).compile(name);
 		return new MustacheJavaTemplate(mustache);
 	}
 
+	@Override
+	protected MustacheTemplate doCompile(String name, RenderContext context, MustacheTemplateLoader templateLoader) {
+		Mustache mustache = mustacheFactory(context, templateLoader).compile(name);
+		return new MustacheJavaTemplate(mustache);
+	}
+
+	/// Set the pool used to share static text segments between compiled templates: the pool is used by the
+	/// [SpringMustacheFactory] (other factories ignore this setting).
+	@Override
+	public void setStaticTextPool(StaticTextPool staticTextPool) {
+		if (mustacheFactory instanceof SpringMustacheFactory) {
+			((SpringMustacheFactory) mustacheFactory).setStaticTextPool(staticTextPool);
+		}
+
+		super.setStaticTextPool(staticTextPool);
+	}
+
+	/// Remove all compiled templates from the cache, including templates cached by the [SpringMustacheFactory]
+	/// (mustache.java caches compiled templates, and partials, by name).
+	@Override
+	public void clearCache() {
+		super.clearCache();
+
+		if (mustacheFactory instanceof SpringMustacheFactory) {
+			((SpringMustacheFactory) mustacheFactory).clearCache();
+		}
+	}
+
+	/// Get the mustache factory to use to compile template with given render context.
+	///
+	/// Render context can only be used with [SpringMustacheFactory], other factories
+	/// resolve templates and partials on their own.
+	///
+	/// @param context Render context.
+	/// @return The mustache factory.
+	private MustacheFactory mustacheFactory(RenderContext context) {
+		if (mustacheFactory instanceof SpringMustacheFactory) {
+			return ((SpringMustacheFactory) mustacheFactory).withRenderContext(context);
+		}
+
+		return mustacheFactory;
+	}
+
+	/// Get the mustache factory to use to compile template with given render context and given
+	/// template loader.
+	///
+	/// A new [SpringMustacheFactory] (with its own cache) is created, so that each template and partial
+	/// is read through given template loader. Other factories resolve templates and partials on their own.
+	///
+	/// @param context Render context.
+	/// @param templateLoader Template loader.
+	/// @return The mustache factory.
+	private MustacheFactory mustacheFactory(RenderContext context, MustacheTemplateLoader templateLoader) {
+		if (mustacheFactory instanceof SpringMustacheFactory) {
+			return ((SpringMustacheFactory) mustacheFactory).withTemplateLoader(templateLoader, context);
+		}
+
+		return mustacheFactory;
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
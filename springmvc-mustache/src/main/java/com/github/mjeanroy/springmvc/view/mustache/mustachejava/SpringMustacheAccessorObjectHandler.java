@@ -0,0 +1,201 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+import com.github.mjeanroy.springmvc.view.mustache.commons.reflection.Accessors;
+import com.github.mustachejava.Binding;
+import com.github.mustachejava.Code;
+import com.github.mustachejava.Iteration;
+import com.github.mustachejava.TemplateContext;
+import com.github.mustachejava.reflect.BaseObjectHandler;
+import com.github.mustachejava.util.Wrapper;
+
+import java.io.Writer;
+import java.lang.reflect.AccessibleObject;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+/// Object handler reading bean properties with accessors generated once per class and property (see [Accessors]).
+///
+/// Unlike [com.github.mustachejava.reflect.ReflectionObjectHandler], values are not read through reflective
+/// calls checked by guards: generated accessors are cached in a map keyed by class, and each lookup only
+/// requires a class check and a map lookup.
+///
+/// This handler has the same semantics as [SpringMustacheReflectionObjectHandler]: number zero is a falsey value,
+/// and [LazyValue] instances are unwrapped.
+final class SpringMustacheAccessorObjectHandler extends BaseObjectHandler {
+
+	/// Accessor of missing members.
+	private static final Function<Object, Object> MISSING = object -> NOT_FOUND;
+
+	/// Accessors, by class and member name.
+	private final ConcurrentMap<Class<?>, ConcurrentMap<String, Function<Object, Object>>> accessors;
+
+	/// Create handler.
+	SpringMustacheAccessorObjectHandler() {
+		this.accessors = new ConcurrentHashMap<>();
+	}
+
+	@Override
+	public Binding createBinding(String name, TemplateContext tc, Code code) {
+		// Codes without name (such as static text) never read a value.
+		return name == null ? scopes -> null : new AccessorWrapper(name)::call;
+	}
+
+	@Override
+	public Wrapper find(String name, List<Object> scopes) {
+		return new AccessorWrapper(name);
+	}
+
+	@Override
+	public Object coerce(Object object) {
+		return super.coerce(LazyValue.unwrap(object));
+	}
+
+	@Override
+	public Writer falsey(Iteration iteration, Writer writer, Object object, List<Object> scopes) {
+		return SpringMustacheReflectionObjectHandler.isZero(object) ? iteration.next(writer, object, scopes) : super.falsey(iteration, writer, object, scopes);
+	}
+
+	@Override
+	public Writer iterate(Iteration iteration, Writer writer, Object object, List<Object> scopes) {
+		return SpringMustacheReflectionObjectHandler.isZero(object) ? writer : super.iterate(iteration, writer, object, scopes);
+	}
+
+	private Function<Object, Object> accessor(Class<?> type, String name) {
+		ConcurrentMap<String, Function<Object, Object>> typeAccessors = accessors.get(type);
+		if (typeAccessors == null) {
+			typeAccessors = accessors.computeIfAbsent(type, t -> new ConcurrentHashMap<>());
+		}
+
+		// Look up first: computeIfAbsent would allocate the capturing lambda on each call.
+		Function<Object, Object> accessor = typeAccessors.get(name);
+		if (accessor == null) {
+			accessor = typeAccessors.computeIfAbsent(name, n -> createAccessor(type, n));
+		}
+
+		return accessor;
+	}
+
+	private Function<Object, Object> createAccessor(Class<?> type, String name) {
+		final AccessibleObject member = findMember(type, name);
+		if (member instanceof Method) {
+			return Accessors.methodAccessor((Method) member);
+		}
+
+		if (member instanceof Field) {
+			return Accessors.fieldAccessor((Field) member);
+		}
+
+		return MISSING;
+	}
+
+	/// Wrapper reading a (possibly dotted) name in the scopes, from the innermost scope to the outermost scope: a
+	/// dotted name is read in the first scope that can resolve all its segments.
+	///
+	/// Each segment caches the accessor of the last class it has read, so that reading the same member of objects
+	/// of the same class (such as items of a list) does not look up the accessor again.
+	private final class AccessorWrapper implements Wrapper {
+		private final String[] segments;
+
+		// Not volatile: a stale value is only a cache miss, and cached accessors are immutable.
+		private final CachedAccessor[] cached;
+
+		private AccessorWrapper(String name) {
+			this.segments = name.split("\\.");
+			this.cached = new CachedAccessor[segments.length];
+		}
+
+		@Override
+		public Object call(List<Object> scopes) {
+			for (int i = scopes.size() - 1; i >= 0; i--) {
+				final Object value = resolve(scopes.get(i));
+				if (value != NOT_FOUND) {
+					return value;
+				}
+			}
+
+			return null;
+		}
+
+		private Object resolve(Object scope) {
+			Object value = scope;
+			for (int i = 0; i < segments.length; i++) {
+				if (value == null) {
+					return NOT_FOUND;
+				}
+
+				value = get(value, i);
+				if (value == NOT_FOUND) {
+					return NOT_FOUND;
+				}
+
+				value = coerce(value);
+			}
+
+			return value;
+		}
+
+		/// Read segment of given scope.
+		///
+		/// @param scope The scope.
+		/// @param index Segment index.
+		/// @return Member value, [#NOT_FOUND] if scope does not have this member.
+		private Object get(Object scope, int index) {
+			final String name = segments[index];
+			if (scope instanceof Map) {
+				// Methods of maps are not accessible, as with mustache.java default object handler.
+				Map<?, ?> map = (Map<?, ?>) scope;
+				return map.containsKey(name) ? map.get(name) : NOT_FOUND;
+			}
+
+			final Class<?> type = scope.getClass();
+			CachedAccessor accessor = cached[index];
+			if (accessor == null || accessor.type != type) {
+				accessor = new CachedAccessor(type, accessor(type, name));
+				cached[index] = accessor;
+			}
+
+			return accessor.accessor.apply(scope);
+		}
+	}
+
+	/// Accessor of a member, for a given class.
+	private static final class CachedAccessor {
+		private final Class<?> type;
+		private final Function<Object, Object> accessor;
+
+		private CachedAccessor(Class<?> type, Function<Object, Object> accessor) {
+			this.type = type;
+			this.accessor = accessor;
+		}
+	}
+}
@@ -25,12 +25,18 @@
 package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
 import com.github.mjeanroy.springmvc.view.mustache.logging.LoggerFactory;
 import com.github.mustachejava.DefaultMustacheFactory;
 import com.github.mustachejava.MustacheResolver;
 
+import java.io.Reader;
+
+import static com.github.mjeanroy.springmvc.view.mustache.commons.lang.PreConditions.notNull;
+
 /// Implementation of mustache factory that use a template loader
 /// internally.
 ///
@@ -47,19 +53,134 @@ public final class SpringMustacheFactory extends DefaultMustacheFactory {
 	/// location from name.
 	private final MustacheTemplateLoader templateLoader;
 
+	/// The mustache resolver, used to read templates.
+	private final MustacheResolver mustacheResolver;
+
+	/// Render context, used to resolve templates and partials.
+	private final RenderContext context;
+
+	/// Pool of static text segments, disabled (i.e. `null`) by default.
+	// Volatile because it can be accessed by more than one thread
+	private volatile StaticTextPool staticTextPool;
+
 	/// Build new mustache factory.
 	///
 	/// @param mustacheResolver The mustache template resolver.
 	/// @param templateLoader Template loader to use.
 	public SpringMustacheFactory(MustacheResolver mustacheResolver, MustacheTemplateLoader templateLoader) {
 		super(mustacheResolver);
+		this.mustacheResolver = mustacheResolver;
 		this.templateLoader = templateLoader;
+		this.context = RenderContext.empty();
 
 		// Use a custom reflection object handler to "see" zero as a falsey value
 		// See: https://github.com/spullara/mustache.java/pull/111
 		this.oh = new SpringMustacheReflectionObjectHandler();
 	}
 
+	/// Build new mustache factory, bound to given render context, with the same
+	/// settings than given factory.
+	///
+	/// @param factory The original factory.
+	/// @param context The render context.
+	private SpringMustacheFactory(SpringMustacheFactory factory, RenderContext context) {
+		this(factory, factory.mustacheResolver, factory.templateLoader, context);
+	}
+
+	/// Build new mustache factory, bound to given render context and given template loader, with the
+	/// same settings than given factory.
+	///
+	/// @param factory The original factory.
+	/// @param mustacheResolver The mustache template resolver.
+	/// @param templateLoader The template loader.
+	/// @param context The render context.
+	private SpringMustacheFactory(SpringMustacheFactory factory, MustacheResolver mustacheResolver, MustacheTemplateLoader templateLoader, RenderContext context) {
+		super(mustacheResolver);
+		this.mustacheResolver = mustacheResolver;
+		this.templateLoader = templateLoader;
+		this.context = context;
+		this.oh = factory.oh;
+		this.es = factory.es;
+		this.recursionLimit = factory.recursionLimit;
+		this.staticTextPool = factory.staticTextPool;
+	}
+
+	/// Get a mustache factory that resolves templates and partials with given render context.
+	///
+	/// Mustache.java resolves partials during compilation, and caches compiled templates by name: a
+	/// new factory (with its own cache) is returned for a context defining partial aliases, so that
+	/// templates compiled with different aliases never share the same partials.
+	///
+	/// @param context Render context.
+	/// @return Mustache factory bound to given render context.
+	public SpringMustacheFactory withRenderContext(RenderContext context) {
+		notNull(context, "Render context must not be null");
+		return context.equals(this.context) ? this : new SpringMustacheFactory(this, context);
+	}
+
+	/// Get a new mustache factory that resolves, and reads, templates and partials with given template loader
+	/// and given render context.
+	///
+	/// The returned factory has its own cache: each template, and each partial, compiled with this factory
+	/// is read (once) through given template loader.
+	///
+	/// @param templateLoader Template loader.
+	/// @param context Render context.
+	/// @return Mustache factory bound to given template loader and render context.
+	public SpringMustacheFactory withTemplateLoader(MustacheTemplateLoader templateLoader, RenderContext context) {
+		notNull(templateLoader, "Template loader must not be null");
+		notNull(context, "Render context must not be null");
+
+		MustacheResolver resolver = mustacheResolver instanceof SpringMustacheResolver ? new SpringMustacheResolver(templateLoader) : mustacheResolver;
+		return new SpringMustacheFactory(this, resolver, templateLoader, context);
+	}
+
+	/// Enable, or disable, generated property accessors: if enabled, model values are read with accessors generated
+	/// once per class and property (see [SpringMustacheAccessorObjectHandler]), instead of reflective calls.
+	///
+	/// This setting must be set before any template is compiled.
+	///
+	/// @param generatedAccessors `true` to use generated accessors, `false` to use reflection.
+	public void setGeneratedAccessors(boolean generatedAccessors) {
+		log.debug("Set mustache.java generated accessors: {}", generatedAccessors);
+		this.oh = generatedAccessors ? new SpringMustacheAccessorObjectHandler() : new SpringMustacheReflectionObjectHandler();
+	}
+
+	/// Set the pool used to share static text of compiled templates (`null` to disable pooling): static text
+	/// of each compiled code is pooled once filtered by mustache.java (see [#filterText(String, boolean)]).
+	///
+	/// This setting must be set before any template is compiled.
+	///
+	/// @param staticTextPool Pool of static text segments.
+	public void setStaticTextPool(StaticTextPool staticTextPool) {
+		log.debug("Set mustache.java static text pool: {}", staticTextPool);
+		this.staticTextPool = staticTextPool;
+	}
+
+	@Override
+	public String filterText(String appended, boolean startOfLine) {
+		final String text = super.filterText(appended, startOfLine);
+		final StaticTextPool pool = staticTextPool;
+		return pool == null || text == null ? text : pool.intern(text);
+	}
+
+	/// Remove all templates compiled, and cached, by this factory: templates will be compiled (and read)
+	/// again on next compilation.
+	public void clearCache() {
+		log.debug("Clear mustache.java template cache");
+		mustacheCache.clear();
+		templateCache.clear();
+	}
+
+	@Override
+	public Reader getReader(String resourceName) {
+		if (mustacheResolver instanceof SpringMustacheResolver) {
+			return ((SpringMustacheResolver) mustacheResolver).getReader(resourceName, context);
+		}
+
+		return super.getReader(resourceName);
+	}
+
 	@Override
 	public String resolvePartialPath(String dir, String name, String extension) {
 		// Future release of mustache.java will be prevent dir and extension being
@@ -67,13 +188,14 @@ public final class SpringMustacheFactory extends DefaultMustacheFactory {
 		// See: https://github.com/spullara/mustache.java/pull/110
 		// For now, this method has to be overridden
 		log.debug("Resolve partial path for name: {}", name);
-		return templateLoader.resolve(name);
+		return templateLoader.resolve(name, context);
 	}
 
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
 				.append("templateLoader", templateLoader)
+				.append("context", context)
 				.build();
 	}
 }
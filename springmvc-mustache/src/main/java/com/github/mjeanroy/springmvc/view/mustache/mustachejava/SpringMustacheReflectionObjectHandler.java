@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
 import com.github.mustachejava.Iteration;
 import com.github.mustachejava.reflect.ReflectionObjectHandler;
 
@@ -32,8 +33,17 @@ import java.util.List;
 
 /// Reflection Handler that treat number zero as a falsey value.
 /// See: [GitHub](https://github.com/spullara/mustache.java/pull/111).
+///
+/// This handler also unwraps [LazyValue] instances: mustache.java coerces each value read by
+/// templates (including intermediate values of dotted names), so lazy values are computed
+/// only when a template reads them.
 class SpringMustacheReflectionObjectHandler extends ReflectionObjectHandler {
 
+	@Override
+	public Object coerce(Object object) {
+		return super.coerce(LazyValue.unwrap(object));
+	}
+
 	@Override
 	public Writer falsey(Iteration iteration, Writer writer, Object object, List<Object> scopes) {
 		return isZero(object) ? iteration.next(writer, object, scopes) : super.falsey(iteration, writer, object, scopes);
@@ -44,7 +54,11 @@ class SpringMustacheReflectionObjectHandler extends ReflectionObjectHandler {
 		return isZero(object) ? writer : super.iterate(iteration, writer, object, scopes);
 	}
 
-	private boolean isZero(Object object) {
+	/// Check if given value is number zero, rendered as a falsey value.
+	///
+	/// @param object The value.
+	/// @return `true` if value is zero, `false` otherwise.
+	static boolean isZero(Object object) {
 		return object instanceof Number && ((Number) object).intValue() == 0;
 	}
 }
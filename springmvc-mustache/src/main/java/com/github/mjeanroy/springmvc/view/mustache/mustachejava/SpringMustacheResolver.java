@@ -25,6 +25,7 @@
 package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.commons.lang.ToStringBuilder;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheTemplateNotFoundException;
 import com.github.mjeanroy.springmvc.view.mustache.logging.Logger;
@@ -64,6 +65,22 @@ public final class SpringMustacheResolver extends DefaultResolver {
 		}
 	}
 
+	/// Get template reader, using given render context to resolve template location.
+	///
+	/// @param resourceName Template name.
+	/// @param context Render context.
+	/// @return Template reader.
+	public Reader getReader(String resourceName, RenderContext context) {
+		log.debug("Load template associated to resource: {}", resourceName);
+
+		try {
+			return templateLoader.getTemplate(resourceName, context);
+		}
+		catch (MustacheTemplateNotFoundException ex) {
+			return super.getReader(resourceName);
+		}
+	}
+
 	@Override
 	public String toString() {
 		return ToStringBuilder.builder(this)
@@ -0,0 +1,66 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.Callable;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AsyncValueTest {
+
+	@Test
+	void it_should_compute_value() throws Exception {
+		AsyncValue<String> asyncValue = AsyncValue.of(() -> "foo");
+		assertThat(asyncValue.call()).isEqualTo("foo");
+	}
+
+	@Test
+	void it_should_fail_without_callable() {
+		assertThatThrownBy(() -> AsyncValue.of(null))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Callable must not be null");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		Callable<String> callable = () -> "foo";
+		AsyncValue<String> asyncValue = AsyncValue.of(callable);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.AsyncValue@%s{" +
+						"callable=%s" +
+				"}";
+		// @formatter:on
+
+		assertThat(asyncValue).hasToString(String.format(
+				expectedToString, hexIdentity(asyncValue), callable
+		));
+	}
+}
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class LazyValueTest {
+
+	@Test
+	void it_should_compute_value_once() {
+		AtomicInteger calls = new AtomicInteger(0);
+		LazyValue<String> lazyValue = LazyValue.of(() -> "foo" + calls.incrementAndGet());
+
+		assertThat(lazyValue.isResolved()).isFalse();
+		assertThat(calls.get()).isZero();
+
+		assertThat(lazyValue.get()).isEqualTo("foo1");
+		assertThat(lazyValue.get()).isEqualTo("foo1");
+		assertThat(lazyValue.isResolved()).isTrue();
+		assertThat(calls.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_unwrap_values() {
+		LazyValue<LazyValue<String>> lazyValue = LazyValue.of(() -> LazyValue.of(() -> "foo"));
+
+		assertThat(LazyValue.unwrap(lazyValue)).isEqualTo("foo");
+		assertThat(LazyValue.unwrap("bar")).isEqualTo("bar");
+		assertThat(LazyValue.unwrap(null)).isNull();
+	}
+
+	@Test
+	void it_should_fail_without_supplier() {
+		assertThatThrownBy(() -> LazyValue.of(null))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Supplier must not be null");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		LazyValue<String> lazyValue = LazyValue.of(() -> "foo");
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.LazyValue@%s{" +
+						"resolved=false" +
+				"}";
+		// @formatter:on
+
+		assertThat(lazyValue).hasToString(String.format(
+				expectedToString, hexIdentity(lazyValue)
+		));
+	}
+}
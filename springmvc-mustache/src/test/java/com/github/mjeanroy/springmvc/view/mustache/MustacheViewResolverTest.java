@@ -24,18 +24,23 @@
 
 package com.github.mjeanroy.springmvc.view.mustache;
 
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
 import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
 import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
@@ -178,6 +183,69 @@ class MustacheViewResolverTest {
 		assertThat(mustacheView.isExposePathVariables()).isTrue();
 	}
 
+	@Test
+	void it_should_build_view_using_buffer_pool() throws Exception {
+		RenderBufferPool bufferPool = new RenderBufferPool(1024, 4096);
+		MustacheViewResolver mustacheViewResolver = mustacheViewResolver(mustacheCompiler());
+		mustacheViewResolver.setBufferPool(bufferPool);
+
+		MustacheView mustacheView = mustacheViewResolver.buildView("foo");
+
+		assertThat(mustacheViewResolver.getBufferPool()).isSameAs(bufferPool);
+		assertThat(mustacheView.getBufferPool()).isSameAs(bufferPool);
+	}
+
+	@Test
+	void it_should_build_view_using_async_model_resolver() throws Exception {
+		AsyncModelResolver asyncModelResolver = new AsyncModelResolver(1, 1000);
+		MustacheViewResolver mustacheViewResolver = mustacheViewResolver(mustacheCompiler());
+		mustacheViewResolver.setAsyncModelResolver(asyncModelResolver);
+
+		MustacheView mustacheView = mustacheViewResolver.buildView("foo");
+
+		assertThat(mustacheViewResolver.getAsyncModelResolver()).isSameAs(asyncModelResolver);
+		assertThat(mustacheView.getAsyncModelResolver()).isSameAs(asyncModelResolver);
+	}
+
+	@Test
+	void it_should_build_view_using_lazy_suppliers() throws Exception {
+		MustacheViewResolver mustacheViewResolver = mustacheViewResolver(mustacheCompiler());
+		mustacheViewResolver.setLazySuppliers(true);
+
+		MustacheView mustacheView = mustacheViewResolver.buildView("foo");
+
+		assertThat(mustacheViewResolver.isLazySuppliers()).isTrue();
+		assertThat(mustacheView.isLazySuppliers()).isTrue();
+	}
+
+	@Test
+	void it_should_build_view_using_model_pruning() throws Exception {
+		MustacheViewResolver mustacheViewResolver = mustacheViewResolver(mustacheCompiler());
+		mustacheViewResolver.setModelPruning(true);
+
+		MustacheView mustacheView = mustacheViewResolver.buildView("foo");
+
+		assertThat(mustacheViewResolver.isModelPruning()).isTrue();
+		assertThat(mustacheView.isModelPruning()).isTrue();
+	}
+
+	@Test
+	void it_should_build_view_using_flush_markers() throws Exception {
+		MustacheViewResolver mustacheViewResolver = mustacheViewResolver(mustacheCompiler());
+		mustacheViewResolver.setFlushMarkers(singletonList("</head>"));
+		mustacheViewResolver.addFlushMarkersMapping("bar", asList("</head>", "</header>"));
+		mustacheViewResolver.addFlushMarkersMapping("baz", Collections.<String>emptyList());
+
+		MustacheView foo = mustacheViewResolver.buildView("foo");
+		MustacheView bar = mustacheViewResolver.buildView("bar");
+		MustacheView baz = mustacheViewResolver.buildView("baz");
+
+		assertThat(mustacheViewResolver.getFlushMarkers()).containsExactly("</head>");
+		assertThat(foo.getFlushMarkers()).containsExactly("</head>");
+		assertThat(bar.getFlushMarkers()).containsExactly("</head>", "</header>");
+		assertThat(baz.getFlushMarkers()).isEmpty();
+	}
+
 	@Test
 	void it_should_build_view_using_layout() throws Exception {
 		String layout = "index";
@@ -252,6 +320,12 @@ class MustacheViewResolverTest {
 						"defaultLayout=\"index\", " +
 						"layoutKey=\"content\", " +
 						"layoutMappings={bar=admin}, " +
+						"bufferPool=null, " +
+						"flushMarkers=[], " +
+						"flushMarkersMappings={}, " +
+						"asyncModelResolver=null, " +
+						"lazySuppliers=false, " +
+						"modelPruning=false, " +
 						"order=2147483647, " +
 						"prefix=\"\", " +
 						"suffix=\"\", " +
@@ -32,6 +32,7 @@ import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.entry;
 
@@ -66,6 +67,7 @@ class MustacheViewTest {
 		MustacheView view = new MustacheView();
 		view.setCompiler(mustacheCompiler);
 		view.addAlias("john", "jane");
+		view.setFlushMarkers(singletonList("</head>"));
 
 		// @formatter:off
 		String expectedToString =
@@ -73,7 +75,12 @@ class MustacheViewTest {
 						"compiler=%s, " +
 						"aliases={" +
 								"john=jane" +
-						"}" +
+						"}, " +
+						"bufferPool=null, " +
+						"flushMarkers=[</head>], " +
+						"asyncModelResolver=null, " +
+						"lazySuppliers=false, " +
+						"modelPruning=false" +
 				"}";
 		// @formatter:on
 
@@ -25,6 +25,7 @@
 package com.github.mjeanroy.springmvc.view.mustache;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.handlebars.HandlebarsCompiler;
 import org.junit.jupiter.api.BeforeEach;
@@ -32,6 +33,8 @@ import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
@@ -40,8 +43,10 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Set;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readStaticField;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.StringTestUtils.joinLines;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
@@ -271,6 +276,68 @@ class MustacheView_Handlebars_Test {
 		assertThat(result).isNotNull().isNotEmpty().isEqualTo(expected);
 	}
 
+	@Test
+	void it_should_display_template_with_render_specific_partial_aliases() throws Exception {
+		mustacheView.setUrl("/templates/composite-aliases.template.html");
+
+		Writer w1 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w1));
+		assertThat(w1.toString()).contains("<div>Hello foo</div>").doesNotContain("Zero should be falsy.");
+
+		Writer w2 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/zero.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w2));
+		assertThat(w2.toString()).contains("Zero should be falsy.").doesNotContain("<div>Hello foo</div>");
+
+		ThreadLocal<Map<String, String>> temporaryPartialAliases = readField(templateLoader, "temporaryPartialAliases");
+		assertThat(temporaryPartialAliases.get()).isNull();
+	}
+
+	@Test
+	void it_should_resolve_async_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", AsyncValue.of(() -> "bar"));
+
+		mustacheView.setAsyncModelResolver(new AsyncModelResolver(Runnable::run, 1000));
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_lazy_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", LazyValue.of(() -> "bar"));
+		model.put("unused", LazyValue.of(() -> {
+			throw new AssertionError("Unused value must not be computed");
+		}));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_whole_model_if_model_pruning_is_not_supported() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setAttribute("name", "bar");
+		model.remove("name");
+
+		mustacheView.setModelPruning(true);
+		mustacheView.setExposeRequestAttributes(true);
+		mustacheView.setExposeSpringMacroHelpers(false);
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.render(model, request, response);
+
+		Set<Class<?>> unsupportedModelPruning = readStaticField(MustacheView.class, "UNSUPPORTED_MODEL_PRUNING");
+		assertThat(response.getContentAsString()).isEqualTo("<div>Hello bar</div>");
+		assertThat(unsupportedModelPruning).contains(HandlebarsCompiler.class);
+	}
+
 	private static Writer givenWriter() {
 		return new StringWriter();
 	}
@@ -24,29 +24,41 @@
 
 package com.github.mjeanroy.springmvc.view.mustache;
 
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
 import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
 import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
 
+import javax.servlet.ServletException;
 import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
+import javax.servlet.http.HttpSession;
 import java.io.PrintWriter;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.StringTestUtils.joinLines;
 import static com.samskivert.mustache.Mustache.Compiler;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -273,6 +285,246 @@ class MustacheView_JMustache_Test {
 		assertThat(result).isNotNull().isNotEmpty().isEqualTo(expected);
 	}
 
+	@Test
+	void it_should_display_template_with_render_specific_partial_aliases() throws Exception {
+		mustacheView.setUrl("/templates/composite-aliases.template.html");
+
+		Writer w1 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w1));
+		assertThat(w1.toString()).contains("<div>Hello foo</div>").doesNotContain("Zero should be falsy.");
+
+		Writer w2 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/zero.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w2));
+		assertThat(w2.toString()).contains("Zero should be falsy.").doesNotContain("<div>Hello foo</div>");
+
+		ThreadLocal<Map<String, String>> temporaryPartialAliases = readField(templateLoader, "temporaryPartialAliases");
+		assertThat(temporaryPartialAliases.get()).isNull();
+	}
+
+	@Test
+	void it_should_render_template_in_buffer() throws Exception {
+		RenderBufferPool bufferPool = new RenderBufferPool(4, 16);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		model.put("name", "f\u00f6\u00f6");
+
+		mustacheView.setBufferPool(bufferPool);
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		String expected = "<div>Hello f\u00f6\u00f6</div>";
+		assertThat(response.getContentAsString()).isEqualTo(expected);
+		assertThat(response.getContentLength()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+		assertThat(response.getContentType()).isEqualTo("text/html; charset=utf-8");
+		assertThat(bufferPool.acquire().size()).isZero();
+	}
+
+	@Test
+	void it_should_render_template_in_buffer_and_write_it_to_response_writer_if_output_stream_is_not_available() throws Exception {
+		Writer writer = givenWriter();
+		HttpServletResponse response = givenHttpServletResponse(writer);
+		when(response.getOutputStream()).thenThrow(new IllegalStateException("getWriter() has already been called"));
+
+		mustacheView.setBufferPool(new RenderBufferPool(4, 16));
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+		verify(response, never()).setContentLength(anyInt());
+	}
+
+	@Test
+	void it_should_render_pre_encoded_template_to_output_stream() throws Exception {
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) mustacheView.getCompiler();
+		mustacheCompiler.setPreEncoding(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		model.put("name", "f\u00f6\u00f6");
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(response.getContentAsByteArray()).isEqualTo("<div>Hello f\u00f6\u00f6</div>".getBytes(StandardCharsets.UTF_8));
+		assertThat(response.getContentType()).isEqualTo("text/html; charset=utf-8");
+	}
+
+	@Test
+	void it_should_write_pending_values_of_pre_encoded_template_if_rendering_fails() {
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) mustacheView.getCompiler();
+		mustacheCompiler.setPreEncoding(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		model.put("first", "föö");
+		model.put("last", new Object() {
+			@Override
+			public String toString() {
+				throw new IllegalStateException("Cannot render value");
+			}
+		});
+
+		mustacheView.setUrl("/rendering/values.template.html");
+
+		assertThatThrownBy(() -> mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response))
+				.hasRootCauseMessage("Cannot render value");
+
+		assertThat(response.getContentAsByteArray()).isEqualTo("<div>föö".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void it_should_render_pre_encoded_template_to_response_writer_if_output_stream_is_not_available() throws Exception {
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) mustacheView.getCompiler();
+		mustacheCompiler.setPreEncoding(true);
+		Writer writer = givenWriter();
+		HttpServletResponse response = givenHttpServletResponse(writer);
+		when(response.getCharacterEncoding()).thenReturn("UTF-8");
+		when(response.getOutputStream()).thenThrow(new IllegalStateException("getWriter() has already been called"));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_render_pre_encoded_template_to_response_writer_with_another_charset() throws Exception {
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) mustacheView.getCompiler();
+		mustacheCompiler.setPreEncoding(true);
+		Writer writer = givenWriter();
+		HttpServletResponse response = givenHttpServletResponse(writer);
+		when(response.getCharacterEncoding()).thenReturn("ISO-8859-1");
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+		verify(response, never()).getOutputStream();
+	}
+
+	@Test
+	void it_should_flush_response_after_flush_markers() throws Exception {
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		mustacheView.setBufferPool(new RenderBufferPool(4, 16));
+		mustacheView.setFlushMarkers(singletonList("<div>"));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(response.getContentAsString()).isEqualTo("<div>Hello foo</div>");
+		assertThat(response.isCommitted()).isTrue();
+		assertThat(response.getContentLength()).isZero();
+	}
+
+	@Test
+	void it_should_flush_pre_encoded_template_after_flush_markers() throws Exception {
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) mustacheView.getCompiler();
+		mustacheCompiler.setPreEncoding(true);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		mustacheView.setFlushMarkers(singletonList("Hello"));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), response);
+
+		assertThat(response.getContentAsString()).isEqualTo("<div>Hello foo</div>");
+		assertThat(response.isCommitted()).isTrue();
+	}
+
+	@Test
+	void it_should_resolve_async_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", AsyncValue.of(() -> "bar"));
+
+		mustacheView.setAsyncModelResolver(new AsyncModelResolver(Runnable::run, 1000));
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_lazy_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", LazyValue.of(() -> "bar"));
+		model.put("unused", LazyValue.of(() -> {
+			throw new AssertionError("Unused value must not be computed");
+		}));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_suppliers_lazily() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", (Supplier<String>) () -> "bar");
+		model.put("unused", (Supplier<String>) () -> {
+			throw new AssertionError("Unused value must not be computed");
+		});
+
+		mustacheView.setLazySuppliers(true);
+		mustacheView.setAsyncModelResolver(new AsyncModelResolver(command -> {
+			throw new AssertionError("Lazy values must not be resolved asynchronously");
+		}, 1000));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_pruned_model() throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		request.setAttribute("name", "bar");
+		model.remove("name");
+		model.put("unused", AsyncValue.of(() -> {
+			throw new AssertionError("Unused value must not be resolved");
+		}));
+
+		mustacheView.setModelPruning(true);
+		mustacheView.setExposeRequestAttributes(true);
+		mustacheView.setAsyncModelResolver(new AsyncModelResolver(Runnable::run, 1000));
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.render(model, request, response);
+
+		assertThat(response.getContentAsString()).isEqualTo("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_not_copy_request_and_session_attributes_with_pruned_model() throws Exception {
+		Writer writer = givenWriter();
+		HttpServletRequest request = givenHttpServletRequest();
+		HttpSession session = mock(HttpSession.class);
+		when(request.getSession(false)).thenReturn(session);
+		when(session.getAttribute("name")).thenReturn("bar");
+
+		mustacheView.setModelPruning(true);
+		mustacheView.setExposeRequestAttributes(true);
+		mustacheView.setExposeSessionAttributes(true);
+		mustacheView.setAllowSessionOverride(true);
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.render(model, request, givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+		verify(request, never()).getAttributeNames();
+		verify(session, never()).getAttributeNames();
+	}
+
+	@Test
+	void it_should_fail_to_override_model_value_with_request_attribute_with_pruned_model() {
+		MockHttpServletRequest request = new MockHttpServletRequest();
+		request.setAttribute("name", "bar");
+
+		mustacheView.setModelPruning(true);
+		mustacheView.setExposeRequestAttributes(true);
+		mustacheView.setUrl("/templates/foo.template.html");
+
+		assertThatThrownBy(() -> mustacheView.render(model, request, new MockHttpServletResponse()))
+				.isInstanceOf(ServletException.class)
+				.hasMessage("Cannot expose request attribute 'name' because of an existing model object of the same name");
+	}
+
 	private static Writer givenWriter() {
 		return new StringWriter();
 	}
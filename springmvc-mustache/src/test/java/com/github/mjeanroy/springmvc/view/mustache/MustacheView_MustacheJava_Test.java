@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache;
 
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.mustachejava.MustacheJavaCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.mustachejava.SpringMustacheFactory;
@@ -272,6 +273,50 @@ class MustacheView_MustacheJava_Test {
 		assertThat(result).isNotNull().isNotEmpty().isEqualTo(expected);
 	}
 
+	@Test
+	void it_should_display_template_with_render_specific_partial_aliases() throws Exception {
+		mustacheView.setUrl("/templates/composite-aliases.template.html");
+
+		Writer w1 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w1));
+		assertThat(w1.toString()).contains("<div>Hello foo</div>").doesNotContain("Zero should be falsy.");
+
+		Writer w2 = givenWriter();
+		mustacheView.addAlias("foo", "/templates/zero.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(w2));
+		assertThat(w2.toString()).contains("Zero should be falsy.").doesNotContain("<div>Hello foo</div>");
+
+		ThreadLocal<Map<String, String>> temporaryPartialAliases = readField(templateLoader, "temporaryPartialAliases");
+		assertThat(temporaryPartialAliases.get()).isNull();
+	}
+
+	@Test
+	void it_should_resolve_async_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", AsyncValue.of(() -> "bar"));
+
+		mustacheView.setAsyncModelResolver(new AsyncModelResolver(Runnable::run, 1000));
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
+	@Test
+	void it_should_render_lazy_model_values() throws Exception {
+		Writer writer = givenWriter();
+		model.put("name", LazyValue.of(() -> "bar"));
+		model.put("unused", LazyValue.of(() -> {
+			throw new AssertionError("Unused value must not be computed");
+		}));
+
+		mustacheView.setUrl("/templates/foo.template.html");
+		mustacheView.renderMergedTemplateModel(model, givenHttpServletRequest(), givenHttpServletResponse(writer));
+
+		assertThat(writer).hasToString("<div>Hello bar</div>");
+	}
+
 	private static Writer givenWriter() {
 		return new StringWriter();
 	}
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class RenderContextTest {
+
+	@Test
+	void it_should_create_empty_render_context() {
+		RenderContext context = RenderContext.empty();
+
+		assertThat(context.getPartialAliases()).isEmpty();
+		assertThat(context.hasPartialAliases()).isFalse();
+		assertThat(context.getPartialAlias("foo")).isNull();
+		assertThat(RenderContext.of(emptyMap())).isSameAs(context);
+	}
+
+	@Test
+	void it_should_create_render_context_with_partial_aliases() {
+		Map<String, String> aliases = new HashMap<>();
+		aliases.put("foo", "bar");
+
+		RenderContext context = RenderContext.of(aliases);
+		aliases.put("bar", "foo");
+
+		assertThat(context.hasPartialAliases()).isTrue();
+		assertThat(context.getPartialAlias("foo")).isEqualTo("bar");
+		assertThat(context.getPartialAlias("bar")).isNull();
+		assertThat(context.getPartialAliases()).hasSize(1).containsOnly(entry("foo", "bar"));
+	}
+
+	@Test
+	void it_should_not_allow_modification_of_partial_aliases() {
+		RenderContext context = RenderContext.of(singletonMap("foo", "bar"));
+
+		assertThatThrownBy(() -> context.getPartialAliases().put("bar", "foo"))
+				.isInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void it_should_implement_equals_hash_code() {
+		RenderContext c1 = RenderContext.of(singletonMap("foo", "bar"));
+		RenderContext c2 = RenderContext.of(singletonMap("foo", "bar"));
+		RenderContext c3 = RenderContext.of(singletonMap("foo", "baz"));
+
+		assertThat(c1).isEqualTo(c2).hasSameHashCodeAs(c2).isNotEqualTo(c3).isNotEqualTo(RenderContext.empty());
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		RenderContext context = RenderContext.of(singletonMap("foo", "bar"));
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.RenderContext@%s{" +
+						"partialAliases={foo=bar}" +
+				"}";
+		// @formatter:on
+
+		assertThat(context).hasToString(String.format(
+				expectedToString, hexIdentity(context)
+		));
+	}
+}
@@ -0,0 +1,107 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.commons.reflection;
+
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.ReflectionException;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AccessorsTest {
+
+	@Test
+	void it_should_create_method_accessor() throws Exception {
+		Method method = Bean.class.getMethod("getName");
+		Function<Object, Object> accessor = Accessors.methodAccessor(method);
+		assertThat(accessor.apply(new Bean("foo"))).isEqualTo("foo");
+	}
+
+	@Test
+	void it_should_create_method_accessor_returning_primitive() throws Exception {
+		Method method = Bean.class.getMethod("isEmpty");
+		Function<Object, Object> accessor = Accessors.methodAccessor(method);
+		assertThat(accessor.apply(new Bean(""))).isEqualTo(true);
+	}
+
+	@Test
+	void it_should_create_method_accessor_of_non_public_class() throws Exception {
+		Method method = Hidden.class.getDeclaredMethod("getName");
+		method.setAccessible(true);
+
+		Function<Object, Object> accessor = Accessors.methodAccessor(method);
+		assertThat(accessor.apply(new Hidden())).isEqualTo("hidden");
+	}
+
+	@Test
+	void it_should_wrap_exception_thrown_by_non_public_method() throws Exception {
+		Method method = Hidden.class.getDeclaredMethod("fail");
+		method.setAccessible(true);
+
+		Function<Object, Object> accessor = Accessors.methodAccessor(method);
+		assertThatThrownBy(() -> accessor.apply(new Hidden()))
+				.isInstanceOf(ReflectionException.class)
+				.hasRootCauseInstanceOf(UnsupportedOperationException.class);
+	}
+
+	@Test
+	void it_should_create_field_accessor() throws Exception {
+		Field field = Bean.class.getDeclaredField("name");
+		field.setAccessible(true);
+
+		Function<Object, Object> accessor = Accessors.fieldAccessor(field);
+		assertThat(accessor.apply(new Bean("foo"))).isEqualTo("foo");
+	}
+
+	public static class Bean {
+		private final String name;
+
+		Bean(String name) {
+			this.name = name;
+		}
+
+		public String getName() {
+			return name;
+		}
+
+		public boolean isEmpty() {
+			return name.isEmpty();
+		}
+	}
+
+	private static class Hidden {
+		String getName() {
+			return "hidden";
+		}
+
+		String fail() {
+			throw new UnsupportedOperationException();
+		}
+	}
+}
@@ -24,13 +24,17 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.commons.reflection;
 
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.ReflectionException;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.type.AnnotationMetadata;
 
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -94,6 +98,26 @@ class ClassesTest {
 		assertThat(value).isNull();
 	}
 
+	@Test
+	void it_should_create_new_instance() {
+		Object instance = Classes.newInstance("java.util.ArrayList", List.class);
+		assertThat(instance).isInstanceOf(ArrayList.class);
+	}
+
+	@Test
+	void it_should_fail_to_create_new_instance_of_unknown_class() {
+		assertThatThrownBy(() -> Classes.newInstance("com.fake.FooBar", Object.class))
+				.isInstanceOf(ReflectionException.class)
+				.hasCauseInstanceOf(ClassNotFoundException.class);
+	}
+
+	@Test
+	void it_should_fail_to_create_new_instance_without_default_constructor() {
+		assertThatThrownBy(() -> Classes.newInstance("java.lang.Integer", Object.class))
+				.isInstanceOf(ReflectionException.class)
+				.hasCauseInstanceOf(NoSuchMethodException.class);
+	}
+
 	private @interface Foo {
 	}
 }
@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class MustacheCompilerConfigurerTest {
+
+	private MockEnvironment environment;
+	private MustacheCompilerConfigurer configurer;
+
+	@BeforeEach
+	void setUp() {
+		environment = new MockEnvironment();
+		configurer = new MustacheCompilerConfigurer(environment);
+	}
+
+	@Test
+	void it_should_get_template_cache_limit() {
+		assertThat(configurer.getTemplateCacheLimit()).isEqualTo(1024);
+
+		environment.setProperty("mustache.cache", "false");
+		assertThat(configurer.getTemplateCacheLimit()).isZero();
+
+		environment.setProperty("mustache.templateCacheLimit", "10");
+		assertThat(configurer.getTemplateCacheLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_get_pre_encoding_settings() {
+		assertThat(configurer.getPreEncoding()).isFalse();
+
+		environment.setProperty("mustache.preEncoding", "true");
+		assertThat(configurer.getPreEncoding()).isTrue();
+	}
+
+	@Test
+	void it_should_get_static_text_pooling_settings() {
+		assertThat(configurer.getStaticTextPooling()).isFalse();
+
+		environment.setProperty("mustache.staticTextPooling", "true");
+		assertThat(configurer.getStaticTextPooling()).isTrue();
+	}
+
+	@Test
+	void it_should_configure_compiler_with_default_settings() {
+		JMustacheCompiler compiler = givenCompiler();
+
+		assertThat(configurer.configure(compiler)).isSameAs(compiler);
+		assertThat(compiler.getCacheLimit()).isEqualTo(1024);
+		assertThat(compiler.isPreEncoding()).isFalse();
+		assertThat(compiler.getStaticTextPool()).isNull();
+	}
+
+	@Test
+	void it_should_configure_compiler() {
+		environment.setProperty("mustache.templateCacheLimit", "10");
+		environment.setProperty("mustache.preEncoding", "true");
+		environment.setProperty("mustache.staticTextPooling", "true");
+		JMustacheCompiler compiler = givenCompiler();
+
+		assertThat(configurer.configure(compiler)).isSameAs(compiler);
+		assertThat(compiler.getCacheLimit()).isEqualTo(10);
+		assertThat(compiler.isPreEncoding()).isTrue();
+		assertThat(compiler.getStaticTextPool()).isNotNull();
+	}
+
+	@Test
+	void it_should_configure_compiler_with_default_settings_without_environment() {
+		JMustacheCompiler compiler = givenCompiler();
+
+		assertThat(new MustacheCompilerConfigurer(null).configure(compiler)).isSameAs(compiler);
+		assertThat(compiler.getCacheLimit()).isEqualTo(1024);
+		assertThat(compiler.isPreEncoding()).isFalse();
+		assertThat(compiler.getStaticTextPool()).isNull();
+	}
+
+	@Test
+	void it_should_not_configure_other_compilers() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+
+		assertThat(configurer.configure(compiler)).isSameAs(compiler);
+		verifyNoInteractions(compiler);
+	}
+
+	private static JMustacheCompiler givenCompiler() {
+		return new JMustacheCompiler(Mustache.compiler(), new DefaultTemplateLoader(new DefaultResourceLoader()));
+	}
+}
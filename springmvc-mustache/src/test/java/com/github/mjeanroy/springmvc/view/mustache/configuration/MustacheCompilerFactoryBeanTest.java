@@ -32,7 +32,9 @@ import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.DefaultResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -73,6 +75,7 @@ class MustacheCompilerFactoryBeanTest {
 		when(applicationContext.getBean(MustacheTemplateLoader.class)).thenReturn(templateLoader);
 		when(applicationContext.getBean(Mustache.Compiler.class)).thenReturn(compiler);
 		when(applicationContext.getBean(Handlebars.class)).thenReturn(handlebars);
+		when(applicationContext.getBean(Environment.class)).thenReturn(new MockEnvironment());
 
 		factoryBean.afterPropertiesSet();
 
@@ -93,6 +96,7 @@ class MustacheCompilerFactoryBeanTest {
 		when(applicationContext.getBean(MustacheTemplateLoader.class)).thenReturn(templateLoader);
 		when(applicationContext.getBean(Mustache.Compiler.class)).thenReturn(compiler);
 		when(applicationContext.getBean(Handlebars.class)).thenReturn(handlebars);
+		when(applicationContext.getBean(Environment.class)).thenReturn(new MockEnvironment());
 
 		factoryBean.afterPropertiesSet();
 
@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache.JMustacheConfiguration;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateCache;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplatePrecompiler;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.ContextConfiguration;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.test.context.junit.jupiter.SpringExtension;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(SpringExtension.class)
+@ContextConfiguration(classes = {
+		MustachePrecompilationTest.Configuration.class
+})
+@TestPropertySource(properties = {
+		"mustache.precompile=true",
+		"mustache.precompileThreads=2",
+})
+class MustachePrecompilationTest {
+
+	@Autowired
+	private ApplicationContext applicationContext;
+
+	@Autowired
+	private MustacheCompiler mustacheCompiler;
+
+	@Test
+	void it_should_precompile_templates_on_startup() {
+		assertThat(applicationContext.getBean(MustacheTemplatePrecompiler.class)).isNotNull();
+
+		MustacheTemplateCache cache = readField(mustacheCompiler, "cache");
+		assertThat(cache.size()).isEqualTo(5);
+	}
+
+	@Import({
+			MustacheTemplateLoaderConfiguration.class,
+			JMustacheConfiguration.class,
+			MustacheWebConfiguration.class,
+	})
+	static class Configuration {
+	}
+}
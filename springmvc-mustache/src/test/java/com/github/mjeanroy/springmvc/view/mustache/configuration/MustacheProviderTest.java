@@ -31,8 +31,10 @@ import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
 import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.Test;
 import org.springframework.context.ApplicationContext;
+import org.springframework.core.env.Environment;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.mock.env.MockEnvironment;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
@@ -83,6 +85,18 @@ class MustacheProviderTest {
 		it_should_instantiate_engine_compiler(provider, applicationContext, className);
 	}
 
+	@Test
+	void it_should_check_if_compiled_engine_is_not_available() {
+		assertThat(MustacheProvider.COMPILED.isAvailable()).isFalse();
+	}
+
+	@Test
+	void it_should_get_compiled_engine_configuration_class() {
+		MustacheProvider provider = MustacheProvider.COMPILED;
+		String className = "com.github.mjeanroy.springmvc.view.mustache.configuration.compiled.CompiledMustacheConfiguration";
+		it_should_get_provider_configuration_class(provider, className);
+	}
+
 	@Test
 	void it_should_check_if_handlebars_is_available() {
 		assertThat(MustacheProvider.HANDLEBARS.isAvailable()).isTrue();
@@ -132,6 +146,7 @@ class MustacheProviderTest {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader);
 		when(applicationContext.getBean(MustacheTemplateLoader.class)).thenReturn(templateLoader);
+		when(applicationContext.getBean(Environment.class)).thenReturn(new MockEnvironment());
 
 		MustacheCompiler mustacheCompiler = instantiate(provider, applicationContext);
 		assertThat(mustacheCompiler).isNotNull();
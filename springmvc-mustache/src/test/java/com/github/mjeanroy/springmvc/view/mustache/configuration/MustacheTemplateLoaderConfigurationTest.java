@@ -63,4 +63,90 @@ class MustacheTemplateLoaderConfigurationTest {
 		assertThat(readField(factoryBean, "prefix", String.class)).isEqualTo(prefix);
 		assertThat(readField(factoryBean, "suffix", String.class)).isEqualTo(suffix);
 	}
+
+	@Test
+	void it_should_get_resource_cache_ttl() {
+		assertThat(templateLoaderConfiguration.getResourceCacheTtl()).isEqualTo(-1L);
+
+		environment.setProperty("mustache.cache", "false");
+		assertThat(templateLoaderConfiguration.getResourceCacheTtl()).isZero();
+
+		environment.setProperty("mustache.resourceCacheTtl", "5000");
+		assertThat(templateLoaderConfiguration.getResourceCacheTtl()).isEqualTo(5000L);
+	}
+
+	@Test
+	void it_should_create_template_loader_with_resource_cache_ttl() {
+		environment.setProperty("mustache.resourceCacheTtl", "5000");
+
+		MustacheTemplateLoaderFactoryBean factoryBean = templateLoaderConfiguration.mustacheTemplateLoader();
+		assertThat(readField(factoryBean, "resourceCacheTtl", Long.class)).isEqualTo(5000L);
+	}
+
+	@Test
+	void it_should_get_resource_cache_limit() {
+		assertThat(templateLoaderConfiguration.getResourceCacheLimit()).isEqualTo(1024);
+
+		environment.setProperty("mustache.resourceCacheLimit", "10");
+		assertThat(templateLoaderConfiguration.getResourceCacheLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_create_template_loader_with_resource_cache_limit() {
+		environment.setProperty("mustache.resourceCacheLimit", "10");
+
+		MustacheTemplateLoaderFactoryBean factoryBean = templateLoaderConfiguration.mustacheTemplateLoader();
+		assertThat(readField(factoryBean, "resourceCacheLimit", Integer.class)).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_get_source_cache_interval() {
+		assertThat(templateLoaderConfiguration.getSourceCacheInterval()).isEqualTo(-1L);
+
+		environment.setProperty("mustache.cache", "false");
+		assertThat(templateLoaderConfiguration.getSourceCacheInterval()).isZero();
+
+		environment.setProperty("mustache.sourceCacheInterval", "2000");
+		assertThat(templateLoaderConfiguration.getSourceCacheInterval()).isEqualTo(2000L);
+	}
+
+	@Test
+	void it_should_create_template_loader_with_source_cache_interval() {
+		environment.setProperty("mustache.sourceCacheInterval", "2000");
+
+		MustacheTemplateLoaderFactoryBean factoryBean = templateLoaderConfiguration.mustacheTemplateLoader();
+		assertThat(readField(factoryBean, "sourceCacheInterval", Long.class)).isEqualTo(2000L);
+	}
+
+	@Test
+	void it_should_get_template_bundle() {
+		assertThat(templateLoaderConfiguration.getTemplateBundle()).isEmpty();
+
+		environment.setProperty("mustache.templateBundle", " file:/tmp/templates.bundle ");
+		assertThat(templateLoaderConfiguration.getTemplateBundle()).isEqualTo("file:/tmp/templates.bundle");
+	}
+
+	@Test
+	void it_should_create_template_loader_with_template_bundle() {
+		environment.setProperty("mustache.templateBundle", "classpath:/templates.bundle");
+
+		MustacheTemplateLoaderFactoryBean factoryBean = templateLoaderConfiguration.mustacheTemplateLoader();
+		assertThat(readField(factoryBean, "templateBundle", String.class)).isEqualTo("classpath:/templates.bundle");
+	}
+
+	@Test
+	void it_should_get_minify() {
+		assertThat(templateLoaderConfiguration.getMinify()).isFalse();
+
+		environment.setProperty("mustache.minify", "true");
+		assertThat(templateLoaderConfiguration.getMinify()).isTrue();
+	}
+
+	@Test
+	void it_should_create_template_loader_with_minification() {
+		environment.setProperty("mustache.minify", "true");
+
+		MustacheTemplateLoaderFactoryBean factoryBean = templateLoaderConfiguration.mustacheTemplateLoader();
+		assertThat(readField(factoryBean, "minify", Boolean.class)).isTrue();
+	}
 }
@@ -27,15 +27,24 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.core.CompositeResourceLoader;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundle;
+import com.github.mjeanroy.springmvc.view.mustache.core.TemplateBundleResourceLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.context.ApplicationContext;
 import org.springframework.context.support.ClassPathXmlApplicationContext;
 import org.springframework.context.support.FileSystemXmlApplicationContext;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.FileCopyUtils;
 
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
@@ -45,6 +54,7 @@ import java.util.Map;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readStaticField;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.mock;
 
@@ -121,6 +131,44 @@ class MustacheTemplateLoaderFactoryBeanTest {
 		);
 	}
 
+	@Test
+	void it_should_instantiate_template_loader_with_resource_cache() throws Exception {
+		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
+		factoryBean.setResourceLoader(new DefaultResourceLoader());
+		factoryBean.setResourceCacheTtl(-1);
+		factoryBean.afterPropertiesSet();
+
+		DefaultTemplateLoader templateLoader = (DefaultTemplateLoader) factoryBean.getObject();
+		CompositeResourceLoader resourceLoader = readField(templateLoader, "resourceLoader");
+		assertThat(resourceLoader.getCacheTtl()).isEqualTo(-1L);
+		assertThat(resourceLoader.getCacheLimit()).isEqualTo(1024);
+		assertThat(resourceLoader.isCacheEnabled()).isTrue();
+	}
+
+	@Test
+	void it_should_instantiate_template_loader_with_resource_cache_limit() throws Exception {
+		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
+		factoryBean.setResourceLoader(new DefaultResourceLoader());
+		factoryBean.setResourceCacheTtl(-1);
+		factoryBean.setResourceCacheLimit(10);
+		factoryBean.afterPropertiesSet();
+
+		DefaultTemplateLoader templateLoader = (DefaultTemplateLoader) factoryBean.getObject();
+		CompositeResourceLoader resourceLoader = readField(templateLoader, "resourceLoader");
+		assertThat(resourceLoader.getCacheLimit()).isEqualTo(10);
+	}
+
+	@Test
+	void it_should_instantiate_template_loader_with_source_cache() throws Exception {
+		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
+		factoryBean.setResourceLoader(new DefaultResourceLoader());
+		factoryBean.setSourceCacheInterval(-1);
+		factoryBean.afterPropertiesSet();
+
+		DefaultTemplateLoader templateLoader = (DefaultTemplateLoader) factoryBean.getObject();
+		assertThat(templateLoader.getSourceCacheInterval()).isEqualTo(-1L);
+	}
+
 	@Test
 	void it_should_instantiate_template_loader_using_default_loaders() throws Exception {
 		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
@@ -208,6 +256,39 @@ class MustacheTemplateLoaderFactoryBeanTest {
 		assertThat(resource.exists()).isFalse();
 	}
 
+	@Test
+	void it_should_create_template_loader_reading_template_bundle(@TempDir Path tmp) throws Exception {
+		Path bundle = tmp.resolve("templates.bundle");
+		try (OutputStream stream = Files.newOutputStream(bundle)) {
+			TemplateBundle.write(singletonMap("templates/index.template.html", "Hello {{name}}".getBytes(StandardCharsets.UTF_8)), stream);
+		}
+
+		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
+		factoryBean.setPrefix("/templates/");
+		factoryBean.setSuffix(".template.html");
+		factoryBean.setTemplateBundle(bundle.toUri().toString());
+		factoryBean.afterPropertiesSet();
+
+		MustacheTemplateLoader templateLoader = factoryBean.getObject();
+		ResourceLoader resourceLoader = readField(templateLoader, "resourceLoader");
+		assertThat(resourceLoader).isExactlyInstanceOf(TemplateBundleResourceLoader.class);
+		assertThat(((TemplateBundleResourceLoader) resourceLoader).getBundle().getPaths()).containsOnly("templates/index.template.html");
+
+		try (Reader reader = templateLoader.getTemplate("index")) {
+			assertThat(FileCopyUtils.copyToString(reader)).isEqualTo("Hello {{name}}");
+		}
+	}
+
+	@Test
+	void it_should_create_template_loader_with_minification() throws Exception {
+		MustacheTemplateLoaderFactoryBean factoryBean = new MustacheTemplateLoaderFactoryBean();
+		factoryBean.setMinify(true);
+		factoryBean.afterPropertiesSet();
+
+		DefaultTemplateLoader templateLoader = (DefaultTemplateLoader) factoryBean.getObject();
+		assertThat(templateLoader.isMinify()).isTrue();
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
@@ -225,6 +306,11 @@ class MustacheTemplateLoaderFactoryBeanTest {
 						"resourceLoader=%s, " +
 						"prefix=\"/templates\", " +
 						"suffix=\".template.html\", " +
+						"resourceCacheTtl=0, " +
+						"resourceCacheLimit=1024, " +
+						"sourceCacheInterval=0, " +
+						"templateBundle=null, " +
+						"minify=false, " +
 						"applicationContext=%s" +
 				"}";
 		// @formatter:on
@@ -26,12 +26,23 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheViewResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.mock.env.MockEnvironment;
 
+import java.util.List;
 import java.util.Map;
+import java.util.concurrent.Executor;
 
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
@@ -54,6 +65,146 @@ class MustacheWebConfigurationTest {
 		assertThat(mustacheViewResolver).isNotNull();
 	}
 
+	@Test
+	void it_should_get_buffered_rendering_settings() {
+		assertThat(mustacheWebConfiguration.getBufferedRendering()).isFalse();
+		assertThat(mustacheWebConfiguration.getRenderBufferInitialSize()).isEqualTo(8 * 1024);
+		assertThat(mustacheWebConfiguration.getRenderBufferMaxRetainedSize()).isEqualTo(256 * 1024);
+		assertThat(mustacheWebConfiguration.getRenderBufferMaxRetainedCount()).isEqualTo(64);
+
+		environment.setProperty("mustache.bufferedRendering", "true");
+		environment.setProperty("mustache.renderBufferInitialSize", "1024");
+		environment.setProperty("mustache.renderBufferMaxRetainedSize", "4096");
+		environment.setProperty("mustache.renderBufferMaxRetainedCount", "8");
+		assertThat(mustacheWebConfiguration.getBufferedRendering()).isTrue();
+		assertThat(mustacheWebConfiguration.getRenderBufferInitialSize()).isEqualTo(1024);
+		assertThat(mustacheWebConfiguration.getRenderBufferMaxRetainedSize()).isEqualTo(4096);
+		assertThat(mustacheWebConfiguration.getRenderBufferMaxRetainedCount()).isEqualTo(8);
+	}
+
+	@Test
+	void it_should_not_update_compiler_settings() {
+		JMustacheCompiler compiler = new JMustacheCompiler(Mustache.compiler(), new DefaultTemplateLoader(new DefaultResourceLoader()));
+		environment.setProperty("mustache.templateCacheLimit", "10");
+		environment.setProperty("mustache.preEncoding", "true");
+		environment.setProperty("mustache.staticTextPooling", "true");
+
+		new MustacheWebConfiguration(environment, compiler).mustacheViewResolver();
+
+		assertThat(compiler.getCacheLimit()).isEqualTo(1024);
+		assertThat(compiler.isPreEncoding()).isFalse();
+		assertThat(compiler.getStaticTextPool()).isNull();
+	}
+
+	@Test
+	void it_should_instantiate_mustache_view_resolver_with_buffered_rendering() {
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().getBufferPool()).isNull();
+
+		environment.setProperty("mustache.bufferedRendering", "true");
+		environment.setProperty("mustache.renderBufferInitialSize", "1024");
+		environment.setProperty("mustache.renderBufferMaxRetainedSize", "4096");
+		environment.setProperty("mustache.renderBufferMaxRetainedCount", "8");
+		RenderBufferPool bufferPool = mustacheWebConfiguration.mustacheViewResolver().getBufferPool();
+
+		assertThat(bufferPool).isNotNull();
+		assertThat(bufferPool.getInitialCapacity()).isEqualTo(1024);
+		assertThat(bufferPool.getMaxRetainedCapacity()).isEqualTo(4096);
+		assertThat(bufferPool.getMaxRetainedBuffers()).isEqualTo(8);
+	}
+
+	@Test
+	void it_should_get_async_model_settings() {
+		assertThat(mustacheWebConfiguration.getAsyncModel()).isFalse();
+		assertThat(mustacheWebConfiguration.getAsyncModelThreads()).isZero();
+		assertThat(mustacheWebConfiguration.getAsyncModelTimeout()).isEqualTo(-1L);
+
+		environment.setProperty("mustache.asyncModel", "true");
+		environment.setProperty("mustache.asyncModelThreads", "16");
+		environment.setProperty("mustache.asyncModelTimeout", "5000");
+		assertThat(mustacheWebConfiguration.getAsyncModel()).isTrue();
+		assertThat(mustacheWebConfiguration.getAsyncModelThreads()).isEqualTo(16);
+		assertThat(mustacheWebConfiguration.getAsyncModelTimeout()).isEqualTo(5000L);
+	}
+
+	@Test
+	void it_should_get_lazy_suppliers_settings() {
+		assertThat(mustacheWebConfiguration.getLazySuppliers()).isFalse();
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().isLazySuppliers()).isFalse();
+
+		environment.setProperty("mustache.lazySuppliers", "true");
+		assertThat(mustacheWebConfiguration.getLazySuppliers()).isTrue();
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().isLazySuppliers()).isTrue();
+	}
+
+	@Test
+	void it_should_get_model_pruning_settings() {
+		assertThat(mustacheWebConfiguration.getModelPruning()).isFalse();
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().isModelPruning()).isFalse();
+
+		environment.setProperty("mustache.modelPruning", "true");
+		assertThat(mustacheWebConfiguration.getModelPruning()).isTrue();
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().isModelPruning()).isTrue();
+	}
+
+	@Test
+	void it_should_instantiate_mustache_view_resolver_with_async_model_resolver() {
+		assertThat(mustacheWebConfiguration.mustacheViewResolver().getAsyncModelResolver()).isNull();
+
+		environment.setProperty("mustache.asyncModel", "true");
+		environment.setProperty("mustache.asyncModelTimeout", "5000");
+		AsyncModelResolver asyncModelResolver = mustacheWebConfiguration.mustacheViewResolver().getAsyncModelResolver();
+
+		assertThat(asyncModelResolver).isNotNull();
+		assertThat(asyncModelResolver.getTimeout()).isEqualTo(5000L);
+		asyncModelResolver.destroy();
+	}
+
+	@Test
+	void it_should_instantiate_async_model_resolver_with_given_executor() {
+		Executor executor = Runnable::run;
+		environment.setProperty("mustache.asyncModelTimeout", "5000");
+		mustacheWebConfiguration.setAsyncModelExecutor(executor);
+
+		AsyncModelResolver asyncModelResolver = mustacheWebConfiguration.mustacheAsyncModelResolver();
+
+		assertThat(asyncModelResolver.getExecutor()).isSameAs(executor);
+		assertThat(asyncModelResolver.getTimeout()).isEqualTo(5000L);
+	}
+
+	@Test
+	void it_should_get_flush_markers() {
+		assertThat(mustacheWebConfiguration.getFlushMarkers()).isEmpty();
+
+		environment.setProperty("mustache.flushMarkers", " </head> , </header> ");
+		assertThat(mustacheWebConfiguration.getFlushMarkers()).containsExactly("</head>", "</header>");
+	}
+
+	@Test
+	void it_should_parse_flush_markers_mappings() {
+		assertThat(mustacheWebConfiguration.getFlushMarkersMappings()).isEmpty();
+
+		environment.setProperty("mustache.flushMarkersMappings", "index:</head>,</header>;admin:</head>");
+
+		Map<String, List<String>> map = mustacheWebConfiguration.getFlushMarkersMappings();
+
+		assertThat(map).hasSize(2).containsOnly(
+				entry("index", asList("</head>", "</header>")),
+				entry("admin", singletonList("</head>"))
+		);
+	}
+
+	@Test
+	void it_should_instantiate_mustache_view_resolver_with_flush_markers() {
+		environment.setProperty("mustache.flushMarkers", "</head>");
+		environment.setProperty("mustache.flushMarkersMappings", "index:</header>");
+
+		MustacheViewResolver mustacheViewResolver = mustacheWebConfiguration.mustacheViewResolver();
+		Map<String, List<String>> mappings = readField(mustacheViewResolver, "flushMarkersMappings");
+
+		assertThat(mustacheViewResolver.getFlushMarkers()).containsExactly("</head>");
+		assertThat(mappings).containsOnly(entry("index", singletonList("</header>")));
+	}
+
 	@Test
 	void it_should_parse_layout_mappings() {
 		String admin1 = "admin1";
@@ -100,6 +251,35 @@ class MustacheWebConfigurationTest {
 				.hasMessage("Mapping must use [viewName]:[layout] format!");
 	}
 
+	@Test
+	void it_should_get_precompilation_settings() {
+		assertThat(mustacheWebConfiguration.getPrecompile()).isFalse();
+		assertThat(mustacheWebConfiguration.getPrecompileThreads()).isZero();
+
+		environment.setProperty("mustache.precompile", "true");
+		environment.setProperty("mustache.precompileThreads", "4");
+		assertThat(mustacheWebConfiguration.getPrecompile()).isTrue();
+		assertThat(mustacheWebConfiguration.getPrecompileThreads()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_create_template_precompiler() {
+		assertThat(mustacheWebConfiguration.mustacheTemplatePrecompiler()).isNotNull();
+	}
+
+	@Test
+	void it_should_get_watch_settings() {
+		assertThat(mustacheWebConfiguration.getWatch()).isFalse();
+
+		environment.setProperty("mustache.watch", "true");
+		assertThat(mustacheWebConfiguration.getWatch()).isTrue();
+	}
+
+	@Test
+	void it_should_create_template_watcher() {
+		assertThat(mustacheWebConfiguration.mustacheTemplateWatcher()).isNotNull();
+	}
+
 	@Test
 	void it_should_parse_view_names() {
 		String n1 = "*.template.html";
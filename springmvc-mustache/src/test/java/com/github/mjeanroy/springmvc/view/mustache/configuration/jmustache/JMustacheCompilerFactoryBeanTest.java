@@ -24,6 +24,7 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache;
 
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.AccessorCollector;
 import com.samskivert.mustache.Escapers;
 import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.BeforeEach;
@@ -70,6 +71,7 @@ class JMustacheCompilerFactoryBeanTest {
 		boolean escapeHTML = readField(factoryBean, "escapeHTML");
 		boolean strictSections = readField(factoryBean, "strictSections");
 		boolean standardsMode = readField(factoryBean, "standardsMode");
+		boolean generatedAccessors = readField(factoryBean, "generatedAccessors");
 
 		assertThat(nullValue).isEqualTo("");
 		assertThat(defaultValue).isEqualTo("");
@@ -78,6 +80,7 @@ class JMustacheCompilerFactoryBeanTest {
 		assertThat(escapeHTML).isTrue();
 		assertThat(strictSections).isFalse();
 		assertThat(standardsMode).isFalse();
+		assertThat(generatedAccessors).isFalse();
 	}
 
 	@Test
@@ -103,6 +106,7 @@ class JMustacheCompilerFactoryBeanTest {
 		assertThat(compiler.escaper).isEqualTo(Escapers.HTML);
 		assertThat(compiler.standardsMode).isFalse();
 		assertThat(compiler.strictSections).isFalse();
+		assertThat(compiler.collector).isNotInstanceOf(AccessorCollector.class);
 	}
 
 	@Test
@@ -137,6 +141,14 @@ class JMustacheCompilerFactoryBeanTest {
 		assertThat(compiler.standardsMode).isTrue();
 	}
 
+	@Test
+	void it_should_create_target_object_with_generated_accessors_property() throws Exception {
+		factoryBean.setGeneratedAccessors(true);
+		factoryBean.afterPropertiesSet();
+		Mustache.Compiler compiler = factoryBean.getObject();
+		assertThat(compiler.collector).isInstanceOf(AccessorCollector.class);
+	}
+
 	@Test
 	void it_should_create_target_object_with_strict_section_property() throws Exception {
 		factoryBean.setStrictSections(true);
@@ -27,6 +27,8 @@ package com.github.mjeanroy.springmvc.view.mustache.configuration.jmustache;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.AccessorCollector;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
 import com.samskivert.mustache.Escapers;
 import com.samskivert.mustache.Mustache;
 import org.junit.jupiter.api.BeforeEach;
@@ -65,6 +67,18 @@ class JMustacheConfigurationTest {
 		assertThat(mustacheCompiler).isNotNull();
 	}
 
+	@Test
+	void it_should_instantiate_mustache_compiler_with_compiler_settings() {
+		environment.setProperty("mustache.templateCacheLimit", "10");
+		environment.setProperty("mustache.staticTextPooling", "true");
+
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		JMustacheCompiler mustacheCompiler = (JMustacheCompiler) jMustacheConfiguration.mustacheCompiler(Mustache.compiler(), templateLoader);
+
+		assertThat(mustacheCompiler.getCacheLimit()).isEqualTo(10);
+		assertThat(mustacheCompiler.getStaticTextPool()).isNotNull();
+	}
+
 	@Test
 	void it_should_create_mustache_compiler_factory_bean() {
 		JMustacheCompilerFactoryBean factoryBean = jMustacheConfiguration.jMustacheCompiler();
@@ -130,6 +144,17 @@ class JMustacheConfigurationTest {
 		assertThat(compiler.escaper).isEqualTo(Escapers.NONE);
 	}
 
+	@Test
+	void it_should_create_target_object_with_generated_accessors_property() throws Exception {
+		environment.setProperty("mustache.jmustache.generatedAccessors", "true");
+
+		JMustacheCompilerFactoryBean factoryBean = jMustacheConfiguration.jMustacheCompiler();
+		factoryBean.afterPropertiesSet();
+		Mustache.Compiler compiler = factoryBean.getObject();
+
+		assertThat(compiler.collector).isInstanceOf(AccessorCollector.class);
+	}
+
 	@Test
 	void it_should_create_target_object_with_standards_mode_property() throws Exception {
 		environment.setProperty("mustache.jmustache.standardsMode", "true");
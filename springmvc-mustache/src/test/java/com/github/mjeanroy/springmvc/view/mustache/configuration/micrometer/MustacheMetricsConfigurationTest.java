@@ -0,0 +1,71 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.configuration.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.MustacheSettings;
+import com.github.mjeanroy.springmvc.view.mustache.micrometer.MustacheMetricsBinder;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MustacheMetricsConfigurationTest {
+
+	private MockEnvironment environment;
+	private MustacheMetricsConfiguration mustacheMetricsConfiguration;
+
+	@BeforeEach
+	void setUp() {
+		environment = new MockEnvironment();
+		mustacheMetricsConfiguration = new MustacheMetricsConfiguration(environment);
+	}
+
+	@Test
+	void it_should_get_default_max_templates() {
+		assertThat(mustacheMetricsConfiguration.getMaxTemplates()).isEqualTo(MustacheSettings.METRICS_MAX_TEMPLATES);
+	}
+
+	@Test
+	void it_should_get_max_templates() {
+		environment.setProperty("mustache.metrics.maxTemplates", "20");
+		assertThat(mustacheMetricsConfiguration.getMaxTemplates()).isEqualTo(20);
+	}
+
+	@Test
+	void it_should_create_metrics_binder() {
+		environment.setProperty("mustache.metrics.maxTemplates", "20");
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+
+		MustacheMetricsBinder binder = mustacheMetricsConfiguration.mustacheMetricsBinder(compiler);
+
+		assertThat(binder).isNotNull();
+		assertThat(readField(binder, "compiler", MustacheCompiler.class)).isSameAs(compiler);
+		assertThat(readField(binder, "maxTemplates", Integer.class)).isEqualTo(20);
+	}
+}
@@ -117,6 +117,19 @@ class MustacheJavaConfigurationTest {
 		assertThat(((SpringMustacheFactory) mustacheFactory).getRecursionLimit()).isEqualTo(10);
 	}
 
+	@Test
+	void it_should_instantiate_mustache_factory_with_generated_accessors() {
+		environment.setProperty("mustache.mustachejava.generatedAccessors", "true");
+
+		DefaultResourceLoader resourceLoader = new DefaultResourceLoader();
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader);
+		MustacheResolver mustacheResolver = new SpringMustacheResolver(templateLoader);
+		MustacheFactory mustacheFactory = mustacheJavaConfiguration.mustacheFactory(mustacheResolver, templateLoader);
+
+		assertThat(mustacheFactory).isInstanceOf(SpringMustacheFactory.class);
+		assertThat(((SpringMustacheFactory) mustacheFactory).getObjectHandler().getClass().getSimpleName()).isEqualTo("SpringMustacheAccessorObjectHandler");
+	}
+
 	private static MustacheJavaCustomizer newMustacheJavaCustomizer() {
 		return mock(MustacheJavaCustomizer.class);
 	}
@@ -0,0 +1,185 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheCompilationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class AbstractMustacheCompilerTest {
+
+	private static final String NAME = "/templates/foo.template.html";
+	private static final int THREADS = 8;
+
+	@Test
+	void it_should_compile_template_once_for_concurrent_callers() throws Exception {
+		BlockingCompiler compiler = new BlockingCompiler();
+		List<CompletableFuture<MustacheTemplate>> results = compileConcurrently(compiler);
+
+		compiler.release.countDown();
+
+		MustacheTemplate template = results.get(0).get(5, TimeUnit.SECONDS);
+		for (CompletableFuture<MustacheTemplate> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(template);
+		}
+
+		assertThat(compiler.count.get()).isEqualTo(1);
+		assertThat(compiler.compile(NAME, RenderContext.empty())).isSameAs(template);
+		assertThat(compiler.count.get()).isEqualTo(1);
+		assertThat(readField(compiler, "compilations", Map.class)).isEmpty();
+	}
+
+	@Test
+	void it_should_rethrow_compilation_failure_to_all_concurrent_callers_without_caching_it() throws Exception {
+		BlockingCompiler compiler = new BlockingCompiler();
+		compiler.failure = new IllegalStateException("Syntax error");
+		List<CompletableFuture<MustacheTemplate>> results = compileConcurrently(compiler);
+
+		compiler.release.countDown();
+
+		for (CompletableFuture<MustacheTemplate> result : results) {
+			assertThatThrownBy(() -> result.get(5, TimeUnit.SECONDS))
+					.hasCauseInstanceOf(MustacheCompilationException.class)
+					.hasRootCause(compiler.failure);
+		}
+
+		assertThat(compiler.count.get()).isEqualTo(1);
+		assertThat(readField(compiler, "compilations", Map.class)).isEmpty();
+
+		compiler.failure = null;
+		assertThat(compiler.compile(NAME, RenderContext.empty())).isNotNull();
+		assertThat(compiler.count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_not_cache_template_invalidated_during_compilation() throws Exception {
+		BlockingCompiler compiler = new BlockingCompiler();
+		CompletableFuture<MustacheTemplate> result = CompletableFuture.supplyAsync(() -> compiler.compile(NAME, RenderContext.empty()));
+		assertThat(compiler.started.await(5, TimeUnit.SECONDS)).isTrue();
+
+		compiler.invalidate(NAME);
+		assertThat(readField(compiler, "compilations", Map.class)).isEmpty();
+
+		compiler.release.countDown();
+		MustacheTemplate template = result.get(5, TimeUnit.SECONDS);
+
+		assertThat(template).isNotNull();
+		assertThat(compiler.compile(NAME, RenderContext.empty())).isNotSameAs(template);
+		assertThat(compiler.count.get()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_clear_cache_and_dependencies_when_prefix_or_suffix_change() {
+		BlockingCompiler compiler = new BlockingCompiler();
+		compiler.release.countDown();
+		compiler.getDependencyGraph().record(NAME, "/templates/foo.template.html");
+		MustacheTemplate template = compiler.compile(NAME, RenderContext.empty());
+
+		compiler.setPrefix("");
+		assertThat(compiler.getDependencyGraph().isTracked(NAME)).isFalse();
+		assertThat(compiler.compile(NAME, RenderContext.empty())).isNotSameAs(template);
+
+		compiler.getDependencyGraph().record(NAME, "/templates/foo.template.html");
+		compiler.setSuffix("");
+		assertThat(compiler.getDependencyGraph().isTracked(NAME)).isFalse();
+		assertThat(compiler.count.get()).isEqualTo(2);
+	}
+
+	/// Compile the same template with concurrent callers, and returns once the first caller is
+	/// compiling the template, and all other callers are waiting for this compilation.
+	private static List<CompletableFuture<MustacheTemplate>> compileConcurrently(BlockingCompiler compiler) throws Exception {
+		List<CompletableFuture<MustacheTemplate>> results = new ArrayList<>(THREADS);
+		List<Thread> threads = new ArrayList<>(THREADS);
+
+		for (int i = 0; i < THREADS; i++) {
+			CompletableFuture<MustacheTemplate> result = new CompletableFuture<>();
+			Thread thread = new Thread(() -> {
+				try {
+					result.complete(compiler.compile(NAME, RenderContext.empty()));
+				}
+				catch (Throwable ex) {
+					result.completeExceptionally(ex);
+				}
+			});
+
+			results.add(result);
+			threads.add(thread);
+			thread.start();
+
+			if (i == 0) {
+				assertThat(compiler.started.await(5, TimeUnit.SECONDS)).isTrue();
+			}
+		}
+
+		long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+		for (Thread thread : threads) {
+			while (thread.getState() != Thread.State.WAITING) {
+				assertThat(System.nanoTime()).isLessThan(deadline);
+				Thread.sleep(1);
+			}
+		}
+
+		return results;
+	}
+
+	private static final class BlockingCompiler extends AbstractMustacheCompiler {
+		private final CountDownLatch started = new CountDownLatch(1);
+		private final CountDownLatch release = new CountDownLatch(1);
+		private final AtomicInteger count = new AtomicInteger(0);
+		private volatile RuntimeException failure;
+
+		private BlockingCompiler() {
+			super(new DefaultTemplateLoader(new DefaultResourceLoader()));
+		}
+
+		@Override
+		protected MustacheTemplate doCompile(String name, RenderContext context) throws Exception {
+			count.incrementAndGet();
+			started.countDown();
+			release.await();
+
+			if (failure != null) {
+				throw failure;
+			}
+
+			return mock(MustacheTemplate.class);
+		}
+	}
+}
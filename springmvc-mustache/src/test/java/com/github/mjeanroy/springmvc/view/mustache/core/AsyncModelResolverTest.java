@@ -0,0 +1,192 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.AsyncValue;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheModelResolutionException;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class AsyncModelResolverTest {
+
+	@Test
+	void it_should_resolve_async_values_concurrently() {
+		CountDownLatch latch = new CountDownLatch(2);
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "foo");
+		model.put("future", CompletableFuture.completedFuture("bar"));
+		model.put("baz", AsyncValue.of(() -> await(latch, "baz")));
+		model.put("qux", AsyncValue.of(() -> await(latch, "qux")));
+
+		AsyncModelResolver resolver = new AsyncModelResolver(2, 5000);
+		Map<String, Object> resolved = resolver.resolve(model);
+		resolver.destroy();
+
+		assertThat(resolved).containsOnly(
+				entry("name", "foo"),
+				entry("future", "bar"),
+				entry("baz", "baz"),
+				entry("qux", "qux")
+		);
+	}
+
+	@Test
+	void it_should_not_resolve_callable_and_supplier_values() {
+		Callable<String> callable = () -> "foo";
+		Supplier<String> supplier = () -> "bar";
+		Map<String, Object> model = new HashMap<>();
+		model.put("callable", callable);
+		model.put("supplier", supplier);
+
+		AsyncModelResolver resolver = new AsyncModelResolver(command -> {
+			throw new AssertionError("Values must not be resolved on another thread");
+		}, -1);
+
+		assertThat(resolver.resolve(model)).isSameAs(model);
+	}
+
+	@Test
+	void it_should_return_same_model_without_async_values() {
+		Map<String, Object> model = singletonMap("name", "foo");
+		AsyncModelResolver resolver = new AsyncModelResolver(Runnable::run, -1);
+
+		assertThat(resolver.resolve(model)).isSameAs(model);
+	}
+
+	@Test
+	void it_should_fail_if_async_value_fails() {
+		IOException ex = new IOException("Service unavailable");
+		Map<String, Object> model = singletonMap("value", AsyncValue.of(() -> {
+			throw ex;
+		}));
+
+		AsyncModelResolver resolver = new AsyncModelResolver(Runnable::run, -1);
+
+		assertThatThrownBy(() -> resolver.resolve(model))
+				.isInstanceOf(MustacheModelResolutionException.class)
+				.hasMessage("Model value cannot be resolved")
+				.hasCause(ex);
+	}
+
+	@Test
+	void it_should_fail_and_cancel_tasks_if_deadline_is_exceeded() {
+		Executor executor = runnable -> {
+			// Never run tasks.
+		};
+
+		CompletableFuture<String> future = new CompletableFuture<>();
+		Map<String, Object> model = new HashMap<>();
+		model.put("value", AsyncValue.of(() -> "foo"));
+		model.put("future", future);
+
+		AsyncModelResolver resolver = new AsyncModelResolver(executor, 10);
+
+		assertThatThrownBy(() -> resolver.resolve(model))
+				.isInstanceOf(MustacheModelResolutionException.class)
+				.hasMessage("Model values have not been resolved within 10 ms")
+				.hasCauseInstanceOf(TimeoutException.class);
+
+		assertThat(future).isNotCancelled();
+	}
+
+	@Test
+	void it_should_shut_down_owned_executor_when_destroyed() {
+		AsyncModelResolver resolver = new AsyncModelResolver(1, -1);
+		ExecutorService executor = (ExecutorService) resolver.getExecutor();
+		assertThat(executor.isShutdown()).isFalse();
+
+		resolver.destroy();
+		assertThat(executor.isShutdown()).isTrue();
+	}
+
+	@Test
+	void it_should_not_shut_down_given_executor_when_destroyed() {
+		ExecutorService executor = mock(ExecutorService.class);
+		AsyncModelResolver resolver = new AsyncModelResolver(executor, -1);
+
+		resolver.destroy();
+		verifyNoInteractions(executor);
+	}
+
+	@Test
+	void it_should_fail_with_negative_number_of_threads() {
+		assertThatThrownBy(() -> new AsyncModelResolver(-1, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Number of threads must be positive");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		Executor executor = Runnable::run;
+		AsyncModelResolver resolver = new AsyncModelResolver(executor, 1000);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.AsyncModelResolver@%s{" +
+						"executor=%s, " +
+						"timeout=1000" +
+				"}";
+		// @formatter:on
+
+		assertThat(resolver).hasToString(String.format(
+				expectedToString, hexIdentity(resolver), executor
+		));
+	}
+
+	private static String await(CountDownLatch latch, String value) {
+		latch.countDown();
+
+		try {
+			if (!latch.await(5, TimeUnit.SECONDS)) {
+				throw new IllegalStateException("Values have not been resolved concurrently");
+			}
+		}
+		catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+
+		return value;
+	}
+}
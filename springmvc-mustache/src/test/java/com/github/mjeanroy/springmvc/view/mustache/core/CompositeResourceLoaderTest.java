@@ -34,8 +34,10 @@ import java.util.Collection;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
 import static java.util.Arrays.asList;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -122,6 +124,156 @@ class CompositeResourceLoaderTest {
 		verify(resourceLoader2).getResource(location);
 	}
 
+	@Test
+	void it_should_not_cache_resource_by_default() {
+		Resource r1 = newResource(false);
+		Resource r2 = newResource(true);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+		when(resourceLoader2.getResource(location)).thenReturn(r2);
+
+		assertThat(compositeResourceLoader.isCacheEnabled()).isFalse();
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+
+		verify(resourceLoader1, times(2)).getResource(location);
+		verify(resourceLoader2, times(2)).getResource(location);
+	}
+
+	@Test
+	void it_should_cache_resource_location() {
+		Resource r1 = newResource(false);
+		Resource r2 = newResource(true);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+		when(resourceLoader2.getResource(location)).thenReturn(r2);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1);
+
+		assertThat(compositeResourceLoader.isCacheEnabled()).isTrue();
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+
+		verify(resourceLoader1).getResource(location);
+		verify(resourceLoader2).getResource(location);
+		verify(r1).exists();
+		verify(r2).exists();
+	}
+
+	@Test
+	void it_should_cache_missing_resource() {
+		Resource r1 = newResource(false);
+		Resource r2 = newResource(false);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+		when(resourceLoader2.getResource(location)).thenReturn(r2);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1);
+
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r2);
+
+		verify(resourceLoader1).getResource(location);
+		verify(resourceLoader2).getResource(location);
+	}
+
+	@Test
+	void it_should_resolve_resource_again_once_cache_entry_expired() throws Exception {
+		Resource r1 = newResource(true);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), 1);
+
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+		Thread.sleep(10);
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+
+		verify(resourceLoader1, times(2)).getResource(location);
+	}
+
+	@Test
+	void it_should_clear_cache() {
+		Resource r1 = newResource(true);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1);
+
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+		compositeResourceLoader.clearCache();
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+
+		verify(resourceLoader1, times(2)).getResource(location);
+	}
+
+	@Test
+	void it_should_evict_cached_location() {
+		Resource r1 = newResource(true);
+
+		String location = "foo";
+		when(resourceLoader1.getResource(location)).thenReturn(r1);
+		when(resourceLoader1.getResource("bar")).thenReturn(r1);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1);
+
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+		assertThat(compositeResourceLoader.getResource("bar")).isSameAs(r1);
+		compositeResourceLoader.evict(location);
+		assertThat(compositeResourceLoader.getResource(location)).isSameAs(r1);
+		assertThat(compositeResourceLoader.getResource("bar")).isSameAs(r1);
+
+		verify(resourceLoader1, times(2)).getResource(location);
+		verify(resourceLoader1).getResource("bar");
+	}
+
+	@Test
+	void it_should_evict_oldest_locations_once_cache_limit_is_reached() {
+		Resource r1 = newResource(false);
+		Resource r2 = newResource(false);
+		when(resourceLoader1.getResource("foo")).thenReturn(r1);
+		when(resourceLoader2.getResource("foo")).thenReturn(r1);
+		when(resourceLoader1.getResource("bar")).thenReturn(r2);
+		when(resourceLoader2.getResource("bar")).thenReturn(r2);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1, 1);
+
+		assertThat(compositeResourceLoader.getResource("foo")).isSameAs(r1);
+		assertThat(compositeResourceLoader.getResource("foo")).isSameAs(r1);
+		assertThat(compositeResourceLoader.getResource("bar")).isSameAs(r2);
+		assertThat(compositeResourceLoader.getResource("bar")).isSameAs(r2);
+		assertThat(compositeResourceLoader.getResource("foo")).isSameAs(r1);
+
+		verify(resourceLoader1, times(2)).getResource("foo");
+		verify(resourceLoader1).getResource("bar");
+	}
+
+	@Test
+	void it_should_not_cache_resource_if_cache_limit_is_zero() {
+		Resource r1 = newResource(true);
+		when(resourceLoader1.getResource("foo")).thenReturn(r1);
+
+		CompositeResourceLoader compositeResourceLoader = new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1, 0);
+
+		assertThat(compositeResourceLoader.isCacheEnabled()).isFalse();
+		assertThat(compositeResourceLoader.getResource("foo")).isSameAs(r1);
+		assertThat(compositeResourceLoader.getResource("foo")).isSameAs(r1);
+
+		verify(resourceLoader1, times(2)).getResource("foo");
+	}
+
+	@Test
+	void it_should_fail_with_negative_cache_limit() {
+		assertThatThrownBy(() -> new CompositeResourceLoader(asList(resourceLoader1, resourceLoader2), -1, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Cache limit must be positive or zero");
+	}
+
 	private static Resource newResource(boolean exists) {
 		Resource resource = mock(Resource.class);
 		when(resource.exists()).thenReturn(exists);
@@ -24,16 +24,22 @@
 
 package com.github.mjeanroy.springmvc.view.mustache.core;
 
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheTemplateNotFoundException;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import nl.jqno.equalsverifier.Warning;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.springframework.core.io.DefaultResourceLoader;
 import org.springframework.core.io.ResourceLoader;
 
+import java.io.File;
+import java.io.IOException;
 import java.io.Reader;
 import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,6 +49,11 @@ import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 
 class DefaultTemplateLoaderTest {
 
@@ -142,7 +153,7 @@ class DefaultTemplateLoaderTest {
 
 		tl = readField(loader, "temporaryPartialAliases");
 		partialsAliases = tl.get();
-		assertThat(partialsAliases).isNotNull().isEmpty();
+		assertThat(partialsAliases).isNull();
 	}
 
 	@Test
@@ -268,11 +279,227 @@ class DefaultTemplateLoaderTest {
 		assertThat(location).isEqualTo(prefix + realName + suffix);
 	}
 
+	@Test
+	void it_should_resolve_template_location_with_temporary_aliases_first() {
+		String prefix = "/templates/";
+		String suffix = ".template.html";
+		String templateName = "foo";
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		DefaultTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader, prefix, suffix);
+		mustacheTemplateLoader.addPartialAliases(singletonMap(templateName, "bar"));
+		mustacheTemplateLoader.addTemporaryPartialAliases(singletonMap(templateName, "baz"));
+
+		assertThat(mustacheTemplateLoader.resolve(templateName)).isEqualTo(prefix + "baz" + suffix);
+
+		mustacheTemplateLoader.removeTemporaryPartialAliases();
+
+		assertThat(mustacheTemplateLoader.resolve(templateName)).isEqualTo(prefix + "bar" + suffix);
+	}
+
+	@Test
+	void it_should_resolve_template_location_with_render_context() {
+		String prefix = "/templates/";
+		String suffix = ".template.html";
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		DefaultTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader, prefix, suffix);
+		mustacheTemplateLoader.addPartialAliases(singletonMap("foo", "bar"));
+		mustacheTemplateLoader.addPartialAliases(singletonMap("quix", "bar"));
+		mustacheTemplateLoader.addTemporaryPartialAliases(singletonMap("quix", "foo"));
+
+		RenderContext context = RenderContext.of(singletonMap("foo", "baz"));
+
+		assertThat(mustacheTemplateLoader.resolve("foo", context)).isEqualTo(prefix + "baz" + suffix);
+		assertThat(mustacheTemplateLoader.resolve("quix", context)).isEqualTo(prefix + "bar" + suffix);
+		assertThat(mustacheTemplateLoader.resolve("index", context)).isEqualTo(prefix + "index" + suffix);
+		assertThat(mustacheTemplateLoader.resolve("foo", RenderContext.empty())).isEqualTo(prefix + "bar" + suffix);
+	}
+
+	@Test
+	void it_should_read_template_with_render_context() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		RenderContext context = RenderContext.of(singletonMap("bar", "foo"));
+
+		Reader reader = loader.getTemplate("bar", context);
+
+		assertThat(read(reader)).isEqualTo("<div>Hello {{name}}</div>");
+	}
+
+	@Test
+	void it_should_get_partial_aliases() {
+		DefaultTemplateLoader loader = defaultTemplateLoader();
+		assertThat(loader.getPartialAliases()).isEmpty();
+
+		loader.addPartialAliases(singletonMap("foo", "bar"));
+		Map<String, String> globalAliases = loader.getPartialAliases();
+		assertThat(globalAliases).hasSize(1).containsOnly(entry("foo", "bar"));
+		assertThat(loader.getPartialAliases()).isSameAs(globalAliases);
+
+		loader.addTemporaryPartialAliases(singletonMap("foo", "baz"));
+		loader.addTemporaryPartialAliases(singletonMap("quix", "foo"));
+		assertThat(loader.getPartialAliases()).hasSize(2).containsOnly(
+				entry("foo", "baz"),
+				entry("quix", "foo")
+		);
+
+		loader.removeTemporaryPartialAliases();
+		assertThat(loader.getPartialAliases()).isSameAs(globalAliases);
+	}
+
+	@Test
+	void it_should_not_modify_previous_partial_aliases_when_adding_new_aliases() {
+		DefaultTemplateLoader loader = defaultTemplateLoader();
+		loader.addPartialAliases(singletonMap("foo", "bar"));
+		Map<String, String> aliases = loader.getPartialAliases();
+
+		loader.addPartialAliases(singletonMap("bar", "foo"));
+
+		assertThat(aliases).hasSize(1).containsOnly(entry("foo", "bar"));
+		assertThat(loader.getPartialAliases()).hasSize(2).containsOnly(
+				entry("foo", "bar"),
+				entry("bar", "foo")
+		);
+	}
+
+	@Test
+	void it_should_read_template_on_each_call_without_source_cache(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		String name = template.toURI().toString();
+
+		assertThat(loader.getSourceCacheInterval()).isZero();
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		updateTemplate(template, "<div>Bye {{name}}</div>");
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Bye {{name}}</div>");
+	}
+
+	@Test
+	void it_should_cache_template_source(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(-1);
+		String name = template.toURI().toString();
+
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		updateTemplate(template, "<div>Bye {{name}}</div>");
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+		assertThat(read(loader.getTemplate(name, RenderContext.empty()))).isEqualTo("<div>Hello {{name}}</div>");
+
+		loader.clearSourceCache();
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Bye {{name}}</div>");
+	}
+
+	@Test
+	void it_should_revalidate_cached_template_source(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(1);
+		String name = template.toURI().toString();
+
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		updateTemplate(template, "<div>Bye {{name}}</div>");
+		Thread.sleep(10);
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Bye {{name}}</div>");
+	}
+
+	@Test
+	void it_should_keep_cached_template_source_if_template_has_not_been_modified(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		long lastModified = template.lastModified();
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(1);
+		String name = template.toURI().toString();
+
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		// Same modification date: cached source is kept.
+		Files.write(template.toPath(), "<div>Bye {{name}}</div>".getBytes(StandardCharsets.UTF_8));
+		assertThat(template.setLastModified(lastModified)).isTrue();
+		Thread.sleep(10);
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+	}
+
+	@Test
+	void it_should_not_keep_removed_template_in_source_cache(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(1);
+		String name = template.toURI().toString();
+
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		assertThat(template.delete()).isTrue();
+		Thread.sleep(10);
+		assertThatThrownBy(() -> loader.getTemplate(name)).isInstanceOf(MustacheTemplateNotFoundException.class);
+		assertThat(readField(loader, "sources", Map.class)).isEmpty();
+	}
+
+	@Test
+	void it_should_invalidate_cached_template_source(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(-1);
+		String name = template.toURI().toString();
+
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		updateTemplate(template, "<div>Bye {{name}}</div>");
+		loader.invalidate(name);
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Bye {{name}}</div>");
+	}
+
+	@Test
+	void it_should_record_template_loading_and_source_cache_accesses(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>Hello {{name}}</div>");
+		MustacheMetrics metrics = mock(MustacheMetrics.class);
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(-1);
+		loader.setMetrics(metrics);
+		String name = template.toURI().toString();
+
+		assertThat(loader.getMetrics()).isSameAs(metrics);
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>Hello {{name}}</div>");
+
+		verify(metrics, times(2)).recordLoad(eq(name), anyLong());
+		verify(metrics).recordCacheAccess(MustacheMetrics.SOURCE_CACHE, false);
+		verify(metrics).recordCacheAccess(MustacheMetrics.SOURCE_CACHE, true);
+	}
+
+	@Test
+	void it_should_minify_template_without_source_cache(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>\n\t<!-- Greetings -->\n\t<span>Hello   {{name}}</span>\n</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setMinify(true);
+		String name = template.toURI().toString();
+
+		assertThat(loader.isMinify()).isTrue();
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>\n<span>Hello {{name}}</span>\n</div>");
+	}
+
+	@Test
+	void it_should_cache_minified_template_source(@TempDir Path tmp) throws Exception {
+		File template = writeTemplate(tmp, "<div>\n\t<span>Hello   {{name}}</span>\n</div>");
+		DefaultTemplateLoader loader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		loader.setSourceCacheInterval(-1);
+		String name = template.toURI().toString();
+
+		assertThat(loader.isMinify()).isFalse();
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>\n\t<span>Hello   {{name}}</span>\n</div>");
+
+		loader.setMinify(true);
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>\n<span>Hello {{name}}</span>\n</div>");
+		assertThat(read(loader.getTemplate(name))).isEqualTo("<div>\n<span>Hello {{name}}</span>\n</div>");
+	}
+
 	@Test
 	void it_should_implement_equals_hash_code() {
 		EqualsVerifier.forClass(DefaultTemplateLoader.class)
 				.suppress(Warning.NONFINAL_FIELDS)
-				.withIgnoredFields("temporaryPartialAliases")
+				.withIgnoredFields("temporaryPartialAliases", "sources", "metrics")
 				.withPrefabValues(Charset.class, StandardCharsets.UTF_8, StandardCharsets.UTF_16)
 				.verify();
 	}
@@ -287,4 +514,20 @@ class DefaultTemplateLoaderTest {
 		String suffix = ".template.html";
 		return new DefaultTemplateLoader(resourceLoader, prefix, suffix);
 	}
+
+	private static File writeTemplate(Path directory, String content) throws IOException {
+		Path template = directory.resolve("foo.template.html");
+		Files.write(template, content.getBytes(StandardCharsets.UTF_8));
+		return template.toFile();
+	}
+
+	private static void updateTemplate(File template, String content) throws IOException {
+		long lastModified = template.lastModified();
+		Files.write(template.toPath(), content.getBytes(StandardCharsets.UTF_8));
+
+		// Ensure modification date is updated, whatever the filesystem resolution.
+		if (!template.setLastModified(lastModified + 10000)) {
+			throw new IOException("Cannot update modification date of " + template);
+		}
+	}
 }
@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheTemplateNotFoundException;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.IOTestUtils.read;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class DependencyRecordingTemplateLoaderTest {
+
+	private static final String ROOT = "/templates/composite-aliases.template.html";
+
+	@Test
+	void it_should_record_loaded_templates() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+		MustacheTemplateLoader loader = new DependencyRecordingTemplateLoader(templateLoader(), graph, ROOT);
+
+		assertThat(read(loader.getTemplate("composite-aliases"))).isNotEmpty();
+		assertThat(read(loader.getTemplate("bar", RenderContext.of(singletonMap("bar", "foo"))))).isEqualTo("<div>Hello {{name}}</div>");
+
+		assertThat(graph.isTracked(ROOT)).isTrue();
+		assertThat(graph.getDependencies(ROOT)).containsExactly("/templates/foo.template.html");
+	}
+
+	@Test
+	void it_should_record_missing_templates() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+		MustacheTemplateLoader loader = new DependencyRecordingTemplateLoader(templateLoader(), graph, ROOT);
+
+		assertThatThrownBy(() -> loader.getTemplate("missing", RenderContext.empty())).isInstanceOf(MustacheTemplateNotFoundException.class);
+
+		assertThat(graph.getDependencies(ROOT)).containsExactly("/templates/missing.template.html");
+	}
+
+	@Test
+	void it_should_delegate_to_template_loader() {
+		MustacheTemplateLoader templateLoader = templateLoader();
+		MustacheTemplateLoader loader = new DependencyRecordingTemplateLoader(templateLoader, new MustacheTemplateDependencyGraph(), ROOT);
+
+		assertThat(loader.getPrefix()).isEqualTo("/templates/");
+		assertThat(loader.getSuffix()).isEqualTo(".template.html");
+		assertThat(loader.getCharset()).isEqualTo(templateLoader.getCharset());
+		assertThat(loader.resolve("foo")).isEqualTo("/templates/foo.template.html");
+		assertThat(loader.resolve("bar", RenderContext.of(singletonMap("bar", "foo")))).isEqualTo("/templates/foo.template.html");
+
+		loader.addPartialAliases(singletonMap("bar", "foo"));
+		assertThat(templateLoader.getPartialAliases()).containsOnly(entry("bar", "foo"));
+		assertThat(loader.getPartialAliases()).isSameAs(templateLoader.getPartialAliases());
+	}
+
+	private static MustacheTemplateLoader templateLoader() {
+		return new DefaultTemplateLoader(new DefaultResourceLoader(), "/templates/", ".template.html");
+	}
+}
@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+import java.util.Map;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class InstrumentedMustacheTemplateTest {
+
+	@Test
+	void it_should_render_template_and_record_metrics() {
+		MustacheTemplate template = (model, writer) -> {
+			try {
+				writer.write("Hello ");
+				writer.write(String.valueOf(model.get("name")).toCharArray());
+				writer.write('!');
+			}
+			catch (Exception ex) {
+				throw new AssertionError(ex);
+			}
+		};
+
+		MustacheMetrics metrics = mock(MustacheMetrics.class);
+		InstrumentedMustacheTemplate instrumentedTemplate = new InstrumentedMustacheTemplate(template, "/templates/foo.template.html", metrics);
+		Map<String, Object> model = singletonMap("name", "John Doe");
+		StringWriter writer = new StringWriter();
+
+		instrumentedTemplate.execute(model, writer);
+
+		assertThat(writer).hasToString("Hello John Doe!");
+		assertThat(instrumentedTemplate.getTemplate()).isSameAs(template);
+		verify(metrics).recordRender(eq("/templates/foo.template.html"), anyLong(), eq(15L));
+	}
+
+	@Test
+	void it_should_get_root_variables_of_template() {
+		IntrospectedTemplate template = mock(IntrospectedTemplate.class);
+		when(template.getRootVariables()).thenReturn(singleton("name"));
+		MustacheMetrics metrics = mock(MustacheMetrics.class);
+
+		InstrumentedMustacheTemplate instrumentedTemplate = new InstrumentedMustacheTemplate(template, "/templates/foo.template.html", metrics);
+		InstrumentedMustacheTemplate otherTemplate = new InstrumentedMustacheTemplate(mock(MustacheTemplate.class), "/templates/foo.template.html", metrics);
+
+		assertThat(instrumentedTemplate.getRootVariables()).containsExactly("name");
+		assertThat(otherTemplate.getRootVariables()).isNull();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MustacheTemplate template = mock(MustacheTemplate.class);
+		MustacheMetrics metrics = mock(MustacheMetrics.class);
+		InstrumentedMustacheTemplate instrumentedTemplate = new InstrumentedMustacheTemplate(template, "/templates/foo.template.html", metrics);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.InstrumentedMustacheTemplate@%s{" +
+						"template=%s, " +
+						"location=\"/templates/foo.template.html\"" +
+				"}";
+		// @formatter:on
+
+		assertThat(instrumentedTemplate).hasToString(String.format(
+				expectedToString, hexIdentity(instrumentedTemplate), template
+		));
+	}
+}
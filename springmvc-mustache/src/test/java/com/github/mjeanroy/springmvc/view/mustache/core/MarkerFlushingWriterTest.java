@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.StringWriter;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MarkerFlushingWriterTest {
+
+	@Test
+	void it_should_flush_writer_after_markers() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, asList("</head>", "</header>"));
+
+		flushingWriter.write("<html><head></head>");
+		assertThat(writer.flushes).isEqualTo(1);
+
+		flushingWriter.write("<body><header>Title");
+		assertThat(writer.flushes).isEqualTo(1);
+
+		flushingWriter.write("</header>".toCharArray(), 0, 9);
+		assertThat(writer.flushes).isEqualTo(2);
+
+		assertThat(writer).hasToString("<html><head></head><body><header>Title</header>");
+	}
+
+	@Test
+	void it_should_flush_writer_after_markers_written_in_several_chunks() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, singletonList("</head>"));
+
+		flushingWriter.write("<head></h");
+		flushingWriter.write('e');
+		assertThat(writer.flushes).isZero();
+
+		flushingWriter.write("ad>", 0, 3);
+		assertThat(writer.flushes).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_flush_writer_after_overlapping_markers() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, singletonList("abab"));
+
+		flushingWriter.write("aba");
+		flushingWriter.write("b");
+		flushingWriter.write("ab");
+
+		assertThat(writer.flushes).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_write_and_flush_once_per_chunk() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, singletonList("<br>"));
+
+		flushingWriter.write("a<br>b<br>c");
+
+		assertThat(writer).hasToString("a<br>b<br>c");
+		assertThat(writer.flushes).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_flush_writer_after_markers_starting_with_different_characters() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, asList("</head>", "<!-- flush -->", "@@"));
+
+		flushingWriter.write("<head><title>Hello</title>");
+		assertThat(writer.flushes).isZero();
+
+		flushingWriter.write("</head><!-- flush");
+		assertThat(writer.flushes).isEqualTo(1);
+
+		flushingWriter.write(" -->".toCharArray(), 0, 4);
+		assertThat(writer.flushes).isEqualTo(2);
+
+		flushingWriter.write("a@".toCharArray(), 0, 2);
+		flushingWriter.write("@", 0, 1);
+		assertThat(writer.flushes).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_only_match_markers_in_written_range() throws Exception {
+		FlushCountingWriter writer = new FlushCountingWriter();
+		MarkerFlushingWriter flushingWriter = new MarkerFlushingWriter(writer, singletonList("<br>"));
+
+		flushingWriter.write("abc<br>", 0, 3);
+		flushingWriter.write("abc<br>".toCharArray(), 1, 2);
+		assertThat(writer.flushes).isZero();
+
+		flushingWriter.write("<br>", 0, 4);
+		assertThat(writer.flushes).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_fail_with_empty_markers() {
+		assertThatThrownBy(() -> new MarkerFlushingWriter(new StringWriter(), singletonList("")))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Marker must not be empty");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MarkerFlushingWriter writer = new MarkerFlushingWriter(new StringWriter(), singletonList("</head>"));
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.MarkerFlushingWriter@%s{" +
+						"markers=[</head>]" +
+				"}";
+		// @formatter:on
+
+		assertThat(writer).hasToString(String.format(
+				expectedToString, hexIdentity(writer)
+		));
+	}
+
+	private static final class FlushCountingWriter extends StringWriter {
+		private int flushes;
+
+		@Override
+		public void flush() {
+			super.flush();
+			flushes++;
+		}
+	}
+}
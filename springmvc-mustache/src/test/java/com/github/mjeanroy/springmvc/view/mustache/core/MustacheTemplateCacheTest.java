@@ -0,0 +1,197 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateCache.TemplateKey;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.emptyMap;
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class MustacheTemplateCacheTest {
+
+	@Test
+	void it_should_put_and_get_template() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		MustacheTemplate template = mock(MustacheTemplate.class);
+		TemplateKey key = new TemplateKey("/templates/foo.template.html", emptyMap());
+
+		assertThat(cache.get(key)).isNull();
+
+		cache.put(key, template);
+
+		assertThat(cache.get(key)).isSameAs(template);
+		assertThat(cache.get(new TemplateKey("/templates/foo.template.html", emptyMap()))).isSameAs(template);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_identify_templates_by_location_and_aliases() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		MustacheTemplate t1 = mock(MustacheTemplate.class);
+		MustacheTemplate t2 = mock(MustacheTemplate.class);
+
+		cache.put(new TemplateKey("/templates/layout.template.html", singletonMap("content", "foo")), t1);
+		cache.put(new TemplateKey("/templates/layout.template.html", singletonMap("content", "bar")), t2);
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", singletonMap("content", "foo")))).isSameAs(t1);
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", singletonMap("content", "bar")))).isSameAs(t2);
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", emptyMap()))).isNull();
+	}
+
+	@Test
+	void it_should_evict_templates_by_location() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		MustacheTemplate t1 = mock(MustacheTemplate.class);
+		MustacheTemplate t2 = mock(MustacheTemplate.class);
+		MustacheTemplate t3 = mock(MustacheTemplate.class);
+
+		cache.put(new TemplateKey("/templates/layout.template.html", singletonMap("content", "foo")), t1);
+		cache.put(new TemplateKey("/templates/layout.template.html", singletonMap("content", "bar")), t2);
+		cache.put(new TemplateKey("/templates/foo.template.html", emptyMap()), t3);
+
+		int evicted = cache.evict(Arrays.asList("/templates/layout.template.html", "/templates/bar.template.html"));
+
+		assertThat(evicted).isEqualTo(2);
+		assertThat(cache.size()).isEqualTo(1);
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", singletonMap("content", "foo")))).isNull();
+		assertThat(cache.get(new TemplateKey("/templates/foo.template.html", emptyMap()))).isSameAs(t3);
+	}
+
+	@Test
+	void it_should_not_put_template_if_templates_have_been_evicted_since_generation() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		TemplateKey key = new TemplateKey("/templates/foo.template.html", emptyMap());
+		long generation = cache.getGeneration();
+
+		cache.evict(singletonList("/templates/bar.template.html"));
+
+		assertThat(cache.getGeneration()).isNotEqualTo(generation);
+		assertThat(cache.put(key, mock(MustacheTemplate.class), generation)).isFalse();
+		assertThat(cache.get(key)).isNull();
+
+		MustacheTemplate template = mock(MustacheTemplate.class);
+		assertThat(cache.put(key, template, cache.getGeneration())).isTrue();
+		assertThat(cache.get(key)).isSameAs(template);
+
+		generation = cache.getGeneration();
+		cache.clear();
+		assertThat(cache.put(key, template, generation)).isFalse();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void it_should_store_snapshot_of_aliases() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		MustacheTemplate template = mock(MustacheTemplate.class);
+		Map<String, String> aliases = new HashMap<>();
+		aliases.put("content", "foo");
+
+		cache.put(new TemplateKey("/templates/layout.template.html", aliases), template);
+		aliases.put("content", "bar");
+
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", singletonMap("content", "foo")))).isSameAs(template);
+		assertThat(cache.get(new TemplateKey("/templates/layout.template.html", aliases))).isNull();
+	}
+
+	@Test
+	void it_should_evict_oldest_entries() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(2);
+		TemplateKey k1 = new TemplateKey("/templates/t1.template.html", emptyMap());
+		TemplateKey k2 = new TemplateKey("/templates/t2.template.html", emptyMap());
+		TemplateKey k3 = new TemplateKey("/templates/t3.template.html", emptyMap());
+
+		cache.put(k1, mock(MustacheTemplate.class));
+		cache.put(k2, mock(MustacheTemplate.class));
+		cache.put(k3, mock(MustacheTemplate.class));
+
+		assertThat(cache.size()).isEqualTo(2);
+		assertThat(cache.get(k1)).isNull();
+		assertThat(cache.get(k2)).isNotNull();
+		assertThat(cache.get(k3)).isNotNull();
+	}
+
+	@Test
+	void it_should_not_store_anything_if_disabled() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(0);
+		TemplateKey key = new TemplateKey("/templates/foo.template.html", emptyMap());
+
+		cache.put(key, mock(MustacheTemplate.class));
+
+		assertThat(cache.isEnabled()).isFalse();
+		assertThat(cache.get(key)).isNull();
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void it_should_clear_cache_when_limit_is_decreased() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		cache.put(new TemplateKey("/templates/t1.template.html", emptyMap()), mock(MustacheTemplate.class));
+		cache.put(new TemplateKey("/templates/t2.template.html", emptyMap()), mock(MustacheTemplate.class));
+
+		cache.setLimit(1);
+
+		assertThat(cache.getLimit()).isEqualTo(1);
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void it_should_clear_cache() {
+		MustacheTemplateCache cache = new MustacheTemplateCache(10);
+		cache.put(new TemplateKey("/templates/t1.template.html", emptyMap()), mock(MustacheTemplate.class));
+
+		cache.clear();
+
+		assertThat(cache.size()).isZero();
+	}
+
+	@Test
+	void it_should_fail_with_negative_limit() {
+		assertThatThrownBy(() -> new MustacheTemplateCache(-1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Cache limit must be positive");
+	}
+
+	@Test
+	void it_should_implement_equals_hash_code_on_keys() {
+		TemplateKey k1 = new TemplateKey("/templates/foo.template.html", singletonMap("content", "foo"));
+		TemplateKey k2 = new TemplateKey("/templates/foo.template.html", singletonMap("content", "foo"));
+		TemplateKey k3 = new TemplateKey("/templates/foo.template.html", singletonMap("content", "bar"));
+		TemplateKey k4 = new TemplateKey("/templates/bar.template.html", singletonMap("content", "foo"));
+
+		assertThat(k1).isEqualTo(k1).isEqualTo(k2).hasSameHashCodeAs(k2);
+		assertThat(k1).isNotEqualTo(k3).isNotEqualTo(k4).isNotEqualTo(null);
+	}
+}
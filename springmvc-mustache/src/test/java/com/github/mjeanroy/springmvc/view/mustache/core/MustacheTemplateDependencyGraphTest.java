@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateDependencyGraph.Node;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class MustacheTemplateDependencyGraphTest {
+
+	private static final String INDEX = "/templates/index.template.html";
+	private static final String ABOUT = "/templates/about.template.html";
+	private static final String HEADER = "/templates/header.template.html";
+	private static final String FOOTER = "/templates/footer.template.html";
+
+	@Test
+	void it_should_record_dependencies() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+
+		graph.record(INDEX, INDEX);
+		graph.record(INDEX, HEADER);
+		graph.record(INDEX, FOOTER);
+		graph.record(ABOUT, ABOUT);
+		graph.record(ABOUT, HEADER);
+
+		assertThat(graph.isTracked(INDEX)).isTrue();
+		assertThat(graph.isTracked(HEADER)).isFalse();
+		assertThat(graph.getDependencies(INDEX)).containsExactly(FOOTER, HEADER);
+		assertThat(graph.getDependencies(HEADER)).isEmpty();
+		assertThat(graph.getDependents(HEADER)).containsExactly(ABOUT, INDEX);
+		assertThat(graph.getDependents(FOOTER)).containsExactly(INDEX);
+		assertThat(graph.getDependents(INDEX)).isEmpty();
+	}
+
+	@Test
+	void it_should_get_invalidated_templates() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+
+		graph.record(INDEX, INDEX);
+		graph.record(INDEX, HEADER);
+		graph.record(ABOUT, ABOUT);
+
+		assertThat(graph.getInvalidated(HEADER)).containsExactly(HEADER, INDEX);
+		assertThat(graph.getInvalidated(FOOTER)).containsExactly(FOOTER);
+		assertThat(graph.getInvalidated(ABOUT)).containsExactly(ABOUT);
+	}
+
+	@Test
+	void it_should_invalidate_untracked_templates() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+
+		graph.record(INDEX, HEADER);
+
+		assertThat(graph.isTracked(INDEX)).isFalse();
+		assertThat(graph.getInvalidated(FOOTER)).containsExactly(FOOTER, INDEX);
+	}
+
+	@Test
+	void it_should_remove_and_clear_templates() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+		graph.record(INDEX, INDEX);
+		graph.record(INDEX, HEADER);
+		graph.record(ABOUT, ABOUT);
+		graph.record(ABOUT, HEADER);
+
+		graph.remove(INDEX);
+		assertThat(graph.isTracked(INDEX)).isFalse();
+		assertThat(graph.getDependencies(INDEX)).isEmpty();
+		assertThat(graph.getDependents(HEADER)).containsExactly(ABOUT);
+
+		graph.clear();
+		assertThat(graph.isTracked(ABOUT)).isFalse();
+		assertThat(graph.getDependents(HEADER)).isEmpty();
+	}
+
+	@Test
+	void it_should_build_report() {
+		MustacheTemplateDependencyGraph graph = new MustacheTemplateDependencyGraph();
+		graph.record(INDEX, INDEX);
+		graph.record(INDEX, HEADER);
+		graph.record(INDEX, FOOTER);
+		graph.record(ABOUT, ABOUT);
+		graph.record(ABOUT, HEADER);
+
+		List<Node> report = graph.report();
+
+		assertThat(report)
+				.extracting(Node::getLocation, Node::getFanIn, Node::getFanOut)
+				.containsExactly(
+						tuple(HEADER, 2, 0),
+						tuple(FOOTER, 1, 0),
+						tuple(ABOUT, 0, 1),
+						tuple(INDEX, 0, 2)
+				);
+
+		assertThat(report.get(0).getDependents()).containsExactly(ABOUT, INDEX);
+		assertThat(report.get(3).getDependencies()).containsExactly(FOOTER, HEADER);
+	}
+}
@@ -0,0 +1,142 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheCompilationException;
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustachePrecompilationException;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationContext;
+import org.springframework.context.event.ContextRefreshedEvent;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+import java.io.IOException;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class MustacheTemplatePrecompilerTest {
+
+	private static final String PREFIX = "/templates/";
+	private static final String SUFFIX = ".template.html";
+
+	@Test
+	void it_should_precompile_templates() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, PREFIX, SUFFIX, 2);
+
+		int count = precompiler.precompile(new PathMatchingResourcePatternResolver());
+
+		assertThat(count).isEqualTo(5);
+		verify(compiler).compile("/templates/composite-aliases.template.html");
+		verify(compiler).compile("/templates/composite.template.html");
+		verify(compiler).compile("/templates/empty-string.template.html");
+		verify(compiler).compile("/templates/foo.template.html");
+		verify(compiler).compile("/templates/zero.template.html");
+	}
+
+	@Test
+	void it_should_precompile_templates_with_classpath_prefix() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, "classpath:/templates", SUFFIX, 1);
+
+		int count = precompiler.precompile(new PathMatchingResourcePatternResolver());
+
+		assertThat(count).isEqualTo(5);
+		verify(compiler).compile("classpath:/templates/foo.template.html");
+	}
+
+	@Test
+	void it_should_not_precompile_anything_without_templates() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, "/does-not-exist/", SUFFIX, 0);
+
+		int count = precompiler.precompile(new PathMatchingResourcePatternResolver());
+
+		assertThat(count).isZero();
+		verify(compiler, times(0)).compile(anyString());
+	}
+
+	@Test
+	void it_should_fail_fast_if_a_template_cannot_be_compiled() {
+		String template = "/templates/zero.template.html";
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		doThrow(new MustacheCompilationException(new IOException("Parse error"))).when(compiler).compile(template);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, PREFIX, SUFFIX, 2);
+
+		assertThatThrownBy(() -> precompiler.precompile(new PathMatchingResourcePatternResolver()))
+				.isInstanceOf(MustachePrecompilationException.class)
+				.hasMessage("Mustache template /templates/zero.template.html cannot be compiled")
+				.hasCauseInstanceOf(MustacheCompilationException.class);
+	}
+
+	@Test
+	void it_should_precompile_templates_once_on_context_refresh() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, PREFIX, SUFFIX, 2);
+		ApplicationContext applicationContext = new GenericApplicationContext();
+
+		precompiler.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+		precompiler.onApplicationEvent(new ContextRefreshedEvent(applicationContext));
+
+		verify(compiler, times(5)).compile(anyString());
+	}
+
+	@Test
+	void it_should_fail_with_negative_threads() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+
+		assertThatThrownBy(() -> new MustacheTemplatePrecompiler(compiler, PREFIX, SUFFIX, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Number of threads must be positive");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplatePrecompiler precompiler = new MustacheTemplatePrecompiler(compiler, PREFIX, SUFFIX, 2);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplatePrecompiler@%s{" +
+						"compiler=%s, " +
+						"prefix=\"/templates/\", " +
+						"suffix=\".template.html\", " +
+						"threads=2" +
+				"}";
+		// @formatter:on
+
+		assertThat(precompiler).hasToString(String.format(
+				expectedToString, hexIdentity(precompiler), compiler
+		));
+	}
+}
@@ -0,0 +1,164 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+
+class MustacheTemplateWatcherTest {
+
+	private static final String SUFFIX = ".template.html";
+
+	private MustacheTemplateWatcher watcher;
+
+	@AfterEach
+	void tearDown() {
+		if (watcher != null) {
+			watcher.stop();
+		}
+	}
+
+	@Test
+	void it_should_invalidate_modified_template(@TempDir Path tmp) throws Exception {
+		write(tmp.resolve("foo" + SUFFIX), "Hello {{name}}");
+		MustacheCompiler compiler = compiler(tmp);
+		assertThat(render(compiler, "foo")).isEqualTo("Hello foo");
+
+		watcher = new MustacheTemplateWatcher(compiler, prefix(tmp), SUFFIX);
+		watcher.start();
+		assertThat(watcher.isRunning()).isTrue();
+
+		write(tmp.resolve("foo" + SUFFIX), "Bye {{name}}");
+		assertThat(awaitRendering(compiler, "foo", "Bye foo")).isEqualTo("Bye foo");
+	}
+
+	@Test
+	void it_should_invalidate_templates_including_modified_partial(@TempDir Path tmp) throws Exception {
+		Files.createDirectories(tmp.resolve("partials"));
+		write(tmp.resolve("partials/header" + SUFFIX), "Header");
+		write(tmp.resolve("index" + SUFFIX), "{{> partials/header}}: {{name}}");
+		MustacheCompiler compiler = compiler(tmp);
+		assertThat(render(compiler, "index")).isEqualTo("Header: foo");
+
+		watcher = new MustacheTemplateWatcher(compiler, prefix(tmp), SUFFIX);
+		watcher.start();
+
+		write(tmp.resolve("partials/header" + SUFFIX), "New Header");
+		assertThat(awaitRendering(compiler, "index", "New Header: foo")).isEqualTo("New Header: foo");
+	}
+
+	@Test
+	void it_should_not_start_without_template_directory(@TempDir Path tmp) {
+		MustacheCompiler compiler = compiler(tmp);
+		watcher = new MustacheTemplateWatcher(compiler, prefix(tmp.resolve("does-not-exist")), SUFFIX);
+		watcher.start();
+		assertThat(watcher.isRunning()).isFalse();
+	}
+
+	@Test
+	void it_should_not_start_if_compiler_does_not_support_invalidation(@TempDir Path tmp) {
+		watcher = new MustacheTemplateWatcher(mock(MustacheCompiler.class), prefix(tmp), SUFFIX);
+		watcher.start();
+		assertThat(watcher.isRunning()).isFalse();
+	}
+
+	@Test
+	void it_should_stop_watcher(@TempDir Path tmp) {
+		watcher = new MustacheTemplateWatcher(compiler(tmp), prefix(tmp), SUFFIX);
+		watcher.start();
+		assertThat(watcher.isRunning()).isTrue();
+
+		watcher.stop();
+		assertThat(watcher.isRunning()).isFalse();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheTemplateWatcher watcher = new MustacheTemplateWatcher(compiler, "/templates/", SUFFIX);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateWatcher@%s{" +
+						"compiler=%s, " +
+						"prefix=\"/templates/\", " +
+						"suffix=\".template.html\"" +
+				"}";
+		// @formatter:on
+
+		assertThat(watcher).hasToString(String.format(
+				expectedToString, hexIdentity(watcher), compiler
+		));
+	}
+
+	private static String prefix(Path directory) {
+		String uri = directory.toUri().toString();
+		return uri.endsWith("/") ? uri : uri + "/";
+	}
+
+	private static MustacheCompiler compiler(Path directory) {
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader(), prefix(directory), SUFFIX);
+		templateLoader.setSourceCacheInterval(-1);
+		return new JMustacheCompiler(Mustache.compiler(), templateLoader);
+	}
+
+	private static String render(MustacheCompiler compiler, String name) {
+		StringWriter writer = new StringWriter();
+		compiler.compile(name).execute(singletonMap("name", "foo"), writer);
+		return writer.toString();
+	}
+
+	private static String awaitRendering(MustacheCompiler compiler, String name, String expected) throws InterruptedException {
+		long timeout = System.nanoTime() + TimeUnit.SECONDS.toNanos(20);
+		String result = render(compiler, name);
+		while (!result.equals(expected) && System.nanoTime() < timeout) {
+			Thread.sleep(50);
+			result = render(compiler, name);
+		}
+
+		return result;
+	}
+
+	private static void write(Path path, String content) throws IOException {
+		Files.write(path, content.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -0,0 +1,162 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RenderBufferPoolTest {
+
+	@Test
+	void it_should_reuse_released_buffer() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer b1 = pool.acquire();
+		b1.write("Hello");
+		pool.release(b1);
+
+		RenderBuffer b2 = pool.acquire();
+		pool.release(b2);
+
+		assertThat(b2).isSameAs(b1);
+		assertThat(b2.size()).isZero();
+		assertThat(b2.capacity()).isEqualTo(8);
+	}
+
+	@Test
+	void it_should_not_share_buffer_in_use_between_threads() throws Exception {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer b1 = pool.acquire();
+		RenderBuffer b2 = CompletableFuture.supplyAsync(pool::acquire).get();
+
+		assertThat(b2).isNotSameAs(b1);
+	}
+
+	@Test
+	void it_should_reuse_buffer_released_by_another_thread() throws Exception {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer b1 = CompletableFuture.supplyAsync(() -> {
+			RenderBuffer buffer = pool.acquire();
+			pool.release(buffer);
+			return buffer;
+		}).get();
+
+		assertThat(pool.acquire()).isSameAs(b1);
+	}
+
+	@Test
+	void it_should_return_new_buffer_if_no_buffer_is_idle() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer b1 = pool.acquire();
+		RenderBuffer b2 = pool.acquire();
+		pool.release(b2);
+		pool.release(b1);
+
+		assertThat(b2).isNotSameAs(b1);
+		assertThat(pool.acquire()).isSameAs(b1);
+		assertThat(pool.acquire()).isSameAs(b2);
+	}
+
+	@Test
+	void it_should_not_retain_more_buffers_than_max_retained_buffers() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16, 1);
+
+		RenderBuffer b1 = pool.acquire();
+		RenderBuffer b2 = pool.acquire();
+		pool.release(b1);
+		pool.release(b2);
+
+		assertThat(pool.acquire()).isSameAs(b1);
+		assertThat(pool.acquire()).isNotSameAs(b1).isNotSameAs(b2);
+	}
+
+	@Test
+	void it_should_ignore_buffer_released_twice() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer buffer = pool.acquire();
+		pool.release(buffer);
+		pool.release(buffer);
+
+		assertThat(pool.acquire()).isSameAs(buffer);
+		assertThat(pool.acquire()).isNotSameAs(buffer);
+	}
+
+	@Test
+	void it_should_shrink_buffer_exceeding_max_retained_capacity() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		RenderBuffer buffer = pool.acquire();
+		buffer.write("Hello World, this is a large page");
+		assertThat(buffer.capacity()).isEqualTo(33);
+
+		pool.release(buffer);
+		assertThat(buffer.capacity()).isEqualTo(4);
+		assertThat(pool.acquire()).isSameAs(buffer);
+	}
+
+	@Test
+	void it_should_fail_with_invalid_initial_capacity() {
+		assertThatThrownBy(() -> new RenderBufferPool(0, 16))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Initial capacity must be positive");
+	}
+
+	@Test
+	void it_should_fail_with_negative_max_retained_buffers() {
+		assertThatThrownBy(() -> new RenderBufferPool(4, 16, -1))
+				.isInstanceOf(IllegalArgumentException.class)
+				.hasMessage("Maximum number of retained buffers must be positive or zero");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		RenderBufferPool pool = new RenderBufferPool(4, 16);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.RenderBufferPool@%s{" +
+						"initialCapacity=4, " +
+						"maxRetainedCapacity=16, " +
+						"maxRetainedBuffers=64" +
+				"}";
+		// @formatter:on
+
+		assertThat(pool.getInitialCapacity()).isEqualTo(4);
+		assertThat(pool.getMaxRetainedCapacity()).isEqualTo(16);
+		assertThat(pool.getMaxRetainedBuffers()).isEqualTo(64);
+		assertThat(pool).hasToString(String.format(
+				expectedToString, hexIdentity(pool)
+		));
+	}
+}
@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RenderBufferTest {
+
+	@Test
+	void it_should_write_characters_and_grow() throws Exception {
+		RenderBuffer buffer = new RenderBuffer(4);
+
+		buffer.write("Hello");
+		buffer.write(' ');
+		buffer.write("World!".toCharArray(), 0, 5);
+		buffer.append("!!", 0, 1);
+
+		StringWriter writer = new StringWriter();
+		buffer.writeTo(writer);
+
+		assertThat(writer).hasToString("Hello World!");
+		assertThat(buffer.size()).isEqualTo(12);
+		assertThat(buffer.capacity()).isEqualTo(16);
+	}
+
+	@Test
+	void it_should_encode_characters() throws Exception {
+		RenderBuffer buffer = new RenderBuffer(4);
+		buffer.write("Héllo €");
+
+		int length = buffer.encode(StandardCharsets.UTF_8);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		buffer.writeTo(outputStream);
+
+		assertThat(length).isEqualTo(10);
+		assertThat(outputStream.toByteArray()).isEqualTo("Héllo €".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void it_should_encode_characters_with_another_charset_and_replace_unmappable_characters() throws Exception {
+		RenderBuffer buffer = new RenderBuffer(4);
+		buffer.write("Héllo €");
+		buffer.encode(StandardCharsets.UTF_8);
+
+		int length = buffer.encode(StandardCharsets.ISO_8859_1);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+		buffer.writeTo(outputStream);
+
+		assertThat(length).isEqualTo(7);
+		assertThat(outputStream.toByteArray()).isEqualTo("Héllo ?".getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	void it_should_reset_and_shrink_buffer() {
+		RenderBuffer buffer = new RenderBuffer(4);
+		buffer.write("Hello World");
+		buffer.encode(StandardCharsets.UTF_8);
+
+		buffer.reset();
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.capacity()).isEqualTo(16);
+
+		buffer.shrink(4);
+		assertThat(buffer.size()).isZero();
+		assertThat(buffer.capacity()).isEqualTo(4);
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		RenderBuffer buffer = new RenderBuffer(4);
+		buffer.write("Hello");
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.RenderBuffer@%s{" +
+						"size=5, " +
+						"capacity=8" +
+				"}";
+		// @formatter:on
+
+		assertThat(buffer).hasToString(String.format(
+				expectedToString, hexIdentity(buffer)
+		));
+	}
+}
@@ -0,0 +1,124 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.same;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+class SegmentEncodingWriterTest {
+
+	@Test
+	void it_should_write_static_segments_and_encode_dynamic_values() throws Exception {
+		String s1 = "<div>Héllo ";
+		String s2 = "</div>";
+		StaticSegments segments = StaticSegments.encode(asList(s1, s2), StandardCharsets.UTF_8);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		SegmentEncodingWriter writer = new SegmentEncodingWriter(outputStream, segments);
+		writer.write(s1);
+		writer.write("föö");
+		writer.write(' ');
+		writer.write("€uro".toCharArray(), 0, 1);
+		writer.write(s2);
+		writer.write("!");
+		writer.close();
+
+		assertThat(outputStream.toByteArray()).isEqualTo("<div>Héllo föö €</div>!".getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void it_should_write_encoded_bytes_of_static_segments() throws Exception {
+		String segment = "<div>";
+		StaticSegments segments = StaticSegments.encode(asList(segment), StandardCharsets.UTF_8);
+		OutputStream outputStream = mock(OutputStream.class);
+
+		SegmentEncodingWriter writer = new SegmentEncodingWriter(outputStream, segments);
+		writer.write(segment);
+
+		verify(outputStream).write(same(segments.get(segment)));
+	}
+
+	@Test
+	void it_should_encode_dynamic_values_larger_than_buffer() throws Exception {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++) {
+			sb.append("héllo 😀 ");
+		}
+
+		String value = sb.toString();
+		StaticSegments segments = StaticSegments.encode(asList("<div>", "</div>"), StandardCharsets.UTF_8);
+		ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+		SegmentEncodingWriter writer = new SegmentEncodingWriter(outputStream, segments);
+		writer.write(value);
+		writer.close();
+
+		assertThat(outputStream.toByteArray()).isEqualTo(value.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void it_should_flush_dynamic_values_without_closing_output_stream() throws Exception {
+		StaticSegments segments = StaticSegments.encode(asList("<div>", "</div>"), StandardCharsets.UTF_8);
+		OutputStream outputStream = mock(OutputStream.class);
+
+		SegmentEncodingWriter writer = new SegmentEncodingWriter(outputStream, segments);
+		writer.write("foo");
+		writer.close();
+
+		verify(outputStream).write(any(byte[].class), eq(0), eq(3));
+		verify(outputStream).flush();
+		verify(outputStream, never()).close();
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		StaticSegments segments = StaticSegments.encode(asList("<div>", "</div>"), StandardCharsets.UTF_8);
+		SegmentEncodingWriter writer = new SegmentEncodingWriter(new ByteArrayOutputStream(), segments);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.SegmentEncodingWriter@%s{" +
+						"segments=com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments@%s{charset=UTF-8, size=2}" +
+				"}";
+		// @formatter:on
+
+		assertThat(writer).hasToString(String.format(
+				expectedToString, hexIdentity(writer), hexIdentity(segments)
+		));
+	}
+}
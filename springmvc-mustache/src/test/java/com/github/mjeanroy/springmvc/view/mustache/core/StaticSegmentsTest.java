@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Arrays.asList;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StaticSegmentsTest {
+
+	@Test
+	void it_should_encode_segments() {
+		String s1 = "<div>Héllo ";
+		String s2 = "</div>";
+		StaticSegments segments = StaticSegments.encode(asList(s1, s2, s1), StandardCharsets.UTF_8);
+
+		assertThat(segments.size()).isEqualTo(2);
+		assertThat(segments.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+		assertThat(segments.get(s1)).isEqualTo(s1.getBytes(StandardCharsets.UTF_8));
+		assertThat(segments.get(s2)).isEqualTo(s2.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	void it_should_find_segments_by_identity() {
+		String segment = "</div>";
+		StaticSegments segments = StaticSegments.encode(asList(segment), StandardCharsets.UTF_8);
+
+		assertThat(segments.get(segment)).isNotNull();
+		assertThat(segments.get(new String(segment))).isNull();
+	}
+
+	@Test
+	void it_should_replace_unmappable_characters() {
+		String segment = "Héllo €";
+		StaticSegments segments = StaticSegments.encode(asList(segment), StandardCharsets.ISO_8859_1);
+
+		assertThat(segments.get(segment)).isEqualTo("Héllo ?".getBytes(StandardCharsets.ISO_8859_1));
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		StaticSegments segments = StaticSegments.encode(asList("<div>", "</div>"), StandardCharsets.UTF_8);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments@%s{" +
+						"charset=UTF-8, " +
+						"size=2" +
+				"}";
+		// @formatter:on
+
+		assertThat(segments).hasToString(String.format(
+				expectedToString, hexIdentity(segments)
+		));
+	}
+}
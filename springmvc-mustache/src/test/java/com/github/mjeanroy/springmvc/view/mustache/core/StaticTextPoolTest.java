@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StaticTextPoolTest {
+
+	@Test
+	void it_should_return_pooled_instance_of_equal_strings() {
+		StaticTextPool pool = new StaticTextPool();
+		String s1 = new String("<div>Hello ");
+		String s2 = new String("<div>Hello ");
+
+		assertThat(pool.intern(s1)).isSameAs(s1);
+		assertThat(pool.intern(s2)).isSameAs(s1);
+		assertThat(pool.intern(s1)).isSameAs(s1);
+
+		assertThat(pool.size()).isEqualTo(1);
+		assertThat(pool.getHits()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_estimate_saved_bytes() {
+		StaticTextPool pool = new StaticTextPool();
+
+		pool.intern(new String("Hello"));
+		pool.intern(new String("Hello"));
+		assertThat(pool.getSavedBytes()).isEqualTo(40 + 8);
+
+		pool.intern(new String("Hello World!"));
+		pool.intern(new String("Hello World!"));
+		assertThat(pool.getSavedBytes()).isEqualTo(40 + 8 + 40 + 16);
+
+		pool.intern(new String("你好"));
+		pool.intern(new String("你好"));
+		assertThat(pool.getSavedBytes()).isEqualTo(40 + 8 + 40 + 16 + 40 + 8);
+		assertThat(pool.getHits()).isEqualTo(3);
+	}
+
+	@Test
+	void it_should_clear_pool_and_keep_statistics() {
+		StaticTextPool pool = new StaticTextPool();
+		String s1 = new String("Hello");
+		String s2 = new String("Hello");
+
+		pool.intern(s1);
+		pool.intern(s2);
+		pool.clear();
+
+		assertThat(pool.size()).isZero();
+		assertThat(pool.getHits()).isEqualTo(1);
+		assertThat(pool.intern(s2)).isSameAs(s2);
+	}
+
+	@Test
+	void it_should_fail_with_null_text() {
+		StaticTextPool pool = new StaticTextPool();
+		assertThatThrownBy(() -> pool.intern(null))
+				.isInstanceOf(NullPointerException.class)
+				.hasMessage("Text must not be null");
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		StaticTextPool pool = new StaticTextPool();
+		pool.intern(new String("Hello"));
+		pool.intern(new String("Hello"));
+
+		assertThat(pool.toString()).endsWith("{size=1, hits=1, savedBytes=48}");
+	}
+}
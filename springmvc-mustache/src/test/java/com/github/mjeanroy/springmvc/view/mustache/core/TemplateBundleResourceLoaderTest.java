@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.ResourceLoader;
+import org.springframework.util.FileCopyUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TemplateBundleResourceLoaderTest {
+
+	private TemplateBundle bundle;
+	private ResourceLoader delegate;
+	private TemplateBundleResourceLoader resourceLoader;
+
+	@BeforeEach
+	void setUp() throws Exception {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		TemplateBundle.write(singletonMap("templates/foo.template.html", "Hello {{name}}".getBytes(StandardCharsets.UTF_8)), output);
+
+		bundle = TemplateBundle.read(new ByteArrayInputStream(output.toByteArray()));
+		delegate = mock(ResourceLoader.class);
+		resourceLoader = new TemplateBundleResourceLoader(bundle, delegate);
+	}
+
+	@Test
+	void it_should_get_bundled_resource() throws Exception {
+		Resource resource = resourceLoader.getResource("/templates/foo.template.html");
+
+		assertThat(resource.exists()).isTrue();
+		assertThat(resource.lastModified()).isZero();
+		assertThat(resource.contentLength()).isEqualTo(14);
+		assertThat(resource.getFilename()).isEqualTo("foo.template.html");
+		assertThat(resource.getDescription()).isEqualTo("template bundle [templates/foo.template.html]");
+		assertThat(read(resource)).isEqualTo("Hello {{name}}");
+		assertThat(read(resource)).isEqualTo("Hello {{name}}");
+		verify(delegate, never()).getResource("/templates/foo.template.html");
+	}
+
+	@Test
+	void it_should_get_bundled_resource_with_classpath_prefix() throws Exception {
+		assertThat(read(resourceLoader.getResource("classpath:/templates/foo.template.html"))).isEqualTo("Hello {{name}}");
+		assertThat(read(resourceLoader.getResource("classpath*:templates/foo.template.html"))).isEqualTo("Hello {{name}}");
+		assertThat(read(resourceLoader.getResource("templates/foo.template.html"))).isEqualTo("Hello {{name}}");
+	}
+
+	@Test
+	void it_should_delegate_resources_that_are_not_bundled() {
+		Resource missing = mock(Resource.class);
+		Resource file = mock(Resource.class);
+		when(delegate.getResource("/templates/bar.template.html")).thenReturn(missing);
+		when(delegate.getResource("file:/templates/foo.template.html")).thenReturn(file);
+
+		assertThat(resourceLoader.getResource("/templates/bar.template.html")).isSameAs(missing);
+		assertThat(resourceLoader.getResource("file:/templates/foo.template.html")).isSameAs(file);
+	}
+
+	@Test
+	void it_should_read_bundled_resource_without_copying_it() throws Exception {
+		Resource resource = resourceLoader.getResource("/templates/foo.template.html");
+		assertThat(resource).isInstanceOf(TemplateBundleResourceLoader.BundledResource.class);
+
+		TemplateBundleResourceLoader.BundledResource bundledResource = (TemplateBundleResourceLoader.BundledResource) resource;
+		assertThat(bundledResource.getContent().isReadOnly()).isTrue();
+		assertThat(StandardCharsets.UTF_8.decode(bundledResource.getContent()).toString()).isEqualTo("Hello {{name}}");
+
+		try (InputStream stream = resource.getInputStream()) {
+			assertThat(stream.available()).isEqualTo(14);
+			assertThat(stream.skip(6)).isEqualTo(6);
+			assertThat(stream.read()).isEqualTo('{');
+			assertThat(stream.available()).isEqualTo(7);
+		}
+	}
+
+	@Test
+	void it_should_get_class_loader_of_delegate() {
+		ClassLoader classLoader = getClass().getClassLoader();
+		when(delegate.getClassLoader()).thenReturn(classLoader);
+		assertThat(resourceLoader.getClassLoader()).isSameAs(classLoader);
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		assertThat(resourceLoader.getBundle()).isSameAs(bundle);
+		assertThat(resourceLoader.toString())
+				.contains("bundle=" + bundle)
+				.contains("delegate=" + delegate);
+	}
+
+	private static String read(Resource resource) throws Exception {
+		try (InputStream stream = resource.getInputStream()) {
+			return new String(FileCopyUtils.copyToByteArray(stream), StandardCharsets.UTF_8);
+		}
+	}
+}
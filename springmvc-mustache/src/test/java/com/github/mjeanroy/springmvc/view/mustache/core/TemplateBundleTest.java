@@ -0,0 +1,177 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import com.github.mjeanroy.springmvc.view.mustache.exceptions.MustacheIOException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class TemplateBundleTest {
+
+	@Test
+	void it_should_write_and_read_bundle() throws Exception {
+		TemplateBundle bundle = TemplateBundle.read(new ByteArrayInputStream(write(templates())));
+
+		assertThat(bundle.size()).isEqualTo(3);
+		assertThat(bundle.getPaths()).containsOnly(
+				"templates/index.template.html",
+				"templates/partials/header.template.html",
+				"templates/empty.template.html"
+		);
+
+		assertThat(bundle.contains("templates/index.template.html")).isTrue();
+		assertThat(bundle.contains("templates/missing.template.html")).isFalse();
+		assertThat(content(bundle, "templates/index.template.html")).isEqualTo("<div>{{> partials/header}}</div>");
+		assertThat(content(bundle, "templates/partials/header.template.html")).isEqualTo("Hello {{name}} é");
+		assertThat(content(bundle, "templates/empty.template.html")).isEmpty();
+		assertThat(bundle.get("templates/missing.template.html")).isNull();
+	}
+
+	@Test
+	void it_should_return_read_only_slices() throws Exception {
+		TemplateBundle bundle = TemplateBundle.read(new ByteArrayInputStream(write(templates())));
+
+		ByteBuffer b1 = bundle.get("templates/index.template.html");
+		ByteBuffer b2 = bundle.get("templates/index.template.html");
+
+		assertThat(b1.isReadOnly()).isTrue();
+		assertThat(b1.position()).isZero();
+		assertThat(b1).isNotSameAs(b2);
+
+		b1.get();
+		assertThat(b2.position()).isZero();
+	}
+
+	@Test
+	void it_should_open_bundle_using_memory_mapped_file(@TempDir Path tmp) throws Exception {
+		Path file = tmp.resolve("templates.bundle");
+		Files.write(file, write(templates()));
+
+		TemplateBundle bundle = TemplateBundle.open(file);
+
+		assertThat(bundle.size()).isEqualTo(3);
+		assertThat(bundle.get("templates/index.template.html")).isInstanceOf(MappedByteBuffer.class);
+		assertThat(content(bundle, "templates/partials/header.template.html")).isEqualTo("Hello {{name}} é");
+	}
+
+	@Test
+	void it_should_load_bundle_from_file_resource(@TempDir Path tmp) throws Exception {
+		Path file = tmp.resolve("templates.bundle");
+		Files.write(file, write(templates()));
+
+		TemplateBundle bundle = TemplateBundle.load(new FileSystemResource(file.toFile()));
+
+		assertThat(bundle.get("templates/index.template.html")).isInstanceOf(MappedByteBuffer.class);
+		assertThat(content(bundle, "templates/index.template.html")).isEqualTo("<div>{{> partials/header}}</div>");
+	}
+
+	@Test
+	void it_should_load_bundle_from_resource() throws Exception {
+		TemplateBundle bundle = TemplateBundle.load(new ByteArrayResource(write(templates())));
+		assertThat(content(bundle, "templates/index.template.html")).isEqualTo("<div>{{> partials/header}}</div>");
+	}
+
+	@Test
+	void it_should_fail_to_load_missing_bundle(@TempDir Path tmp) {
+		FileSystemResource resource = new FileSystemResource(tmp.resolve("missing.bundle").toFile());
+
+		assertThatThrownBy(() -> TemplateBundle.load(resource))
+				.isInstanceOf(MustacheIOException.class)
+				.hasMessageContaining("does not exist");
+	}
+
+	@Test
+	void it_should_fail_to_read_invalid_bundle() {
+		assertThatThrownBy(() -> TemplateBundle.read(new ByteArrayInputStream("Hello World".getBytes(StandardCharsets.UTF_8))))
+				.isInstanceOf(IOException.class)
+				.hasMessage("Invalid template bundle");
+	}
+
+	@Test
+	void it_should_fail_to_read_truncated_bundle() throws Exception {
+		byte[] bytes = write(templates());
+		byte[] truncated = new byte[20];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+		assertThatThrownBy(() -> TemplateBundle.read(new ByteArrayInputStream(truncated)))
+				.isInstanceOf(IOException.class)
+				.hasMessage("Invalid template bundle");
+	}
+
+	@Test
+	void it_should_fail_to_read_bundle_with_entry_out_of_bounds() throws Exception {
+		byte[] bytes = write(templates());
+		byte[] truncated = new byte[bytes.length - 1];
+		System.arraycopy(bytes, 0, truncated, 0, truncated.length);
+
+		assertThatThrownBy(() -> TemplateBundle.read(new ByteArrayInputStream(truncated)))
+				.isInstanceOf(IOException.class)
+				.hasMessageStartingWith("Invalid template bundle entry: ");
+	}
+
+	@Test
+	void it_should_implement_to_string() throws Exception {
+		TemplateBundle bundle = TemplateBundle.read(new ByteArrayInputStream(write(templates())));
+		assertThat(bundle.toString()).endsWith("{size=3}");
+	}
+
+	private static Map<String, byte[]> templates() {
+		Map<String, byte[]> templates = new LinkedHashMap<>();
+		templates.put("templates/index.template.html", "<div>{{> partials/header}}</div>".getBytes(StandardCharsets.UTF_8));
+		templates.put("templates/partials/header.template.html", "Hello {{name}} é".getBytes(StandardCharsets.UTF_8));
+		templates.put("templates/empty.template.html", new byte[0]);
+		return templates;
+	}
+
+	private static byte[] write(Map<String, byte[]> templates) throws IOException {
+		ByteArrayOutputStream output = new ByteArrayOutputStream();
+		try (OutputStream stream = output) {
+			TemplateBundle.write(templates, stream);
+		}
+
+		return output.toByteArray();
+	}
+
+	private static String content(TemplateBundle bundle, String path) {
+		return StandardCharsets.UTF_8.decode(bundle.get(path)).toString();
+	}
+}
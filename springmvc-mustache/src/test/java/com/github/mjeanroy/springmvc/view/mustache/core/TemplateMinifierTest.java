@@ -0,0 +1,95 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.core;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TemplateMinifierTest {
+
+	@Test
+	void it_should_collapse_whitespace() {
+		assertThat(TemplateMinifier.minify("<div>\n\t\t<span>Hello   World</span>\n\n\t</div>\n")).isEqualTo("<div>\n<span>Hello World</span>\n</div>\n");
+		assertThat(TemplateMinifier.minify("<p>Hello \t World</p>")).isEqualTo("<p>Hello World</p>");
+		assertThat(TemplateMinifier.minify("  \r\n  Hello")).isEqualTo("\nHello");
+	}
+
+	@Test
+	void it_should_keep_mustache_tags() {
+		assertThat(TemplateMinifier.minify("<ul>\n  {{#items}}\n    <li>{{  name  }}</li>\n  {{/items}}\n</ul>"))
+				.isEqualTo("<ul>\n{{#items}}\n<li>{{  name  }}</li>\n{{/items}}\n</ul>");
+
+		assertThat(TemplateMinifier.minify("{{{ html  }}}  {{!  comment  }}  {{!--  }}  --}}  {{>  partial }}"))
+				.isEqualTo("{{{ html  }}} {{!  comment  }} {{!--  }}  --}} {{>  partial }}");
+	}
+
+	@Test
+	void it_should_minify_html_tags_and_keep_attribute_values() {
+		assertThat(TemplateMinifier.minify("<div\n    class=\"a   b\"\n    title='x  y'\n  >text</div  >"))
+				.isEqualTo("<div\nclass=\"a   b\"\ntitle='x  y'>text</div>");
+
+		assertThat(TemplateMinifier.minify("<input value=\"{{ value }}\"   {{#checked}}checked{{/checked}} />"))
+				.isEqualTo("<input value=\"{{ value }}\" {{#checked}}checked{{/checked}} />");
+	}
+
+	@Test
+	void it_should_not_treat_less_than_sign_as_tag() {
+		assertThat(TemplateMinifier.minify("<p>1 <  2 and it's   true</p>")).isEqualTo("<p>1 < 2 and it's true</p>");
+	}
+
+	@Test
+	void it_should_remove_html_comments() {
+		assertThat(TemplateMinifier.minify("<div>\n  <!-- comment -->\n  <span>Hello</span>\n</div>")).isEqualTo("<div>\n<span>Hello</span>\n</div>");
+		assertThat(TemplateMinifier.minify("Hello<!-- comment -->World")).isEqualTo("HelloWorld");
+		assertThat(TemplateMinifier.minify("Hello <!-- unclosed comment")).isEqualTo("Hello ");
+	}
+
+	@Test
+	void it_should_keep_conditional_comments_and_comments_with_mustache_tags() {
+		assertThat(TemplateMinifier.minify("<!--[if IE]>  <p>IE</p>  <![endif]-->")).isEqualTo("<!--[if IE]>  <p>IE</p>  <![endif]-->");
+		assertThat(TemplateMinifier.minify("<!--  {{#debug}}  -->")).isEqualTo("<!--  {{#debug}}  -->");
+	}
+
+	@Test
+	void it_should_keep_content_of_raw_elements() {
+		assertThat(TemplateMinifier.minify("<div>\n  <pre>\n  a   b\n  </pre>\n</div>")).isEqualTo("<div>\n<pre>\n  a   b\n  </pre>\n</div>");
+		assertThat(TemplateMinifier.minify("<TEXTAREA name=\"x\">  {{value}}  </textarea  >")).isEqualTo("<TEXTAREA name=\"x\">  {{value}}  </textarea>");
+		assertThat(TemplateMinifier.minify("<script>\n  var a = '<!-- x -->';\n</script>")).isEqualTo("<script>\n  var a = '<!-- x -->';\n</script>");
+		assertThat(TemplateMinifier.minify("<style>\n  p  { color: red; }\n</style>")).isEqualTo("<style>\n  p  { color: red; }\n</style>");
+		assertThat(TemplateMinifier.minify("<pre>  unclosed")).isEqualTo("<pre>  unclosed");
+	}
+
+	@Test
+	void it_should_not_treat_similar_elements_as_raw_elements() {
+		assertThat(TemplateMinifier.minify("<preview>  a   b  </preview>")).isEqualTo("<preview> a b </preview>");
+	}
+
+	@Test
+	void it_should_not_minify_template_with_custom_delimiters() {
+		String source = "{{=<% %>=}}\n  <p>  <% name %>  </p>";
+		assertThat(TemplateMinifier.minify(source)).isSameAs(source);
+	}
+}
@@ -25,9 +25,13 @@
 package com.github.mjeanroy.springmvc.view.mustache.handlebars;
 
 import com.github.jknack.handlebars.Handlebars;
+import com.github.jknack.handlebars.io.TemplateLoader;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateDependencyGraph;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
@@ -41,11 +45,13 @@ import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.StringTestUtils.joinLines;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HandlebarsCompilerTest {
@@ -190,6 +196,78 @@ class HandlebarsCompilerTest {
 		)));
 	}
 
+	@Test
+	void it_should_display_template_with_render_context_from_another_thread() throws Exception {
+		StringWriter writer = new StringWriter();
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		HandlebarsCompiler mustacheCompiler = handlebarsCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate template = mustacheCompiler.compile(name, context);
+		CompletableFuture.runAsync(() -> template.execute(model(), writer)).get();
+
+		assertThat(writer.toString()).isEqualTo(joinLines(asList(
+				"<div>",
+				"	<div>Hello foo</div>",
+				"</div>"
+		)));
+	}
+
+	@Test
+	void it_should_compile_template_with_render_context_without_modifying_handlebars() {
+		StringWriter writer = new StringWriter();
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		Handlebars handlebars = handlebars();
+		HandlebarsCompiler mustacheCompiler = handlebarsCompiler(handlebars);
+		TemplateLoader loader = handlebars.getLoader();
+
+		MustacheTemplate template = mustacheCompiler.compile(name, context);
+		handlebars.registerHelperMissing((ctx, options) -> "bar");
+		template.execute(singletonMap("name", null), writer);
+
+		assertThat(handlebars.getLoader()).isSameAs(loader);
+		assertThat(writer.toString()).isEqualTo(joinLines(asList(
+				"<div>",
+				"	<div>Hello bar</div>",
+				"</div>"
+		)));
+	}
+
+	@Test
+	void it_should_record_template_dependencies() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		HandlebarsCompiler mustacheCompiler = handlebarsCompiler(mustacheTemplateLoader());
+
+		mustacheCompiler.compile(name, context).execute(model(), new StringWriter());
+
+		MustacheTemplateDependencyGraph graph = mustacheCompiler.getDependencyGraph();
+		assertThat(graph.isTracked(name)).isTrue();
+		assertThat(graph.getDependencies(name)).containsExactly("/templates/foo.template.html");
+		assertThat(graph.getDependents("/templates/foo.template.html")).containsExactly(name);
+	}
+
+	@Test
+	void it_should_evict_compiled_templates_depending_on_invalidated_partial() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		HandlebarsCompiler mustacheCompiler = handlebarsCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name, context);
+		t1.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/zero.template.html");
+		MustacheTemplate t2 = mustacheCompiler.compile(name, context);
+		t2.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/foo.template.html");
+		MustacheTemplate t3 = mustacheCompiler.compile(name, context);
+
+		assertThat(t1).isSameAs(t2);
+		assertThat(t2).isNotSameAs(t3);
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		MustacheTemplateLoader templateLoader = mustacheTemplateLoader();
@@ -212,6 +290,8 @@ class HandlebarsCompilerTest {
 	@Test
 	void it_should_implement_equals_hash_code() {
 		EqualsVerifier.forClass(HandlebarsCompiler.class)
+				.withIgnoredFields("cache", "compilations", "dependencies", "metrics", "preEncoding", "staticTextPool")
+				.withPrefabValues(StaticTextPool.class, new StaticTextPool(), new StaticTextPool())
 				.withPrefabValues(Charset.class, StandardCharsets.UTF_8, StandardCharsets.UTF_16)
 				.verify();
 	}
@@ -26,6 +26,7 @@ package com.github.mjeanroy.springmvc.view.mustache.handlebars;
 
 import com.github.jknack.handlebars.io.TemplateSource;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -36,6 +37,7 @@ import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class HandlebarsTemplateLoaderTest {
@@ -65,6 +67,18 @@ class HandlebarsTemplateLoaderTest {
 		assertThat(result).isEqualTo(location);
 	}
 
+	@Test
+	void it_should_resolve_template_location_using_render_context() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		MustacheTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		RenderContext context = RenderContext.of(singletonMap("foo", "bar"));
+		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader, context);
+
+		String result = handlebarsTemplateLoader.resolve("foo");
+
+		assertThat(result).isEqualTo("/templates/bar.template.html");
+	}
+
 	@Test
 	void it_should_get_prefix() {
 		HandlebarsTemplateLoader handlebarsTemplateLoader = handlebarsTemplateLoader();
@@ -83,7 +97,7 @@ class HandlebarsTemplateLoaderTest {
 	void it_should_set_prefix() {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		MustacheTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader);
-		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader);
+		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader, RenderContext.empty());
 
 		String prefix = "/templates/";
 		handlebarsTemplateLoader.setPrefix(prefix);
@@ -95,7 +109,7 @@ class HandlebarsTemplateLoaderTest {
 	void it_should_set_suffix() {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		MustacheTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader);
-		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader);
+		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader, RenderContext.empty());
 
 		String suffix = ".template.html";
 		handlebarsTemplateLoader.setSuffix(suffix);
@@ -107,17 +121,18 @@ class HandlebarsTemplateLoaderTest {
 	void it_should_implement_to_string() {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
 		MustacheTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader);
-		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader);
+		HandlebarsTemplateLoader handlebarsTemplateLoader = new HandlebarsTemplateLoader(mustacheTemplateLoader, RenderContext.empty());
 
 		// @formatter:off
 		String expectedToString =
 				"com.github.mjeanroy.springmvc.view.mustache.handlebars.HandlebarsTemplateLoader@%s{" +
-						"loader=%s" +
+						"loader=%s, " +
+						"context=%s" +
 				"}";
 		// @formatter:on
 
 		assertThat(handlebarsTemplateLoader).hasToString(String.format(
-				expectedToString, hexIdentity(handlebarsTemplateLoader), mustacheTemplateLoader
+				expectedToString, hexIdentity(handlebarsTemplateLoader), mustacheTemplateLoader, RenderContext.empty()
 		));
 	}
 
@@ -135,6 +150,6 @@ class HandlebarsTemplateLoaderTest {
 		String prefix = "/templates/";
 		String suffix = ".template.html";
 		MustacheTemplateLoader mustacheTemplateLoader = new DefaultTemplateLoader(resourceLoader, prefix, suffix);
-		return new HandlebarsTemplateLoader(mustacheTemplateLoader);
+		return new HandlebarsTemplateLoader(mustacheTemplateLoader, RenderContext.empty());
 	}
 }
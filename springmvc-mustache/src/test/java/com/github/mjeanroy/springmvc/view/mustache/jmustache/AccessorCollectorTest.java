@@ -0,0 +1,151 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.jmustache;
+
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AccessorCollectorTest {
+
+	private Mustache.Compiler compiler;
+
+	@BeforeEach
+	void setUp() {
+		compiler = Mustache.compiler().defaultValue("").withCollector(new AccessorCollector());
+	}
+
+	@Test
+	void it_should_fetch_bean_properties() {
+		Map<String, Object> model = singletonMap("user", new User("John", "Doe", true));
+		assertThat(render("{{user.firstName}} {{user.lastName}}{{#user.admin}} (admin){{/user.admin}}", model)).isEqualTo("John Doe (admin)");
+	}
+
+	@Test
+	void it_should_fetch_method_field_and_default_method() {
+		Map<String, Object> model = singletonMap("user", new User("John", "Doe", false));
+		assertThat(render("{{user.fullName}} - {{user.id}} - {{user.initials}}", model)).isEqualTo("John Doe - 1 - JD");
+	}
+
+	@Test
+	void it_should_fetch_properties_of_non_public_class() {
+		assertThat(render("{{item.name}}", singletonMap("item", new Item("foo")))).isEqualTo("foo");
+	}
+
+	@Test
+	void it_should_fetch_map_entries_and_indexes() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("name", "John");
+		model.put("items", asList("foo", "bar"));
+
+		assertThat(render("{{name}} {{items.1}}{{missing}}", model)).isEqualTo("John bar");
+	}
+
+	@Test
+	void it_should_share_fetchers_between_collectors() {
+		AccessorCollector c1 = new AccessorCollector();
+		AccessorCollector c2 = new AccessorCollector();
+		User user = new User("John", "Doe", false);
+
+		Mustache.VariableFetcher fetcher = c1.createFetcher(user, "firstName");
+		assertThat(fetcher).isNotNull().isSameAs(c2.createFetcher(user, "firstName"));
+		assertThat(c1.createFetcher(user, "missing")).isNull();
+	}
+
+	@Test
+	void it_should_fetch_values_in_sections() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("title", "Users");
+		model.put("users", asList(new User("John", "Doe", false), new User("Jane", "Doe", true)));
+
+		String template = "{{#users}}{{firstName}} ({{title}}){{#admin}}*{{/admin}};{{/users}}";
+		assertThat(render(template, model)).isEqualTo("John (Users);Jane (Users)*;");
+	}
+
+	private String render(String template, Object model) {
+		return compiler.compile(template).execute(model);
+	}
+
+	public interface Named {
+		String getFirstName();
+
+		String getLastName();
+
+		default String initials() {
+			return getFirstName().substring(0, 1) + getLastName().charAt(0);
+		}
+	}
+
+	public static class User implements Named {
+		public final int id;
+		private final String firstName;
+		private final String lastName;
+		private final boolean admin;
+
+		User(String firstName, String lastName, boolean admin) {
+			this.id = 1;
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.admin = admin;
+		}
+
+		@Override
+		public String getFirstName() {
+			return firstName;
+		}
+
+		@Override
+		public String getLastName() {
+			return lastName;
+		}
+
+		public boolean isAdmin() {
+			return admin;
+		}
+
+		public String fullName() {
+			return firstName + " " + lastName;
+		}
+	}
+
+	static class Item {
+		private final String name;
+
+		Item(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+	}
+}
@@ -27,7 +27,13 @@ package com.github.mjeanroy.springmvc.view.mustache.jmustache;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheMetrics;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateDependencyGraph;
+import com.github.mjeanroy.springmvc.view.mustache.core.PreEncodedTemplate;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticSegments;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import com.samskivert.mustache.Mustache;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -35,15 +41,22 @@ import org.springframework.core.io.DefaultResourceLoader;
 
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.StringTestUtils.joinLines;
 import static com.samskivert.mustache.Mustache.Compiler;
 import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 
 class JMustacheCompilerTest {
 
@@ -207,6 +220,171 @@ class JMustacheCompilerTest {
 		assertThat(result).isNotNull().isNotEmpty().isEqualTo(expected);
 	}
 
+	@Test
+	void it_should_display_template_with_render_context_from_another_thread() throws Exception {
+		StringWriter writer = new StringWriter();
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate template = mustacheCompiler.compile(name, context);
+		CompletableFuture.runAsync(() -> template.execute(model(), writer)).get();
+
+		assertThat(writer.toString()).isEqualTo(joinLines(asList(
+				"<div>",
+				"	<div>Hello foo</div>",
+				"</div>"
+		)));
+	}
+
+	@Test
+	void it_should_cache_compiled_templates() {
+		String name = "/templates/foo.template.html";
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler();
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name);
+		MustacheTemplate t2 = mustacheCompiler.compile(name);
+
+		assertThat(t1).isSameAs(t2);
+	}
+
+	@Test
+	void it_should_cache_compiled_templates_by_partial_aliases() {
+		String name = "/templates/composite-aliases.template.html";
+		MustacheTemplateLoader templateLoader = mustacheTemplateLoader();
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(templateLoader);
+
+		templateLoader.addTemporaryPartialAliases(Collections.singletonMap("foo", "/templates/foo.template.html"));
+		MustacheTemplate t1 = mustacheCompiler.compile(name);
+		templateLoader.removeTemporaryPartialAliases();
+
+		templateLoader.addTemporaryPartialAliases(Collections.singletonMap("foo", "/templates/zero.template.html"));
+		MustacheTemplate t2 = mustacheCompiler.compile(name);
+		templateLoader.removeTemporaryPartialAliases();
+
+		assertThat(t1).isNotSameAs(t2);
+	}
+
+	@Test
+	void it_should_not_cache_compiled_templates_if_cache_is_disabled() {
+		String name = "/templates/foo.template.html";
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler();
+		mustacheCompiler.setCacheLimit(0);
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name);
+		MustacheTemplate t2 = mustacheCompiler.compile(name);
+
+		assertThat(t1).isNotSameAs(t2);
+	}
+
+	@Test
+	void it_should_evict_compiled_templates_when_template_is_invalidated() {
+		String name = "/templates/foo.template.html";
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler();
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name);
+		mustacheCompiler.invalidate(name);
+		MustacheTemplate t2 = mustacheCompiler.compile(name);
+		mustacheCompiler.invalidateAll();
+		MustacheTemplate t3 = mustacheCompiler.compile(name);
+
+		assertThat(t1).isNotSameAs(t2);
+		assertThat(t2).isNotSameAs(t3);
+	}
+
+	@Test
+	void it_should_record_template_dependencies() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(mustacheTemplateLoader());
+
+		mustacheCompiler.compile(name, context).execute(model(), new StringWriter());
+
+		MustacheTemplateDependencyGraph graph = mustacheCompiler.getDependencyGraph();
+		assertThat(graph.isTracked(name)).isTrue();
+		assertThat(graph.getDependencies(name)).containsExactly("/templates/foo.template.html");
+		assertThat(graph.getDependents("/templates/foo.template.html")).containsExactly(name);
+	}
+
+	@Test
+	void it_should_evict_compiled_templates_depending_on_invalidated_partial() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name, context);
+		t1.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/zero.template.html");
+		MustacheTemplate t2 = mustacheCompiler.compile(name, context);
+		t2.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/foo.template.html");
+		MustacheTemplate t3 = mustacheCompiler.compile(name, context);
+
+		assertThat(t1).isSameAs(t2);
+		assertThat(t2).isNotSameAs(t3);
+	}
+
+	@Test
+	void it_should_encode_static_segments() {
+		Writer writer = new StringWriter();
+		String name = "/templates/foo.template.html";
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(mustacheTemplateLoader());
+		assertThat(mustacheCompiler.isPreEncoding()).isFalse();
+		assertThat(((PreEncodedTemplate) mustacheCompiler.compile(name)).getStaticSegments()).isNull();
+
+		mustacheCompiler.setPreEncoding(true);
+		MustacheTemplate template = mustacheCompiler.compile(name);
+		template.execute(model(), writer);
+
+		StaticSegments segments = ((PreEncodedTemplate) template).getStaticSegments();
+		assertThat(mustacheCompiler.isPreEncoding()).isTrue();
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+		assertThat(segments).isNotNull();
+		assertThat(segments.getCharset()).isEqualTo(StandardCharsets.UTF_8);
+		assertThat(segments.size()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_not_pool_static_segments() {
+		String name = "/templates/foo.template.html";
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler();
+		StaticTextPool pool = new StaticTextPool();
+		mustacheCompiler.setStaticTextPool(pool);
+
+		Writer writer = new StringWriter();
+		mustacheCompiler.compile(name).execute(model(), writer);
+
+		assertThat(pool.size()).isZero();
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+	}
+
+	@Test
+	void it_should_record_metrics() {
+		Writer writer = new StringWriter();
+		String name = "/templates/foo.template.html";
+		MustacheMetrics metrics = mock(MustacheMetrics.class);
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		JMustacheCompiler mustacheCompiler = jMustacheCompiler(templateLoader);
+		mustacheCompiler.setMetrics(metrics);
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name);
+		MustacheTemplate t2 = mustacheCompiler.compile(name);
+		t1.execute(model(), writer);
+
+		assertThat(t1).isSameAs(t2);
+		assertThat(writer).hasToString("<div>Hello foo</div>");
+		assertThat(mustacheCompiler.getMetrics()).isSameAs(metrics);
+		assertThat(templateLoader.getMetrics()).isSameAs(metrics);
+
+		verify(metrics).recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, false);
+		verify(metrics).recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, true);
+		verify(metrics).recordLoad(eq(name), anyLong());
+		verify(metrics).recordCompile(eq(name), anyLong());
+		verify(metrics).recordRender(eq(name), anyLong(), eq((long) "<div>Hello foo</div>".length()));
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		Compiler compiler = compiler();
@@ -228,7 +406,10 @@ class JMustacheCompilerTest {
 
 	@Test
 	void it_should_implement_equals_hash_code() {
-		EqualsVerifier.forClass(JMustacheCompiler.class).verify();
+		EqualsVerifier.forClass(JMustacheCompiler.class)
+				.withIgnoredFields("cache", "compilations", "dependencies", "metrics", "preEncoding", "staticTextPool")
+				.withPrefabValues(StaticTextPool.class, new StaticTextPool(), new StaticTextPool())
+				.verify();
 	}
 
 	private static Compiler compiler() {
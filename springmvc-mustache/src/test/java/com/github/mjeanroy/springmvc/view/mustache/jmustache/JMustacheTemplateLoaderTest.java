@@ -25,6 +25,7 @@
 package com.github.mjeanroy.springmvc.view.mustache.jmustache;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,7 @@ import java.io.Reader;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.IOTestUtils.read;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class JMustacheTemplateLoaderTest {
@@ -50,20 +52,33 @@ class JMustacheTemplateLoaderTest {
 		assertThat(read(result)).isEqualTo("<div>Hello {{name}}</div>");
 	}
 
+	@Test
+	void it_should_load_template_using_render_context() {
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		JMustacheTemplateLoader jMustacheTemplateLoader = jMustacheTemplateLoader(mustacheTemplateLoader(), context);
+
+		Reader result = jMustacheTemplateLoader.getTemplate("foo");
+
+		assertThat(result).isNotNull();
+		assertThat(read(result)).isEqualTo("<div>Hello {{name}}</div>");
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		MustacheTemplateLoader templateLoader = mustacheTemplateLoader();
-		JMustacheTemplateLoader jMustacheTemplateLoader = jMustacheTemplateLoader(templateLoader);
+		RenderContext context = RenderContext.empty();
+		JMustacheTemplateLoader jMustacheTemplateLoader = jMustacheTemplateLoader(templateLoader, context);
 
 		// @formatter:off
 		String expectedToString =
 				"com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheTemplateLoader@%s{" +
-						"loader=%s" +
+						"loader=%s, " +
+						"context=%s" +
 				"}";
 		// @formatter:on
 
 		assertThat(jMustacheTemplateLoader).hasToString(String.format(
-				expectedToString, hexIdentity(jMustacheTemplateLoader), templateLoader
+				expectedToString, hexIdentity(jMustacheTemplateLoader), templateLoader, context
 		));
 	}
 
@@ -84,10 +99,10 @@ class JMustacheTemplateLoaderTest {
 
 	private static JMustacheTemplateLoader jMustacheTemplateLoader(ResourceLoader resourceLoader) {
 		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader);
-		return jMustacheTemplateLoader(templateLoader);
+		return jMustacheTemplateLoader(templateLoader, RenderContext.empty());
 	}
 
-	private static JMustacheTemplateLoader jMustacheTemplateLoader(MustacheTemplateLoader templateLoader) {
-		return new JMustacheTemplateLoader(templateLoader);
+	private static JMustacheTemplateLoader jMustacheTemplateLoader(MustacheTemplateLoader templateLoader, RenderContext context) {
+		return new JMustacheTemplateLoader(templateLoader, context);
 	}
 }
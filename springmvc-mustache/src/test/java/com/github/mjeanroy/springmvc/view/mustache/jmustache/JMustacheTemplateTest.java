@@ -29,6 +29,7 @@ import com.samskivert.mustache.Template;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
 
+import java.io.StringReader;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.HashMap;
@@ -52,6 +53,38 @@ class JMustacheTemplateTest {
 		assertThat(writer.toString()).isEqualTo("foo :: bar");
 	}
 
+	@Test
+	void it_should_get_root_variables() {
+		Mustache.Compiler compiler = Mustache.compiler().withLoader(name -> {
+			if (name.equals("header")) {
+				return new StringReader("<h1>{{title}}</h1>{{#children}}{{> header}}{{/children}}");
+			}
+
+			throw new IllegalArgumentException("Unknown partial: " + name);
+		});
+
+		Template template = compiler.compile("{{> header}}{{user.name}}{{#items}}{{label}}{{-index}}{{.}}{{/items}}{{^empty}}{{this}}{{/empty}}");
+		JMustacheTemplate jMustacheTemplate = new JMustacheTemplate(template);
+
+		assertThat(jMustacheTemplate.getRootVariables()).containsExactlyInAnyOrder(
+				"title", "children", "user", "user.name", "items", "label", "empty"
+		);
+
+		assertThat(jMustacheTemplate.getRootVariables()).isSameAs(jMustacheTemplate.getRootVariables());
+	}
+
+	@Test
+	void it_should_not_get_root_variables_with_unknown_partial() {
+		Mustache.Compiler compiler = Mustache.compiler().withLoader(name -> {
+			throw new IllegalArgumentException("Unknown partial: " + name);
+		});
+
+		Template template = compiler.compile("{{#admin}}{{> menu}}{{/admin}}{{name}}");
+		JMustacheTemplate jMustacheTemplate = new JMustacheTemplate(template);
+
+		assertThat(jMustacheTemplate.getRootVariables()).isNull();
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		Template template = Mustache.compiler().compile("foo :: {{ foo }}");
@@ -71,6 +104,6 @@ class JMustacheTemplateTest {
 
 	@Test
 	void it_should_implement_equals_hash_code() {
-		EqualsVerifier.forClass(JMustacheTemplate.class).verify();
+		EqualsVerifier.forClass(JMustacheTemplate.class).withIgnoredFields("segments", "rootVariables").verify();
 	}
 }
@@ -0,0 +1,56 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.jmustache;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+import com.samskivert.mustache.Mustache;
+import org.junit.jupiter.api.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static java.util.Collections.singletonList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class LazyValueCollectorTest {
+
+	@Test
+	void it_should_unwrap_lazy_values() {
+		Mustache.Compiler compiler = Mustache.compiler();
+		Mustache.Compiler lazyCompiler = compiler.withCollector(new LazyValueCollector(compiler.collector));
+
+		Map<String, Object> model = new HashMap<>();
+		model.put("user", LazyValue.of(() -> singletonMap("name", LazyValue.of(() -> "John"))));
+		model.put("menu", LazyValue.of(() -> singletonList(singletonMap("label", "Home"))));
+		model.put("unused", LazyValue.of(() -> {
+			throw new AssertionError("Unused value must not be computed");
+		}));
+
+		String result = lazyCompiler.compile("{{user.name}}{{#menu}}<a>{{label}}</a>{{/menu}}").execute(model);
+
+		assertThat(result).isEqualTo("John<a>Home</a>");
+	}
+}
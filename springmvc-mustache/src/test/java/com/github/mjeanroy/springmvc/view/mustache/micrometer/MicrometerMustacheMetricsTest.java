@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheMetrics;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MicrometerMustacheMetricsTest {
+
+	private static final String FOO = "/templates/foo.template.html";
+	private static final String BAR = "/templates/bar.template.html";
+
+	private MeterRegistry registry;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void it_should_record_template_load_compile_and_render() {
+		MicrometerMustacheMetrics metrics = new MicrometerMustacheMetrics(registry, 10);
+
+		metrics.recordLoad(FOO, TimeUnit.MILLISECONDS.toNanos(1));
+		metrics.recordCompile(FOO, TimeUnit.MILLISECONDS.toNanos(2));
+		metrics.recordRender(FOO, TimeUnit.MILLISECONDS.toNanos(3), 100);
+		metrics.recordRender(FOO, TimeUnit.MILLISECONDS.toNanos(3), 50);
+
+		Timer load = registry.get("mustache.template.load").tag("template", FOO).timer();
+		assertThat(load.count()).isEqualTo(1);
+		assertThat(load.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(1);
+
+		Timer compile = registry.get("mustache.template.compile").tag("template", FOO).timer();
+		assertThat(compile.count()).isEqualTo(1);
+		assertThat(compile.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(2);
+
+		Timer render = registry.get("mustache.template.render").tag("template", FOO).timer();
+		assertThat(render.count()).isEqualTo(2);
+		assertThat(render.totalTime(TimeUnit.MILLISECONDS)).isEqualTo(6);
+
+		DistributionSummary rendered = registry.get("mustache.template.rendered.chars").tag("template", FOO).summary();
+		assertThat(rendered.count()).isEqualTo(2);
+		assertThat(rendered.totalAmount()).isEqualTo(150);
+		assertThat(rendered.max()).isEqualTo(100);
+		assertThat(rendered.getId().getBaseUnit()).isEqualTo("chars");
+	}
+
+	@Test
+	void it_should_record_cache_accesses() {
+		MicrometerMustacheMetrics metrics = new MicrometerMustacheMetrics(registry, 10);
+
+		metrics.recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, true);
+		metrics.recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, true);
+		metrics.recordCacheAccess(MustacheMetrics.TEMPLATE_CACHE, false);
+		metrics.recordCacheAccess(MustacheMetrics.SOURCE_CACHE, false);
+		metrics.recordCacheAccess("unknown", true);
+
+		assertThat(cacheGets(MustacheMetrics.TEMPLATE_CACHE, "hit")).isEqualTo(2);
+		assertThat(cacheGets(MustacheMetrics.TEMPLATE_CACHE, "miss")).isEqualTo(1);
+		assertThat(cacheGets(MustacheMetrics.SOURCE_CACHE, "hit")).isEqualTo(0);
+		assertThat(cacheGets(MustacheMetrics.SOURCE_CACHE, "miss")).isEqualTo(1);
+		assertThat(registry.find("mustache.cache.gets").counters()).hasSize(4);
+	}
+
+	@Test
+	void it_should_bound_template_tag_cardinality() {
+		MicrometerMustacheMetrics metrics = new MicrometerMustacheMetrics(registry, 1);
+
+		metrics.recordCompile(FOO, 1);
+		metrics.recordCompile(BAR, 1);
+		metrics.recordCompile("/templates/baz.template.html", 1);
+		metrics.recordCompile(FOO, 1);
+
+		assertThat(registry.get("mustache.template.compile").tag("template", FOO).timer().count()).isEqualTo(2);
+		assertThat(registry.get("mustache.template.compile").tag("template", "__other__").timer().count()).isEqualTo(2);
+		assertThat(registry.find("mustache.template.compile").tag("template", BAR).timer()).isNull();
+		assertThat(registry.find("mustache.template.compile").timers()).hasSize(2);
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MicrometerMustacheMetrics metrics = new MicrometerMustacheMetrics(registry, 10);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.micrometer.MicrometerMustacheMetrics@%s{" +
+						"registry=%s, " +
+						"maxTemplates=10" +
+				"}";
+		// @formatter:on
+
+		assertThat(metrics.getMaxTemplates()).isEqualTo(10);
+		assertThat(metrics).hasToString(String.format(
+				expectedToString, hexIdentity(metrics), registry
+		));
+	}
+
+	private double cacheGets(String cache, String result) {
+		return registry.get("mustache.cache.gets").tag("cache", cache).tag("result", result).counter().count();
+	}
+}
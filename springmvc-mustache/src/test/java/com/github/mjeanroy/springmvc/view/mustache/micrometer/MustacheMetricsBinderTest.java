@@ -0,0 +1,114 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.micrometer;
+
+import com.github.mjeanroy.springmvc.view.mustache.MustacheCompiler;
+import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
+import com.github.mjeanroy.springmvc.view.mustache.jmustache.JMustacheCompiler;
+import com.samskivert.mustache.Mustache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.io.StringWriter;
+import java.util.Collections;
+
+import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.hexIdentity;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+class MustacheMetricsBinderTest {
+
+	@Test
+	void it_should_bind_metrics_to_compiler() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		JMustacheCompiler compiler = new JMustacheCompiler(Mustache.compiler(), templateLoader);
+		MustacheMetricsBinder binder = new MustacheMetricsBinder(compiler, 10);
+
+		binder.bindTo(registry);
+
+		assertThat(compiler.getMetrics()).isInstanceOf(MicrometerMustacheMetrics.class);
+		assertThat(templateLoader.getMetrics()).isSameAs(compiler.getMetrics());
+
+		String name = "/templates/foo.template.html";
+		compiler.compile(name).execute(Collections.singletonMap("name", "foo"), new StringWriter());
+		assertThat(registry.get("mustache.template.render").tag("template", name).timer().count()).isEqualTo(1);
+		assertThat(registry.get("mustache.template.compile").tag("template", name).timer().count()).isEqualTo(1);
+		assertThat(registry.get("mustache.template.load").tag("template", name).timer().count()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_report_static_text_pool() {
+		MeterRegistry registry = new SimpleMeterRegistry();
+		DefaultTemplateLoader templateLoader = new DefaultTemplateLoader(new DefaultResourceLoader());
+		JMustacheCompiler compiler = new JMustacheCompiler(Mustache.compiler(), templateLoader);
+		MustacheMetricsBinder binder = new MustacheMetricsBinder(compiler, 10);
+
+		binder.bindTo(registry);
+		assertThat(registry.get("mustache.static.text.pooled").gauge().value()).isZero();
+		assertThat(registry.get("mustache.static.text.saved").gauge().value()).isZero();
+
+		StaticTextPool pool = new StaticTextPool();
+		pool.intern(new String("Hello"));
+		pool.intern(new String("Hello"));
+		compiler.setStaticTextPool(pool);
+
+		assertThat(registry.get("mustache.static.text.pooled").gauge().value()).isEqualTo(1);
+		assertThat(registry.get("mustache.static.text.saved").gauge().value()).isEqualTo(48);
+	}
+
+	@Test
+	void it_should_ignore_compiler_not_supporting_metrics() {
+		MeterRegistry registry = mock(MeterRegistry.class);
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheMetricsBinder binder = new MustacheMetricsBinder(compiler, 10);
+
+		binder.bindTo(registry);
+
+		verifyNoInteractions(registry, compiler);
+	}
+
+	@Test
+	void it_should_implement_to_string() {
+		MustacheCompiler compiler = mock(MustacheCompiler.class);
+		MustacheMetricsBinder binder = new MustacheMetricsBinder(compiler, 10);
+
+		// @formatter:off
+		String expectedToString =
+				"com.github.mjeanroy.springmvc.view.mustache.micrometer.MustacheMetricsBinder@%s{" +
+						"compiler=%s, " +
+						"maxTemplates=10" +
+				"}";
+		// @formatter:on
+
+		assertThat(binder).hasToString(String.format(
+				expectedToString, hexIdentity(binder), compiler
+		));
+	}
+}
@@ -26,7 +26,10 @@ package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplate;
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.MustacheTemplateDependencyGraph;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import com.github.mustachejava.MustacheResolver;
 import nl.jqno.equalsverifier.EqualsVerifier;
 import org.junit.jupiter.api.Test;
@@ -37,6 +40,7 @@ import java.io.StringWriter;
 import java.io.Writer;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.ReflectionTestUtils.readField;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.StringTestUtils.joinLines;
@@ -198,6 +202,100 @@ class MustacheJavaCompilerTest {
 		)));
 	}
 
+	@Test
+	void it_should_display_template_with_render_context_from_another_thread() throws Exception {
+		StringWriter writer = new StringWriter();
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		MustacheJavaCompiler mustacheCompiler = mustacheJavaCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate template = mustacheCompiler.compile(name, context);
+		CompletableFuture.runAsync(() -> template.execute(model(), writer)).get();
+
+		assertThat(writer.toString()).isEqualTo(joinLines(asList(
+				"<div>",
+				"	<div>Hello foo</div>",
+				"</div>"
+		)));
+	}
+
+	@Test
+	void it_should_clear_mustache_factory_cache() {
+		String name = "/templates/foo.template.html";
+		MustacheJavaCompiler mustacheJavaCompiler = mustacheJavaCompiler();
+		SpringMustacheFactory factory = readField(mustacheJavaCompiler, "mustacheFactory");
+
+		factory.compile(name);
+		assertThat(readField(factory, "mustacheCache", Map.class)).isNotEmpty();
+
+		mustacheJavaCompiler.clearCache();
+		assertThat(readField(factory, "mustacheCache", Map.class)).isEmpty();
+	}
+
+	@Test
+	void it_should_not_share_mustache_factory_cache_between_compiled_templates() {
+		String name = "/templates/foo.template.html";
+		MustacheJavaCompiler mustacheJavaCompiler = mustacheJavaCompiler();
+		SpringMustacheFactory factory = readField(mustacheJavaCompiler, "mustacheFactory");
+
+		mustacheJavaCompiler.compile(name);
+
+		assertThat(readField(factory, "mustacheCache", Map.class)).isEmpty();
+	}
+
+	@Test
+	void it_should_share_static_text_of_compiled_templates() {
+		String name = "/templates/foo.template.html";
+		StaticTextPool pool = new StaticTextPool();
+		MustacheJavaCompiler mustacheJavaCompiler = mustacheJavaCompiler();
+		mustacheJavaCompiler.setStaticTextPool(pool);
+
+		Writer w1 = new StringWriter();
+		Writer w2 = new StringWriter();
+		mustacheJavaCompiler.compile(name).execute(model(), w1);
+		mustacheJavaCompiler.compile(name, RenderContext.of(singletonMap("bar", "/templates/zero.template.html"))).execute(model(), w2);
+
+		assertThat(mustacheJavaCompiler.getStaticTextPool()).isSameAs(pool);
+		assertThat(w1.toString()).isEqualTo("<div>Hello foo</div>");
+		assertThat(w2.toString()).isEqualTo("<div>Hello foo</div>");
+		assertThat(pool.size()).isEqualTo(2);
+		assertThat(pool.getHits()).isEqualTo(2);
+	}
+
+	@Test
+	void it_should_record_template_dependencies() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		MustacheJavaCompiler mustacheCompiler = mustacheJavaCompiler(mustacheTemplateLoader());
+
+		mustacheCompiler.compile(name, context).execute(model(), new StringWriter());
+
+		MustacheTemplateDependencyGraph graph = mustacheCompiler.getDependencyGraph();
+		assertThat(graph.isTracked(name)).isTrue();
+		assertThat(graph.getDependencies(name)).containsExactly("/templates/foo.template.html");
+		assertThat(graph.getDependents("/templates/foo.template.html")).containsExactly(name);
+	}
+
+	@Test
+	void it_should_evict_compiled_templates_depending_on_invalidated_partial() {
+		String name = "/templates/composite-aliases.template.html";
+		RenderContext context = RenderContext.of(singletonMap("foo", "/templates/foo.template.html"));
+		MustacheJavaCompiler mustacheCompiler = mustacheJavaCompiler(mustacheTemplateLoader());
+
+		MustacheTemplate t1 = mustacheCompiler.compile(name, context);
+		t1.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/zero.template.html");
+		MustacheTemplate t2 = mustacheCompiler.compile(name, context);
+		t2.execute(model(), new StringWriter());
+
+		mustacheCompiler.invalidate("/templates/foo.template.html");
+		MustacheTemplate t3 = mustacheCompiler.compile(name, context);
+
+		assertThat(t1).isSameAs(t2);
+		assertThat(t2).isNotSameAs(t3);
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		MustacheTemplateLoader templateLoader = mustacheTemplateLoader();
@@ -219,7 +317,10 @@ class MustacheJavaCompilerTest {
 
 	@Test
 	void it_should_implement_equals_hash_code() {
-		EqualsVerifier.forClass(MustacheJavaCompiler.class).verify();
+		EqualsVerifier.forClass(MustacheJavaCompiler.class)
+				.withIgnoredFields("cache", "compilations", "dependencies", "metrics", "preEncoding", "staticTextPool")
+				.withPrefabValues(StaticTextPool.class, new StaticTextPool(), new StaticTextPool())
+				.verify();
 	}
 
 	private static MustacheTemplateLoader mustacheTemplateLoader() {
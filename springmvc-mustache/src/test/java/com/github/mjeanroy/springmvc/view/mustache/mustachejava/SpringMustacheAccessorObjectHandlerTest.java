@@ -0,0 +1,171 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2014-2026 Mickael Jeanroy
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+
+package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
+
+import com.github.mjeanroy.springmvc.view.mustache.LazyValue;
+import com.github.mustachejava.DefaultMustacheFactory;
+import com.github.mustachejava.Mustache;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SpringMustacheAccessorObjectHandlerTest {
+
+	private DefaultMustacheFactory mustacheFactory;
+
+	@BeforeEach
+	void setUp() {
+		mustacheFactory = new DefaultMustacheFactory();
+		mustacheFactory.setObjectHandler(new SpringMustacheAccessorObjectHandler());
+	}
+
+	@Test
+	void it_should_read_bean_properties() {
+		Map<String, Object> model = singletonMap("user", new User("John", "Doe", true));
+		assertThat(render("{{user.firstName}} {{user.lastName}}{{#user.admin}} (admin){{/user.admin}}", model)).isEqualTo("John Doe (admin)");
+	}
+
+	@Test
+	void it_should_read_method_and_public_field() {
+		Map<String, Object> model = singletonMap("user", new User("John", "Doe", false));
+		assertThat(render("{{user.fullName}} - {{user.id}}{{#user.admin}} (admin){{/user.admin}}", model)).isEqualTo("John Doe - 1");
+	}
+
+	@Test
+	void it_should_read_properties_of_non_public_class() {
+		Map<String, Object> model = singletonMap("item", new Item("foo"));
+		assertThat(render("{{item.name}}", model)).isEqualTo("foo");
+	}
+
+	@Test
+	void it_should_read_map_entries() {
+		Map<String, Object> user = new HashMap<>();
+		user.put("name", "John");
+		user.put("empty", null);
+
+		assertThat(render("{{user.name}}{{user.empty}}{{user.size}}", singletonMap("user", user))).isEqualTo("John");
+	}
+
+	@Test
+	void it_should_read_values_in_outer_scopes() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("title", "Users");
+		model.put("users", asList(new User("John", "Doe", false), new User("Jane", "Doe", true)));
+
+		String template = "{{#users}}{{firstName}} ({{title}}){{#admin}}*{{/admin}};{{/users}}{{missing}}";
+		assertThat(render(template, model)).isEqualTo("John (Users);Jane (Users)*;");
+	}
+
+	@Test
+	void it_should_render_zero_as_falsey_value() {
+		Map<String, Object> model = new HashMap<>();
+		model.put("zero", 0);
+		model.put("one", 1);
+
+		String template = "{{#zero}}zero{{/zero}}{{^zero}}not zero{{/zero}} - {{#one}}{{.}}{{/one}}";
+		assertThat(render(template, model)).isEqualTo("not zero - 1");
+	}
+
+	@Test
+	void it_should_unwrap_lazy_values() {
+		AtomicInteger counter = new AtomicInteger();
+		LazyValue<User> user = LazyValue.of(() -> {
+			counter.incrementAndGet();
+			return new User("John", "Doe", false);
+		});
+
+		Map<String, Object> model = new HashMap<>();
+		model.put("user", user);
+		model.put("unused", LazyValue.of(counter::incrementAndGet));
+
+		assertThat(render("{{user.firstName}} {{user.lastName}}", model)).isEqualTo("John Doe");
+		assertThat(counter.get()).isEqualTo(1);
+	}
+
+	@Test
+	void it_should_reuse_generated_accessors() {
+		String template = "{{#users}}{{firstName}};{{/users}}";
+		assertThat(render(template, singletonMap("users", asList(new User("John", "Doe", false), new User("Jane", "Doe", false))))).isEqualTo("John;Jane;");
+		assertThat(render(template, singletonMap("users", asList(new User("Jack", "Doe", false), new Item("foo"))))).isEqualTo("Jack;;");
+	}
+
+	private String render(String template, Object model) {
+		Mustache mustache = mustacheFactory.compile(new StringReader(template), "test");
+		StringWriter writer = new StringWriter();
+		mustache.execute(writer, model);
+		return writer.toString();
+	}
+
+	public static class User {
+		public final int id;
+		private final String firstName;
+		private final String lastName;
+		private final boolean admin;
+
+		User(String firstName, String lastName, boolean admin) {
+			this.id = 1;
+			this.firstName = firstName;
+			this.lastName = lastName;
+			this.admin = admin;
+		}
+
+		public String getFirstName() {
+			return firstName;
+		}
+
+		public String getLastName() {
+			return lastName;
+		}
+
+		public boolean isAdmin() {
+			return admin;
+		}
+
+		public String fullName() {
+			return firstName + " " + lastName;
+		}
+	}
+
+	static class Item {
+		private final String name;
+
+		Item(String name) {
+			this.name = name;
+		}
+
+		String getName() {
+			return name;
+		}
+	}
+}
@@ -25,7 +25,9 @@
 package com.github.mjeanroy.springmvc.view.mustache.mustachejava;
 
 import com.github.mjeanroy.springmvc.view.mustache.MustacheTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.RenderContext;
 import com.github.mjeanroy.springmvc.view.mustache.core.DefaultTemplateLoader;
+import com.github.mjeanroy.springmvc.view.mustache.core.StaticTextPool;
 import com.github.mustachejava.MustacheResolver;
 import org.junit.jupiter.api.Test;
 import org.springframework.core.io.DefaultResourceLoader;
@@ -35,6 +37,7 @@ import java.io.Reader;
 
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.IOTestUtils.read;
 import static com.github.mjeanroy.springmvc.view.mustache.tests.utils.TestUtils.hexIdentity;
+import static java.util.Collections.singletonMap;
 import static org.assertj.core.api.Assertions.assertThat;
 
 class SpringMustacheFactoryTest {
@@ -75,6 +78,82 @@ class SpringMustacheFactoryTest {
 		assertThat(read(result)).isEqualTo("<div>Hello {{name}}</div>");
 	}
 
+	@Test
+	void it_should_resolve_template_name_with_render_context() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		String prefix = "/templates/";
+		String suffix = ".template.html";
+
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader, prefix, suffix);
+		MustacheResolver mustacheResolver = new SpringMustacheResolver(templateLoader);
+		SpringMustacheFactory springMustacheFactory = new SpringMustacheFactory(mustacheResolver, templateLoader);
+		RenderContext context = RenderContext.of(singletonMap("foo", "bar"));
+
+		SpringMustacheFactory result = springMustacheFactory.withRenderContext(context);
+
+		assertThat(result).isNotSameAs(springMustacheFactory);
+		assertThat(result.getObjectHandler()).isSameAs(springMustacheFactory.getObjectHandler());
+		assertThat(result.resolvePartialPath("dir", "foo", "extension")).isEqualTo("/templates/bar.template.html");
+		assertThat(springMustacheFactory.resolvePartialPath("dir", "foo", "extension")).isEqualTo("/templates/foo.template.html");
+		assertThat(springMustacheFactory.withRenderContext(RenderContext.empty())).isSameAs(springMustacheFactory);
+	}
+
+	@Test
+	void it_should_create_factory_with_template_loader() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		MustacheTemplateLoader otherTemplateLoader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		otherTemplateLoader.addPartialAliases(singletonMap("foo", "bar"));
+
+		MustacheResolver mustacheResolver = new SpringMustacheResolver(templateLoader);
+		SpringMustacheFactory springMustacheFactory = new SpringMustacheFactory(mustacheResolver, templateLoader);
+		RenderContext context = RenderContext.empty();
+
+		SpringMustacheFactory result = springMustacheFactory.withTemplateLoader(otherTemplateLoader, context);
+
+		assertThat(result).isNotSameAs(springMustacheFactory);
+		assertThat(springMustacheFactory.withTemplateLoader(otherTemplateLoader, context)).isNotSameAs(result);
+		assertThat(result.getObjectHandler()).isSameAs(springMustacheFactory.getObjectHandler());
+		assertThat(result.resolvePartialPath("dir", "foo", "extension")).isEqualTo("/templates/bar.template.html");
+		assertThat(springMustacheFactory.resolvePartialPath("dir", "foo", "extension")).isEqualTo("/templates/foo.template.html");
+	}
+
+	@Test
+	void it_should_use_generated_accessors() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		MustacheResolver mustacheResolver = new SpringMustacheResolver(templateLoader);
+		SpringMustacheFactory springMustacheFactory = new SpringMustacheFactory(mustacheResolver, templateLoader);
+		assertThat(springMustacheFactory.getObjectHandler()).isInstanceOf(SpringMustacheReflectionObjectHandler.class);
+
+		springMustacheFactory.setGeneratedAccessors(true);
+		assertThat(springMustacheFactory.getObjectHandler()).isInstanceOf(SpringMustacheAccessorObjectHandler.class);
+		assertThat(springMustacheFactory.withRenderContext(RenderContext.of(singletonMap("foo", "bar"))).getObjectHandler()).isSameAs(springMustacheFactory.getObjectHandler());
+
+		springMustacheFactory.setGeneratedAccessors(false);
+		assertThat(springMustacheFactory.getObjectHandler()).isInstanceOf(SpringMustacheReflectionObjectHandler.class);
+	}
+
+	@Test
+	void it_should_pool_static_text() {
+		ResourceLoader resourceLoader = new DefaultResourceLoader();
+		MustacheTemplateLoader templateLoader = new DefaultTemplateLoader(resourceLoader, "/templates/", ".template.html");
+		MustacheResolver mustacheResolver = new SpringMustacheResolver(templateLoader);
+		SpringMustacheFactory springMustacheFactory = new SpringMustacheFactory(mustacheResolver, templateLoader);
+		String text = new String("<div>Hello ");
+		assertThat(springMustacheFactory.filterText(text, false)).isSameAs(text);
+
+		StaticTextPool pool = new StaticTextPool();
+		springMustacheFactory.setStaticTextPool(pool);
+		SpringMustacheFactory otherFactory = springMustacheFactory.withRenderContext(RenderContext.of(singletonMap("foo", "bar")));
+
+		String t1 = springMustacheFactory.filterText(new String("<div>Hello "), false);
+		String t2 = otherFactory.filterText(new String("<div>Hello "), false);
+		assertThat(t1).isEqualTo("<div>Hello ");
+		assertThat(t2).isSameAs(t1);
+		assertThat(pool.getHits()).isEqualTo(1);
+	}
+
 	@Test
 	void it_should_implement_to_string() {
 		ResourceLoader resourceLoader = new DefaultResourceLoader();
@@ -85,12 +164,13 @@ class SpringMustacheFactoryTest {
 		// @formatter:off
 		String expectedToString =
 				"com.github.mjeanroy.springmvc.view.mustache.mustachejava.SpringMustacheFactory@%s{" +
-						"templateLoader=%s" +
+						"templateLoader=%s, " +
+						"context=%s" +
 				"}";
 		// @formatter:on
 
 		assertThat(springMustacheFactory).hasToString(String.format(
-				expectedToString, hexIdentity(springMustacheFactory), templateLoader
+				expectedToString, hexIdentity(springMustacheFactory), templateLoader, RenderContext.empty()
 		));
 	}
 }